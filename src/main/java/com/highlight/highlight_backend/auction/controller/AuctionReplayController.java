@@ -0,0 +1,32 @@
+package com.highlight.highlight_backend.auction.controller;
+
+import com.highlight.highlight_backend.auction.dto.AuctionReplayDto;
+import com.highlight.highlight_backend.auction.service.AuctionReplayService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 경매 토픽 재연결 재동기화 (STOMP)
+ *
+ * 재연결한 클라이언트는 /topic/auction/{id} 를 다시 구독한 뒤
+ * /app/auctions/{id}/replay 를 last-seq 헤더(마지막으로 받은 seq)와 함께 구독하면
+ * 그 세션에만 빠진 메시지(또는 스냅샷)를 1번 응답합니다.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class AuctionReplayController {
+
+    private final AuctionReplayService auctionReplayService;
+
+    @SubscribeMapping("/auctions/{auctionId}/replay")
+    public AuctionReplayDto replay(@DestinationVariable Long auctionId,
+                                   @Header(name = "last-seq", required = false) Long lastSequence) {
+        log.debug("WebSocket 재동기화 요청: 경매={}, lastSeq={}", auctionId, lastSequence);
+        return auctionReplayService.replay(auctionId, lastSequence == null ? 0 : lastSequence);
+    }
+}
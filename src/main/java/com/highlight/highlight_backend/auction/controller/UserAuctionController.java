@@ -1,12 +1,21 @@
 package com.highlight.highlight_backend.auction.controller;
 
 import com.highlight.highlight_backend.auction.application.AuctionFacade;
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.dto.AuctionFacetCountDto;
 import com.highlight.highlight_backend.auction.dto.AuctionPageResponse;
+import com.highlight.highlight_backend.auction.dto.AuctionPriceBucket;
 import com.highlight.highlight_backend.auction.dto.BuyItNowRequestDto;
 import com.highlight.highlight_backend.auction.dto.BuyItNowResponseDto;
+import com.highlight.highlight_backend.auction.service.AuctionFacetCountService;
+import com.highlight.highlight_backend.auction.service.AuctionReplayService;
 import com.highlight.highlight_backend.auction.service.UserAuctionService;
 import com.highlight.highlight_backend.common.config.ResponseDto;
 import com.highlight.highlight_backend.auction.dto.AuctionSearchConditionDto;
+import com.highlight.highlight_backend.auction.dto.AuctionViewerCountDto;
+import com.highlight.highlight_backend.auction.service.AuctionViewerCountService;
+import com.highlight.highlight_backend.common.socket.service.SseTopicHub;
+import com.highlight.highlight_backend.product.domian.Product;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,9 +28,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 사용자 경매 참여 컨트롤러
@@ -38,6 +49,10 @@ public class UserAuctionController {
     
     private final AuctionFacade auctionFacade;
     private final UserAuctionService userAuctionService;
+    private final AuctionFacetCountService auctionFacetCountService;
+    private final AuctionViewerCountService auctionViewerCountService;
+    private final AuctionReplayService auctionReplayService;
+    private final SseTopicHub sseTopicHub;
 
 
     /**
@@ -71,19 +86,96 @@ public class UserAuctionController {
             @RequestParam(required = false) Boolean isPremium,
             @Parameter(description = "경매 상태 (IN_PROGRESS: 진행중, SCHEDULED: 예정, ENDING_SOON: 마감임박)", example = "IN_PROGRESS")
             @RequestParam (required = true) String status,
-            @Parameter(description = "페이징 정보 (page, size, sort)")
+            @Parameter(description = "검색어 (상품명, 브랜드, 설명 부분 일치)")
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이징 정보 (size, sort). sort 는 createdAt, newest, currentHighestBid 지원")
             Pageable pageable) {
 
         log.info("GET /api/public/auctions - 경매 목록 조회 요청 (비로그인 사용자도 접근 가능)");
         AuctionSearchConditionDto auctionSearchConditionDto = new AuctionSearchConditionDto(category, brand,
-                 minPrice, maxPrice, isPremium, status);
+                 minPrice, maxPrice, isPremium, status, keyword);
         AuctionPageResponse response = userAuctionService.getProductsFiltered(
-                auctionSearchConditionDto, pageable);
+                auctionSearchConditionDto, cursor, pageable);
 
         return ResponseEntity.ok(
                 ResponseDto.success(response, "경매 목록을 성공적으로 불러왔습니다."));
     }
 
+    /**
+     * 검색 화면 facet 개수 (상태 / 카테고리 / 가격대별 개수를 한 번에)
+     */
+    @GetMapping("/facets")
+    @Operation(
+            summary = "검색 facet 개수 조회",
+            description = "상태, 카테고리, 가격대별 경매 수를 한 번에 조회합니다. 각 facet 은 자신을 제외한 나머지 필터가 적용된 개수입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "facet 개수 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 필터 값")
+    })
+    public ResponseEntity<ResponseDto<AuctionFacetCountDto>> facets(
+            @Parameter(description = "경매 상태 필터", example = "IN_PROGRESS")
+            @RequestParam(required = false) Auction.AuctionStatus status,
+            @Parameter(description = "카테고리 필터")
+            @RequestParam(required = false) Product.Category category,
+            @Parameter(description = "가격대 필터 (UNDER_100K, FROM_100K_TO_500K, FROM_500K_TO_1M, FROM_1M_TO_5M, OVER_5M)")
+            @RequestParam(required = false) AuctionPriceBucket priceBucket) {
+
+        AuctionFacetCountDto response = auctionFacetCountService.getFacets(status, category, priceBucket);
+        return ResponseEntity.ok(
+                ResponseDto.success(response, "facet 개수를 성공적으로 불러왔습니다."));
+    }
+
+    /**
+     * 경매 실시간 시청자 수 (WebSocket 구독 세션 수, 전체 노드 합산)
+     */
+    @GetMapping("/{auctionId}/viewers")
+    @Operation(
+            summary = "경매 시청자 수 조회",
+            description = "해당 경매를 WebSocket / SSE 로 보고 있는 연결 수를 조회합니다. 구독 중에는 VIEWER_COUNT 메시지로도 전달됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "시청자 수 조회 성공")
+    })
+    public ResponseEntity<ResponseDto<AuctionViewerCountDto>> viewers(
+            @Parameter(description = "경매 ID", required = true)
+            @PathVariable Long auctionId) {
+
+        AuctionViewerCountDto response = auctionViewerCountService.getViewerCount(auctionId);
+        return ResponseEntity.ok(
+                ResponseDto.success(response, "시청자 수를 성공적으로 불러왔습니다."));
+    }
+
+    /**
+     * 경매 실시간 스트림 (SSE)
+     *
+     * /topic/auction/{auctionId} 와 같은 메시지를 읽기 전용으로 받습니다. 이벤트 id 는 토픽 순번이며,
+     * 재연결 시 브라우저가 보내는 Last-Event-ID 이후 메시지를 이어서 보내고,
+     * 버퍼 범위를 벗어나면 resync 이벤트로 현재 상태를 보냅니다.
+     */
+    @GetMapping(value = "/{auctionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "경매 실시간 스트림 (SSE)",
+            description = "경매 토픽 메시지를 Server-Sent Events 로 받습니다. Last-Event-ID 헤더로 끊긴 지점부터 이어받을 수 있습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "스트림 연결 성공"),
+            @ApiResponse(responseCode = "400", description = "이미 종료된 경매"),
+            @ApiResponse(responseCode = "404", description = "경매를 찾을 수 없음")
+    })
+    public SseEmitter stream(
+            @Parameter(description = "경매 ID", required = true)
+            @PathVariable Long auctionId,
+            @Parameter(description = "마지막으로 받은 이벤트 ID (재연결 시 브라우저가 자동으로 보냄)")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        auctionReplayService.validateStreamable(auctionId);
+        return sseTopicHub.subscribe("/topic/auction/" + auctionId, lastEventId,
+                () -> auctionReplayService.snapshot(auctionId));
+    }
+
 
 
 
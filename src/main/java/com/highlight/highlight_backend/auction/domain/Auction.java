@@ -27,7 +27,14 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "auction", indexes = {
         @Index(name = "idx_auction_status_start_time", columnList = "status, actual_start_time"),
-        @Index(name = "idx_auction_category_status_start_time", columnList = "category, status, actual_start_time")
+        @Index(name = "idx_auction_category_status_start_time", columnList = "category, status, actual_start_time"),
+        @Index(name = "idx_auction_status_end_time", columnList = "status, scheduled_end_time"),
+        @Index(name = "idx_auction_status_created_at", columnList = "status, created_at"),
+        // 가격 범위 검색 / 가격 정렬용 (입찰마다 current_highest_bid 가 바뀌어 인덱스 2개가 함께 갱신됨)
+        @Index(name = "idx_auction_status_price", columnList = "status, current_highest_bid"),
+        @Index(name = "idx_auction_category_status_price", columnList = "category, status, current_highest_bid"),
+        // 관리자 대쉬보드 상태별 개수 (커버링 인덱스로 COUNT)
+        @Index(name = "idx_auction_created_by_status", columnList = "created_by, status")
 })
 @Getter
 @Setter
@@ -0,0 +1,178 @@
+package com.highlight.highlight_backend.auction.dto;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.exception.AuctionErrorCode;
+import com.highlight.highlight_backend.exception.BusinessException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 경매 목록 keyset(seek) 페이지네이션 커서
+ *
+ * 마지막으로 내려준 행의 (정렬 값, id)를 담아 다음 페이지를 WHERE (정렬 값, id) < (?, ?) 로 조회합니다.
+ * 클라이언트에는 "정렬키|방향|값|id" 를 URL-safe Base64 로 인코딩한 불투명 문자열로 내려줍니다.
+ * 정렬 값이 null 인 행(예: 시작 전 경매의 actualStartTime)은 값 자리를 비워 둡니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuctionCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final SortKey sortKey;
+    private final boolean ascending;
+    private final String value;
+    private final Long id;
+
+    /**
+     * 커서를 지원하는 정렬 기준 (Pageable 의 sort 프로퍼티명)
+     */
+    public enum SortKey {
+        CREATED_AT("createdAt"),
+        NEWEST("newest"),
+        CURRENT_HIGHEST_BID("currentHighestBid");
+
+        private final String property;
+
+        SortKey(String property) {
+            this.property = property;
+        }
+
+        /**
+         * 첫 번째 정렬 조건 기준 (알 수 없는 값이거나 없으면 최신 등록순)
+         */
+        public static SortKey from(Pageable pageable) {
+            Sort.Order order = firstOrder(pageable);
+            if (order == null) {
+                return CREATED_AT;
+            }
+            for (SortKey key : values()) {
+                if (key.property.equals(order.getProperty())) {
+                    return key;
+                }
+            }
+            return CREATED_AT;
+        }
+
+        private Object valueOf(Auction auction) {
+            return switch (this) {
+                case CREATED_AT -> auction.getCreatedAt();
+                case NEWEST -> auction.getActualStartTime();
+                case CURRENT_HIGHEST_BID -> auction.getCurrentHighestBid();
+            };
+        }
+
+        private Object valueOf(AuctionListItemDto item) {
+            return switch (this) {
+                case CREATED_AT -> item.getCreatedAt();
+                case NEWEST -> item.getActualStartTime();
+                case CURRENT_HIGHEST_BID -> item.getCurrentHighestBid();
+            };
+        }
+    }
+
+    /**
+     * 정렬 방향 (최신 등록순 기본 정렬은 항상 내림차순)
+     */
+    public static boolean isAscending(Pageable pageable) {
+        Sort.Order order = firstOrder(pageable);
+        return order != null
+                && SortKey.from(pageable) != SortKey.CREATED_AT
+                && order.isAscending();
+    }
+
+    /**
+     * 페이지 마지막 행으로 다음 페이지 커서 생성
+     */
+    public static AuctionCursor of(Pageable pageable, Auction last) {
+        SortKey sortKey = SortKey.from(pageable);
+        return of(pageable, sortKey, sortKey.valueOf(last), last.getId());
+    }
+
+    public static AuctionCursor of(Pageable pageable, AuctionListItemDto last) {
+        SortKey sortKey = SortKey.from(pageable);
+        return of(pageable, sortKey, sortKey.valueOf(last), last.getAuctionId());
+    }
+
+    private static AuctionCursor of(Pageable pageable, SortKey sortKey, Object value, Long id) {
+        return new AuctionCursor(sortKey, isAscending(pageable), value == null ? null : value.toString(), id);
+    }
+
+    /**
+     * 요청으로 받은 커서 해석 (없으면 null)
+     *
+     * 현재 요청의 정렬과 다른 커서이거나 형식이 잘못되면 INVALID_CURSOR 예외
+     */
+    public static AuctionCursor decode(String encoded, Pageable pageable) {
+        if (!StringUtils.hasText(encoded)) {
+            return null;
+        }
+        AuctionCursor cursor;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, -1);
+            if (parts.length != 4) {
+                throw new BusinessException(AuctionErrorCode.INVALID_CURSOR);
+            }
+            cursor = new AuctionCursor(
+                    SortKey.valueOf(parts[0]),
+                    Boolean.parseBoolean(parts[1]),
+                    parts[2].isEmpty() ? null : parts[2],
+                    Long.parseLong(parts[3]));
+            // 값 형식 검증
+            cursor.getDateTimeValue();
+            cursor.getDecimalValue();
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BusinessException(AuctionErrorCode.INVALID_CURSOR);
+        }
+
+        if (cursor.sortKey != SortKey.from(pageable) || cursor.ascending != isAscending(pageable)) {
+            throw new BusinessException(AuctionErrorCode.INVALID_CURSOR);
+        }
+        return cursor;
+    }
+
+    public String encode() {
+        String raw = sortKey.name() + SEPARATOR + ascending + SEPARATOR
+                + (value == null ? "" : value) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * createdAt / newest 정렬의 기준 값
+     */
+    public LocalDateTime getDateTimeValue() {
+        if (value == null || sortKey == SortKey.CURRENT_HIGHEST_BID) {
+            return null;
+        }
+        return LocalDateTime.parse(value);
+    }
+
+    /**
+     * currentHighestBid 정렬의 기준 값
+     */
+    public BigDecimal getDecimalValue() {
+        if (value == null || sortKey != SortKey.CURRENT_HIGHEST_BID) {
+            return null;
+        }
+        return new BigDecimal(value);
+    }
+
+    private static Sort.Order firstOrder(Pageable pageable) {
+        if (pageable == null || pageable.getSort().isEmpty()) {
+            return null;
+        }
+        return pageable.getSort().iterator().next();
+    }
+}
@@ -0,0 +1,21 @@
+package com.highlight.highlight_backend.auction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 검색 화면 facet 개수
+ *
+ * 각 facet 은 자기 자신을 제외한 나머지 필터만 적용한 개수입니다.
+ * (예: byCategory 는 상태 + 가격대 필터를 적용한 카테고리별 개수)
+ */
+@Getter
+@AllArgsConstructor
+public class AuctionFacetCountDto {
+    private long totalCount;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byCategory;
+    private Map<String, Long> byPriceBucket;
+}
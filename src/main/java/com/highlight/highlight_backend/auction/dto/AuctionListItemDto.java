@@ -0,0 +1,39 @@
+package com.highlight.highlight_backend.auction.dto;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.product.domian.Product;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 경매 목록 조회용 projection
+ *
+ * 목록 화면에 필요한 컬럼과 커서 생성용 정렬 값만 조회합니다. (엔티티 / 지연 로딩 컬렉션 미사용)
+ * 썸네일은 페이지 단위로 한 번에 조회해 UserAuctionResponseDto 로 변환할 때 채웁니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AuctionListItemDto {
+
+    private Long auctionId;
+    private Long productId;
+    private String productName;
+    private String brand;
+    private Product.Category category;
+    private Boolean isPremium;
+
+    private BigDecimal startPrice;
+    private BigDecimal buyItNowPrice;
+    private BigDecimal currentHighestBid;
+    private Long totalBids;
+    private LocalDateTime scheduledStartTime;
+    private LocalDateTime scheduledEndTime;
+    private Auction.AuctionStatus status;
+
+    // 커서 정렬 값
+    private LocalDateTime createdAt;
+    private LocalDateTime actualStartTime;
+}
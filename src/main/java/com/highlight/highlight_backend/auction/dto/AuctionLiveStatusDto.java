@@ -0,0 +1,70 @@
+package com.highlight.highlight_backend.auction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 경매 카운트다운 WebSocket 메시지 데이터 DTO (경량)
+ *
+ * 남은 시간은 클라이언트가 (endTime - (Date.now() + serverOffset)) 로 직접 계산하도록
+ * 종료 시각과 서버 시각을 epoch millis 로 함께 내려줍니다.
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "경매 카운트다운 WebSocket 메시지 데이터 DTO")
+public class AuctionLiveStatusDto {
+
+    @Schema(description = "경매 ID", example = "1")
+    private Long auctionId;
+
+    @Schema(description = "현재 최고 입찰가", example = "50000")
+    private BigDecimal currentHighestBid;
+
+    @Schema(description = "총 입찰자 수", example = "5")
+    private Long totalBidders;
+
+    @Schema(description = "총 입찰 횟수", example = "12")
+    private Long totalBids;
+
+    @Schema(description = "현재 최고 입찰자 닉네임 (마스킹)", example = "전**")
+    private String currentWinnerNickname;
+
+    @Schema(description = "경매 종료 시각 (epoch millis)", example = "1755239400000")
+    private long endTime;
+
+    @Schema(description = "메시지 생성 시점의 서버 시각 (epoch millis), 클라이언트 시계 보정용", example = "1755235800000")
+    private long serverTime;
+
+    @Schema(description = "경매 종료까지 남은 시간 (초)", example = "3600")
+    private long remainingTimeInSeconds;
+
+    public static AuctionLiveStatusDto of(Long auctionId, BigDecimal currentHighestBid, Long totalBidders,
+                                          Long totalBids, String winnerNickname, long endTime, long serverTime) {
+        return new AuctionLiveStatusDto(
+                auctionId,
+                currentHighestBid,
+                totalBidders,
+                totalBids,
+                maskNickname(winnerNickname),
+                endTime,
+                serverTime,
+                Math.max(0L, (endTime - serverTime) / 1000)
+        );
+    }
+
+    /**
+     * 닉네임 마스킹 처리
+     */
+    private static String maskNickname(String nickname) {
+        if (nickname == null || nickname.length() <= 1) {
+            return nickname;
+        }
+        if (nickname.length() == 2) {
+            return nickname.charAt(0) + "*";
+        }
+        return nickname.charAt(0) + "**";
+    }
+}
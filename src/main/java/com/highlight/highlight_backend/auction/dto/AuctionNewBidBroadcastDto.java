@@ -68,6 +68,12 @@ public class AuctionNewBidBroadcastDto {
      */
     @Schema(description = "입찰 시간", example = "2025-08-15T14:30:00")
     private LocalDateTime bidTime;
+
+    /**
+     * 이 메시지 직전까지 전송을 생략한 입찰 수 (conflation)
+     */
+    @Schema(description = "이 메시지 직전까지 전송을 생략한 입찰 수", example = "0")
+    private Long conflatedBids;
     
     /**
      * Bid 엔티티와 통계 정보로부터 DTO 생성
@@ -83,7 +89,8 @@ public class AuctionNewBidBroadcastDto {
             totalBidders,
             totalBids,
             bid.isAutoBid(),
-            bid.getCreatedAt()
+            bid.getCreatedAt(),
+            0L
         );
     }
     
@@ -111,7 +118,8 @@ public class AuctionNewBidBroadcastDto {
             BigDecimal bidAmount,
             String bidderNickname,
             Long totalBidders,
-            Long totalBids) {
+            Long totalBids,
+            long conflatedBids) {
 
         return AuctionNewBidBroadcastDto.builder()
                 .bidId(bidId)
@@ -119,6 +127,7 @@ public class AuctionNewBidBroadcastDto {
                 .bidderNickname(bidderNickname)
                 .totalBidders(totalBidders)
                 .totalBids(totalBids)
+                .conflatedBids(conflatedBids)
                 .build();
     }
 }
\ No newline at end of file
@@ -13,4 +13,5 @@ public class AuctionPageResponse {
     private boolean hasNext;
     private int currentPage;
     private long totalCount; // Redis에서 가져온 count
+    private String nextCursor; // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
 }
\ No newline at end of file
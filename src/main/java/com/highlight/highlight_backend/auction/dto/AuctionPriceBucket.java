@@ -0,0 +1,44 @@
+package com.highlight.highlight_backend.auction.dto;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 검색 화면 가격대 구간 (현재가 기준, 하한 포함 / 상한 미포함)
+ *
+ * 구간 경계를 바꾸면 AuctionRepository.countGroupByFacet 의 CASE 식도 같이 바꿔야 합니다.
+ */
+@Getter
+public enum AuctionPriceBucket {
+    UNDER_100K("10만원 미만", 0L, 100_000L),
+    FROM_100K_TO_500K("10만~50만원", 100_000L, 500_000L),
+    FROM_500K_TO_1M("50만~100만원", 500_000L, 1_000_000L),
+    FROM_1M_TO_5M("100만~500만원", 1_000_000L, 5_000_000L),
+    OVER_5M("500만원 이상", 5_000_000L, null);
+
+    private final String displayName;
+    private final Long minPrice;
+    private final Long maxPrice;
+
+    AuctionPriceBucket(String displayName, Long minPrice, Long maxPrice) {
+        this.displayName = displayName;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    /**
+     * 현재가가 속한 구간 (현재가가 없으면 가장 낮은 구간)
+     */
+    public static AuctionPriceBucket of(BigDecimal price) {
+        if (price == null) {
+            return UNDER_100K;
+        }
+        for (AuctionPriceBucket bucket : values()) {
+            if (bucket.maxPrice == null || price.compareTo(BigDecimal.valueOf(bucket.maxPrice)) < 0) {
+                return bucket;
+            }
+        }
+        return OVER_5M;
+    }
+}
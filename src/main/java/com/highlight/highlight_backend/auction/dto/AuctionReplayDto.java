@@ -0,0 +1,51 @@
+package com.highlight.highlight_backend.auction.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 재연결 재전송 응답 DTO
+ *
+ * 마지막으로 받은 순번 이후의 경매 토픽 메시지를 순서대로 담고,
+ * 버퍼 범위를 벗어나 빠진 메시지가 있으면 messages 대신 snapshot 으로 현재 상태를 내려줍니다.
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "재연결 재전송 응답 DTO")
+public class AuctionReplayDto {
+
+    @Schema(description = "경매 ID", example = "1")
+    private Long auctionId;
+
+    @Schema(description = "현재 마지막 순번 (다음 재연결 때 보낼 값)", example = "128")
+    private long lastSequence;
+
+    @Schema(description = "요청한 순번 이후 메시지 (순번 오름차순)")
+    private List<ReplayedMessage> messages;
+
+    @Schema(description = "빠진 메시지를 재전송할 수 없을 때의 현재 상태 (재전송이 가능하면 null, 진행 중이 아니면 null)")
+    private AuctionLiveStatusDto snapshot;
+
+    @Schema(description = "스냅샷으로 대체했는지 여부 (true 이고 snapshot 이 없으면 REST 로 다시 조회)", example = "false")
+    private boolean snapshotRequired;
+
+    /**
+     * 재전송 메시지 1건 (원래 방송한 JSON 그대로)
+     */
+    @Getter
+    @AllArgsConstructor
+    @Schema(description = "재전송 메시지")
+    public static class ReplayedMessage {
+
+        @Schema(description = "순번", example = "127")
+        private long sequence;
+
+        @JsonRawValue
+        @Schema(description = "원본 WebSocket 메시지")
+        private String message;
+    }
+}
@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -14,4 +16,16 @@ public class AuctionSearchConditionDto {
     private Long maxPrice;
     private Boolean isPremium;
     private String status;
-}
\ No newline at end of file
+    private String keyword; // 상품명 / 브랜드 / 설명 검색어
+    private List<Long> productIds; // 검색어로 찾은 상품 ID (서비스에서 채움)
+
+    public AuctionSearchConditionDto(String category, String brand, Long minPrice, Long maxPrice,
+                                     Boolean isPremium, String status) {
+        this(category, brand, minPrice, maxPrice, isPremium, status, null, null);
+    }
+
+    public AuctionSearchConditionDto(String category, String brand, Long minPrice, Long maxPrice,
+                                     Boolean isPremium, String status, String keyword) {
+        this(category, brand, minPrice, maxPrice, isPremium, status, keyword, null);
+    }
+}
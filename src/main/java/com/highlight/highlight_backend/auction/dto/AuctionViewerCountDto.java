@@ -0,0 +1,20 @@
+package com.highlight.highlight_backend.auction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 경매 실시간 시청자 수 DTO
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "경매 실시간 시청자 수 DTO")
+public class AuctionViewerCountDto {
+
+    @Schema(description = "경매 ID", example = "1")
+    private Long auctionId;
+
+    @Schema(description = "전체 노드 기준 시청 중인 세션 수", example = "42")
+    private long viewerCount;
+}
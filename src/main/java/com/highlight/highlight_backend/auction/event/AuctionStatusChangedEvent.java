@@ -5,6 +5,8 @@ import com.highlight.highlight_backend.product.domian.Product.Category;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.math.BigDecimal;
+
 @Getter
 @AllArgsConstructor
 public class AuctionStatusChangedEvent {
@@ -12,4 +14,6 @@ public class AuctionStatusChangedEvent {
     private AuctionStatus previousStatus;
     private AuctionStatus newStatus;
     private Category category;
+    private BigDecimal currentPrice; // facet 가격대 판단용
+    private Long createdBy; // 관리자별 대쉬보드 개수용
 }
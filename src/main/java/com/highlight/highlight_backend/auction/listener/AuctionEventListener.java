@@ -3,6 +3,9 @@ package com.highlight.highlight_backend.auction.listener;
 import com.highlight.highlight_backend.auction.domain.Auction;
 import com.highlight.highlight_backend.auction.event.AuctionStatusChangedEvent;
 import com.highlight.highlight_backend.auction.service.AuctionCountService;
+import com.highlight.highlight_backend.auction.service.AuctionFacetCountService;
+import com.highlight.highlight_backend.auction.service.AuctionListingCache;
+import com.highlight.highlight_backend.auction.service.AuctionLiveRegistry;
 import com.highlight.highlight_backend.bid.event.BidCreatedEvent;
 import com.highlight.highlight_backend.auction.notification.AuctionWebSocketNotifier;
 import com.highlight.highlight_backend.auction.repository.AuctionRepository;
@@ -25,6 +28,9 @@ public class AuctionEventListener {
     private final EventConsumerLogService eventConsumerLogService;
     private final AuctionRepository auctionRepository;
     private final AuctionCountService auctionCountService;
+    private final AuctionFacetCountService auctionFacetCountService;
+    private final AuctionLiveRegistry auctionLiveRegistry;
+    private final AuctionListingCache auctionListingCache;
     private static final String auctionUsernameUpdate = "AUCTION_USERNAME_UPDATE";
     private static final String auctionNotiBoardCast = "AUCTION_NOTI_BOARDCAST";
 
@@ -87,6 +93,9 @@ public class AuctionEventListener {
             auctionCountService.transition(event.getPreviousStatus(), event.getNewStatus(), event.getCategory());
             log.debug("[캐시 갱신] 경매 상태 변경: AuctionId={}, {} -> {}",
                     event.getAuctionId(), event.getPreviousStatus(), event.getNewStatus());
+            if (event.getPreviousStatus() == Auction.AuctionStatus.IN_PROGRESS) {
+                auctionLiveRegistry.remove(event.getAuctionId());
+            }
         } catch (Exception e) {
             log.error("경매 카운트 캐시 갱신 실패. 캐시 삭제 후 다음 조회 시 DB 폴백으로 복구됩니다. AuctionId={}", event.getAuctionId(), e);
             auctionCountService.reset(event.getNewStatus(), event.getCategory());
@@ -96,6 +105,74 @@ public class AuctionEventListener {
         }
     }
 
+    /**
+     * 상태 변경 커밋 후 facet 개수 갱신 (실패분은 보정 작업이 복구)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFacetCountUpdate(AuctionStatusChangedEvent event) {
+        try {
+            auctionFacetCountService.transition(event.getPreviousStatus(), event.getNewStatus(),
+                    event.getCategory(), event.getCurrentPrice());
+        } catch (Exception e) {
+            log.error("facet 개수 갱신 실패. 다음 보정에서 복구됩니다. auctionId={}", event.getAuctionId(), e);
+        }
+    }
+
+    /**
+     * 입찰로 현재가가 가격대 경계를 넘으면 facet 개수 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFacetCountUpdate(BidCreatedEvent event) {
+        try {
+            auctionFacetCountService.priceChanged(
+                    event.getAuctionId(), event.getPreviousHighestBid(), event.getBidAmount());
+        } catch (Exception e) {
+            log.error("facet 개수 갱신 실패. 다음 보정에서 복구됩니다. auctionId={}", event.getAuctionId(), e);
+        }
+    }
+
+    /**
+     * 입찰 커밋 후 카운트다운 레지스트리 갱신 (메모리 갱신만 하므로 동기 처리)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLiveRegistryUpdate(BidCreatedEvent event) {
+        try {
+            auctionLiveRegistry.updateBid(
+                    event.getAuctionId(),
+                    event.getBidAmount(),
+                    event.getUserNickname(),
+                    event.getTotalBidders() == null ? 0L : event.getTotalBidders(),
+                    event.getTotalBids() == null ? 0L : event.getTotalBids()
+            );
+        } catch (Exception e) {
+            log.error("카운트다운 레지스트리 갱신 실패. 다음 동기화에서 보정됩니다. auctionId={}", event.getAuctionId(), e);
+        }
+    }
+
+    /**
+     * 입찰 커밋 후 영향받는 경매 목록 캐시 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleListingCacheEviction(BidCreatedEvent event) {
+        try {
+            auctionListingCache.evictOnBid(event.getAuctionId(), event.getBidAmount());
+        } catch (Exception e) {
+            log.error("경매 목록 캐시 무효화 실패. TTL 만료 후 갱신됩니다. auctionId={}", event.getAuctionId(), e);
+        }
+    }
+
+    /**
+     * 상태 변경 커밋 후 영향받는 경매 목록 캐시 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleListingCacheEviction(AuctionStatusChangedEvent event) {
+        try {
+            auctionListingCache.evictOnStatusChanged(event);
+        } catch (Exception e) {
+            log.error("경매 목록 캐시 무효화 실패. TTL 만료 후 갱신됩니다. auctionId={}", event.getAuctionId(), e);
+        }
+    }
+
     /**
      * Auction Websocket 전송
      * 비동기 처리
@@ -1,20 +1,68 @@
 package com.highlight.highlight_backend.auction.notification;
 
 import com.highlight.highlight_backend.bid.event.BidCreatedEvent;
-import com.highlight.highlight_backend.auction.service.UserAuctionService;
 import com.highlight.highlight_backend.auction.dto.AuctionNewBidBroadcastDto;
 import com.highlight.highlight_backend.common.socket.dto.WebSocketMessageDto;
 import com.highlight.highlight_backend.common.socket.service.GlobalSocketService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 새 입찰 WebSocket 방송
+ *
+ * 입찰 경쟁 중에는 입찰마다 NEW_BID 를 보내면 구독자마다 초당 수백 건이 가고 대부분 바로 다음 메시지로 덮입니다.
+ * conflation 구간(websocket.conflation.window-ms, 0 이면 끔) 동안 경매별로 마지막 입찰만 보냅니다.
+ * - 구간이 열려 있지 않으면 바로 전송하고 구간을 엶 (조용한 경매는 지연 없음)
+ * - 구간 안에 들어온 입찰은 마지막 1건만 남기고, 구간이 끝날 때 생략한 입찰 수(conflatedBids)와 함께 전송
+ * - 구간 끝에 보낸 게 있으면 구간을 다시 열어 경매당 전송 빈도를 구간당 1번으로 제한, 없으면 닫음
+ * - 구간이 열려 있는 동안 마지막으로 보낸 입찰보다 오래된 입찰이 늦게 도착하면 보내지 않음
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AuctionWebSocketNotifier {
 
     private final GlobalSocketService globalSocketService;
+    private final TaskScheduler taskScheduler;
+    private final Duration window;
+    private final Counter conflatedCounter;
+
+    /** 경매 ID → 열려 있는 conflation 구간 */
+    private final Map<Long, ConflationWindow> windows = new ConcurrentHashMap<>();
+
+    public AuctionWebSocketNotifier(GlobalSocketService globalSocketService,
+                                    TaskScheduler taskScheduler,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${websocket.conflation.window-ms:100}") long windowMs) {
+        this.globalSocketService = globalSocketService;
+        this.taskScheduler = taskScheduler;
+        this.window = Duration.ofMillis(Math.max(0, windowMs));
+        this.conflatedCounter = Counter.builder("websocket.bid.conflated")
+                .description("conflation 으로 전송을 생략한 NEW_BID 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구간 동안 전송을 기다리는 마지막 입찰 (latest == null 이면 구간만 열려 있음)
+     * sent 는 이 구간을 열면서 보낸 입찰로, 이보다 최신인 입찰만 latest 가 될 수 있음
+     */
+    private static final class ConflationWindow {
+        private final BidCreatedEvent sent;
+        private BidCreatedEvent latest;
+        private long conflated;
+
+        private ConflationWindow(BidCreatedEvent sent) {
+            this.sent = sent;
+        }
+    }
 
     /**
      * 새로운 입찰이 생기면 webSocket을 통해 브로드캐스트로 보냄
@@ -25,13 +73,100 @@ public class AuctionWebSocketNotifier {
         log.info("WebSocket - 새 입찰 알림 전송: 경매={}, 입찰자={}, 금액={}",
                 auctionId, event.getUserNickname(), event.getBidAmount());
 
+        if (window.isZero()) {
+            send(event, 0);
+            return;
+        }
+
+        boolean[] opened = new boolean[1];
+        windows.compute(auctionId, (id, current) -> {
+            if (current == null) {
+                opened[0] = true;
+                return new ConflationWindow(event);
+            }
+            // 이미 보낸 입찰보다 오래된 입찰이 늦게 도착하면 화면이 뒤로 가지 않도록 버림
+            if (!isAfter(event, current.sent)) {
+                current.conflated++;
+                conflatedCounter.increment();
+                return current;
+            }
+            if (current.latest != null) {
+                current.conflated++;
+                conflatedCounter.increment();
+            }
+            // 이벤트는 커밋 후 여러 스레드에서 들어오므로 도착 순서가 아닌 입찰 횟수로 최신을 판단
+            if (current.latest == null || isNewer(event, current.latest)) {
+                current.latest = event;
+            }
+            return current;
+        });
+
+        if (opened[0]) {
+            send(event, 0);
+            scheduleFlush(auctionId);
+        }
+    }
+
+    /**
+     * 구간 종료: 남아 있는 마지막 입찰을 보내고, 보냈으면 구간을 다시 엶
+     */
+    private void flush(Long auctionId) {
+        BidCreatedEvent[] latest = new BidCreatedEvent[1];
+        long[] conflated = new long[1];
+        windows.computeIfPresent(auctionId, (id, current) -> {
+            if (current.latest == null) {
+                return null;
+            }
+            latest[0] = current.latest;
+            conflated[0] = current.conflated;
+            return new ConflationWindow(current.latest);
+        });
+
+        if (latest[0] != null) {
+            send(latest[0], conflated[0]);
+            scheduleFlush(auctionId);
+        }
+    }
+
+    private void scheduleFlush(Long auctionId) {
+        try {
+            taskScheduler.schedule(() -> flush(auctionId), Instant.now().plus(window));
+        } catch (Exception e) {
+            // 예약 실패 시 구간을 닫아 다음 입찰이 바로 전송되도록 함
+            log.error("입찰 방송 conflation 예약 실패: 경매={}, error={}", auctionId, e.getMessage());
+            windows.remove(auctionId);
+        }
+    }
+
+    private static boolean isNewer(BidCreatedEvent candidate, BidCreatedEvent current) {
+        if (candidate.getTotalBids() != null && current.getTotalBids() != null
+                && !candidate.getTotalBids().equals(current.getTotalBids())) {
+            return candidate.getTotalBids() > current.getTotalBids();
+        }
+        return candidate.getBidAmount().compareTo(current.getBidAmount()) >= 0;
+    }
+
+    /**
+     * 이미 보낸 입찰보다 최신인지 (같은 입찰 횟수면 최신이 아님)
+     */
+    private static boolean isAfter(BidCreatedEvent candidate, BidCreatedEvent sent) {
+        if (candidate.getTotalBids() != null && sent.getTotalBids() != null) {
+            return candidate.getTotalBids() > sent.getTotalBids();
+        }
+        return candidate.getBidAmount().compareTo(sent.getBidAmount()) > 0;
+    }
+
+    private void send(BidCreatedEvent event, long conflatedBids) {
+        Long auctionId = event.getAuctionId();
+
         // WebSocket 메시지 데이터 생성
         AuctionNewBidBroadcastDto bidData = AuctionNewBidBroadcastDto.fromEvent(
                 event.getBidId(),
                 event.getBidAmount(),
                 event.getUserNickname(),
                 event.getTotalBidders(),
-                event.getTotalBids()
+                event.getTotalBids(),
+                conflatedBids
         );
 
         WebSocketMessageDto message = WebSocketMessageDto.of(
@@ -12,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,6 +51,39 @@ public interface AuctionRepository extends JpaRepository<Auction, Long>, Auction
      */
     List<Auction> findByStatus(Auction.AuctionStatus status);
 
+    /**
+     * 타이밍 휠 복구용: 주어진 샤드에 속한 예약된 경매의 ID와 시작 예정 시간만 조회 (엔티티 로딩 X)
+     * 샤드 계산은 ClusterLeaseService.shardOf 와 같아야 함
+     *
+     * @return Object[] 배열의 리스트 - [id, scheduledStartTime]
+     */
+    @Query("SELECT a.id, a.scheduledStartTime FROM Auction a WHERE a.status = 'SCHEDULED' " +
+            "AND MOD(FLOOR(a.id / :idRange), :shardCount) IN :shards")
+    List<Object[]> findScheduledStartTimes(@Param("shards") Collection<Integer> shards,
+                                           @Param("shardCount") int shardCount,
+                                           @Param("idRange") long idRange);
+
+    /**
+     * 타이밍 휠 복구용: 주어진 샤드에 속한 진행 중인 경매의 ID와 종료 예정 시간만 조회 (엔티티 로딩 X)
+     * 샤드 계산은 ClusterLeaseService.shardOf 와 같아야 함
+     *
+     * @return Object[] 배열의 리스트 - [id, scheduledEndTime]
+     */
+    @Query("SELECT a.id, a.scheduledEndTime FROM Auction a WHERE a.status = 'IN_PROGRESS' " +
+            "AND MOD(FLOOR(a.id / :idRange), :shardCount) IN :shards")
+    List<Object[]> findInProgressEndTimes(@Param("shards") Collection<Integer> shards,
+                                          @Param("shardCount") int shardCount,
+                                          @Param("idRange") long idRange);
+
+    /**
+     * 카운트다운 레지스트리 동기화용: 진행 중인 경매의 실시간 표시 정보만 조회 (엔티티 로딩 X)
+     *
+     * @return Object[] 배열의 리스트 - [id, scheduledEndTime, currentHighestBid, totalBidders, totalBids, currentWinnerName]
+     */
+    @Query("SELECT a.id, a.scheduledEndTime, a.currentHighestBid, a.totalBidders, a.totalBids, a.currentWinnerName " +
+            "FROM Auction a WHERE a.status = 'IN_PROGRESS'")
+    List<Object[]> findLiveAuctionStats();
+
     /**
      * 특정 시간 범위 내 종료 예정인 진행 중 경매 조회
      *
@@ -82,20 +116,61 @@ public interface AuctionRepository extends JpaRepository<Auction, Long>, Auction
 
 
     /**
-     * AdminId를 이용해 경매 조회
+     * 관리자가 생성한 경매의 상태별 개수 (idx_auction_created_by_status)
+     *
+     * @return Object[] 배열의 리스트 - [status, count]
+     */
+    @Query("SELECT a.status, COUNT(a) FROM Auction a WHERE a.createdBy = :adminId GROUP BY a.status")
+    List<Object[]> countByCreatedByGroupByStatus(@Param("adminId") Long adminId);
+
+    /**
+     * 대쉬보드 진행중 경매 (최근 시작 순, 썸네일은 대표 이미지 → 정렬 순서 → 등록 순 첫 번째)
+     *
+     * @return Object[] 배열의 리스트 - [auctionId, productName, currentHighestBid, imageUrl]
+     */
+    @Query("SELECT a.id, p.productName, a.currentHighestBid, " +
+            "(SELECT pi.imageUrl FROM ProductImage pi WHERE pi.product = p " +
+            " ORDER BY pi.isPrimary DESC, pi.sortOrder ASC, pi.id ASC LIMIT 1) " +
+            "FROM Auction a JOIN a.product p " +
+            "WHERE a.status = 'IN_PROGRESS' " +
+            "ORDER BY a.actualStartTime DESC, a.id DESC")
+    List<Object[]> findLiveDashboardItems(Pageable pageable);
+
+
+    /**
+     * 진행 중인 경매 중 종료 시간이 지난 경매의 ID만 조회 (배치 종료용)
+     * idx_auction_status_end_time 인덱스만으로 처리됨
      */
-    @Query("select a FROM Auction a WHERE a.createdBy = :adminId")
-    List<Auction> findByAdminAuction(@Param("adminId") Long adminId);
+    @Query("SELECT a.id FROM Auction a WHERE a.status = 'IN_PROGRESS' AND a.scheduledEndTime <= :currentTime ORDER BY a.id")
+    List<Long> findDueAuctionIds(@Param("currentTime") LocalDateTime currentTime, Pageable pageable);
 
+    /**
+     * 종료 대상 경매 행을 잠그며 선점 (배치 종료용)
+     * SKIP LOCKED 이므로 동시에 도는 다른 배치(다른 노드 포함)가 잠근 행은 건너뛰고,
+     * 이미 커밋되어 종료된 행은 최신 값을 읽는 잠금 조회라 WHERE 조건에서 걸러짐
+     * → 같은 경매를 두 배치가 함께 처리하지 않음
+     *
+     * @return Object[] 배열의 리스트 - [id, category, productId, currentHighestBid, createdBy]
+     */
+    @Query(value = "SELECT a.id, a.category, a.product_id, a.current_highest_bid, a.created_by FROM auction a " +
+            "WHERE a.id IN (:auctionIds) AND a.status = 'IN_PROGRESS' AND a.scheduled_end_time <= :now " +
+            "ORDER BY a.id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Object[]> lockDueAuctions(@Param("auctionIds") Collection<Long> auctionIds,
+                                   @Param("now") LocalDateTime now);
 
     /**
-     * 진행 중인 경매 중 종료 시간이 지난 경매 조회
+     * lockDueAuctions 로 잠근 경매를 종료 상태로 변경 (IN_PROGRESS → COMPLETED)
      *
-     * @param currentTime 현재 시간
-     * @return 종료 대기 중인 경매 목록
+     * @return 종료 처리한 경매 수
      */
-    @Query("SELECT a FROM Auction a WHERE a.status = 'IN_PROGRESS' AND a.scheduledEndTime <= :currentTime")
-    List<Auction> findInProgressAuctionsReadyToEnd(@Param("currentTime") LocalDateTime currentTime);
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Auction a SET a.status = :completed, a.actualEndTime = :endedAt, " +
+            "a.endReason = :reason, a.updatedAt = :endedAt " +
+            "WHERE a.id IN :auctionIds AND a.status = 'IN_PROGRESS'")
+    int completeAuctions(@Param("auctionIds") Collection<Long> auctionIds,
+                         @Param("endedAt") LocalDateTime endedAt,
+                         @Param("reason") String reason,
+                         @Param("completed") Auction.AuctionStatus completed);
 
 
     /**
@@ -148,6 +223,32 @@ public interface AuctionRepository extends JpaRepository<Auction, Long>, Auction
     int updateWinnerNameByWinnerId(@Param("userId") Long userId, @Param("newNickname") String newNickname);
 
 
+    /**
+     * 상태 + 카테고리별 경매 수 (count 캐시 보정용)
+     *
+     * @return Object[] 배열의 리스트 - [status, category, count]
+     */
+    @Query("SELECT a.status, a.category, COUNT(a) FROM Auction a GROUP BY a.status, a.category")
+    List<Object[]> countGroupByStatusAndCategory();
+
+    @Query("SELECT a.category FROM Auction a WHERE a.id = :auctionId")
+    Optional<Product.Category> findCategoryById(@Param("auctionId") Long auctionId);
+
+    /**
+     * 상태 / 카테고리 / 가격대별 경매 수 (facet 개수 보정용)
+     * 가격대 경계는 AuctionPriceBucket 과 같아야 함
+     *
+     * @return Object[] 배열의 리스트 - [status, category, priceBucket, count]
+     */
+    @Query(value = "SELECT status, category, " +
+            "CASE WHEN current_highest_bid IS NULL OR current_highest_bid < 100000 THEN 'UNDER_100K' " +
+            "     WHEN current_highest_bid < 500000 THEN 'FROM_100K_TO_500K' " +
+            "     WHEN current_highest_bid < 1000000 THEN 'FROM_500K_TO_1M' " +
+            "     WHEN current_highest_bid < 5000000 THEN 'FROM_1M_TO_5M' " +
+            "     ELSE 'OVER_5M' END AS price_bucket, " +
+            "COUNT(*) FROM auction GROUP BY status, category, price_bucket", nativeQuery = true)
+    List<Object[]> countGroupByFacet();
+
     long countByStatusAndCategory(Auction.AuctionStatus auctionStatus, Product.Category category);
 
     long countByStatus(Auction.AuctionStatus auctionStatus);
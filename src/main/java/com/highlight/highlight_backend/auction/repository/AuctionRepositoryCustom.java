@@ -1,10 +1,13 @@
 package com.highlight.highlight_backend.auction.repository;
 
-import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.dto.AuctionCursor;
+import com.highlight.highlight_backend.auction.dto.AuctionListItemDto;
 import com.highlight.highlight_backend.auction.dto.AuctionSearchConditionDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 public interface AuctionRepositoryCustom {
-    Slice<Auction> searchAuctions(AuctionSearchConditionDto condition, Pageable pageable);
+    Slice<AuctionListItemDto> searchAuctions(AuctionSearchConditionDto condition, AuctionCursor cursor, Pageable pageable);
+
+    long countAuctions(AuctionSearchConditionDto condition);
 }
@@ -1,22 +1,29 @@
 package com.highlight.highlight_backend.auction.repository;
 
 import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.dto.AuctionCursor;
+import com.highlight.highlight_backend.auction.dto.AuctionListItemDto;
 import com.highlight.highlight_backend.auction.dto.AuctionSearchConditionDto;
 import com.highlight.highlight_backend.product.domian.Product;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
 import static com.highlight.highlight_backend.auction.domain.QAuction.auction;
+import static com.highlight.highlight_backend.product.domian.QProduct.product;
 
 @RequiredArgsConstructor
 public class AuctionRepositoryImpl implements AuctionRepositoryCustom{
@@ -25,27 +32,35 @@ public class AuctionRepositoryImpl implements AuctionRepositoryCustom{
 
     /**
      * Slice 를 이용하여 count 하지 않고 사용자가 10개를 원한다면 11개 까지 탐색 후 다음 페이지가 있다는 정보만 넘기고 끝냄.
+     * cursor 가 있으면 offset 대신 (정렬 값, id) 기준 seek 조건으로 다음 페이지를 바로 찾아가므로
+     * 몇 번째 페이지든 인덱스에서 pageSize + 1 건만 읽는다.
      */
     @Override
-    public Slice<Auction> searchAuctions(AuctionSearchConditionDto condition, Pageable pageable) {
+    public Slice<AuctionListItemDto> searchAuctions(AuctionSearchConditionDto condition, AuctionCursor cursor, Pageable pageable) {
 
         // 1. 페이지 사이즈보다 1개 더 조회 (Limit + 1)
         int pageSize = pageable.getPageSize();
+        OrderSpecifier<?>[] orderSpecifiers = getOrderSpecifiers(pageable);
 
         // 2. [커버링 인덱스] ID 조회 (Limit를 pageSize + 1로 설정)
-        List<Long> ids = queryFactory
+        JPAQuery<Long> idQuery = queryFactory
                 .select(auction.id)
                 .from(auction)
                 .where(
                         eqStatus(condition.getStatus()),
                         eqCategory(condition.getCategory()),
                         isPremium(condition.getIsPremium()),
-                        betweenPrice(condition.getMinPrice(), condition.getMaxPrice())
+                        betweenPrice(condition.getMinPrice(), condition.getMaxPrice()),
+                        matchesKeyword(condition),
+                        seekAfter(cursor)
                 )
-                .orderBy(getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageSize + 1) // <--- 핵심! 1개 더 가져옴
-                .fetch();
+                .orderBy(orderSpecifiers)
+                .limit(pageSize + 1); // <--- 핵심! 1개 더 가져옴
+        if (cursor == null && pageable.getOffset() > 0) {
+            // 커서를 아직 쓰지 않는 클라이언트(page 파라미터) 호환용
+            idQuery.offset(pageable.getOffset());
+        }
+        List<Long> ids = idQuery.fetch();
 
         // 3. 데이터가 없으면 빈 Slice 반환
         if (ids.isEmpty()) {
@@ -59,19 +74,56 @@ public class AuctionRepositoryImpl implements AuctionRepositoryCustom{
             ids = ids.subList(0, pageSize); // 11번째 제거 후 데이터 조회
         }
 
-        // 5. [Deferred Join] 실제 데이터 조회
+        // 5. [Deferred Join] 목록에 필요한 컬럼만 projection 으로 조회
         // ids 리스트를 그대로 쓰면 11개를 다 가져오게 됨.
-        List<Auction> content = queryFactory
-                .selectFrom(auction)
-                .join(auction.product).fetchJoin()
+        // 엔티티를 올리지 않으므로 product.images 지연 로딩(N+1)이 발생하지 않음. 썸네일은 서비스에서 일괄 조회.
+        List<AuctionListItemDto> content = queryFactory
+                .select(Projections.constructor(AuctionListItemDto.class,
+                        auction.id,
+                        product.id,
+                        product.productName,
+                        product.brand,
+                        product.category,
+                        product.isPremium,
+                        auction.startPrice,
+                        auction.buyItNowPrice,
+                        auction.currentHighestBid,
+                        auction.totalBids,
+                        auction.scheduledStartTime,
+                        auction.scheduledEndTime,
+                        auction.status,
+                        auction.createdAt,
+                        auction.actualStartTime))
+                .from(auction)
+                .join(auction.product, product)
                 .where(auction.id.in(ids))
-                .orderBy(getOrderSpecifiers(pageable))
+                .orderBy(orderSpecifiers)
                 .fetch();
 
         // 6. PageImpl 대신 SliceImpl 반환 (Count 쿼리 실행 X)
         return new SliceImpl<>(content, pageable, hasNext);
     }
 
+    /**
+     * 검색 조건에 맞는 경매 수 (검색어가 있는 목록용, 상태/카테고리 count 캐시는 검색어를 반영하지 못함)
+     * 색인 검색 결과가 있으면 product_id IN 조건이라 FK 인덱스로 해당 상품의 경매만 센다.
+     */
+    @Override
+    public long countAuctions(AuctionSearchConditionDto condition) {
+        Long count = queryFactory
+                .select(auction.count())
+                .from(auction)
+                .where(
+                        eqStatus(condition.getStatus()),
+                        eqCategory(condition.getCategory()),
+                        isPremium(condition.getIsPremium()),
+                        betweenPrice(condition.getMinPrice(), condition.getMaxPrice()),
+                        matchesKeyword(condition)
+                )
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
     private BooleanExpression eqStatus(String status) {
         return StringUtils.hasText(status) ? auction.status.eq(Auction.AuctionStatus.valueOf(status)) : null;
     }
@@ -102,28 +154,84 @@ public class AuctionRepositoryImpl implements AuctionRepositoryCustom{
         return null;
     }
 
+    // 상품명 / 브랜드 / 한 줄 설명 LIKE 검색. 검색 색인으로 찾은 후보 상품 ID 가 있으면 FK 로 먼저 좁히고,
+    // bigram 이 단어/필드 경계를 넘어 일치한 후보는 같은 LIKE 조건으로 걸러낸다 (후보 행만 비교하므로 전체 스캔 없음)
+    private BooleanExpression matchesKeyword(AuctionSearchConditionDto condition) {
+        if (!StringUtils.hasText(condition.getKeyword())) {
+            return null;
+        }
+        String keyword = condition.getKeyword().trim();
+        BooleanExpression contains = auction.product.productName.contains(keyword)
+                .or(auction.product.brand.contains(keyword))
+                .or(auction.product.shortDescription.contains(keyword));
+        if (condition.getProductIds() != null) {
+            return auction.product.id.in(condition.getProductIds()).and(contains);
+        }
+        return contains;
+    }
+
     // --- [동적 정렬 처리] ---
+    // 정렬 값이 같은 행이 페이지 경계에 걸려도 순서가 고정되도록 id 를 같은 방향으로 덧붙인다.
+    // (status, 정렬 컬럼) 인덱스는 InnoDB 에서 PK 를 포함하므로 (status, 정렬 컬럼, id) 순서 그대로 읽힌다.
     private OrderSpecifier<?>[] getOrderSpecifiers(Pageable pageable) {
-        if (pageable.getSort().isEmpty()) {
-            return new OrderSpecifier[]{auction.createdAt.desc()}; // 기본 정렬
-        }
+        Order direction = AuctionCursor.isAscending(pageable) ? Order.ASC : Order.DESC;
+
+        OrderSpecifier<?> sortOrder = switch (AuctionCursor.SortKey.from(pageable)) {
+            case NEWEST -> new OrderSpecifier<>(direction, auction.actualStartTime);
+            case CURRENT_HIGHEST_BID -> new OrderSpecifier<>(direction, auction.currentHighestBid);
+            // 기본적으로 최신순
+            case CREATED_AT -> new OrderSpecifier<>(Order.DESC, auction.createdAt);
+        };
+        return new OrderSpecifier[]{sortOrder, new OrderSpecifier<>(direction, auction.id)};
+    }
 
-        List<OrderSpecifier<?>> orders = new ArrayList<>();
-        for (Sort.Order order : pageable.getSort()) {
-            Order direction = order.getDirection().isAscending() ? Order.ASC : Order.DESC;
-
-            switch (order.getProperty()) {
-                case "newest":
-                    orders.add(new OrderSpecifier<>(direction, auction.actualStartTime));
-                    break;
-                case "currentHighestBid":
-                    orders.add(new OrderSpecifier<>(direction, auction.currentHighestBid));
-                    break;
-                default:
-                    // 기본적으로 최신순
-                    orders.add(new OrderSpecifier<>(Order.DESC, auction.createdAt));
+    // --- [Keyset 페이지네이션] ---
+    // WHERE (정렬 값, id) < (커서 값, 커서 id) 를 인덱스가 타는 OR 형태로 풀어 쓴다.
+    // MySQL 은 NULL 을 오름차순에서 맨 앞, 내림차순에서 맨 뒤로 정렬하므로 그 순서에 맞춰 NULL 구간을 이어 붙인다.
+    private BooleanExpression seekAfter(AuctionCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        boolean asc = cursor.isAscending();
+
+        return switch (cursor.getSortKey()) {
+            case CREATED_AT -> seekAfterDateTime(auction.createdAt, cursor);
+            case NEWEST -> seekAfterDateTime(auction.actualStartTime, cursor);
+            case CURRENT_HIGHEST_BID -> {
+                NumberPath<BigDecimal> path = auction.currentHighestBid;
+                BigDecimal value = cursor.getDecimalValue();
+                yield seekAfter(cursor, path.isNull(),
+                        value == null ? null : (asc ? path.gt(value) : path.lt(value)),
+                        value == null ? null : path.eq(value));
             }
+        };
+    }
+
+    private BooleanExpression seekAfterDateTime(DateTimePath<LocalDateTime> path, AuctionCursor cursor) {
+        LocalDateTime value = cursor.getDateTimeValue();
+        boolean asc = cursor.isAscending();
+        return seekAfter(cursor, path.isNull(),
+                value == null ? null : (asc ? path.gt(value) : path.lt(value)),
+                value == null ? null : path.eq(value));
+    }
+
+    /**
+     * @param keyIsNull   정렬 컬럼 IS NULL
+     * @param keyAfter    정렬 컬럼이 커서 값 다음 (커서 값이 null 이면 null)
+     * @param keyEquals   정렬 컬럼 = 커서 값 (커서 값이 null 이면 null)
+     */
+    private BooleanExpression seekAfter(AuctionCursor cursor, BooleanExpression keyIsNull,
+                                        BooleanExpression keyAfter, BooleanExpression keyEquals) {
+        BooleanExpression idAfter = cursor.isAscending()
+                ? auction.id.gt(cursor.getId())
+                : auction.id.lt(cursor.getId());
+
+        if (keyAfter == null) {
+            // 커서 행의 정렬 값이 NULL
+            BooleanExpression sameNullGroup = keyIsNull.and(idAfter);
+            return cursor.isAscending() ? sameNullGroup.or(keyIsNull.not()) : sameNullGroup;
         }
-        return orders.toArray(new OrderSpecifier[0]);
+        BooleanExpression seek = keyAfter.or(keyEquals.and(idAfter));
+        return cursor.isAscending() ? seek : seek.or(keyIsNull);
     }
 }
@@ -34,6 +34,8 @@ public class AdminAuctionService {
 
     private final AuctionRepository auctionRepository;
     private final AuctionSchedulerService auctionSchedulerService;
+    private final AuctionLiveRegistry auctionLiveRegistry;
+    private final AuctionEndingSoonAlertService auctionEndingSoonAlertService;
     private final AuctionValidator auctionValidator;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -60,7 +62,10 @@ public class AdminAuctionService {
 
         Auction saved = auctionRepository.save(auction);
         eventPublisher.publishEvent(new AuctionStatusChangedEvent(
-                saved.getId(), null, Auction.AuctionStatus.SCHEDULED, product.getCategory()));
+                saved.getId(), null, Auction.AuctionStatus.SCHEDULED, product.getCategory(),
+                saved.getCurrentHighestBid(), saved.getCreatedBy()));
+        auctionSchedulerService.scheduleAuctionStart(saved);
+        auctionEndingSoonAlertService.scheduleAlerts(saved);
 
         log.info("경매 생성 성공 : {}", product.getProductName());
         return saved;
@@ -90,9 +95,13 @@ public class AdminAuctionService {
             auction.setScheduledEndTime(kstEndTime);
             auction.startAuction(adminId);
         }
+        auctionSchedulerService.scheduleAuctionEnd(auction);
+        auctionLiveRegistry.register(auction);
+        auctionEndingSoonAlertService.scheduleAlerts(auction);
 
         eventPublisher.publishEvent(new AuctionStatusChangedEvent(
-                auctionId, previousStatus, auction.getStatus(), auction.getCategory()));
+                auctionId, previousStatus, auction.getStatus(), auction.getCategory(),
+                auction.getCurrentHighestBid(), auction.getCreatedBy()));
         return auction;
     }
 
@@ -104,12 +113,15 @@ public class AdminAuctionService {
         Auction auction = auctionRepository.getOrThrow(auctionId);
         auctionValidator.validateAuctionEnd(auction);
         auctionSchedulerService.cancelScheduledStart(auctionId);
+        auctionSchedulerService.cancelScheduledEnd(auctionId);
+        auctionEndingSoonAlertService.cancelAlerts(auctionId);
 
         Auction.AuctionStatus previousStatus = auction.getStatus();
         auction.cancelAuction(adminId, "관리자 강제 중단");
 
         eventPublisher.publishEvent(new AuctionStatusChangedEvent(
-                auctionId, previousStatus, auction.getStatus(), auction.getCategory()));
+                auctionId, previousStatus, auction.getStatus(), auction.getCategory(),
+                auction.getCurrentHighestBid(), auction.getCreatedBy()));
         return auction;
     }
 
@@ -121,12 +133,15 @@ public class AdminAuctionService {
         Auction auction = auctionRepository.getOrThrow(auctionId);
         auctionValidator.validateAuctionEnd(auction);
         auctionSchedulerService.cancelScheduledStart(auctionId);
+        auctionSchedulerService.cancelScheduledEnd(auctionId);
+        auctionEndingSoonAlertService.cancelAlerts(auctionId);
 
         Auction.AuctionStatus previousStatus = auction.getStatus();
         auction.endAuction(adminId, endReason);
 
         eventPublisher.publishEvent(new AuctionStatusChangedEvent(
-                auctionId, previousStatus, auction.getStatus(), auction.getCategory()));
+                auctionId, previousStatus, auction.getStatus(), auction.getCategory(),
+                auction.getCurrentHighestBid(), auction.getCreatedBy()));
         return auction;
     }
 
@@ -156,6 +171,11 @@ public class AdminAuctionService {
         }
 
         auction.updateDetail(request, kstStartTime, kstEndTime);
+        if (auction.getStatus() == SCHEDULED) {
+            auctionSchedulerService.scheduleAuctionStart(auction);
+        }
+        // 종료 시각이 바뀌었을 수 있으므로 대기 중인 종료 임박 알림 교체
+        auctionEndingSoonAlertService.scheduleAlerts(auction);
         return auction;
     }
 
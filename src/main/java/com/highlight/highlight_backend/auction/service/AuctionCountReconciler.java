@@ -0,0 +1,62 @@
+package com.highlight.highlight_backend.auction.service;
+
+import com.highlight.highlight_backend.common.cluster.ClusterLeaseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경매 count 캐시 주기 보정 작업
+ *
+ * AFTER_COMMIT 갱신 실패, 서버 중단 등으로 어긋난 Redis count 를 DB 집계 기준으로 되돌립니다.
+ * 보정 전 오차 크기를 auction.count.drift 게이지로, 실제로 덮어쓴 키의 오차만 auction.count.drift.corrected 로 노출합니다.
+ * (조회 이후 값이 바뀌어 건너뛴 키는 corrected 에 포함하지 않음)
+ */
+@Slf4j
+@Component
+public class AuctionCountReconciler {
+
+    private static final String JOB_NAME = "auction-count-reconcile";
+
+    private final AuctionCountService auctionCountService;
+    private final ClusterLeaseService clusterLeaseService;
+    private final AtomicLong lastDrift = new AtomicLong();
+    private final Counter driftTotal;
+
+    public AuctionCountReconciler(AuctionCountService auctionCountService,
+                                  ClusterLeaseService clusterLeaseService,
+                                  MeterRegistry meterRegistry) {
+        this.auctionCountService = auctionCountService;
+        this.clusterLeaseService = clusterLeaseService;
+        Gauge.builder("auction.count.drift", lastDrift, AtomicLong::get)
+                .description("마지막 보정 시점의 Redis count 오차 절대값 합")
+                .register(meterRegistry);
+        this.driftTotal = Counter.builder("auction.count.drift.corrected")
+                .description("보정한 Redis count 오차 누적")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = 300000, initialDelay = 60000) // 5분마다 실행
+    public void reconcile() {
+        if (!clusterLeaseService.isLeader(JOB_NAME)) {
+            return;
+        }
+        try {
+            AuctionCountService.ReconcileResult result = auctionCountService.reconcile();
+            lastDrift.set(result.drift());
+            if (result.corrected() > 0) {
+                driftTotal.increment(result.corrected());
+            }
+            if (result.drift() > 0) {
+                log.warn("경매 count 캐시 오차 보정: 오차 합 {}, 보정 {}", result.drift(), result.corrected());
+            }
+        } catch (Exception e) {
+            log.error("경매 count 캐시 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
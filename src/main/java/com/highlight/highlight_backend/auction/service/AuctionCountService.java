@@ -2,48 +2,170 @@ package com.highlight.highlight_backend.auction.service;
 
 import com.highlight.highlight_backend.auction.domain.Auction;
 import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.common.cache.NearCache;
+import com.highlight.highlight_backend.common.cache.NearCacheManager;
+import com.highlight.highlight_backend.common.cache.SingleFlightLoader;
 import com.highlight.highlight_backend.product.domian.Product;
-import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 경매 상태별 / 상태+카테고리별 개수 캐시 (Redis)
+ *
+ * - 상태 전이는 전체 키와 카테고리 키를 Lua 스크립트 1번으로 원자적으로 반영 (왕복 1번)
+ * - 키가 없으면 건드리지 않음 → 다음 조회 때 DB 폴백으로 정확한 값이 채워짐
+ * - 음수가 되면 어긋난 값이므로 키를 삭제하여 DB 폴백으로 복구
+ * - 누적된 오차는 AuctionCountReconciler 가 주기적으로 GROUP BY 쿼리 1번으로 보정
+ * - 조회는 L1(노드 로컬) 캐시 → Redis GET 1번 순서, 값이 바뀌면 모든 노드의 L1 에서 해당 키 제거
+ * - Redis 키가 만료되면 SingleFlightLoader 로 클러스터에서 DB 재계산을 1번으로 제한
+ */
 @Service
-@RequiredArgsConstructor
 public class AuctionCountService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final AuctionRepository auctionRepository;
+    private final NearCache<Long> countCache;
+    private final SingleFlightLoader singleFlightLoader;
 
     private static final String COUNT_KEY_PREFIX = "auction:count:";
     private static final long TTL_HOURS = 1; // 폴백용 TTL (AFTER_COMMIT 갱신 실패 시 자동 복구)
+    private static final String STALE_KEY_PREFIX = "auction:count-stale:";
+    private static final long STALE_TTL_HOURS = 24; // 다른 노드가 재계산하는 동안 잠시 돌려줄 이전 값
 
-    // 타 service에서 사용할 메서드
+    // L1: 키 개수는 (상태 수 + 1) x (카테고리 수 + 1) 이하, 무효화 메시지 유실 대비 짧은 TTL
+    private static final long L1_MAX_SIZE = 1_000;
+    private static final Duration L1_TTL = Duration.ofSeconds(10);
+    private static final Duration L1_IDLE = Duration.ofMinutes(5);
+
+    public AuctionCountService(RedisTemplate<String, String> redisTemplate,
+                               AuctionRepository auctionRepository,
+                               NearCacheManager nearCacheManager,
+                               SingleFlightLoader singleFlightLoader) {
+        this.redisTemplate = redisTemplate;
+        this.auctionRepository = auctionRepository;
+        this.singleFlightLoader = singleFlightLoader;
+        this.countCache = nearCacheManager.create("auction-count", L1_MAX_SIZE, L1_TTL, L1_IDLE);
+    }
+
+    /** KEYS[i] 에 ARGV[i] 만큼 더함 (존재하는 키만, 음수가 되면 삭제) */
+    private static final RedisScript<Long> TRANSITION_SCRIPT = new DefaultRedisScript<>(
+            "local adjusted = 0 " +
+            "for i, key in ipairs(KEYS) do " +
+            "  if redis.call('exists', key) == 1 then " +
+            "    if redis.call('incrby', key, ARGV[i]) < 0 then redis.call('del', key) end " +
+            "    adjusted = adjusted + 1 " +
+            "  end " +
+            "end " +
+            "return adjusted", Long.class);
+
+    /**
+     * 값이 ARGV[2i-1] (빈 문자열이면 키 없음) 에서 바뀌지 않은 키만 ARGV[2i] 로 덮어씀 (보정 작업용)
+     * 조회 이후 상태 전이가 반영된 키는 건너뛰고 다음 보정에서 다시 확인
+     * 마지막 ARGV 는 TTL(초), 덮어쓴 키의 번호(1부터) 목록을 반환
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+            "local ttl = ARGV[#ARGV] " +
+            "local written = {} " +
+            "for i, key in ipairs(KEYS) do " +
+            "  local current = redis.call('get', key) or '' " +
+            "  if current == ARGV[2 * i - 1] then " +
+            "    redis.call('set', key, ARGV[2 * i], 'EX', ttl) " +
+            "    written[#written + 1] = i " +
+            "  end " +
+            "end " +
+            "return written", List.class);
+
+    /**
+     * 보정 결과
+     *
+     * @param drift     존재하던 키들의 오차 절대값 합 (보정 전 관측값)
+     * @param corrected 그중 실제로 덮어쓴 키들의 오차 합 (동시에 값이 바뀌어 건너뛴 키는 제외)
+     */
+    public record ReconcileResult(long drift, long corrected) {
+    }
+
+    /**
+     * 단일 경매 상태 전이 (전체 + 카테고리 키를 한 번에 반영)
+     */
     public void transition(
             Auction.AuctionStatus from,
             Auction.AuctionStatus to,
             Product.Category category) {
-        if (from != null) decrement(from, category);
-        if (to != null)   increment(to, category);
+        Map<Product.Category, Long> counts = new EnumMap<>(Product.Category.class);
+        if (category != null) {
+            counts.put(category, 1L);
+        }
+        apply(from, to, 1L, counts);
+    }
+
+    /**
+     * 여러 경매의 상태 전이를 카테고리별로 합산해 스크립트 1번으로 반영 (배치 종료용)
+     */
+    public void transitionBatch(Auction.AuctionStatus from,
+                                Auction.AuctionStatus to,
+                                Map<Product.Category, Long> countsByCategory) {
+        long total = countsByCategory.values().stream().mapToLong(Long::longValue).sum();
+        apply(from, to, total, countsByCategory);
     }
 
-    // 카운트 증가 — 신규 키(INCR 결과 == 1)면 TTL 설정
+    // 카운트 증가
     public void increment(Auction.AuctionStatus status,
                           Product.Category category) {
-        incrementWithTtl(statusKey(status));
-        incrementWithTtl(statusCategoryKey(status, category));
+        transition(null, status, category);
     }
 
     // 카운트 감소
     public void decrement(Auction.AuctionStatus status,
                           Product.Category category) {
-        redisTemplate.opsForValue().decrement(statusKey(status));
-        redisTemplate.opsForValue().decrement(statusCategoryKey(status, category));
+        transition(status, null, category);
     }
 
-    // 카운트 조회 (Redis 미스 시 DB 폴백 후 1시간 TTL로 캐싱)
+    private void apply(Auction.AuctionStatus from,
+                       Auction.AuctionStatus to,
+                       long total,
+                       Map<Product.Category, Long> countsByCategory) {
+        if (total == 0 || from == to) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<String> deltas = new ArrayList<>();
+        if (from != null) {
+            keys.add(statusKey(from));
+            deltas.add(String.valueOf(-total));
+        }
+        if (to != null) {
+            keys.add(statusKey(to));
+            deltas.add(String.valueOf(total));
+        }
+        countsByCategory.forEach((category, count) -> {
+            if (from != null) {
+                keys.add(statusCategoryKey(from, category));
+                deltas.add(String.valueOf(-count));
+            }
+            if (to != null) {
+                keys.add(statusCategoryKey(to, category));
+                deltas.add(String.valueOf(count));
+            }
+        });
+
+        redisTemplate.execute(TRANSITION_SCRIPT, keys, deltas.toArray());
+        countCache.invalidate(keys);
+    }
+
+    // 카운트 조회 (L1 → Redis, Redis 미스 시 DB 폴백 후 1시간 TTL로 캐싱)
     public long getCount(String status, String category) {
         String key = StringUtils.hasText(category)
                 ? statusCategoryKey(
@@ -51,35 +173,107 @@ public class AuctionCountService {
                     Product.Category.valueOf(category))
                 : statusKey(Auction.AuctionStatus.valueOf(status));
 
-        String count = redisTemplate.opsForValue().get(key);
+        return countCache.get(key, k -> loadCount(k, status, category));
+    }
+
+    private long loadCount(String key, String status, String category) {
+        Long cached = readCount(key);
+        if (cached != null) {
+            return cached;
+        }
 
+        // Redis 미스: 클러스터에서 1번만 DB 재계산, 나머지는 이전 값 또는 재계산 결과 사용
+        return singleFlightLoader.loadClusterWide(key,
+                () -> {
+                    long dbCount = StringUtils.hasText(category)
+                            ? auctionRepository.countByStatusAndCategory(
+                                Auction.AuctionStatus.valueOf(status),
+                                Product.Category.valueOf(category))
+                            : auctionRepository.countByStatus(
+                                Auction.AuctionStatus.valueOf(status));
+
+                    redisTemplate.opsForValue()
+                            .set(key, String.valueOf(dbCount), TTL_HOURS, TimeUnit.HOURS);
+                    redisTemplate.opsForValue()
+                            .set(staleKey(key), String.valueOf(dbCount), STALE_TTL_HOURS, TimeUnit.HOURS);
+                    return dbCount;
+                },
+                () -> readCount(key),
+                () -> readCount(staleKey(key)));
+    }
+
+    private Long readCount(String key) {
+        String count = redisTemplate.opsForValue().get(key);
         if (count == null) {
-            long dbCount = StringUtils.hasText(category)
-                    ? auctionRepository.countByStatusAndCategory(
-                        Auction.AuctionStatus.valueOf(status),
-                        Product.Category.valueOf(category))
-                    : auctionRepository.countByStatus(
-                        Auction.AuctionStatus.valueOf(status));
-
-            redisTemplate.opsForValue()
-                    .set(key, String.valueOf(dbCount), TTL_HOURS, TimeUnit.HOURS);
-            return dbCount;
+            return null;
         }
-        // DECR가 0 밑으로 내려갈 수 있어 하한 보정
+        // 음수 키는 스크립트에서 삭제되지만 방어적으로 하한 보정
         return Math.max(0, Long.parseLong(count));
     }
 
+    /**
+     * DB 집계(GROUP BY status, category 1번) 기준으로 전체 키를 보정
+     *
+     * 쿼리 전에 Redis 값을 먼저 읽어두고, 그 사이 값이 바뀐 키는 덮어쓰지 않음 (다음 보정에서 다시 확인)
+     *
+     * @return 관측한 오차와 실제로 보정한 오차
+     */
+    public ReconcileResult reconcile() {
+        List<String> keys = new ArrayList<>();
+        for (Auction.AuctionStatus status : Auction.AuctionStatus.values()) {
+            keys.add(statusKey(status));
+            for (Product.Category category : Product.Category.values()) {
+                keys.add(statusCategoryKey(status, category));
+            }
+        }
+        List<String> cached = redisTemplate.opsForValue().multiGet(keys);
+
+        Map<String, Long> dbCounts = new LinkedHashMap<>();
+        for (Object[] row : auctionRepository.countGroupByStatusAndCategory()) {
+            Auction.AuctionStatus status = (Auction.AuctionStatus) row[0];
+            Product.Category category = (Product.Category) row[1];
+            long count = ((Number) row[2]).longValue();
+            dbCounts.merge(statusKey(status), count, Long::sum);
+            if (category != null) {
+                dbCounts.merge(statusCategoryKey(status, category), count, Long::sum);
+            }
+        }
+
+        long drift = 0;
+        long[] drifts = new long[keys.size()];
+        List<String> args = new ArrayList<>(keys.size() * 2 + 1);
+        for (int i = 0; i < keys.size(); i++) {
+            String current = cached == null ? null : cached.get(i);
+            long expected = dbCounts.getOrDefault(keys.get(i), 0L);
+            if (current != null) {
+                drifts[i] = Math.abs(Long.parseLong(current) - expected);
+                drift += drifts[i];
+            }
+            args.add(current == null ? "" : current);
+            args.add(String.valueOf(expected));
+        }
+        args.add(String.valueOf(TimeUnit.HOURS.toSeconds(TTL_HOURS)));
+
+        List<?> written = redisTemplate.execute(RECONCILE_SCRIPT, keys, args.toArray());
+        countCache.invalidateAll();
+
+        long corrected = 0;
+        if (written != null) {
+            for (Object index : written) {
+                corrected += drifts[((Number) index).intValue() - 1];
+            }
+        }
+        return new ReconcileResult(drift, corrected);
+    }
+
     public void reset(Auction.AuctionStatus status, Product.Category category) {
         redisTemplate.delete(statusKey(status));
         redisTemplate.delete(statusCategoryKey(status, category));
+        countCache.invalidate(List.of(statusKey(status), statusCategoryKey(status, category)));
     }
 
-    // INCR 결과가 1이면 키가 새로 생성된 것 → TTL 설정
-    private void incrementWithTtl(String key) {
-        Long result = redisTemplate.opsForValue().increment(key);
-        if (Long.valueOf(1).equals(result)) {
-            redisTemplate.expire(key, TTL_HOURS, TimeUnit.HOURS);
-        }
+    private String staleKey(String key) {
+        return STALE_KEY_PREFIX + key.substring(COUNT_KEY_PREFIX.length());
     }
 
     private String statusKey(Auction.AuctionStatus status) {
@@ -1,20 +1,21 @@
 package com.highlight.highlight_backend.auction.service;
 
-import com.highlight.highlight_backend.auction.domain.Auction;
-import com.highlight.highlight_backend.auction.repository.AuctionRepository;
-import com.highlight.highlight_backend.bid.service.BidNotificationService;
+import com.highlight.highlight_backend.auction.dto.AuctionLiveStatusDto;
+import com.highlight.highlight_backend.common.socket.dto.WebSocketMessageDto;
+import com.highlight.highlight_backend.common.socket.service.GlobalSocketService;
+import com.highlight.highlight_backend.common.socket.service.SseTopicHub;
+import com.highlight.highlight_backend.common.socket.service.TopicSubscriptionRegistry;
+import com.highlight.highlight_backend.common.socket.service.WebSocketPayloadEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * 경매 카운트다운 실시간 전송 서비스
  * 
  * 진행 중인 경매의 남은 시간을 주기적으로 계산하여 WebSocket으로 전송합니다.
+ * 종료 임박 알림은 AuctionEndingSoonAlertService 의 지연 큐에서 전송합니다.
  * 
  * @author 전우선
  * @since 2025.08.16
@@ -24,65 +25,71 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AuctionCountdownService {
 
-    private final AuctionRepository auctionRepository;
-    private final AuctionNotificationService auctionNotificationService;
-    private final BidNotificationService bidNotificationService;
+    /** 변경이 없어도 서버 시각을 다시 맞춰주는 주기 (그 사이의 카운트다운은 클라이언트가 계산) */
+    private static final long SYNC_INTERVAL_MS = 10_000;
+    private static final String AUCTION_TOPIC_PREFIX = "/topic/auction/";
+
+    private final AuctionLiveRegistry auctionLiveRegistry;
+    private final TopicSubscriptionRegistry topicSubscriptionRegistry;
+    private final SseTopicHub sseTopicHub;
+    private final GlobalSocketService globalSocketService;
+    private final WebSocketPayloadEncoder payloadEncoder;
     
     /**
-     * 진행 중인 경매의 남은 시간을 주기적으로 전송 (1초마다)
+     * 진행 중인 경매의 상태를 주기적으로 전송 (1초마다)
+     *
+     * DB 조회 없이 메모리 레지스트리만 사용하며, 경매당 메시지를 한 번만 직렬화합니다.
+     * - 이 노드에 구독자(STOMP / SSE)가 없는 경매는 건너뜀
+     * - 모든 노드가 각자 방송하므로 relay 를 거치지 않고 이 노드의 구독자에게만 전송
+     * - 입찰 등으로 내용이 바뀐 경매는 다음 tick 에 바로 전송
+     * - 바뀐 게 없으면 SYNC_INTERVAL_MS 마다 한 번만 전송 (serverTime 으로 클라이언트 시계 보정)
      */
-    @Transactional(readOnly = true)
-    //@Scheduled(fixedRate = 1000) // 1초마다 실행
+    @Scheduled(fixedRate = 1000) // 1초마다 실행
     public void sendCountdownUpdates() {
-        try {
-            // 진행 중인 경매만 조회
-            List<Auction> inProgressAuctions = auctionRepository.findByStatus(Auction.AuctionStatus.IN_PROGRESS);
-            
-            for (Auction auction : inProgressAuctions) {
-                // 종료 시간이 지났는지 확인 (한국 시간 기준)
-                if (LocalDateTime.now(java.time.ZoneId.of("Asia/Seoul")).isAfter(auction.getScheduledEndTime())) {
-                    log.info("경매 종료 시간 도달: 경매ID={}", auction.getId());
-                    continue; // 종료된 경매는 스킵 (AuctionService에서 별도 처리)
+        long now = System.currentTimeMillis();
+        int sent = 0;
+
+        for (AuctionLiveRegistry.LiveAuction auction : auctionLiveRegistry.getAuctions()) {
+            try {
+                // 종료 시간이 지난 경매는 배치 종료 엔진에서 처리
+                if (auction.getEndTimeMs() <= now) {
+                    continue;
                 }
-                Long totalBidders = auctionRepository.findTotalBiddersByAuctionId(auction.getId());
-                Long totalBids = auctionRepository.findTotalBidsByAuctionId(auction.getId());
-                // WebSocket으로 경매 상태 업데이트 전송 (남은 시간 포함)
-                bidNotificationService.sendAuctionStatusUpdate(auction, totalBidders, totalBids);
-            }
-            
-            if (!inProgressAuctions.isEmpty()) {
-                log.debug("카운트다운 업데이트 전송 완료: {} 개 경매", inProgressAuctions.size());
-            }
-            
-        } catch (Exception e) {
-            log.error("카운트다운 업데이트 전송 중 오류 발생: {}", e.getMessage(), e);
-        }
-    }
-    
-    /**
-     * 경매 종료 임박 알림 (마지막 1분)
-     */
-    //@Scheduled(fixedRate = 10000) // 10초마다 실행
-    public void sendEndingSoonAlerts() {
-        try {
-            LocalDateTime now = LocalDateTime.now(java.time.ZoneId.of("Asia/Seoul"));
-            LocalDateTime oneMinuteLater = now.plusMinutes(1);
-            
-            // 1분 내로 종료 예정인 경매 조회
-            List<Auction> endingSoonAuctions = auctionRepository.findByStatusAndScheduledEndTimeBetween(
-                Auction.AuctionStatus.IN_PROGRESS, now, oneMinuteLater);
-            
-            for (Auction auction : endingSoonAuctions) {
-                long remainingSeconds = java.time.Duration.between(now, auction.getScheduledEndTime()).getSeconds();
-                
-                if (remainingSeconds <= 60 && remainingSeconds > 0) {
-                    log.info("경매 종료 임박 알림: 경매ID={}, 남은시간={}초", auction.getId(), remainingSeconds);
-                    auctionNotificationService.sendEndingSoonAlert(auction, remainingSeconds);
+                String destination = AUCTION_TOPIC_PREFIX + auction.getAuctionId();
+                if (!topicSubscriptionRegistry.hasSubscribers(destination) && !sseTopicHub.hasSubscribers(destination)) {
+                    continue;
                 }
+                long version = auction.getVersion();
+                if (version == auction.sentVersion && now - auction.sentAtMs < SYNC_INTERVAL_MS) {
+                    continue;
+                }
+
+                AuctionLiveStatusDto statusData = AuctionLiveStatusDto.of(
+                        auction.getAuctionId(),
+                        auction.getCurrentHighestBid(),
+                        auction.getTotalBidders(),
+                        auction.getTotalBids(),
+                        auction.getWinnerNickname(),
+                        auction.getEndTimeMs(),
+                        now
+                );
+                byte[] payload = payloadEncoder.encode(WebSocketMessageDto.of(
+                        WebSocketMessageDto.WebSocketMessageType.AUCTION_STATUS_UPDATE,
+                        auction.getAuctionId(),
+                        statusData
+                ));
+                globalSocketService.sendRawToLocalTopic(destination, payload);
+
+                auction.sentVersion = version;
+                auction.sentAtMs = now;
+                sent++;
+            } catch (Exception e) {
+                log.error("카운트다운 업데이트 전송 중 오류 발생: 경매ID={}, error={}", auction.getAuctionId(), e.getMessage());
             }
-            
-        } catch (Exception e) {
-            log.error("종료 임박 알림 전송 중 오류 발생: {}", e.getMessage(), e);
+        }
+
+        if (sent > 0) {
+            log.debug("카운트다운 업데이트 전송 완료: {} 개 경매", sent);
         }
     }
-}
\ No newline at end of file
+}
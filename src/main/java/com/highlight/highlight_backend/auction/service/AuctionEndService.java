@@ -0,0 +1,177 @@
+package com.highlight.highlight_backend.auction.service;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.bid.domain.Bid;
+import com.highlight.highlight_backend.bid.repository.BidRepository;
+import com.highlight.highlight_backend.bid.service.BidNotificationService;
+import com.highlight.highlight_backend.dashboard.service.AdminAuctionCountService;
+import com.highlight.highlight_backend.product.domian.Product;
+import com.highlight.highlight_backend.product.service.AdminProductService;
+import com.highlight.highlight_backend.common.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경매 배치 종료 엔진
+ *
+ * 종료 시간이 된 경매를 엔티티 단위가 아닌 집합(set) 단위로 종료합니다.
+ * 1. 종료 대상 행을 FOR UPDATE SKIP LOCKED 로 잠가 선점하고, 잠근 ID 만 벌크 UPDATE 로 종료
+ *    (여러 노드의 배치가 겹쳐도 경매마다 정확히 한 배치만 처리)
+ * 2. 배치 전체의 최고 입찰을 GROUP BY 쿼리 1번으로 조회 (idx_auction_bid_amount)
+ * 3. 낙찰 입찰 / 상품 상태를 각각 UPDATE 1번으로 변경
+ * 4. 커밋 후 카테고리별 count 를 Redis 파이프라인 1번으로 반영하고, 목록 캐시를 메시지 1건으로 무효화
+ * 5. 커밋 후 경매당 종료 알림 1번 전송
+ * count, 캐시, 알림은 롤백으로 되돌릴 수 없으므로 모두 커밋 이후에 처리 (롤백되면 아무것도 바뀌지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionEndService {
+
+    public static final int BATCH_SIZE = 500;
+    private static final String END_REASON = "정상 종료";
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final AuctionCountService auctionCountService;
+    private final AuctionFacetCountService auctionFacetCountService;
+    private final AdminAuctionCountService adminAuctionCountService;
+    private final AuctionNotificationService auctionNotificationService;
+    private final BidNotificationService bidNotificationService;
+    private final AdminProductService adminProductService;
+    private final AuctionLiveRegistry auctionLiveRegistry;
+    private final AuctionListingCache auctionListingCache;
+
+    /**
+     * 종료 시간이 지난 경매 ID 조회 (보정 작업용)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDueAuctionIds() {
+        return auctionRepository.findDueAuctionIds(LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE));
+    }
+
+    /**
+     * 후보 경매들을 한 번에 종료
+     *
+     * @param candidateIds 종료 후보 경매 ID (이미 종료되었거나, 종료 시간이 연장되었거나,
+     *                     동시에 도는 다른 배치가 선점한 경매는 자동으로 제외)
+     * @return 실제로 종료 처리한 경매 수
+     */
+    @Transactional
+    public int endAuctions(Collection<Long> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 행 잠금으로 선점 → 잠근 경매만 종료
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = auctionRepository.lockDueAuctions(candidateIds, now);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> auctionIds = new ArrayList<>(rows.size());
+        List<Long> productIds = new ArrayList<>(rows.size());
+        Map<Product.Category, Long> countsByCategory = new EnumMap<>(Product.Category.class);
+        Map<AuctionFacetCountService.Facet, Long> countsByFacet = new HashMap<>();
+        Map<Long, Long> countsByAdmin = new HashMap<>();
+        for (Object[] row : rows) {
+            Product.Category category = Product.Category.valueOf((String) row[1]);
+            auctionIds.add(((Number) row[0]).longValue());
+            productIds.add(((Number) row[2]).longValue());
+            countsByCategory.merge(category, 1L, Long::sum);
+            countsByFacet.merge(AuctionFacetCountService.Facet.of(category, (BigDecimal) row[3]), 1L, Long::sum);
+            countsByAdmin.merge(row[4] == null ? null : ((Number) row[4]).longValue(), 1L, Long::sum);
+        }
+        auctionRepository.completeAuctions(auctionIds, now, END_REASON, Auction.AuctionStatus.COMPLETED);
+
+        // 2. 배치 전체의 낙찰 입찰 조회 (경매당 첫 번째 행이 최고가 + 가장 먼저 들어온 입찰)
+        Map<Long, Object[]> winners = new LinkedHashMap<>();
+        for (Object[] row : bidRepository.findHighestBidsByAuctionIds(auctionIds)) {
+            winners.putIfAbsent(((Number) row[1]).longValue(), row);
+        }
+
+        // 3. 낙찰 처리 / 상품 상태 변경 (각각 UPDATE 1번)
+        if (!winners.isEmpty()) {
+            List<Long> winningBidIds = winners.values().stream()
+                    .map(row -> ((Number) row[0]).longValue())
+                    .toList();
+            bidRepository.bulkUpdateStatus(winningBidIds, Bid.BidStatus.WON);
+        }
+        adminProductService.updateProductStatuses(productIds, Product.ProductStatus.AUCTION_COMPLETED);
+
+        // 4, 5. 커밋 후 count 반영 / 캐시 무효화 / 종료 알림
+        auctionLiveRegistry.removeAll(auctionIds);
+        TransactionUtils.runAfterCommit(() -> {
+            applyCounts(countsByCategory, countsByFacet, countsByAdmin);
+            evictListingCache(auctionIds, countsByCategory.keySet());
+            notifyEnded(auctionIds, winners);
+        });
+
+        log.info("경매 배치 종료 완료: 후보 {}건, 종료 {}건, 낙찰 {}건", candidateIds.size(), auctionIds.size(), winners.size());
+        return auctionIds.size();
+    }
+
+    /**
+     * count 일괄 반영 (실패해도 보정 작업이 DB 기준으로 맞춤)
+     */
+    private void applyCounts(Map<Product.Category, Long> countsByCategory,
+                             Map<AuctionFacetCountService.Facet, Long> countsByFacet,
+                             Map<Long, Long> countsByAdmin) {
+        try {
+            auctionCountService.transitionBatch(
+                    Auction.AuctionStatus.IN_PROGRESS, Auction.AuctionStatus.COMPLETED, countsByCategory);
+            auctionFacetCountService.transitionBatch(
+                    Auction.AuctionStatus.IN_PROGRESS, Auction.AuctionStatus.COMPLETED, countsByFacet);
+            adminAuctionCountService.transitionBatch(
+                    Auction.AuctionStatus.IN_PROGRESS, Auction.AuctionStatus.COMPLETED, countsByAdmin);
+        } catch (Exception e) {
+            log.error("경매 종료 count 반영 실패. 보정 작업에서 복구됩니다. error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 진행중 / 종료 목록 캐시 제거 (이벤트를 거치지 않으므로 직접 호출)
+     */
+    private void evictListingCache(List<Long> auctionIds, Collection<Product.Category> categories) {
+        try {
+            auctionListingCache.evictOnStatusChanged(auctionIds,
+                    Auction.AuctionStatus.IN_PROGRESS, Auction.AuctionStatus.COMPLETED, List.copyOf(categories));
+        } catch (Exception e) {
+            log.error("경매 목록 캐시 무효화 실패. TTL 만료 후 갱신됩니다. 종료 {}건", auctionIds.size(), e);
+        }
+    }
+
+    /**
+     * 경매당 종료 알림 1번 (한 경매의 전송 실패가 나머지 알림을 막지 않음)
+     */
+    private void notifyEnded(List<Long> auctionIds, Map<Long, Object[]> winners) {
+        for (Long auctionId : auctionIds) {
+            try {
+                Object[] winner = winners.get(auctionId);
+                String winnerNickname = null;
+                if (winner != null) {
+                    winnerNickname = (String) winner[3];
+                    bidNotificationService.notifyWin(((Number) winner[2]).longValue(), auctionId);
+                }
+                auctionNotificationService.notifyAuctionEnded(auctionId, winnerNickname);
+            } catch (Exception e) {
+                log.error("경매 종료 알림 전송 실패: 경매ID={}, error={}", auctionId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.highlight.highlight_backend.auction.service;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.common.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경매 종료 임박 알림 지연 큐 (Redis ZSET)
+ *
+ * 10초마다 종료 임박 경매를 조회하는 대신, 종료 시각이 정해질 때 알림(T-60초, T-10초)을
+ * 실행 시각을 score 로 하는 ZSET 에 넣어두고 만기된 항목만 꺼내서 전송합니다.
+ * - member = "경매ID:초" 이므로 같은 경매를 다시 등록하면 기존 알림이 교체됨
+ * - 만기 항목은 Lua 스크립트로 큐에서 처리 중 ZSET(score: 임대 만료 시각)으로 옮겨 여러 노드 중 한 곳에서만 꺼냄
+ * - 전송에 성공(또는 이미 종료 시각이 지나 버림)한 항목만 처리 중 ZSET 에서 삭제
+ * - 노드 장애나 전송 실패로 임대 시간(PROCESSING_LEASE_MS) 안에 삭제되지 않은 항목은 다음 조회 때 큐로 되돌려 재전송
+ *   → 알림을 잃지 않음 (at-least-once, 전송 직후 삭제 전에 노드가 죽으면 1번 중복될 수 있음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionEndingSoonAlertService {
+
+    private static final String QUEUE_KEY = "auction:ending-soon:queue";
+    private static final String PROCESSING_KEY = "auction:ending-soon:processing";
+    private static final String DUE_SEPARATOR = "|";
+    private static final long PROCESSING_LEASE_MS = 5_000;
+    private static final long[] ALERT_OFFSETS_SECONDS = {60, 10};
+    private static final int POLL_BATCH_SIZE = 200;
+
+    /**
+     * 1. 처리 중(KEYS[2]) 항목 중 임대가 끝난 것을 큐(KEYS[1])로 되돌림 (그 사이 새로 등록된 알림은 유지)
+     * 2. 만기된 항목을 큐에서 꺼내 처리 중 ZSET 에 "member|실행시각" 으로 넣고 ARGV[3] 까지 임대
+     * → [member, score, member, score ...]
+     */
+    private static final String POP_DUE_SCRIPT =
+            "local expired = redis.call('zrangebyscore', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "for _, entry in ipairs(expired) do " +
+            "  local sep = string.find(entry, '|', 1, true) " +
+            "  if sep then redis.call('zadd', KEYS[1], 'NX', string.sub(entry, sep + 1), string.sub(entry, 1, sep - 1)) end " +
+            "  redis.call('zrem', KEYS[2], entry) " +
+            "end " +
+            "local items = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[2]) " +
+            "for i = 1, #items, 2 do " +
+            "  redis.call('zrem', KEYS[1], items[i]) " +
+            "  redis.call('zadd', KEYS[2], ARGV[3], items[i] .. '|' .. items[i + 1]) " +
+            "end " +
+            "return items";
+
+    private final RedissonClient redissonClient;
+    private final AuctionNotificationService auctionNotificationService;
+
+    /**
+     * 종료 임박 알림 등록 (이미 등록된 알림은 새 종료 시각으로 교체)
+     * 트랜잭션 안에서 호출되면 커밋 후 반영
+     */
+    public void scheduleAlerts(Auction auction) {
+        Long auctionId = auction.getId();
+        long endTimeMs = toEpochMilli(auction.getScheduledEndTime());
+        afterCommit(() -> {
+            Map<String, Double> alerts = new HashMap<>();
+            for (long offset : ALERT_OFFSETS_SECONDS) {
+                alerts.put(member(auctionId, offset), (double) (endTimeMs - offset * 1000));
+            }
+            queue().addAll(alerts);
+        });
+    }
+
+    /**
+     * 경매 취소/조기 종료 시 남은 알림 제거
+     */
+    public void cancelAlerts(Long auctionId) {
+        afterCommit(() -> {
+            List<String> members = new ArrayList<>(ALERT_OFFSETS_SECONDS.length);
+            for (long offset : ALERT_OFFSETS_SECONDS) {
+                members.add(member(auctionId, offset));
+            }
+            queue().removeAll(members);
+        });
+    }
+
+    /**
+     * 만기된 알림 전송 (처리가 끝난 항목만 처리 중 ZSET 에서 삭제, 나머지는 임대 만료 후 재전송)
+     */
+    @Scheduled(fixedRate = 500)
+    public void dispatchDueAlerts() {
+        List<Object> items;
+        long now = System.currentTimeMillis();
+        try {
+            items = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE, POP_DUE_SCRIPT, RScript.ReturnType.MULTI,
+                    List.of(QUEUE_KEY, PROCESSING_KEY), String.valueOf(now), String.valueOf(POLL_BATCH_SIZE),
+                    String.valueOf(now + PROCESSING_LEASE_MS));
+        } catch (Exception e) {
+            log.warn("종료 임박 알림 큐 조회 실패: {}", e.getMessage());
+            return;
+        }
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+
+        List<String> done = new ArrayList<>(items.size() / 2);
+        for (int i = 0; i + 1 < items.size(); i += 2) {
+            String member = (String) items.get(i);
+            String score = (String) items.get(i + 1);
+            long auctionId;
+            long offsetSeconds;
+            long dueMs;
+            try {
+                int separator = member.indexOf(':');
+                auctionId = Long.parseLong(member.substring(0, separator));
+                offsetSeconds = Long.parseLong(member.substring(separator + 1));
+                dueMs = (long) Double.parseDouble(score);
+            } catch (Exception e) {
+                // 재시도해도 처리할 수 없으므로 버림
+                log.error("잘못된 종료 임박 알림 항목 삭제: {}, error={}", member, e.getMessage());
+                done.add(member + DUE_SEPARATOR + score);
+                continue;
+            }
+
+            try {
+                // 서버가 멈춰 있다가 늦게 꺼낸 경우 실제 남은 시간으로 전송, 이미 종료 시각이 지났으면 버림
+                long remainingSeconds = (dueMs + offsetSeconds * 1000 - now) / 1000;
+                if (remainingSeconds > 0) {
+                    auctionNotificationService.sendEndingSoonAlert(auctionId, remainingSeconds);
+                    log.info("경매 종료 임박 알림: 경매ID={}, 남은시간={}초", auctionId, remainingSeconds);
+                }
+                done.add(member + DUE_SEPARATOR + score);
+            } catch (Exception e) {
+                log.error("종료 임박 알림 전송 실패, 임대 만료 후 재시도: {}, error={}", member, e.getMessage());
+            }
+        }
+
+        if (done.isEmpty()) {
+            return;
+        }
+        try {
+            processing().removeAll(done);
+        } catch (Exception e) {
+            // 삭제하지 못한 항목은 임대 만료 후 1번 더 전송될 수 있음
+            log.warn("종료 임박 알림 처리 완료 반영 실패: {}건, error={}", done.size(), e.getMessage());
+        }
+    }
+
+    private RScoredSortedSet<String> queue() {
+        return redissonClient.getScoredSortedSet(QUEUE_KEY, StringCodec.INSTANCE);
+    }
+
+    private RScoredSortedSet<String> processing() {
+        return redissonClient.getScoredSortedSet(PROCESSING_KEY, StringCodec.INSTANCE);
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("종료 임박 알림 큐 반영 실패: {}", e.getMessage());
+            }
+        };
+        TransactionUtils.runAfterCommit(safeAction);
+    }
+
+    private static String member(Long auctionId, long offsetSeconds) {
+        return auctionId + ":" + offsetSeconds;
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,59 @@
+package com.highlight.highlight_backend.auction.service;
+
+import com.highlight.highlight_backend.common.cluster.ClusterLeaseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * facet 개수 주기 보정 작업
+ *
+ * 이벤트 처리 실패, 서버 중단 등으로 어긋난 facet 개수를 GROUP BY 집계 기준으로 되돌립니다.
+ * 보정 전 오차 크기를 auction.facet.drift 게이지로 노출합니다.
+ */
+@Slf4j
+@Component
+public class AuctionFacetCountReconciler {
+
+    private static final String JOB_NAME = "auction-facet-reconcile";
+
+    private final AuctionFacetCountService auctionFacetCountService;
+    private final ClusterLeaseService clusterLeaseService;
+    private final AtomicLong lastDrift = new AtomicLong();
+    private final Counter driftTotal;
+
+    public AuctionFacetCountReconciler(AuctionFacetCountService auctionFacetCountService,
+                                       ClusterLeaseService clusterLeaseService,
+                                       MeterRegistry meterRegistry) {
+        this.auctionFacetCountService = auctionFacetCountService;
+        this.clusterLeaseService = clusterLeaseService;
+        Gauge.builder("auction.facet.drift", lastDrift, AtomicLong::get)
+                .description("마지막 보정 시점의 facet 개수 오차 절대값 합")
+                .register(meterRegistry);
+        this.driftTotal = Counter.builder("auction.facet.drift.corrected")
+                .description("보정한 facet 개수 오차 누적")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = 300000, initialDelay = 90000) // 5분마다 실행
+    public void reconcile() {
+        if (!clusterLeaseService.isLeader(JOB_NAME)) {
+            return;
+        }
+        try {
+            long drift = auctionFacetCountService.reconcile();
+            lastDrift.set(drift);
+            if (drift > 0) {
+                driftTotal.increment(drift);
+                log.warn("facet 개수 오차 보정: 오차 합 {}", drift);
+            }
+        } catch (Exception e) {
+            log.error("facet 개수 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
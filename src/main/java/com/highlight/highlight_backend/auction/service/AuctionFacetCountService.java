@@ -0,0 +1,272 @@
+package com.highlight.highlight_backend.auction.service;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.dto.AuctionFacetCountDto;
+import com.highlight.highlight_backend.auction.dto.AuctionPriceBucket;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.common.cache.NearCache;
+import com.highlight.highlight_backend.common.cache.NearCacheManager;
+import com.highlight.highlight_backend.common.cache.SingleFlightLoader;
+import com.highlight.highlight_backend.product.domian.Product;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색 화면 facet 개수 (상태 x 카테고리 x 가격대)
+ *
+ * - 조합별 개수를 Redis hash 1개(auction:facet)에 보관, 필드 수는 상태 6 x 카테고리 8 x 가격대 5 이하
+ * - 상태 전이와 가격대를 넘는 입찰만 HINCRBY 로 반영 (같은 구간 안의 입찰은 Redis 호출 없음)
+ * - 조회는 hash 전체를 L1 에 두고 필터별 개수를 메모리에서 계산 → facet 이 몇 개든 요청당 조회 1번
+ * - hash 가 없으면 GROUP BY 쿼리 1번으로 채우고, 누적된 오차는 AuctionFacetCountReconciler 가 보정
+ * - 음수가 되면 어긋난 값이므로 hash 를 삭제하여 다음 조회 때 DB 기준으로 다시 채움
+ */
+@Service
+public class AuctionFacetCountService {
+
+    private static final String FACET_KEY = "auction:facet";
+    private static final String BUILT_FIELD = "_built"; // 경매가 0건이어도 hash 가 존재하도록 두는 표시
+    private static final String SEPARATOR = ":";
+    private static final String NO_CATEGORY = "NONE";
+
+    // L1: 값은 hash 전체 1개, 무효화 메시지 유실 대비 짧은 TTL
+    private static final String SNAPSHOT_KEY = "all";
+    private static final Duration L1_TTL = Duration.ofSeconds(5);
+    private static final Duration L1_IDLE = Duration.ofMinutes(5);
+
+    /** hash 가 있을 때만 ARGV 의 (필드, 증감) 쌍을 반영, 음수가 되면 hash 삭제 */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return 0 end " +
+            "for i = 1, #ARGV, 2 do " +
+            "  if redis.call('hincrby', KEYS[1], ARGV[i], ARGV[i + 1]) < 0 then " +
+            "    redis.call('del', KEYS[1]) " +
+            "    return -1 " +
+            "  end " +
+            "end " +
+            "return 1", Long.class);
+
+    /**
+     * ARGV 의 (필드, 조회 시점 값(빈 문자열이면 없음), 새 값) 중 값이 바뀌지 않은 필드만 덮어씀
+     * 조회 이후 이벤트가 반영된 필드는 건너뛰고 다음 보정에서 다시 확인
+     */
+    private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+            "local written = 0 " +
+            "for i = 1, #ARGV, 3 do " +
+            "  local current = redis.call('hget', KEYS[1], ARGV[i]) or '' " +
+            "  if current == ARGV[i + 1] then " +
+            "    redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 2]) " +
+            "    written = written + 1 " +
+            "  end " +
+            "end " +
+            "return written", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AuctionRepository auctionRepository;
+    private final SingleFlightLoader singleFlightLoader;
+    private final NearCache<Map<String, Long>> snapshotCache;
+
+    public AuctionFacetCountService(RedisTemplate<String, String> redisTemplate,
+                                    AuctionRepository auctionRepository,
+                                    NearCacheManager nearCacheManager,
+                                    SingleFlightLoader singleFlightLoader) {
+        this.redisTemplate = redisTemplate;
+        this.auctionRepository = auctionRepository;
+        this.singleFlightLoader = singleFlightLoader;
+        this.snapshotCache = nearCacheManager.create("auction-facet", 1, L1_TTL, L1_IDLE);
+    }
+
+    /**
+     * facet 1칸 (카테고리 + 가격대)
+     */
+    public record Facet(Product.Category category, AuctionPriceBucket priceBucket) {
+        public static Facet of(Product.Category category, BigDecimal price) {
+            return new Facet(category, AuctionPriceBucket.of(price));
+        }
+    }
+
+    /**
+     * 단일 경매 상태 전이
+     */
+    public void transition(Auction.AuctionStatus from, Auction.AuctionStatus to,
+                           Product.Category category, BigDecimal price) {
+        transitionBatch(from, to, Map.of(Facet.of(category, price), 1L));
+    }
+
+    /**
+     * 여러 경매의 상태 전이를 facet 별로 합산해 스크립트 1번으로 반영 (배치 종료용)
+     */
+    public void transitionBatch(Auction.AuctionStatus from, Auction.AuctionStatus to,
+                                Map<Facet, Long> countsByFacet) {
+        if (from == to || countsByFacet.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        countsByFacet.forEach((facet, count) -> {
+            if (from != null) {
+                args.add(field(from, facet.category(), facet.priceBucket()));
+                args.add(String.valueOf(-count));
+            }
+            if (to != null) {
+                args.add(field(to, facet.category(), facet.priceBucket()));
+                args.add(String.valueOf(count));
+            }
+        });
+        increment(args);
+    }
+
+    /**
+     * 입찰로 현재가가 바뀐 경우 (가격대가 그대로면 아무것도 하지 않음)
+     * 입찰은 진행중 경매에만 들어오고, 카테고리는 구간을 넘을 때만 조회
+     */
+    public void priceChanged(Long auctionId, BigDecimal previousPrice, BigDecimal newPrice) {
+        AuctionPriceBucket from = AuctionPriceBucket.of(previousPrice);
+        AuctionPriceBucket to = AuctionPriceBucket.of(newPrice);
+        if (from == to) {
+            return;
+        }
+        Product.Category category = auctionRepository.findCategoryById(auctionId).orElse(null);
+        increment(List.of(
+                field(Auction.AuctionStatus.IN_PROGRESS, category, from), "-1",
+                field(Auction.AuctionStatus.IN_PROGRESS, category, to), "1"));
+    }
+
+    private void increment(List<String> args) {
+        redisTemplate.execute(INCREMENT_SCRIPT, List.of(FACET_KEY), args.toArray());
+        snapshotCache.invalidate(SNAPSHOT_KEY);
+    }
+
+    /**
+     * 필터에 대한 facet 개수 (null 필터 = 전체)
+     */
+    public AuctionFacetCountDto getFacets(Auction.AuctionStatus status,
+                                          Product.Category category,
+                                          AuctionPriceBucket priceBucket) {
+        Map<String, Long> byStatus = zeroCounts(Auction.AuctionStatus.values());
+        Map<String, Long> byCategory = zeroCounts(Product.Category.values());
+        Map<String, Long> byPriceBucket = zeroCounts(AuctionPriceBucket.values());
+        long total = 0;
+
+        for (Map.Entry<String, Long> entry : snapshot().entrySet()) {
+            String[] parts = entry.getKey().split(SEPARATOR);
+            if (parts.length != 3) {
+                continue;
+            }
+            boolean statusMatches = status == null || status.name().equals(parts[0]);
+            boolean categoryMatches = category == null || category.name().equals(parts[1]);
+            boolean bucketMatches = priceBucket == null || priceBucket.name().equals(parts[2]);
+            long count = entry.getValue();
+
+            if (categoryMatches && bucketMatches) {
+                byStatus.computeIfPresent(parts[0], (key, sum) -> sum + count);
+            }
+            if (statusMatches && bucketMatches) {
+                byCategory.computeIfPresent(parts[1], (key, sum) -> sum + count);
+            }
+            if (statusMatches && categoryMatches) {
+                byPriceBucket.computeIfPresent(parts[2], (key, sum) -> sum + count);
+                if (bucketMatches) {
+                    total += count;
+                }
+            }
+        }
+        return new AuctionFacetCountDto(total, byStatus, byCategory, byPriceBucket);
+    }
+
+    private Map<String, Long> snapshot() {
+        return snapshotCache.get(SNAPSHOT_KEY, key -> {
+            Map<String, Long> cached = readSnapshot();
+            if (cached != null) {
+                return cached;
+            }
+            // hash 없음: 클러스터에서 1번만 DB 집계, 나머지는 채워질 때까지 대기
+            return singleFlightLoader.loadClusterWide(FACET_KEY,
+                    () -> {
+                        reconcile();
+                        Map<String, Long> rebuilt = readSnapshot();
+                        return rebuilt == null ? Map.of() : rebuilt;
+                    },
+                    this::readSnapshot,
+                    () -> null);
+        });
+    }
+
+    private Map<String, Long> readSnapshot() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(FACET_KEY);
+        if (entries.isEmpty()) {
+            return null;
+        }
+        Map<String, Long> snapshot = new HashMap<>(entries.size());
+        entries.forEach((field, value) -> {
+            if (!BUILT_FIELD.equals(field)) {
+                // 음수는 스크립트에서 삭제되지만 방어적으로 하한 보정
+                snapshot.put((String) field, Math.max(0, Long.parseLong((String) value)));
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * DB 집계(GROUP BY 1번) 기준으로 hash 보정 (hash 가 없으면 새로 채움)
+     *
+     * 쿼리 전에 hash 를 먼저 읽어두고, 그 사이 값이 바뀐 필드는 덮어쓰지 않음
+     *
+     * @return 존재하던 필드들의 오차 절대값 합
+     */
+    public long reconcile() {
+        Map<Object, Object> cached = redisTemplate.opsForHash().entries(FACET_KEY);
+
+        Map<String, Long> dbCounts = new HashMap<>();
+        for (Object[] row : auctionRepository.countGroupByFacet()) {
+            String category = row[1] == null ? NO_CATEGORY : (String) row[1];
+            String field = String.join(SEPARATOR, (String) row[0], category, (String) row[2]);
+            dbCounts.merge(field, ((Number) row[3]).longValue(), Long::sum);
+        }
+
+        Set<String> fields = new HashSet<>(dbCounts.keySet());
+        cached.keySet().forEach(field -> fields.add((String) field));
+        fields.add(BUILT_FIELD);
+
+        long drift = 0;
+        List<String> args = new ArrayList<>(fields.size() * 3);
+        for (String field : fields) {
+            String current = (String) cached.get(field);
+            long expected = BUILT_FIELD.equals(field) ? 0 : dbCounts.getOrDefault(field, 0L);
+            if (current != null) {
+                drift += Math.abs(Long.parseLong(current) - expected);
+            }
+            args.add(field);
+            args.add(current == null ? "" : current);
+            args.add(String.valueOf(expected));
+        }
+
+        redisTemplate.execute(RECONCILE_SCRIPT, List.of(FACET_KEY), args.toArray());
+        snapshotCache.invalidate(SNAPSHOT_KEY);
+        return drift;
+    }
+
+    private static String field(Auction.AuctionStatus status, Product.Category category,
+                                AuctionPriceBucket priceBucket) {
+        return String.join(SEPARATOR, status.name(),
+                category == null ? NO_CATEGORY : category.name(),
+                priceBucket.name());
+    }
+
+    private static Map<String, Long> zeroCounts(Enum<?>[] values) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Enum<?> value : values) {
+            counts.put(value.name(), 0L);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,239 @@
+package com.highlight.highlight_backend.auction.service;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.dto.AuctionCursor;
+import com.highlight.highlight_backend.auction.dto.AuctionPageResponse;
+import com.highlight.highlight_backend.auction.dto.AuctionSearchConditionDto;
+import com.highlight.highlight_backend.auction.event.AuctionStatusChangedEvent;
+import com.highlight.highlight_backend.common.cache.NearCache;
+import com.highlight.highlight_backend.common.cache.NearCacheManager;
+import com.highlight.highlight_backend.product.domian.Product;
+import com.highlight.highlight_backend.product.dto.UserAuctionResponseDto;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 경매 목록(/api/public/auctions) 결과 캐시
+ *
+ * 트래픽 대부분이 몇 개 안 되는 (상태, 카테고리) 조합의 첫 1~2 페이지에 몰리므로
+ * 정규화한 검색 조건 + 정렬 + 커서를 키로 완성된 페이지 응답을 L1 캐시에 보관합니다.
+ *
+ * 무효화 규칙
+ * - 입찰: 해당 경매가 들어 있는 페이지, 가격 필터 범위에 새 가격이 걸치는 진행중 페이지
+ * - 상태 변경: 이전/새 상태 필터 중 하나에 해당하고 카테고리가 맞는 페이지, 해당 경매가 들어 있는 페이지
+ * - 가격 정렬 페이지: 입찰마다 순서가 바뀌어 무효화하면 캐시 의미가 없으므로 입찰로는 지우지 않고
+ *   별도 캐시의 짧은 TTL(PRICE_SORT_MAX_STALENESS) 만큼만 오래된 값을 허용
+ *
+ * 무효화 조건은 Redis topic 으로 전파해 모든 노드가 자신의 캐시에서 같은 조건으로 제거합니다.
+ * 한 번만 조회되는 깊은 커서 페이지는 Caffeine 의 빈도 기반 admission 으로 자연스럽게 밀려납니다.
+ */
+@Slf4j
+@Component
+public class AuctionListingCache {
+
+    private static final String INVALIDATION_TOPIC = "auction:listing:invalidate";
+    private static final String SEPARATOR = "|";
+    private static final String LIST_SEPARATOR = ",";
+    private static final String BID = "B";
+    private static final String STATUS = "S";
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+
+    private static final long MAXIMUM_SIZE = 500;
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final Duration PRICE_SORT_MAX_STALENESS = Duration.ofSeconds(3);
+    private static final Duration IDLE = Duration.ofMinutes(2);
+
+    private final RedissonClient redissonClient;
+    private final NearCache<CachedPage> pageCache;
+    private final NearCache<CachedPage> priceSortedPageCache;
+
+    public AuctionListingCache(RedissonClient redissonClient, NearCacheManager nearCacheManager) {
+        this.redissonClient = redissonClient;
+        this.pageCache = nearCacheManager.create("auction-listing", MAXIMUM_SIZE, TTL, IDLE);
+        this.priceSortedPageCache = nearCacheManager.create(
+                "auction-listing-price", MAXIMUM_SIZE, PRICE_SORT_MAX_STALENESS, IDLE);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        topic().addListener(String.class, (channel, message) -> apply(message));
+    }
+
+    /**
+     * 캐시된 페이지 조회, 없으면 loader 로 조회 후 저장
+     */
+    public AuctionPageResponse get(AuctionSearchConditionDto condition, String cursor, Pageable pageable,
+                                   Supplier<AuctionPageResponse> loader) {
+        AuctionCursor.SortKey sortKey = AuctionCursor.SortKey.from(pageable);
+        NearCache<CachedPage> cache = sortKey == AuctionCursor.SortKey.CURRENT_HIGHEST_BID
+                ? priceSortedPageCache
+                : pageCache;
+
+        return cache.get(keyOf(condition, cursor, pageable, sortKey),
+                key -> CachedPage.of(condition, loader.get())).response();
+    }
+
+    /**
+     * 입찰 커밋 후 호출 (가격 정렬 페이지는 제외)
+     */
+    public void evictOnBid(Long auctionId, BigDecimal bidAmount) {
+        String message = String.join(SEPARATOR, BID, String.valueOf(auctionId), bidAmount.toPlainString());
+        apply(message);
+        publish(message);
+    }
+
+    /**
+     * 상태 변경 커밋 후 호출
+     */
+    public void evictOnStatusChanged(AuctionStatusChangedEvent event) {
+        evictOnStatusChanged(List.of(event.getAuctionId()), event.getPreviousStatus(), event.getNewStatus(),
+                event.getCategory() == null ? List.of() : List.of(event.getCategory()));
+    }
+
+    /**
+     * 스케줄러의 시작 / 일괄 종료처럼 같은 전이가 여러 경매에 일어난 경우 (메시지 1건으로 전파)
+     *
+     * @param categories 전이된 경매들의 카테고리 (비어 있으면 카테고리 필터와 무관하게 상태만 비교)
+     */
+    public void evictOnStatusChanged(Collection<Long> auctionIds,
+                                     Auction.AuctionStatus previousStatus,
+                                     Auction.AuctionStatus newStatus,
+                                     Collection<Product.Category> categories) {
+        if (auctionIds.isEmpty()) {
+            return;
+        }
+        String message = String.join(SEPARATOR, STATUS,
+                auctionIds.stream().map(String::valueOf).collect(Collectors.joining(LIST_SEPARATOR)),
+                previousStatus == null ? "" : previousStatus.name(),
+                newStatus == null ? "" : newStatus.name(),
+                categories.stream().map(Enum::name).distinct().collect(Collectors.joining(LIST_SEPARATOR)));
+        apply(message);
+        publish(message);
+    }
+
+    private void apply(String message) {
+        try {
+            String[] parts = message.split("\\" + SEPARATOR, -1);
+
+            if (BID.equals(parts[0])) {
+                Long auctionId = Long.valueOf(parts[1]);
+                BigDecimal price = new BigDecimal(parts[2]);
+                pageCache.invalidateLocalIf(page -> page.contains(auctionId) || page.mayNowInclude(price));
+                return;
+            }
+
+            Set<Long> auctionIds = Arrays.stream(parts[1].split(LIST_SEPARATOR))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toSet());
+            List<String> categories = parts[4].isEmpty() ? List.of("") : List.of(parts[4].split(LIST_SEPARATOR));
+            Predicate<CachedPage> affected = page -> page.containsAny(auctionIds)
+                    || categories.stream().anyMatch(category ->
+                            page.matches(parts[2], category) || page.matches(parts[3], category));
+            pageCache.invalidateLocalIf(affected);
+            priceSortedPageCache.invalidateLocalIf(affected);
+        } catch (RuntimeException e) {
+            // 놓친 무효화는 TTL 안에 갱신됨
+            log.warn("경매 목록 캐시 무효화 실패: message={}, error={}", message, e.getMessage());
+        }
+    }
+
+    private void publish(String message) {
+        try {
+            topic().publish(message);
+        } catch (Exception e) {
+            log.warn("경매 목록 캐시 무효화 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+    }
+
+    /**
+     * 같은 의미의 요청이 같은 키가 되도록 정규화 (빈 문자열 = 조건 없음)
+     * 커서가 있으면 page 번호는 조회에 쓰이지 않으므로 키에서 제외
+     */
+    private static String keyOf(AuctionSearchConditionDto condition, String cursor, Pageable pageable,
+                                AuctionCursor.SortKey sortKey) {
+        return String.join(SEPARATOR,
+                normalize(condition.getStatus()),
+                normalize(condition.getCategory()),
+                StringUtils.hasText(condition.getBrand()) ? condition.getBrand().trim() : "",
+                condition.getMinPrice() == null ? "" : condition.getMinPrice().toString(),
+                condition.getMaxPrice() == null ? "" : condition.getMaxPrice().toString(),
+                condition.getIsPremium() == null ? "" : condition.getIsPremium().toString(),
+                StringUtils.hasText(condition.getKeyword()) ? condition.getKeyword().trim().toLowerCase() : "",
+                sortKey.name(),
+                AuctionCursor.isAscending(pageable) ? "ASC" : "DESC",
+                String.valueOf(pageable.getPageSize()),
+                StringUtils.hasText(cursor) ? cursor : "p" + pageable.getPageNumber());
+    }
+
+    private static String normalize(String value) {
+        return StringUtils.hasText(value) ? value.trim().toUpperCase() : "";
+    }
+
+    /**
+     * 캐시 값: 응답 + 무효화 판단용 조건
+     */
+    private record CachedPage(AuctionPageResponse response, Set<Long> auctionIds,
+                              String status, String category, Long minPrice, Long maxPrice) {
+
+        static CachedPage of(AuctionSearchConditionDto condition, AuctionPageResponse response) {
+            Set<Long> ids = response.getContent().stream()
+                    .map(UserAuctionResponseDto::getAuctionId)
+                    .collect(Collectors.toUnmodifiableSet());
+            return new CachedPage(response, ids,
+                    normalize(condition.getStatus()), normalize(condition.getCategory()),
+                    condition.getMinPrice(), condition.getMaxPrice());
+        }
+
+        boolean contains(Long auctionId) {
+            return auctionIds.contains(auctionId);
+        }
+
+        boolean containsAny(Set<Long> ids) {
+            return !Collections.disjoint(auctionIds, ids);
+        }
+
+        /**
+         * 입찰로 가격이 바뀐 경매가 이 페이지의 가격 필터 안으로 들어올 수 있는지
+         * (입찰 이벤트에는 카테고리가 없으므로 카테고리는 보지 않음)
+         */
+        boolean mayNowInclude(BigDecimal price) {
+            if (minPrice == null && maxPrice == null) {
+                return false;
+            }
+            if (!status.isEmpty() && !IN_PROGRESS.equals(status)) {
+                return false;
+            }
+            return (minPrice == null || price.compareTo(BigDecimal.valueOf(minPrice)) >= 0)
+                    && (maxPrice == null || price.compareTo(BigDecimal.valueOf(maxPrice)) <= 0);
+        }
+
+        boolean matches(String eventStatus, String eventCategory) {
+            if (eventStatus.isEmpty()) {
+                return false;
+            }
+            return (status.isEmpty() || status.equals(eventStatus))
+                    && (category.isEmpty() || eventCategory.isEmpty() || category.equals(eventCategory));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.highlight.highlight_backend.auction.service;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.common.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 경매의 실시간 표시 정보 레지스트리 (메모리)
+ *
+ * 카운트다운 방송이 매 tick 마다 DB를 조회하지 않도록 종료 시각과 입찰 통계를 메모리에 들고 있습니다.
+ * - 경매 시작 / 입찰 / 종료 시점에 갱신 (트랜잭션 안에서 호출되면 커밋 후 반영)
+ * - 다른 노드에서 처리된 변경은 30초마다 프로젝션 쿼리 1번으로 동기화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionLiveRegistry {
+
+    private final AuctionRepository auctionRepository;
+
+    private final Map<Long, LiveAuction> auctions = new ConcurrentHashMap<>();
+
+    /**
+     * 경매 1건의 실시간 표시 정보
+     * version 은 내용이 바뀔 때마다 증가하며, 방송 쪽에서 마지막으로 보낸 version 과 비교해 변경 여부를 판단
+     */
+    public static final class LiveAuction {
+        private final Long auctionId;
+        private volatile long endTimeMs;
+        private volatile BigDecimal currentHighestBid;
+        private volatile long totalBidders;
+        private volatile long totalBids;
+        private volatile String winnerNickname;
+        private volatile long version;
+        private volatile long updatedAtMs;
+
+        /** 방송 스레드 전용: 마지막으로 전송한 version / 시각 */
+        long sentVersion = -1;
+        long sentAtMs;
+
+        private LiveAuction(Long auctionId) {
+            this.auctionId = auctionId;
+        }
+
+        public Long getAuctionId() { return auctionId; }
+        public long getEndTimeMs() { return endTimeMs; }
+        public BigDecimal getCurrentHighestBid() { return currentHighestBid; }
+        public long getTotalBidders() { return totalBidders; }
+        public long getTotalBids() { return totalBids; }
+        public String getWinnerNickname() { return winnerNickname; }
+        public long getVersion() { return version; }
+
+        private synchronized void update(long endTimeMs, BigDecimal currentHighestBid, long totalBidders,
+                                         long totalBids, String winnerNickname) {
+            this.endTimeMs = endTimeMs;
+            this.currentHighestBid = currentHighestBid;
+            this.totalBidders = totalBidders;
+            this.totalBids = totalBids;
+            this.winnerNickname = winnerNickname;
+            this.version++;
+            this.updatedAtMs = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 경매 시작 시 등록
+     */
+    public void register(Auction auction) {
+        Long auctionId = auction.getId();
+        long endTimeMs = toEpochMilli(auction.getScheduledEndTime());
+        BigDecimal highestBid = auction.getCurrentHighestBid();
+        long totalBidders = nullToZero(auction.getTotalBidders());
+        long totalBids = nullToZero(auction.getTotalBids());
+        String winnerNickname = auction.getCurrentWinnerName();
+
+        TransactionUtils.runAfterCommit(() -> auctions.computeIfAbsent(auctionId, LiveAuction::new)
+                .update(endTimeMs, highestBid, totalBidders, totalBids, winnerNickname));
+    }
+
+    /**
+     * 입찰 반영 (늦게 도착한 이전 입찰이 최신 통계를 덮어쓰지 않도록 입찰 수가 늘어난 경우만 반영)
+     */
+    public void updateBid(Long auctionId, BigDecimal bidAmount, String winnerNickname, long totalBidders, long totalBids) {
+        LiveAuction auction = auctions.get(auctionId);
+        if (auction == null) {
+            return;
+        }
+        synchronized (auction) {
+            if (totalBids < auction.totalBids) {
+                return;
+            }
+            auction.update(auction.endTimeMs, bidAmount, totalBidders, totalBids, winnerNickname);
+        }
+    }
+
+    /**
+     * 경매 종료/취소 시 제거
+     */
+    public void remove(Long auctionId) {
+        TransactionUtils.runAfterCommit(() -> auctions.remove(auctionId));
+    }
+
+    public void removeAll(Collection<Long> auctionIds) {
+        List<Long> ids = List.copyOf(auctionIds);
+        TransactionUtils.runAfterCommit(() -> ids.forEach(auctions::remove));
+    }
+
+    public Collection<LiveAuction> getAuctions() {
+        return auctions.values();
+    }
+
+    public Optional<LiveAuction> find(Long auctionId) {
+        return Optional.ofNullable(auctions.get(auctionId));
+    }
+
+    public int size() {
+        return auctions.size();
+    }
+
+    /**
+     * DB 기준 동기화 (다른 노드의 입찰/시작/종료 반영, 유실된 이벤트 보정)
+     */
+    @Scheduled(fixedDelay = 30000)
+    public void synchronize() {
+        try {
+            long queriedAt = System.currentTimeMillis();
+            List<Object[]> rows = auctionRepository.findLiveAuctionStats();
+
+            Set<Long> liveIds = new HashSet<>(rows.size());
+            for (Object[] row : rows) {
+                Long auctionId = (Long) row[0];
+                liveIds.add(auctionId);
+
+                long endTimeMs = toEpochMilli((LocalDateTime) row[1]);
+                BigDecimal highestBid = (BigDecimal) row[2];
+                long totalBidders = nullToZero((Long) row[3]);
+                long totalBids = nullToZero((Long) row[4]);
+                String winnerNickname = (String) row[5];
+
+                LiveAuction auction = auctions.computeIfAbsent(auctionId, LiveAuction::new);
+                synchronized (auction) {
+                    boolean changed = auction.version == 0
+                            || auction.endTimeMs != endTimeMs
+                            || totalBids > auction.totalBids;
+                    if (changed) {
+                        auction.update(endTimeMs, highestBid, totalBidders,
+                                Math.max(totalBids, auction.totalBids), winnerNickname);
+                    }
+                }
+            }
+
+            // 조회 이후에 등록된 경매는 남겨둠
+            auctions.values().removeIf(a -> !liveIds.contains(a.auctionId) && a.updatedAtMs < queriedAt);
+        } catch (Exception e) {
+            log.error("경매 실시간 레지스트리 동기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private static long nullToZero(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
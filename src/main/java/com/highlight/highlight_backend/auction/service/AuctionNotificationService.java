@@ -104,11 +104,8 @@ public class AuctionNotificationService {
                 "경매가 시작되었습니다."
         );
 
-        String destination = "/topic/auction/" + auctionId;
-        globalSocketService.sendToTopic(destination, message);
-
-        // 전체 경매 목록 구독자에게도 알림
-        globalSocketService.sendToTopic("/topic/auctions", message);
+        // 경매 구독자와 전체 경매 목록 구독자에게 알림 (직렬화 1번)
+        globalSocketService.sendToTopics(message, "/topic/auction/" + auctionId, "/topic/auctions");
 
     }
 
@@ -119,7 +116,13 @@ public class AuctionNotificationService {
      * @param remainingSeconds 남은 시간 (초)
      */
     public void sendEndingSoonAlert(Auction auction, long remainingSeconds) {
-        Long auctionId = auction.getId();
+        sendEndingSoonAlert(auction.getId(), remainingSeconds);
+    }
+
+    /**
+     * 경매 종료 임박 알림 전송 (엔티티 없이 ID만으로 전송, 지연 큐용)
+     */
+    public void sendEndingSoonAlert(Long auctionId, long remainingSeconds) {
         // log.info("WebSocket - 경매 종료 임박 알림 전송: 경매={}, 남은시간={}초", auctionId, remainingSeconds);
 
         String alertMessage = String.format("경매가 %d초 후 종료됩니다!", remainingSeconds);
@@ -263,8 +266,13 @@ public class AuctionNotificationService {
      * 경매 승리 시 알림 발송
      */
     public void notifyAuctionEnded(Auction auction, String winnerNickname) {
-        Long auctionId = auction.getId();
+        notifyAuctionEnded(auction.getId(), winnerNickname);
+    }
 
+    /**
+     * 경매 종료 알림 (엔티티 없이 ID만으로 전송, 배치 종료용)
+     */
+    public void notifyAuctionEnded(Long auctionId, String winnerNickname) {
         // 1. 메시지 생성 (낙찰자 이름이 있으면 포함, 없으면 없음)
         String endMessage = (winnerNickname != null) ?
                 "경매가 종료되었습니다. 낙찰자: " + winnerNickname :
@@ -277,7 +285,6 @@ public class AuctionNotificationService {
         );
 
         // 2. 공개 채널에 방송 (/topic/...)
-        globalSocketService.sendToTopic("/topic/auction/" + auctionId, message);
-        globalSocketService.sendToTopic("/topic/auctions", message);
+        globalSocketService.sendToTopics(message, "/topic/auction/" + auctionId, "/topic/auctions");
     }
 }
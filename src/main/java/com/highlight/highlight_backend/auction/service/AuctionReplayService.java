@@ -0,0 +1,83 @@
+package com.highlight.highlight_backend.auction.service;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.dto.AuctionLiveStatusDto;
+import com.highlight.highlight_backend.auction.dto.AuctionReplayDto;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.common.socket.service.TopicReplayBuffer;
+import com.highlight.highlight_backend.exception.AuctionErrorCode;
+import com.highlight.highlight_backend.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 재연결 클라이언트의 경매 토픽 재동기화
+ *
+ * - 빠진 구간이 링 버퍼 안이면 그 메시지만 재전송 (DB 조회 없음)
+ * - 버퍼 범위를 벗어나면 메모리 레지스트리의 현재 상태를 스냅샷으로 내려줌
+ * - 진행 중이 아닌 경매라 스냅샷도 없으면 클라이언트가 REST 로 다시 조회
+ * - SSE 스트림(Last-Event-ID)은 SseTopicHub 가 같은 버퍼로 재전송하고 스냅샷만 여기서 가져감
+ * - SSE 연결은 오래 유지되므로 없는 경매 / 끝난 경매는 연결 전에 거절
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionReplayService {
+
+    private static final String AUCTION_TOPIC_PREFIX = "/topic/auction/";
+
+    private final TopicReplayBuffer topicReplayBuffer;
+    private final AuctionLiveRegistry auctionLiveRegistry;
+    private final AuctionRepository auctionRepository;
+
+    public AuctionReplayDto replay(Long auctionId, long lastSequence) {
+        TopicReplayBuffer.Replay replay = topicReplayBuffer.replay(AUCTION_TOPIC_PREFIX + auctionId, lastSequence);
+        if (replay.complete()) {
+            List<AuctionReplayDto.ReplayedMessage> messages = replay.entries().stream()
+                    .map(entry -> new AuctionReplayDto.ReplayedMessage(
+                            entry.sequence(), new String(entry.payload(), StandardCharsets.UTF_8)))
+                    .toList();
+            return new AuctionReplayDto(auctionId, replay.latestSequence(), messages, null, false);
+        }
+
+        return new AuctionReplayDto(auctionId, replay.latestSequence(), List.of(), snapshot(auctionId), true);
+    }
+
+    /**
+     * 스트림을 열 수 있는 경매인지 확인 (진행 중이면 메모리 레지스트리만 보고, 아니면 DB 로 예약 상태인지 확인)
+     *
+     * @throws BusinessException 없는 경매면 AUCTION_NOT_FOUND, 이미 끝난 경매면 AUCTION_NOT_IN_PROGRESS
+     */
+    public void validateStreamable(Long auctionId) {
+        if (auctionLiveRegistry.find(auctionId).isPresent()) {
+            return;
+        }
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new BusinessException(AuctionErrorCode.AUCTION_NOT_FOUND));
+        Auction.AuctionStatus status = auction.getStatus();
+        if (status != Auction.AuctionStatus.SCHEDULED
+                && status != Auction.AuctionStatus.READY
+                && status != Auction.AuctionStatus.IN_PROGRESS) {
+            throw new BusinessException(AuctionErrorCode.AUCTION_NOT_IN_PROGRESS);
+        }
+    }
+
+    /**
+     * 메모리 레지스트리의 현재 상태 (진행 중인 경매가 아니면 null)
+     */
+    public AuctionLiveStatusDto snapshot(Long auctionId) {
+        long now = System.currentTimeMillis();
+        return auctionLiveRegistry.find(auctionId)
+                .map(auction -> AuctionLiveStatusDto.of(
+                        auction.getAuctionId(),
+                        auction.getCurrentHighestBid(),
+                        auction.getTotalBidders(),
+                        auction.getTotalBids(),
+                        auction.getWinnerNickname(),
+                        auction.getEndTimeMs(),
+                        now))
+                .orElse(null);
+    }
+}
@@ -2,118 +2,264 @@ package com.highlight.highlight_backend.auction.service;
 
 import com.highlight.highlight_backend.auction.domain.Auction;
 import com.highlight.highlight_backend.auction.repository.AuctionRepository;
-import com.highlight.highlight_backend.product.domian.Product;
-import com.highlight.highlight_backend.bid.service.BidService;
+import com.highlight.highlight_backend.common.cluster.ClusterLeaseService;
+import com.highlight.highlight_backend.common.scheduler.HierarchicalTimingWheel;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
+import java.util.Set;
 
+/**
+ * 경매 시작/종료 스케줄러
+ *
+ * 경매마다 ScheduledFuture 를 만들지 않고, 시작/종료 시각을 계층형 타이밍 휠 하나에 모아두고
+ * 1초마다 만료된 경매를 일괄(batch)로 시작/종료합니다.
+ * 등록/취소는 O(1) 이며, 서버 재시작 시 DB에서 ID와 시간만 조회하여 휠을 복구합니다.
+ *
+ * 여러 노드로 띄울 때는 경매 ID 범위 샤드 단위로 소유권을 나눕니다 (ClusterLeaseService).
+ * - 각 노드는 소유한 샤드의 경매만 휠에 올리고 실행하며, 샤드를 새로 얻으면 그 샤드만 DB에서 복구
+ * - 다른 노드 샤드의 경매를 등록하면 Redis topic 으로 소유 노드에 전달
+ * - 1분 주기 보정 작업은 리더 노드 1대만 실행
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuctionSchedulerService {
 
+    private static final long TICK_MS = 1000;   // 초 단위 정밀도
+    private static final int WHEEL_SIZE = 60;   // level 0 = 60초, level 1 = 60분, level 2 = 60시간 ...
+
+    private static final String DEADLINE_JOB = "auction-deadline";
+    private static final String MISSED_START_JOB = "auction-missed-start";
+    private static final String EXPIRED_END_JOB = "auction-expired-end";
+    private static final int SHARD_COUNT = 16;
+    private static final String DEADLINE_TOPIC = "auction:scheduler:deadline";
+
     @Qualifier("taskScheduler")
     private final TaskScheduler taskScheduler;
 
-    private final BidService bidService;
-    private final AuctionNotificationService auctionNotificationService;
-    private final AuctionCountService auctionCountService;
     private final AuctionStartService auctionStartService;
+    private final AuctionEndService auctionEndService;
 
     private final AuctionRepository auctionRepository;
+    private final ClusterLeaseService clusterLeaseService;
+    private final RedissonClient redissonClient;
 
-    private final Map<Long, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
-
-    public void scheduleAuctionStart(Auction auction) {
-        cancelScheduledStart(auction.getId()); // 기존 작업이 있다면 취소
+    private final HierarchicalTimingWheel<Deadline> timingWheel =
+            new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, System.currentTimeMillis());
 
-        Instant startTime = auction.getScheduledStartTime().atZone(ZoneId.systemDefault()).toInstant();
-        
-        Runnable task = () -> {
-            auctionStartService.startAuction(auction.getId());
-            scheduledTasks.remove(auction.getId());
-        };
+    /**
+     * 휠에 들어가는 키 (경매 ID + 시작/종료 구분)
+     */
+    private record Deadline(Long auctionId, boolean start) {
+    }
 
-        ScheduledFuture<?> scheduledTask = taskScheduler.schedule(task, startTime);
-        scheduledTasks.put(auction.getId(), scheduledTask);
+    public void scheduleAuctionStart(Auction auction) {
+        scheduleDeadline(new Deadline(auction.getId(), true), toEpochMilli(auction.getScheduledStartTime()));
         log.info("경매 시작 작업이 스케줄되었습니다. 경매 ID: {}, 시작 시간: {}", auction.getId(), auction.getScheduledStartTime());
     }
 
+    public void scheduleAuctionEnd(Auction auction) {
+        scheduleDeadline(new Deadline(auction.getId(), false), toEpochMilli(auction.getScheduledEndTime()));
+        log.info("경매 종료 작업이 스케줄되었습니다. 경매 ID: {}, 종료 시간: {}", auction.getId(), auction.getScheduledEndTime());
+    }
+
     public void cancelScheduledStart(Long auctionId) {
-        ScheduledFuture<?> scheduledTask = scheduledTasks.get(auctionId);
-        if (scheduledTask != null) {
-            scheduledTask.cancel(false);
-            scheduledTasks.remove(auctionId);
+        if (timingWheel.cancel(new Deadline(auctionId, true))) {
             log.info("경매 시작 스케줄이 취소되었습니다. 경매 ID: {}", auctionId);
         }
     }
 
+    public void cancelScheduledEnd(Long auctionId) {
+        if (timingWheel.cancel(new Deadline(auctionId, false))) {
+            log.info("경매 종료 스케줄이 취소되었습니다. 경매 ID: {}", auctionId);
+        }
+    }
+
+    /**
+     * 소유한 샤드면 휠에 바로 등록, 아니면 소유 노드로 전달
+     * 같은 키로 다시 등록하면 기존 작업은 교체됨
+     */
+    private void scheduleDeadline(Deadline deadline, long deadlineMs) {
+        if (clusterLeaseService.ownsShard(DEADLINE_JOB, deadline.auctionId())) {
+            timingWheel.schedule(deadline, deadlineMs);
+            return;
+        }
+        try {
+            deadlineTopic().publish((deadline.start() ? "S" : "E") + "|" + deadline.auctionId() + "|" + deadlineMs);
+        } catch (Exception e) {
+            // 전달 실패 시 1분 주기 보정 작업에서 처리됨
+            log.warn("경매 스케줄 전달 실패. 경매 ID: {}, error={}", deadline.auctionId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 샤드 분배에 참여하고 tick 시작
+     * 휠 복구는 서버마다 전체를 읽지 않고, 샤드를 획득할 때 그 샤드의 경매만 복구함
+     */
     @PostConstruct
     public void restoreScheduledAuctions() {
-        List<Auction> scheduledAuctions = auctionRepository
-                .findByStatus(Auction.AuctionStatus.SCHEDULED);
+        deadlineTopic().addListener(String.class, (channel, message) -> onRemoteDeadline(message));
+        clusterLeaseService.registerShardedJob(DEADLINE_JOB, SHARD_COUNT, this::restoreShards);
+        taskScheduler.scheduleAtFixedRate(this::tick, Duration.ofMillis(TICK_MS));
+    }
+
+    /**
+     * 새로 획득한 샤드의 경매만 휠에 복구 (샤드 조건은 쿼리에서 걸러 다른 샤드의 경매는 읽지 않음)
+     * 이미 시간이 지난 경매도 등록하여 첫 tick 에 바로 처리되도록 함
+     */
+    void restoreShards(Set<Integer> shards) {
+        if (shards.isEmpty()) {
+            return;
+        }
+        List<Object[]> starts = auctionRepository.findScheduledStartTimes(
+                shards, SHARD_COUNT, ClusterLeaseService.SHARD_ID_RANGE);
+        for (Object[] row : starts) {
+            timingWheel.schedule(new Deadline((Long) row[0], true), toEpochMilli((LocalDateTime) row[1]));
+        }
+
+        List<Object[]> ends = auctionRepository.findInProgressEndTimes(
+                shards, SHARD_COUNT, ClusterLeaseService.SHARD_ID_RANGE);
+        for (Object[] row : ends) {
+            timingWheel.schedule(new Deadline((Long) row[0], false), toEpochMilli((LocalDateTime) row[1]));
+        }
+        log.info("경매 스케줄 복구 완료. 샤드: {}, 시작 대기: {}건, 종료 대기: {}건", shards, starts.size(), ends.size());
+    }
 
-        for (Auction auction : scheduledAuctions) {
-            if (auction.getScheduledStartTime().isAfter(LocalDateTime.now())) {
-                scheduleAuctionStart(auction);  // 재등록
-                log.info("경매 재스케줄 완료. ID: {}", auction.getId());
+    /**
+     * 다른 노드가 등록한 마감 시각 수신 (형식: S|경매ID|epochMs, E|경매ID|epochMs)
+     */
+    private void onRemoteDeadline(String message) {
+        try {
+            String[] parts = message.split("\\|");
+            Long auctionId = Long.valueOf(parts[1]);
+            if (clusterLeaseService.ownsShard(DEADLINE_JOB, auctionId)) {
+                timingWheel.schedule(new Deadline(auctionId, "S".equals(parts[0])), Long.parseLong(parts[2]));
             }
+        } catch (Exception e) {
+            log.warn("경매 스케줄 메시지 처리 실패: {}, error={}", message, e.getMessage());
         }
     }
 
+    private RTopic deadlineTopic() {
+        return redissonClient.getTopic(DEADLINE_TOPIC, StringCodec.INSTANCE);
+    }
+
     /**
-     * 경매가 스케줄
+     * 1 tick 마다 만료된 시작/종료 작업을 모아서 처리
      */
+    void tick() {
+        List<Deadline> dueList;
+        try {
+            dueList = timingWheel.advanceTo(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("타이밍 휠 전진 실패: {}", e.getMessage(), e);
+            return;
+        }
+        if (dueList.isEmpty()) {
+            return;
+        }
 
+        // 샤드를 넘겨준 뒤 남아있던 항목은 새 소유 노드가 처리하므로 버림
+        List<Deadline> owned = dueList.stream()
+                .filter(d -> clusterLeaseService.ownsShard(DEADLINE_JOB, d.auctionId()))
+                .toList();
+        List<Long> startIds = owned.stream().filter(Deadline::start).map(Deadline::auctionId).toList();
+        List<Long> endIds = owned.stream().filter(d -> !d.start()).map(Deadline::auctionId).toList();
 
+        for (Long auctionId : startIds) {
+            try {
+                Auction started = auctionStartService.startAuction(auctionId);
+                if (started != null) {
+                    scheduleAuctionEnd(started);
+                }
+            } catch (Exception e) {
+                log.error("경매 자동 시작 실패. 1분 주기 보정 작업에서 재시도됩니다. 경매 ID: {}", auctionId, e);
+            }
+        }
+
+        endAuctions(endIds);
+        log.debug("타이밍 휠 처리 완료. 시작: {}건, 종료: {}건", startIds.size(), endIds.size());
+    }
+
+    public int getPendingCount() {
+        return timingWheel.size();
+    }
+
+    private long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 
     @Scheduled(fixedRate = 60000) // 1분마다 실행
     @Transactional
     public void checkMissedScheduledAuctions() {
+        if (!clusterLeaseService.isLeader(MISSED_START_JOB)) {
+            return;
+        }
         log.debug("놓친 경매가 있는지 확인합니다...");
         List<Auction> missedAuctions = auctionRepository.findByStatusAndScheduledStartTimeBefore(Auction.AuctionStatus.SCHEDULED, LocalDateTime.now());
-        
+
         if (!missedAuctions.isEmpty()) {
             log.info("{}개의 놓친 경매를 발견했습니다. 지금 시작합니다.", missedAuctions.size());
             for (Auction auction : missedAuctions) {
-                auctionStartService.startAuction(auction.getId());
-                scheduledTasks.remove(auction.getId());
+                Auction started = auctionStartService.startAuction(auction.getId());
+                cancelScheduledStart(auction.getId());
+                if (started != null) {
+                    scheduleAuctionEnd(started);
+                }
             }
         }
     }
 
+    /**
+     * 타이밍 휠 누락 대비 보정 작업
+     * 종료 시간이 지난 진행 중 경매를 ID 배치 단위로 종료 (상태가 COMPLETED 로 바뀌므로 다시 조회되지 않음)
+     */
     @Scheduled(fixedRate = 60000) // 1분마다 실행
-    @Transactional
     public void checkExpiredAuctions() {
-        List<Auction> expiredAuctions = auctionRepository.findInProgressAuctionsReadyToEnd(LocalDateTime.now());
-        for (Auction auction : expiredAuctions) {
-
-            Product.Category category = auction.getProduct().getCategory();
-
-            // In_Progress count 감소
-            auctionCountService.decrement(Auction.AuctionStatus.IN_PROGRESS, category);
-
-            // 낙찰자 찾기
-            var winnerBid = bidService.findCurrentHighestBid(auction).orElse(null);
-            if (winnerBid != null) {
-                auctionNotificationService.notifyAuctionEnded(auction, winnerBid.getUser().getNickname());
+        if (!clusterLeaseService.isLeader(EXPIRED_END_JOB)) {
+            return;
+        }
+        List<Long> dueIds = auctionEndService.findDueAuctionIds();
+        while (!dueIds.isEmpty()) {
+            int closed = endAuctions(dueIds);
+            if (closed == 0 || dueIds.size() < AuctionEndService.BATCH_SIZE) {
+                break;
             }
+            dueIds = auctionEndService.findDueAuctionIds();
+        }
+    }
 
-            log.info("경매가 자동으로 종료되었습니다. 경매 ID: {}", auction.getId());
+    /**
+     * 배치 종료 (tick 과 보정 작업이 겹쳐도 AuctionEndService 가 행 잠금으로 경매마다 한 번만 종료)
+     */
+    private int endAuctions(List<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            int closed = 0;
+            for (int from = 0; from < auctionIds.size(); from += AuctionEndService.BATCH_SIZE) {
+                List<Long> batch = auctionIds.subList(from, Math.min(from + AuctionEndService.BATCH_SIZE, auctionIds.size()));
+                closed += auctionEndService.endAuctions(batch);
+            }
+            return closed;
+        } catch (Exception e) {
+            log.error("경매 배치 종료 실패. 다음 보정 작업에서 재시도됩니다. 대상: {}건", auctionIds.size(), e);
+            return 0;
         }
     }
 
@@ -2,13 +2,16 @@ package com.highlight.highlight_backend.auction.service;
 
 import com.highlight.highlight_backend.auction.domain.Auction;
 import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.dashboard.service.AdminAuctionCountService;
 import com.highlight.highlight_backend.product.domian.Product;
+import com.highlight.highlight_backend.common.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -17,19 +20,32 @@ public class AuctionStartService {
 
     private final AuctionRepository auctionRepository;
     private final AuctionCountService auctionCountService;
+    private final AuctionFacetCountService auctionFacetCountService;
+    private final AdminAuctionCountService adminAuctionCountService;
     private final AuctionNotificationService auctionNotificationService;
+    private final AuctionLiveRegistry auctionLiveRegistry;
+    private final AuctionEndingSoonAlertService auctionEndingSoonAlertService;
+    private final AuctionListingCache auctionListingCache;
 
+    /**
+     * @return 시작된 경매 (이미 처리되었거나 없으면 null)
+     */
     @Transactional
-    public void startAuction(Long auctionId) {
+    public Auction startAuction(Long auctionId) {
         Auction auction = auctionRepository.findByIdWithLock(auctionId).orElse(null);
         if (auction == null) {
             log.warn("경매를 찾을 수 없습니다. ID: {}", auctionId);
-            return;
+            return null;
         }
         // 멱등성 보장
         if (auction.getStatus() != Auction.AuctionStatus.SCHEDULED) {
             log.info("이미 처리된 경매입니다. ID: {}", auctionId);
-            return;
+            return null;
+        }
+        // 시작 시간이 뒤로 변경된 경우 (다른 노드 휠에 남아있던 이전 시각으로 호출됨)
+        if (auction.getScheduledStartTime().isAfter(LocalDateTime.now())) {
+            log.info("시작 시간이 아직 되지 않은 경매입니다. ID: {}, 시작 시간: {}", auctionId, auction.getScheduledStartTime());
+            return null;
         }
 
         // 경매 상태를 IN_PROGRESS로 변경
@@ -39,20 +55,39 @@ public class AuctionStartService {
 
         Product.Category category = auction.getProduct().getCategory();
 
-        // Redis 의 SCHEDULED 상태의 count 감소
-        auctionCountService.decrement(
-                Auction.AuctionStatus.SCHEDULED, category);
-
-        // Redis 의 IN_PROGRESS 상태의 count 증가
-        auctionCountService.increment(
-                Auction.AuctionStatus.IN_PROGRESS, category);
+        // Redis 의 SCHEDULED count 감소 + IN_PROGRESS count 증가 (스크립트 1번)
+        auctionCountService.transition(
+                Auction.AuctionStatus.SCHEDULED, Auction.AuctionStatus.IN_PROGRESS, category);
+        auctionFacetCountService.transition(
+                Auction.AuctionStatus.SCHEDULED, Auction.AuctionStatus.IN_PROGRESS, category,
+                auction.getCurrentHighestBid());
+        adminAuctionCountService.transition(
+                auction.getCreatedBy(), Auction.AuctionStatus.SCHEDULED, Auction.AuctionStatus.IN_PROGRESS);
 
         // 상품 상태를 IN_AUCTION으로 변경
         auction.getProduct().setStatus(Product.ProductStatus.IN_AUCTION);
 
         auctionNotificationService.sendAuctionStartedNotification(auction);
+        auctionLiveRegistry.register(auction);
+        auctionEndingSoonAlertService.scheduleAlerts(auction);
+        evictListingCacheAfterCommit(List.of(auctionId), category);
 
         log.info("스케줄된 경매가 시작되었습니다. 경매 ID: {}, 상품 상태 변경: IN_AUCTION", auctionId);
+        return auction;
+    }
 
+    /**
+     * 커밋 후 예정 / 진행중 목록 캐시 제거 (이벤트를 거치지 않으므로 직접 호출)
+     */
+    private void evictListingCacheAfterCommit(List<Long> auctionIds, Product.Category category) {
+        Runnable eviction = () -> {
+            try {
+                auctionListingCache.evictOnStatusChanged(auctionIds,
+                        Auction.AuctionStatus.SCHEDULED, Auction.AuctionStatus.IN_PROGRESS, List.of(category));
+            } catch (Exception e) {
+                log.error("경매 목록 캐시 무효화 실패. TTL 만료 후 갱신됩니다. auctionIds={}", auctionIds, e);
+            }
+        };
+        TransactionUtils.runAfterCommit(eviction);
     }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.highlight.highlight_backend.auction.service;
+
+import com.highlight.highlight_backend.auction.dto.AuctionViewerCountDto;
+import com.highlight.highlight_backend.common.cluster.ClusterLeaseService;
+import com.highlight.highlight_backend.common.socket.dto.WebSocketMessageDto;
+import com.highlight.highlight_backend.common.socket.service.GlobalSocketService;
+import com.highlight.highlight_backend.common.socket.service.SseTopicHub;
+import com.highlight.highlight_backend.common.socket.service.TopicSubscriptionRegistry;
+import com.highlight.highlight_backend.common.socket.service.WebSocketPayloadEncoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 경매 실시간 시청자 수 (전체 노드 합산)
+ *
+ * - 각 노드는 5초마다 자기 세션 레지스트리의 경매별 시청 세션 수(+ SSE 연결 수)를 Redis hash 1개에 통째로 기록 (15초 TTL)
+ * - 보고 중인 노드 목록은 ZSET(점수: 마지막 보고 시각)으로 관리, 보고가 끊긴 노드는 합산에서 제외
+ * - 합산한 시청자 수가 바뀐 경매만 그 노드의 구독자에게 VIEWER_COUNT 로 전송 (노드마다 자기 구독자에게만)
+ * - 쓰기 1번 + 읽기 1번의 batch 로 처리하여 경매 수와 관계없이 tick 당 Redis 왕복 2번
+ * - destination 은 클라이언트가 정하므로 /topic/auction/{숫자} 형태만 집계 (그 외 구독은 무시)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionViewerCountService {
+
+    private static final String AUCTION_TOPIC_PREFIX = "/topic/auction/";
+    private static final Pattern AUCTION_TOPIC = Pattern.compile(Pattern.quote(AUCTION_TOPIC_PREFIX) + "(0|[1-9]\\d{0,17})");
+    private static final String NODE_KEY_PREFIX = "ws:viewers:node:";
+    private static final String NODES_KEY = "ws:viewers:nodes";
+    private static final Duration REPORT_TTL = Duration.ofSeconds(15);
+
+    private final TopicSubscriptionRegistry topicSubscriptionRegistry;
+    private final SseTopicHub sseTopicHub;
+    private final ClusterLeaseService clusterLeaseService;
+    private final RedissonClient redissonClient;
+    private final GlobalSocketService globalSocketService;
+    private final WebSocketPayloadEncoder payloadEncoder;
+
+    /** 경매 ID → 이 노드 구독자에게 마지막으로 보낸 시청자 수 */
+    private final Map<String, Long> lastSent = new ConcurrentHashMap<>();
+
+    /**
+     * 이 노드의 시청자 수 보고 + 바뀐 경매에 시청자 수 전송
+     */
+    @Scheduled(fixedRate = 5000)
+    public void reportAndBroadcast() {
+        try {
+            Map<String, Integer> counts = new HashMap<>(topicSubscriptionRegistry.getSubscriberCounts(AUCTION_TOPIC_PREFIX));
+            sseTopicHub.getSubscriberCounts(AUCTION_TOPIC_PREFIX).forEach((destination, count) ->
+                    counts.merge(destination, count, Integer::sum));
+            Map<String, String> local = new HashMap<>();
+            counts.forEach((destination, count) -> {
+                Matcher matcher = AUCTION_TOPIC.matcher(destination);
+                if (matcher.matches()) {
+                    local.put(matcher.group(1), String.valueOf(count));
+                }
+            });
+            report(local);
+
+            lastSent.keySet().retainAll(local.keySet());
+            if (local.isEmpty()) {
+                return;
+            }
+            totals(local.keySet()).forEach((auctionId, total) -> {
+                if (total.equals(lastSent.put(auctionId, total))) {
+                    return;
+                }
+                broadcast(Long.valueOf(auctionId), total);
+            });
+        } catch (Exception e) {
+            log.warn("시청자 수 보고 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 경매 1건의 전체 노드 시청자 수
+     */
+    public AuctionViewerCountDto getViewerCount(Long auctionId) {
+        String key = String.valueOf(auctionId);
+        return new AuctionViewerCountDto(auctionId, totals(Set.of(key)).getOrDefault(key, 0L));
+    }
+
+    private void report(Map<String, String> local) {
+        long now = System.currentTimeMillis();
+        String nodeId = clusterLeaseService.getNodeId();
+
+        RBatch batch = redissonClient.createBatch();
+        RMapAsync<String, String> own = batch.getMap(NODE_KEY_PREFIX + nodeId, StringCodec.INSTANCE);
+        own.deleteAsync();
+        if (!local.isEmpty()) {
+            own.putAllAsync(local);
+            own.expireAsync(REPORT_TTL);
+        }
+        batch.getScoredSortedSet(NODES_KEY, StringCodec.INSTANCE).addAsync(now, nodeId);
+        batch.getScoredSortedSet(NODES_KEY, StringCodec.INSTANCE)
+                .removeRangeByScoreAsync(0, true, now - REPORT_TTL.toMillis(), true);
+        batch.execute();
+    }
+
+    private Map<String, Long> totals(Set<String> auctionIds) {
+        long now = System.currentTimeMillis();
+        Collection<String> nodes = redissonClient.getScoredSortedSet(NODES_KEY, StringCodec.INSTANCE)
+                .valueRange(now - REPORT_TTL.toMillis(), true, Double.MAX_VALUE, true);
+
+        Map<String, Long> totals = new HashMap<>();
+        auctionIds.forEach(auctionId -> totals.put(auctionId, 0L));
+        if (nodes.isEmpty()) {
+            return totals;
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Map<String, String>>> reports = new ArrayList<>(nodes.size());
+        for (String node : nodes) {
+            RMapAsync<String, String> report = batch.getMap(NODE_KEY_PREFIX + node, StringCodec.INSTANCE);
+            reports.add(report.getAllAsync(auctionIds));
+        }
+        batch.execute();
+
+        for (RFuture<Map<String, String>> report : reports) {
+            report.toCompletableFuture().join().forEach((auctionId, count) ->
+                    totals.merge(auctionId, Long.parseLong(count), Long::sum));
+        }
+        return totals;
+    }
+
+    private void broadcast(Long auctionId, long viewerCount) {
+        try {
+            byte[] payload = payloadEncoder.encode(WebSocketMessageDto.of(
+                    WebSocketMessageDto.WebSocketMessageType.VIEWER_COUNT,
+                    auctionId,
+                    new AuctionViewerCountDto(auctionId, viewerCount)));
+            globalSocketService.sendRawToLocalTopic(AUCTION_TOPIC_PREFIX + auctionId, payload);
+        } catch (Exception e) {
+            log.warn("시청자 수 전송 실패: 경매ID={}, error={}", auctionId, e.getMessage());
+        }
+    }
+}
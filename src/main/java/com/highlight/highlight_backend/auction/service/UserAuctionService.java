@@ -1,6 +1,8 @@
 package com.highlight.highlight_backend.auction.service;
 
 import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.dto.AuctionCursor;
+import com.highlight.highlight_backend.auction.dto.AuctionListItemDto;
 import com.highlight.highlight_backend.auction.dto.AuctionPageResponse;
 import com.highlight.highlight_backend.auction.dto.AuctionSearchConditionDto;
 import com.highlight.highlight_backend.auction.dto.AuctionStatsDto;
@@ -8,14 +10,21 @@ import com.highlight.highlight_backend.auction.repository.AuctionRepository;
 import com.highlight.highlight_backend.exception.AuctionErrorCode;
 import com.highlight.highlight_backend.exception.BusinessException;
 import com.highlight.highlight_backend.product.dto.UserAuctionResponseDto;
+import com.highlight.highlight_backend.product.repository.ProductImageRepository;
+import com.highlight.highlight_backend.product.service.ProductSearchIndexService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -23,41 +32,100 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserAuctionService {
 
+    /**
+     * 검색어 1건당 ID 조건에 넣는 상품 수 상한
+     * 넘으면 일부 ID 만으로는 필터/개수가 틀어지므로 DB LIKE 조건으로 조회
+     */
+    private static final int MAX_KEYWORD_MATCHES = 1000;
+
     private final AuctionRepository auctionRepository;
     private final AuctionCountService auctionCountService;
+    private final AuctionListingCache auctionListingCache;
+    private final ProductImageRepository productImageRepository;
+    private final ProductSearchIndexService productSearchIndexService;
 
     /**
      * 필터링, 정렬할 값을 가져오고 정렬한다.
      * queryDSL 로 리팩토링.
+     *
+     * 자주 조회되는 페이지는 AuctionListingCache 에서 바로 응답한다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
      */
+    @Transactional(readOnly = true)
     public AuctionPageResponse getProductsFiltered(
-            AuctionSearchConditionDto conditionDto, Pageable pageable) {
+            AuctionSearchConditionDto conditionDto, String cursor, Pageable pageable) {
+        return auctionListingCache.get(conditionDto, cursor, pageable,
+                () -> searchProducts(conditionDto, cursor, pageable));
+    }
 
-        // DB 조회
-        Slice<Auction> slice = auctionRepository.searchAuctions(conditionDto, pageable);
+    private AuctionPageResponse searchProducts(
+            AuctionSearchConditionDto conditionDto, String cursor, Pageable pageable) {
 
-        // Redis에서 count 조회
-        long totalCount = auctionCountService.getCount(
-                conditionDto.getStatus(),
-                conditionDto.getCategory()
-        );
-        //long totalCount = auctionRepository.getCount();
+        // DB 조회 (커서가 있으면 offset 대신 keyset 조회)
+        AuctionCursor auctionCursor = AuctionCursor.decode(cursor, pageable);
+
+        // 검색어는 메모리 색인에서 후보 상품 ID 로 바꿔 ID 조회 조건에 넣음 (원문 포함 여부는 조회 조건에서 다시 확인)
+        // 색인으로 찾을 수 없는 검색어(1글자 단어)이거나 후보가 MAX_KEYWORD_MATCHES 개를 넘으면 ID 조건 없이 LIKE 조건으로 조회
+        boolean hasKeyword = StringUtils.hasText(conditionDto.getKeyword());
+        if (hasKeyword && productSearchIndexService.canSearch(conditionDto.getKeyword())) {
+            // 1개 더 조회해서 상한을 넘었는지 판단
+            List<Long> productIds = productSearchIndexService.search(conditionDto.getKeyword(), MAX_KEYWORD_MATCHES + 1);
+            if (productIds.isEmpty()) {
+                return new AuctionPageResponse(List.of(), false, pageable.getPageNumber(), 0, null);
+            }
+            if (productIds.size() <= MAX_KEYWORD_MATCHES) {
+                conditionDto.setProductIds(productIds);
+            }
+        }
+        Slice<AuctionListItemDto> slice = auctionRepository.searchAuctions(conditionDto, auctionCursor, pageable);
+
+        // 검색어가 있으면 같은 조건으로 직접 집계, 없으면 Redis 의 상태/카테고리 count 사용
+        long totalCount = hasKeyword
+                ? auctionRepository.countAuctions(conditionDto)
+                : auctionCountService.getCount(conditionDto.getStatus(), conditionDto.getCategory());
+
+        // 썸네일 일괄 조회 (페이지당 IN 쿼리 1번)
+        Map<Long, String> thumbnails = findThumbnailUrls(slice.getContent());
 
         // DTO 변환
         List<UserAuctionResponseDto> content = slice.getContent()
                 .stream()
-                .map(auction -> UserAuctionResponseDto.fromWithCalculatedCount(
-                        auction, auction.getTotalBids()))
+                .map(item -> UserAuctionResponseDto.from(item, thumbnails.get(item.getProductId())))
                 .toList();
 
+        // 다음 페이지 커서 (마지막 행의 정렬 값 + id)
+        String nextCursor = slice.hasNext()
+                ? AuctionCursor.of(pageable, slice.getContent().get(slice.getNumberOfElements() - 1)).encode()
+                : null;
+
         return new AuctionPageResponse(
                 content,
                 slice.hasNext(),
                 pageable.getPageNumber(),
-                totalCount
+                totalCount,
+                nextCursor
         );
     }
 
+    /**
+     * 상품별 첫 번째 이미지(대표 이미지 우선)를 썸네일로 사용
+     */
+    private Map<Long, String> findThumbnailUrls(List<AuctionListItemDto> items) {
+        if (items.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> productIds = items.stream()
+                .map(AuctionListItemDto::getProductId)
+                .collect(Collectors.toSet());
+
+        Map<Long, String> thumbnails = new HashMap<>();
+        for (Object[] row : productImageRepository.findImageUrlsByProductIds(productIds)) {
+            thumbnails.putIfAbsent((Long) row[0], (String) row[1]);
+        }
+        return thumbnails;
+    }
+
     /**
      * 입찰 시 비관 락을 얻기 위한 service
      */
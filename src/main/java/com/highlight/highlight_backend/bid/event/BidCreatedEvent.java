@@ -14,6 +14,7 @@ public class BidCreatedEvent {
     private Long bidId;
     private Long previousBidId;
     private BigDecimal bidAmount;
+    private BigDecimal previousHighestBid; // 직전 현재가 (첫 입찰이면 시작가)
     private boolean isNewBidder;
     private String userNickname;
     private Long totalBidders;
@@ -6,11 +6,14 @@ import com.highlight.highlight_backend.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -68,6 +71,30 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     Optional<Bid> findCurrentHighestBidByAuction(@Param("auction") Auction auction);
 
 
+    /**
+     * 여러 경매의 최고 입찰을 한 번에 조회 (배치 종료용)
+     * idx_auction_bid_amount 로 경매별 MAX(bid_amount)를 구한 뒤 해당 입찰과 닉네임을 JOIN
+     * 같은 금액이 여러 건이면 먼저 들어온 입찰(id 오름차순)이 앞에 옴
+     *
+     * @return Object[] 배열의 리스트 - [bidId, auctionId, userId, nickname]
+     */
+    @Query(value = "SELECT b.id, b.auction_id, b.user_id, u.nickname FROM bid b " +
+            "JOIN (SELECT auction_id, MAX(bid_amount) AS max_amount FROM bid " +
+            "      WHERE auction_id IN (:auctionIds) AND status IN ('ACTIVE', 'WINNING') " +
+            "      GROUP BY auction_id) m " +
+            "  ON b.auction_id = m.auction_id AND b.bid_amount = m.max_amount " +
+            "JOIN user u ON u.id = b.user_id " +
+            "WHERE b.status IN ('ACTIVE', 'WINNING') " +
+            "ORDER BY b.auction_id, b.id", nativeQuery = true)
+    List<Object[]> findHighestBidsByAuctionIds(@Param("auctionIds") Collection<Long> auctionIds);
+
+    /**
+     * 입찰 상태 일괄 변경 (낙찰 처리용)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Bid b SET b.status = :status WHERE b.id IN :bidIds")
+    int bulkUpdateStatus(@Param("bidIds") Collection<Long> bidIds, @Param("status") Bid.BidStatus status);
+
     /**
      * Auction 의 입찰 중 가장 금액이 높은 입찰을 가져옴 (FETCH JOIN 으로 USER도 같이 조회)
      */
@@ -128,6 +155,29 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
            "ORDER BY COUNT(DISTINCT b.auction) DESC, u.id ASC")
     List<Object[]> findUserRankingByAuctionParticipation(Pageable pageable);
     
+    /**
+     * 사용자별 참여한 고유 경매 수 (참여 랭킹 재구성용, 정렬 없음)
+     *
+     * @return Object[] 배열의 리스트 - [userId, auctionCount]
+     */
+    @Query("SELECT b.user.id, COUNT(DISTINCT b.auction.id) FROM Bid b " +
+           "WHERE b.status != 'CANCELLED' " +
+           "GROUP BY b.user.id")
+    List<Object[]> countParticipationGroupByUser();
+    
+    /**
+     * since 이후 사용자별 / 날짜별 새로 참여한 경매 수 (기간별 랭킹 일별 버킷 재구성용)
+     * 경매별 첫 입찰 시각을 참여 날짜로 봄
+     *
+     * @return Object[] 배열의 리스트 - [userId, date, auctionCount]
+     */
+    @Query(value = "SELECT t.user_id, DATE(t.first_bid_at), COUNT(*) FROM (" +
+           "  SELECT user_id, MIN(created_at) AS first_bid_at FROM bid " +
+           "  WHERE status != 'CANCELLED' GROUP BY user_id, auction_id) t " +
+           "WHERE t.first_bid_at >= :since " +
+           "GROUP BY t.user_id, DATE(t.first_bid_at)", nativeQuery = true)
+    List<Object[]> countDailyParticipationSince(@Param("since") LocalDateTime since);
+    
     /**
      * 경매에 참여한 총 사용자 수 조회
      * 
@@ -60,8 +60,13 @@ public class BidNotificationService {
     public void notifyWin(Bid winnerBid) {
         if (winnerBid == null) return; // 방어 로직
 
-        Long userId = winnerBid.getUser().getId();
-        Long auctionId = winnerBid.getAuction().getId();
+        notifyWin(winnerBid.getUser().getId(), winnerBid.getAuction().getId());
+    }
+
+    /**
+     * 경매 승리 알림 (엔티티 없이 ID만으로 전송, 배치 종료용)
+     */
+    public void notifyWin(Long userId, Long auctionId) {
         String message = "축하합니다! 경매에서 낙찰받으셨습니다.";
 
         WebSocketMessageDto notification = WebSocketMessageDto.of(
@@ -108,6 +108,7 @@ public class BidService {
                 auction.getId(),
                 savedBid.getId(),
                 savedBid.getBidAmount(),
+                previousTopBid != null ? previousTopBid.getBidAmount() : auction.getStartPrice(),
                 previousBidId,
                 isNewBidder,
                 user.getNickname(),
@@ -121,7 +122,7 @@ public class BidService {
 
 
     private void saveOutBoxAndPublish(Long userId, Long auctionId, Long bidId, BigDecimal bidAmount,
-                                      Long previousBidId, boolean isNewBidder, String userNickname,
+                                      BigDecimal previousHighestBid, Long previousBidId, boolean isNewBidder, String userNickname,
                                       Long totalBidders, Long totalBids) {
 
         // 1. Outbox ID 생성
@@ -129,7 +130,7 @@ public class BidService {
 
         // 2. 모든 도메인(유저, 경매, 알림)이 필요로 하는 정보를 모두 담은 '단일 이벤트' 생성
         BidCreatedEvent bidCreatedEvent = new BidCreatedEvent(
-                outboxId, userId, auctionId, bidId, previousBidId, bidAmount, isNewBidder, userNickname, totalBidders, totalBids
+                outboxId, userId, auctionId, bidId, previousBidId, bidAmount, previousHighestBid, isNewBidder, userNickname, totalBidders, totalBids
         );
 
         List<String> consumerNames = List.of("AUCTION_NOTI_BOARDCAST", "USER_PARTICIPATION_UPDATE", "BID_NOTI");
@@ -0,0 +1,89 @@
+package com.highlight.highlight_backend.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 노드 로컬(L1) 캐시 1개
+ *
+ * Redis(L2) 앞에 두는 읽기 위주 캐시이며, 값을 바꾸는 쪽에서 invalidate 를 호출하면
+ * Redis pub/sub 으로 모든 노드의 같은 키가 함께 제거됩니다.
+ * NearCacheManager 의 kill switch 가 꺼져 있으면 캐시를 거치지 않고 loader 를 바로 호출합니다.
+ *
+ * @param <V> 캐시 값 타입 (null 은 캐싱하지 않음)
+ */
+public class NearCache<V> {
+
+    private final String name;
+    private final Cache<String, V> cache;
+    private final NearCacheManager manager;
+
+    NearCache(String name, Cache<String, V> cache, NearCacheManager manager) {
+        this.name = name;
+        this.cache = cache;
+        this.manager = manager;
+    }
+
+    /**
+     * L1 조회, 없으면 loader 로 불러와 저장 (같은 키의 동시 로딩은 노드 안에서 1번만 실행)
+     */
+    public V get(String key, Function<String, V> loader) {
+        if (!manager.isEnabled()) {
+            return loader.apply(key);
+        }
+        return cache.get(key, loader);
+    }
+
+    /**
+     * 모든 노드에서 해당 키 제거
+     */
+    public void invalidate(String key) {
+        invalidate(List.of(key));
+    }
+
+    public void invalidate(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        cache.invalidateAll(keys);
+        manager.publishInvalidation(name, keys);
+    }
+
+    /**
+     * 모든 노드에서 이 캐시 전체 제거
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        manager.publishInvalidation(name, null);
+    }
+
+    /**
+     * 조건에 맞는 값을 이 노드에서만 제거
+     *
+     * 키를 미리 알 수 없는 무효화(예: 가격 범위에 걸치는 목록 페이지)에 사용하며,
+     * 다른 노드로의 전파는 호출하는 쪽에서 조건을 담은 메시지로 처리합니다.
+     */
+    public void invalidateLocalIf(Predicate<V> predicate) {
+        cache.asMap().values().removeIf(predicate);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    void evictLocal(Collection<String> keys) {
+        if (keys == null) {
+            cache.invalidateAll();
+            return;
+        }
+        cache.invalidateAll(keys);
+    }
+}
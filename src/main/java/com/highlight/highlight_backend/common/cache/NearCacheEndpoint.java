@@ -0,0 +1,37 @@
+package com.highlight.highlight_backend.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * L1 캐시 운영용 actuator 엔드포인트 (/actuator/nearcache)
+ *
+ * 조회: 사용 여부와 캐시별 항목 수
+ * 변경: {"enabled": false} 로 모든 노드의 L1 캐시를 끔 (kill switch)
+ */
+@Component
+@Endpoint(id = "nearcache")
+@RequiredArgsConstructor
+public class NearCacheEndpoint {
+
+    private final NearCacheManager nearCacheManager;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of(
+                "enabled", nearCacheManager.isEnabled(),
+                "sizes", nearCacheManager.getSizes()
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> enabled(boolean enabled) {
+        nearCacheManager.setEnabled(enabled);
+        return status();
+    }
+}
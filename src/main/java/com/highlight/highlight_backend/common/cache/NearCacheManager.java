@@ -0,0 +1,143 @@
+package com.highlight.highlight_backend.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * L1(노드 로컬) 캐시 생성 및 노드 간 무효화 관리
+ *
+ * - 캐시마다 최대 크기 / 쓰기 후 TTL / 마지막 접근 후 만료를 지정 (Caffeine)
+ * - 무효화는 Redis topic 으로 모든 노드에 전파 (메시지: "캐시명\n키\n키...", 키가 없으면 전체)
+ * - hit / miss / eviction 은 cache.gets, cache.evictions 메트릭(cache=near.{이름})으로 노출
+ * - kill switch: cache.near.enabled=false 또는 actuator nearcache 엔드포인트로 전체 노드에서 끄고 켤 수 있음
+ */
+@Slf4j
+@Component
+public class NearCacheManager {
+
+    private static final String INVALIDATION_TOPIC = "cache:near:invalidate";
+    private static final String CONTROL_TOPIC = "cache:near:control";
+    private static final String SEPARATOR = "\n";
+
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, NearCache<?>> caches = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled;
+
+    public NearCacheManager(RedissonClient redissonClient,
+                            MeterRegistry meterRegistry,
+                            @Value("${cache.near.enabled:true}") boolean enabled) {
+        this.redissonClient = redissonClient;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidationTopic().addListener(String.class, (channel, message) -> onInvalidation(message));
+        controlTopic().addListener(String.class, (channel, message) -> applyEnabled(Boolean.parseBoolean(message)));
+    }
+
+    /**
+     * L1 캐시 생성 (같은 이름이면 기존 캐시 반환)
+     *
+     * @param maximumSize 최대 항목 수 (넘으면 접근 빈도가 낮은 항목부터 제거)
+     * @param ttl         쓰기 후 만료 시간 (무효화 메시지가 유실되어도 이 시간 안에는 갱신됨)
+     * @param idle        마지막 접근 후 만료 시간
+     */
+    @SuppressWarnings("unchecked")
+    public <V> NearCache<V> create(String name, long maximumSize, Duration ttl, Duration idle) {
+        return (NearCache<V>) caches.computeIfAbsent(name, n -> {
+            Cache<String, V> cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(ttl)
+                    .expireAfterAccess(idle)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "near." + n);
+            return new NearCache<>(n, cache, this);
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * kill switch (모든 노드에 전파)
+     */
+    public void setEnabled(boolean enabled) {
+        applyEnabled(enabled);
+        try {
+            controlTopic().publish(String.valueOf(enabled));
+        } catch (Exception e) {
+            log.warn("L1 캐시 설정 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Long> getSizes() {
+        Map<String, Long> sizes = new ConcurrentHashMap<>();
+        caches.forEach((name, cache) -> sizes.put(name, cache.size()));
+        return sizes;
+    }
+
+    void publishInvalidation(String cacheName, Collection<String> keys) {
+        StringBuilder message = new StringBuilder(cacheName);
+        if (keys != null) {
+            keys.forEach(key -> message.append(SEPARATOR).append(key));
+        }
+        try {
+            invalidationTopic().publish(message.toString());
+        } catch (Exception e) {
+            // 다른 노드는 TTL 안에 갱신됨
+            log.warn("L1 캐시 무효화 전파 실패: cache={}, error={}", cacheName, e.getMessage());
+        }
+    }
+
+    private void onInvalidation(String message) {
+        String[] parts = message.split(SEPARATOR);
+        NearCache<?> cache = caches.get(parts[0]);
+        if (cache == null) {
+            return;
+        }
+        List<String> keys = parts.length == 1 ? null : Arrays.asList(parts).subList(1, parts.length);
+        cache.evictLocal(keys);
+    }
+
+    private void applyEnabled(boolean enabled) {
+        if (this.enabled == enabled) {
+            return;
+        }
+        this.enabled = enabled;
+        if (!enabled) {
+            // 다시 켤 때 꺼져 있던 동안의 오래된 값이 남아있지 않도록 비움
+            caches.values().forEach(cache -> cache.evictLocal(null));
+        }
+        log.info("L1 캐시 {}", enabled ? "사용" : "중지");
+    }
+
+    private RTopic invalidationTopic() {
+        return redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+    }
+
+    private RTopic controlTopic() {
+        return redissonClient.getTopic(CONTROL_TOPIC, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,161 @@
+package com.highlight.highlight_backend.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스 시 DB 재계산을 1번으로 묶는 single-flight 로더
+ *
+ * cache-aside 경로에서 같은 키가 동시에 만료되면 요청 수만큼 DB 쿼리가 몰리므로(stampede),
+ * - load            : 노드 안에서 키당 1번만 loader 실행, 나머지 요청은 같은 결과를 기다림
+ * - loadClusterWide : 위에 더해 Redis 락으로 클러스터에서 1개 노드만 재계산하고,
+ *                     나머지 노드는 이전 값(stale)을 잠시 돌려주거나 새 값이 채워질 때까지 짧게 대기
+ *
+ * 결과별 횟수는 cache.singleflight{result=loaded|joined|stale|waited} 로 노출하며,
+ * loaded 를 제외한 나머지가 stampede 를 피한 요청 수입니다.
+ */
+@Slf4j
+@Component
+public class SingleFlightLoader {
+
+    private static final String LOCK_KEY_PREFIX = "singleflight:lock:";
+    private static final long LOCK_LEASE_MS = 5_000;
+    private static final long WAIT_INTERVAL_MS = 50;
+    private static final int WAIT_ATTEMPTS = 20;
+
+    private final RedissonClient redissonClient;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter loaded;
+    private final Counter joined;
+    private final Counter stale;
+    private final Counter waited;
+
+    public SingleFlightLoader(RedissonClient redissonClient, MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.loaded = counter(meterRegistry, "loaded");
+        this.joined = counter(meterRegistry, "joined");
+        this.stale = counter(meterRegistry, "stale");
+        this.waited = counter(meterRegistry, "waited");
+    }
+
+    /**
+     * 노드 단위 single-flight
+     */
+    public <V> V load(String key, Supplier<V> loader) {
+        return loadOnce(key, () -> {
+            loaded.increment();
+            return loader.get();
+        });
+    }
+
+    /**
+     * 클러스터 단위 single-flight
+     *
+     * @param loader      실제 재계산 (DB 조회 + 캐시 저장까지 수행해야 함)
+     * @param freshReader 캐시에서 최신 값 조회 (없으면 null)
+     * @param staleReader 만료된 이전 값 조회 (없으면 null)
+     */
+    public <V> V loadClusterWide(String key, Supplier<V> loader, Supplier<V> freshReader, Supplier<V> staleReader) {
+        return loadOnce(key, () -> {
+            RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + key);
+            boolean locked = false;
+            try {
+                locked = lock.tryLock(0, LOCK_LEASE_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // Redis 장애 시 노드 단위 보호만 적용
+                log.warn("single-flight 락 획득 실패, 직접 계산합니다: key={}, error={}", key, e.getMessage());
+                loaded.increment();
+                return loader.get();
+            }
+
+            if (locked) {
+                try {
+                    // 락을 얻기 직전에 다른 노드가 채웠을 수 있음
+                    V fresh = freshReader.get();
+                    if (fresh != null) {
+                        waited.increment();
+                        return fresh;
+                    }
+                    loaded.increment();
+                    return loader.get();
+                } finally {
+                    if (lock.isHeldByCurrentThread()) {
+                        lock.unlock();
+                    }
+                }
+            }
+
+            // 다른 노드가 재계산 중
+            V previous = staleReader.get();
+            if (previous != null) {
+                stale.increment();
+                return previous;
+            }
+            for (int i = 0; i < WAIT_ATTEMPTS; i++) {
+                try {
+                    Thread.sleep(WAIT_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                V fresh = freshReader.get();
+                if (fresh != null) {
+                    waited.increment();
+                    return fresh;
+                }
+            }
+            loaded.increment();
+            return loader.get();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V loadOnce(String key, Supplier<V> computation) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            joined.increment();
+            try {
+                return (V) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        // Error 까지 포함해 어떤 경우든 future 를 완료해야 기다리던 요청이 영원히 멈추지 않음
+        try {
+            V value = computation.get();
+            future.complete(value);
+            return value;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.singleflight")
+                .tag("result", result)
+                .description("single-flight 로더 처리 결과")
+                .register(meterRegistry);
+    }
+}
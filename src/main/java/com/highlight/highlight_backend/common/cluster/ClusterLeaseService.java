@@ -0,0 +1,337 @@
+package com.highlight.highlight_backend.common.cluster;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis(Redisson) 기반 클러스터 작업 리스(lease) 서비스
+ *
+ * 여러 노드가 같은 @Scheduled 작업을 돌리면 DB 스캔이 노드 수만큼 중복되므로,
+ * 작업마다 Redis 키 하나를 리스로 두고 리스를 가진 노드(leader)만 작업을 실행합니다.
+ *
+ * - 리스 획득/갱신은 Lua 스크립트 1번으로 원자적으로 처리 (SET NX PX / 본인 소유면 PEXPIRE)
+ * - 리스 TTL 은 10초, 3초마다 갱신 → 리더가 죽으면 최대 ~10초 안에 다른 노드가 이어받음
+ * - 샤딩 가능한 작업은 경매 ID 범위별 샤드로 나누고, 살아있는 노드 수에 맞춰 샤드를 고르게 나눠 가짐
+ * - cluster.job.leader{job, node} 게이지로 현재 어떤 노드가 어떤 작업을 리드하는지 노출
+ */
+@Slf4j
+@Component
+public class ClusterLeaseService {
+
+    private static final String LEASE_KEY_PREFIX = "cluster:lease:";
+    private static final String NODES_KEY = "cluster:nodes";
+    private static final long LEASE_MS = 10_000;
+    private static final long RENEW_INTERVAL_MS = 3_000;
+
+    /** 샤드 하나가 담당하는 연속된 경매 ID 개수 (DB 에서 샤드로 거를 때도 같은 값 사용) */
+    public static final long SHARD_ID_RANGE = 1_000;
+
+    /** 없으면 획득, 본인 소유면 TTL 갱신 → 1 / 다른 노드 소유면 0 */
+    private static final String ACQUIRE_SCRIPT =
+            "local owner = redis.call('get', KEYS[1]) " +
+            "if not owner then redis.call('set', KEYS[1], ARGV[1], 'px', ARGV[2]) return 1 end " +
+            "if owner == ARGV[1] then redis.call('pexpire', KEYS[1], ARGV[2]) return 1 end " +
+            "return 0";
+
+    /** 본인 소유일 때만 삭제 */
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end " +
+            "return 0";
+
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+
+    /** 단일 리더 작업 (jobName → 리스) */
+    private final Map<String, Lease> leaderLeases = new ConcurrentHashMap<>();
+
+    /** 샤딩 작업 (jobName → 샤드 리스 묶음) */
+    private final Map<String, ShardedJob> shardedJobs = new ConcurrentHashMap<>();
+
+    public ClusterLeaseService(RedissonClient redissonClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${cluster.node-id:}") String configuredNodeId) {
+        this.redissonClient = redissonClient;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = StringUtils.hasText(configuredNodeId) ? configuredNodeId : generateNodeId();
+        log.info("클러스터 노드 ID: {}", nodeId);
+    }
+
+    /**
+     * 샤드 소유권 변경 콜백
+     */
+    public interface ShardListener {
+        void onShardsAcquired(Set<Integer> shards);
+
+        default void onShardsReleased(Set<Integer> shards) {
+        }
+    }
+
+    /**
+     * 이 노드가 해당 작업의 리더인지 확인 (리더가 없으면 이 자리에서 획득 시도)
+     * 각 @Scheduled 작업의 첫 줄에서 호출하여 리더가 아니면 바로 return 하는 용도
+     */
+    public boolean isLeader(String jobName) {
+        Lease lease = leaderLeases.computeIfAbsent(jobName, name -> registerLease(name, LEASE_KEY_PREFIX + name));
+        if (!lease.isHeld()) {
+            tryAcquire(lease);
+        }
+        return lease.isHeld();
+    }
+
+    /**
+     * 샤딩 작업 등록 (다음 갱신 주기부터 샤드 분배에 참여)
+     */
+    public void registerShardedJob(String jobName, int shardCount, ShardListener listener) {
+        shardedJobs.computeIfAbsent(jobName, name -> {
+            Lease[] shards = new Lease[shardCount];
+            for (int i = 0; i < shardCount; i++) {
+                shards[i] = registerLease(name + ":shard-" + i, LEASE_KEY_PREFIX + name + ":shard:" + i);
+            }
+            ShardedJob job = new ShardedJob(shards, listener);
+            Gauge.builder("cluster.job.shards.owned", job, ShardedJob::ownedCount)
+                    .tag("job", name)
+                    .tag("node", nodeId)
+                    .description("이 노드가 소유한 샤드 수")
+                    .register(meterRegistry);
+            return job;
+        });
+        rebalance();
+    }
+
+    /**
+     * 이 노드가 해당 ID 의 샤드를 소유하고 있는지 확인
+     */
+    public boolean ownsShard(String jobName, long id) {
+        ShardedJob job = shardedJobs.get(jobName);
+        return job != null && job.shards[shardOf(id, job.shards.length)].isHeld();
+    }
+
+    /**
+     * 경매 ID → 샤드 번호 (SHARD_ID_RANGE 개씩 연속된 ID 구간 단위로 분배)
+     */
+    public static int shardOf(long id, int shardCount) {
+        return (int) Math.floorMod(id / SHARD_ID_RANGE, (long) shardCount);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 리스 갱신 + 리더 없는 작업 획득 시도 + 샤드 재분배
+     */
+    @Scheduled(fixedRate = RENEW_INTERVAL_MS)
+    public void renewLeases() {
+        for (Lease lease : leaderLeases.values()) {
+            tryAcquire(lease);
+        }
+        rebalance();
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        for (Lease lease : leaderLeases.values()) {
+            release(lease);
+        }
+        for (ShardedJob job : shardedJobs.values()) {
+            for (Lease lease : job.shards) {
+                release(lease);
+            }
+        }
+        try {
+            nodes().remove(nodeId);
+        } catch (Exception e) {
+            log.warn("클러스터 노드 등록 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void rebalance() {
+        if (shardedJobs.isEmpty()) {
+            return;
+        }
+        int activeNodes = heartbeat();
+
+        for (ShardedJob job : shardedJobs.values()) {
+            int shardCount = job.shards.length;
+            int target = (shardCount + activeNodes - 1) / activeNodes;
+
+            Set<Integer> acquired = new HashSet<>();
+            Set<Integer> released = new HashSet<>();
+            List<Integer> owned = new ArrayList<>();
+
+            // 1. 보유 중인 샤드 갱신
+            for (int i = 0; i < shardCount; i++) {
+                Lease lease = job.shards[i];
+                if (!job.owned.contains(i)) {
+                    continue;
+                }
+                if (tryAcquire(lease)) {
+                    owned.add(i);
+                } else {
+                    released.add(i);
+                }
+            }
+
+            // 2. 노드가 늘어나 목표치보다 많이 가지고 있으면 반납
+            while (owned.size() > target) {
+                int shard = owned.remove(owned.size() - 1);
+                release(job.shards[shard]);
+                released.add(shard);
+            }
+
+            // 3. 목표치보다 적으면 주인 없는 샤드 획득 (리더가 죽은 샤드를 빠르게 이어받음)
+            for (int i = 0; i < shardCount && owned.size() < target; i++) {
+                if (owned.contains(i) || released.contains(i)) {
+                    continue;
+                }
+                if (tryAcquire(job.shards[i])) {
+                    owned.add(i);
+                    acquired.add(i);
+                }
+            }
+
+            job.owned.removeAll(released);
+            job.owned.addAll(acquired);
+            notifyListener(job, acquired, released);
+        }
+    }
+
+    private void notifyListener(ShardedJob job, Set<Integer> acquired, Set<Integer> released) {
+        try {
+            if (!released.isEmpty()) {
+                log.info("샤드 반납: {}", released);
+                job.listener.onShardsReleased(released);
+            }
+            if (!acquired.isEmpty()) {
+                log.info("샤드 획득: {}", acquired);
+                job.listener.onShardsAcquired(acquired);
+            }
+        } catch (Exception e) {
+            log.error("샤드 변경 콜백 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 노드 생존 신호 기록 후 살아있는 노드 수 반환
+     */
+    private int heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            RScoredSortedSet<String> nodes = nodes();
+            nodes.add(now, nodeId);
+            nodes.removeRangeByScore(0, true, now - LEASE_MS, true);
+            return Math.max(1, nodes.size());
+        } catch (Exception e) {
+            log.warn("클러스터 노드 heartbeat 실패: {}", e.getMessage());
+            return 1;
+        }
+    }
+
+    private boolean tryAcquire(Lease lease) {
+        long now = System.currentTimeMillis();
+        try {
+            Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE, ACQUIRE_SCRIPT, RScript.ReturnType.INTEGER,
+                    List.of(lease.key), nodeId, String.valueOf(LEASE_MS));
+            boolean held = Long.valueOf(1).equals(result);
+            boolean wasHeld = lease.isHeld();
+            // Redis TTL 보다 조금 일찍 만료된 것으로 간주하여 두 노드가 동시에 리더가 되는 구간을 없앰
+            lease.heldUntil = held ? now + LEASE_MS - RENEW_INTERVAL_MS : 0;
+            if (held != wasHeld) {
+                log.info("리스 {}: {} (node={})", held ? "획득" : "상실", lease.name, nodeId);
+            }
+            return held;
+        } catch (Exception e) {
+            log.warn("리스 획득/갱신 실패: {}, error={}", lease.name, e.getMessage());
+            return lease.isHeld();
+        }
+    }
+
+    private void release(Lease lease) {
+        if (!lease.isHeld()) {
+            return;
+        }
+        lease.heldUntil = 0;
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE, RELEASE_SCRIPT, RScript.ReturnType.INTEGER,
+                    List.of(lease.key), nodeId);
+        } catch (Exception e) {
+            log.warn("리스 반납 실패: {}, error={}", lease.name, e.getMessage());
+        }
+    }
+
+    private Lease registerLease(String name, String key) {
+        Lease lease = new Lease(name, key);
+        Gauge.builder("cluster.job.leader", lease, l -> l.isHeld() ? 1 : 0)
+                .tag("job", name)
+                .tag("node", nodeId)
+                .description("이 노드가 해당 작업의 리더이면 1")
+                .register(meterRegistry);
+        return lease;
+    }
+
+    private RScoredSortedSet<String> nodes() {
+        return redissonClient.getScoredSortedSet(NODES_KEY, StringCodec.INSTANCE);
+    }
+
+    private static String generateNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static final class Lease {
+        private final String name;
+        private final String key;
+        private volatile long heldUntil;
+
+        private Lease(String name, String key) {
+            this.name = name;
+            this.key = key;
+        }
+
+        private boolean isHeld() {
+            return heldUntil > System.currentTimeMillis();
+        }
+    }
+
+    private static final class ShardedJob {
+        private final Lease[] shards;
+        private final ShardListener listener;
+        private final Set<Integer> owned = ConcurrentHashMap.newKeySet();
+
+        private ShardedJob(Lease[] shards, ShardListener listener) {
+            this.shards = shards;
+            this.listener = listener;
+        }
+
+        private int ownedCount() {
+            return owned.size();
+        }
+    }
+}
@@ -62,6 +62,12 @@ public class SecurityConfig {
                 
                 // 엔드포인트 접근 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                    // 운영 제어 actuator (L1 캐시 kill switch, WebSocket 세션 현황) - /actuator/** 공개보다 먼저 처리
+                    .requestMatchers(
+                        "/actuator/nearcache/**",
+                        "/actuator/websocket/**"
+                    ).hasAnyRole("ADMIN", "SUPER_ADMIN")
+
                     // 공개 엔드포인트 (인증 불필요) - 구체적인 경로를 먼저 처리
                     .requestMatchers(
                         "/api/admin-auth/**",              // 관리자 인증 관련 API
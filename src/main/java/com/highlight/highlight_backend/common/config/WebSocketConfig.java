@@ -1,10 +1,19 @@
 package com.highlight.highlight_backend.common.config;
 
+import com.highlight.highlight_backend.common.socket.service.PayloadEncodingInterceptor;
+import com.highlight.highlight_backend.common.socket.service.SlowConsumerGuard;
+import com.highlight.highlight_backend.common.socket.service.TopicSubscriptionRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket 설정
@@ -19,6 +28,60 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final PayloadEncodingInterceptor payloadEncodingInterceptor;
+    private final TopicSubscriptionRegistry topicSubscriptionRegistry;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final long heartbeatSendMs;
+    private final long heartbeatReceiveMs;
+
+    @Value("${websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.inbound.core-pool-size:0}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.inbound.max-pool-size:0}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.outbound.core-pool-size:0}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.outbound.max-pool-size:0}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:0}")
+    private int outboundQueueCapacity;
+
+    /**
+     * 세션 레지스트리는 SimpMessagingTemplate(이 설정으로 만들어짐)을 쓰는 relay 에 의존하므로 지연 주입
+     */
+    public WebSocketConfig(PayloadEncodingInterceptor payloadEncodingInterceptor,
+                           @Lazy TopicSubscriptionRegistry topicSubscriptionRegistry,
+                           SlowConsumerGuard slowConsumerGuard,
+                           @Value("${websocket.heartbeat.send-ms:10000}") long heartbeatSendMs,
+                           @Value("${websocket.heartbeat.receive-ms:10000}") long heartbeatReceiveMs) {
+        this.payloadEncodingInterceptor = payloadEncodingInterceptor;
+        this.topicSubscriptionRegistry = topicSubscriptionRegistry;
+        this.slowConsumerGuard = slowConsumerGuard;
+        this.heartbeatSendMs = heartbeatSendMs;
+        this.heartbeatReceiveMs = heartbeatReceiveMs;
+    }
+
+    /**
+     * 브로커 하트비트 전용 스케줄러
+     * 빈으로 등록해 종료 시 컨테이너가 스레드를 정리하도록 함 (초기화도 컨테이너가 수행)
+     */
+    @Bean
+    public ThreadPoolTaskScheduler webSocketHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        return scheduler;
+    }
+
     /**
      * 메시지 브로커 설정
      * 
@@ -28,7 +91,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 경로 prefix
-        config.enableSimpleBroker("/topic", "/queue");
+        // 하트비트를 협상한 클라이언트가 주기를 놓치면 브로커가 세션을 정리 (반쯤 열린 연결 감지)
+        config.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatSendMs, heartbeatReceiveMs})
+                .setTaskScheduler(webSocketHeartbeatScheduler());
         
         // 클라이언트가 서버로 메시지 보낼 때 사용할 prefix
         config.setApplicationDestinationPrefixes("/app");
@@ -37,6 +103,48 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         config.setUserDestinationPrefix("/user");
     }
 
+    /**
+     * payload 인코딩 협상 (CONNECT 헤더 accept-payload-encoding: cbor), 세션별 마지막 수신 시각 기록
+     * 스레드 풀 크기는 설정값이 있을 때만 변경 (0 이면 Spring 기본값)
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(payloadEncodingInterceptor, topicSubscriptionRegistry);
+        if (inboundCorePoolSize > 0) {
+            registration.taskExecutor()
+                    .corePoolSize(inboundCorePoolSize)
+                    .maxPoolSize(Math.max(inboundCorePoolSize, inboundMaxPoolSize));
+        }
+    }
+
+    /**
+     * 전송이 밀린 세션으로 가는 lossy 메시지 버림 → CBOR 를 협상한 세션으로 가는 메시지만 바이너리 payload 로 교체
+     * (느린 소비자 판단은 JSON 의 type 필드를 보므로 인코딩 교체보다 먼저)
+     * 스레드 풀은 소켓 전송이 아니라 세션 버퍼에 넣는 작업까지만 하므로 느린 클라이언트가 스레드를 오래 잡지 않음
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(slowConsumerGuard, payloadEncodingInterceptor);
+        if (outboundCorePoolSize > 0) {
+            registration.taskExecutor()
+                    .corePoolSize(outboundCorePoolSize)
+                    .maxPoolSize(Math.max(outboundCorePoolSize, outboundMaxPoolSize))
+                    .queueCapacity(outboundQueueCapacity > 0 ? outboundQueueCapacity : Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * 세션별 전송 시간 / 버퍼 한도 (넘으면 세션을 끊음, 그 전에 SlowConsumerGuard 가 lossy 메시지부터 버림)
+     * 유휴 세션을 서버에서 끊을 수 있도록 세션 레지스트리에 소켓 연결/종료 등록
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .addDecoratorFactory(topicSubscriptionRegistry::decorate)
+                .addDecoratorFactory(slowConsumerGuard::decorate);
+    }
+
     /**
      * WebSocket 엔드포인트 등록
      * 
@@ -87,6 +195,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                     "http://ec2-52-78-128-131.ap-northeast-2.compute.amazonaws.com",        // 현재 백엔드 서버 (포트 없이)
                     "http://*.amazonaws.com",       // AWS 배포 (HTTP만)
                     "http://*.execute-api.*.amazonaws.com"  // API Gateway (HTTP만)
-                );
+                )
+                .addInterceptors(payloadEncodingInterceptor); // 바이너리 프레임 가능 (CBOR 협상 허용)
     }
 }
\ No newline at end of file
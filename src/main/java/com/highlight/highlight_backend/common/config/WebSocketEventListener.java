@@ -48,12 +48,8 @@ public class WebSocketEventListener {
         
         log.info("WebSocket 연결 해제 - 세션ID: {}", sessionId);
         
-        // 연결 해제 시 특정 경매 ID를 알기 어려우므로
-        // 실제 연결 끊김 감지는 클라이언트 측 하트비트나 핑퐁으로 처리하는 것이 좋습니다.
+        // 세션별 구독 정리와 시청자 수 집계, 하트비트 기반 유휴 세션 정리는 TopicSubscriptionRegistry 에서 처리합니다.
         // 여기서는 연결 해제 로깅만 수행합니다.
-        
-        // 필요시 사용자별 활성 세션 관리 로직 추가 가능
-        // 예: sessionId로 해당 사용자가 구독 중인 경매 찾아서 연결 끊김 알림 전송
     }
     
     /**
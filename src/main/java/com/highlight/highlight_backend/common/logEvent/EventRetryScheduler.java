@@ -1,6 +1,7 @@
 package com.highlight.highlight_backend.common.logEvent;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.highlight.highlight_backend.common.cluster.ClusterLeaseService;
 import com.highlight.highlight_backend.common.outbox.OutboxEvent;
 import com.highlight.highlight_backend.common.outbox.OutboxRepository;
 import lombok.RequiredArgsConstructor;
@@ -22,15 +23,21 @@ import java.util.stream.Collectors;
 public class EventRetryScheduler {
 
     private static final int MAX_RETRY_COUNT = 3;
+    private static final String JOB_NAME = "event-retry";
 
     private final EventConsumerLogRepository logRepository;
     private final OutboxRepository outboxRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper objectMapper;
+    private final ClusterLeaseService clusterLeaseService;
 
     @Scheduled(fixedDelay = 300000)
     @Transactional
     public void retryFailedEvents() {
+        // 클러스터에서 리스를 가진 노드 1대만 재시도 스캔
+        if (!clusterLeaseService.isLeader(JOB_NAME)) {
+            return;
+        }
         LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(5);
 
         // 1. 타임아웃된 RUNNING(스레드 증발) → FAILED 리셋
@@ -0,0 +1,239 @@
+package com.highlight.highlight_backend.common.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 해시 타이밍 휠 (Hierarchical Hashed Timing Wheel)
+ *
+ * 수백만 개의 마감 시각(deadline)을 O(1)로 등록/취소하기 위한 자료구조입니다.
+ * 경매마다 ScheduledFuture 를 하나씩 들고 있으면 스케줄러의 힙(O(log n))과 객체 수가 함께 늘어나므로,
+ * tick 단위 버킷(이중 연결 리스트)에 담아두고 tick 마다 해당 버킷만 비우는 방식으로 처리합니다.
+ *
+ * - level 0 : tickMs 단위 버킷 wheelSize 개
+ * - level n : 하위 level 의 한 바퀴(interval)가 1 tick 인 상위 휠 (필요할 때 lazy 생성)
+ * 상위 휠의 버킷 시각에 도달하면 버킷 안의 항목을 하위 휠로 다시 내려보냅니다(cascade).
+ *
+ * 스레드 안전성을 위해 모든 public 메소드는 synchronized 로 보호합니다.
+ *
+ * @param <K> 항목 식별자 (같은 키로 다시 등록하면 기존 항목을 교체)
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final Level root;
+
+    /** 키 → 노드 (O(1) 취소/교체용) */
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+
+    /** 등록 시점에 이미 만료된 항목 (다음 advance 에서 한 번에 반환) */
+    private final List<K> expiredOnInsert = new ArrayList<>();
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMs > 0, wheelSize > 1 이어야 합니다.");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.root = new Level(tickMs, wheelSize, startMs - (startMs % tickMs));
+    }
+
+    /**
+     * 항목 등록 (같은 키가 있으면 교체)
+     * 이미 지난 시각이면 다음 advance 호출 시 만료 항목으로 반환됩니다.
+     * 만료는 마감 시각 이후 최대 1 tick 이내에 일어납니다.
+     */
+    public synchronized void schedule(K key, long deadlineMs) {
+        Node<K> previous = nodes.remove(key);
+        if (previous != null) {
+            previous.unlink();
+        }
+
+        // tick 경계로 올림 → 마감 시각보다 일찍 만료되지 않도록 보장
+        long alignedDeadline = ((deadlineMs + tickMs - 1) / tickMs) * tickMs;
+        Node<K> node = new Node<>(key, alignedDeadline);
+        nodes.put(key, node);
+        if (!root.add(node)) {
+            nodes.remove(key);
+            expiredOnInsert.add(key);
+        }
+    }
+
+    /**
+     * 항목 취소
+     *
+     * @return 취소 대상이 존재했는지 여부
+     */
+    public synchronized boolean cancel(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return expiredOnInsert.remove(key);
+        }
+        node.unlink();
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return nodes.containsKey(key) || expiredOnInsert.contains(key);
+    }
+
+    /**
+     * 휠을 nowMs 까지 tick 단위로 전진시키고 만료된 항목을 한 번에 반환
+     * (호출 간격이 벌어져도 지나간 tick 을 모두 처리하므로 누락되지 않음)
+     */
+    public synchronized List<K> advanceTo(long nowMs) {
+        List<K> expired = new ArrayList<>(expiredOnInsert);
+        expiredOnInsert.clear();
+
+        while (root.currentTime + tickMs <= nowMs) {
+            long time = root.currentTime + tickMs;
+            root.advanceClock(time);
+
+            // 상위 휠부터 버킷을 비워 하위로 내려보낸 뒤, level 0 의 현재 버킷을 만료 처리
+            List<Node<K>> cascaded = new ArrayList<>();
+            root.flushUpperLevels(time, cascaded);
+            for (Node<K> node : cascaded) {
+                if (!root.add(node)) {
+                    nodes.remove(node.key);
+                    expired.add(node.key);
+                }
+            }
+
+            Bucket<K> bucket = root.bucketFor(time);
+            for (Node<K> node = bucket.head.next; node != bucket.head; ) {
+                Node<K> next = node.next;
+                node.unlink();
+                nodes.remove(node.key);
+                expired.add(node.key);
+                node = next;
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return nodes.size() + expiredOnInsert.size();
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    /**
+     * 휠 한 층
+     */
+    private final class Level {
+        private final long levelTickMs;
+        private final long interval;
+        private final Bucket<K>[] buckets;
+        private long currentTime;
+        private Level overflow;
+
+        @SuppressWarnings("unchecked")
+        private Level(long levelTickMs, int size, long startMs) {
+            this.levelTickMs = levelTickMs;
+            this.interval = levelTickMs * size;
+            this.buckets = new Bucket[size];
+            for (int i = 0; i < size; i++) {
+                buckets[i] = new Bucket<>();
+            }
+            this.currentTime = startMs - (startMs % levelTickMs);
+        }
+
+        /**
+         * @return false 면 이미 만료된 항목
+         */
+        private boolean add(Node<K> node) {
+            if (node.deadlineMs < currentTime + levelTickMs) {
+                return false;
+            }
+            if (node.deadlineMs < currentTime + interval) {
+                bucketFor(node.deadlineMs).append(node);
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(interval, wheelSize, currentTime);
+            }
+            return overflow.add(node);
+        }
+
+        private Bucket<K> bucketFor(long timeMs) {
+            return buckets[(int) ((timeMs / levelTickMs) % buckets.length)];
+        }
+
+        private void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + levelTickMs) {
+                currentTime = timeMs - (timeMs % levelTickMs);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+
+        /**
+         * 상위 휠 중 time 이 버킷 경계인 층의 버킷을 비움 (가장 위 층부터)
+         */
+        private void flushUpperLevels(long time, List<Node<K>> out) {
+            if (overflow == null) {
+                return;
+            }
+            overflow.flushUpperLevels(time, out);
+            if (time % overflow.levelTickMs == 0) {
+                Bucket<K> bucket = overflow.bucketFor(time);
+                for (Node<K> node = bucket.head.next; node != bucket.head; ) {
+                    Node<K> next = node.next;
+                    node.unlink();
+                    out.add(node);
+                    node = next;
+                }
+            }
+        }
+    }
+
+    /**
+     * 센티넬 노드를 가진 원형 이중 연결 리스트
+     */
+    private static final class Bucket<K> {
+        private final Node<K> head = new Node<>(null, 0);
+
+        private Bucket() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        private void append(Node<K> node) {
+            node.prev = head.prev;
+            node.next = head;
+            head.prev.next = node;
+            head.prev = node;
+        }
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private final long deadlineMs;
+        private Node<K> prev;
+        private Node<K> next;
+
+        private Node(K key, long deadlineMs) {
+            this.key = key;
+            this.deadlineMs = deadlineMs;
+        }
+
+        private void unlink() {
+            if (prev != null) {
+                prev.next = next;
+                next.prev = prev;
+            }
+            prev = null;
+            next = null;
+        }
+    }
+}
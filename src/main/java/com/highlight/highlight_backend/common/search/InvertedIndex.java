@@ -0,0 +1,185 @@
+package com.highlight.highlight_backend.common.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 (토큰 → 문서 번호 목록)
+ *
+ * - 문서 번호(doc)는 추가 순서대로 증가하는 int 이고, 외부 ID(long)와 배열로 매핑
+ * - posting 은 정렬된 int 배열이라 교집합을 가장 짧은 목록 기준 이진 탐색으로 계산
+ * - 수정은 기존 doc 를 삭제 표시하고 새 doc 를 추가 (posting 정렬 유지). 삭제된 doc 는 재구성 때 정리
+ * - 외부 ID → doc 조회: 일괄 적재(appendSorted) 구간은 ID 오름차순이므로 이진 탐색, 이후 변경분은 별도 맵
+ *
+ * 읽기는 동시에, 쓰기는 한 번에 하나씩 수행됩니다.
+ */
+public class InvertedIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> changedDocs = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] externalIds = new long[1024];
+    private int docCount;
+    private int sortedCount;
+    private int liveCount;
+
+    /**
+     * 일괄 적재 (ID 오름차순으로만 호출, 기존 문서 확인 생략)
+     */
+    public void appendSorted(long id, Set<String> tokens) {
+        lock.writeLock().lock();
+        try {
+            if (sortedCount != docCount || (docCount > 0 && externalIds[docCount - 1] >= id)) {
+                throw new IllegalStateException("appendSorted 는 ID 오름차순 일괄 적재에만 사용할 수 있습니다.");
+            }
+            addDoc(id, tokens);
+            sortedCount = docCount;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 추가 또는 교체
+     */
+    public void put(long id, Set<String> tokens) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(id);
+            int doc = addDoc(id, tokens);
+            changedDocs.put(id, doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 토큰을 포함하는 문서의 외부 ID (최근 추가된 문서부터 최대 limit 개)
+     */
+    public List<Long> search(Set<String> tokens, int limit) {
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<int[]> lists = new ArrayList<>(tokens.size());
+            List<Integer> sizes = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Postings list = postings.get(token);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list.docs);
+                sizes.add(list.size);
+            }
+            Integer[] order = new Integer[lists.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt(sizes::get));
+
+            int[] shortest = lists.get(order[0]);
+            List<Long> result = new ArrayList<>(Math.min(limit, sizes.get(order[0])));
+            for (int i = sizes.get(order[0]) - 1; i >= 0 && result.size() < limit; i--) {
+                int doc = shortest[i];
+                if (deleted.get(doc) || !containsAll(doc, lists, sizes, order)) {
+                    continue;
+                }
+                result.add(externalIds[doc]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    public int tokenCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean containsAll(int doc, List<int[]> lists, List<Integer> sizes, Integer[] order) {
+        for (int i = 1; i < order.length; i++) {
+            if (Arrays.binarySearch(lists.get(order[i]), 0, sizes.get(order[i]), doc) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int addDoc(long id, Set<String> tokens) {
+        if (docCount == externalIds.length) {
+            externalIds = Arrays.copyOf(externalIds, externalIds.length * 2);
+        }
+        int doc = docCount++;
+        externalIds[doc] = id;
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, t -> new Postings()).add(doc);
+        }
+        liveCount++;
+        return doc;
+    }
+
+    private void removeDoc(long id) {
+        int doc = findDoc(id);
+        if (doc < 0) {
+            return;
+        }
+        deleted.set(doc);
+        changedDocs.remove(id);
+        liveCount--;
+    }
+
+    private int findDoc(long id) {
+        Integer changed = changedDocs.get(id);
+        if (changed != null) {
+            return changed;
+        }
+        int doc = Arrays.binarySearch(externalIds, 0, sortedCount, id);
+        return doc >= 0 && !deleted.get(doc) ? doc : -1;
+    }
+
+    /**
+     * 정렬된 doc 번호 목록 (doc 는 항상 증가하므로 뒤에 추가만 함)
+     */
+    private static final class Postings {
+        private int[] docs = EMPTY;
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, Math.max(4, size + (size >> 1)));
+            }
+            docs[size++] = doc;
+        }
+    }
+}
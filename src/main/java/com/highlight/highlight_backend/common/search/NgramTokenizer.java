@@ -0,0 +1,87 @@
+package com.highlight.highlight_backend.common.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 bigram 토크나이저
+ *
+ * 한국어는 형태소 분석 없이도 부분 일치가 되도록 단어를 2글자씩 겹쳐 자릅니다. ("도자기" → "도자", "자기")
+ * - NFKC 정규화 + 소문자 변환 (전각/반각, 대소문자 차이 제거)
+ * - 문자/숫자가 아닌 글자는 단어 구분자로 처리
+ * - 1글자 단어는 그대로 토큰 1개
+ *
+ * 1글자 단어는 더 긴 단어 안의 글자로는 색인되지 않으므로("차" ↛ "자동차") 그런 검색어는 isSearchable 로 걸러 DB 검색을 씁니다.
+ * bigram 교집합은 단어/필드 경계를 넘어 일치할 수 있으므로 색인 결과는 후보로만 쓰고 원문 포함 여부를 다시 확인해야 합니다.
+ */
+public final class NgramTokenizer {
+
+    private static final int GRAM = 2;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 중복 없는 토큰 목록 (입력 순서 유지)
+     */
+    public static Set<String> tokenize(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null || text.isEmpty()) {
+                continue;
+            }
+            String normalized = normalize(text);
+            int wordStart = -1;
+            for (int i = 0; i <= normalized.length(); i++) {
+                boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+                if (letter && wordStart < 0) {
+                    wordStart = i;
+                } else if (!letter && wordStart >= 0) {
+                    addWord(tokens, normalized, wordStart, i);
+                    wordStart = -1;
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 색인으로 후보를 빠짐없이 찾을 수 있는 검색어인지 (단어가 1개 이상이고 모두 2글자 이상)
+     */
+    public static boolean isSearchable(String query) {
+        if (query == null) {
+            return false;
+        }
+        String normalized = normalize(query);
+        int words = 0;
+        int wordLength = 0;
+        for (int i = 0; i <= normalized.length(); i++) {
+            if (i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i))) {
+                wordLength++;
+            } else if (wordLength > 0) {
+                if (wordLength < GRAM) {
+                    return false;
+                }
+                words++;
+                wordLength = 0;
+            }
+        }
+        return words > 0;
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void addWord(Set<String> tokens, String text, int start, int end) {
+        if (end - start < GRAM) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + GRAM <= end; i++) {
+            tokens.add(text.substring(i, i + GRAM));
+        }
+    }
+}
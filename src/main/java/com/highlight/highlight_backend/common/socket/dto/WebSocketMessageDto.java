@@ -62,6 +62,7 @@ public class WebSocketMessageDto {
         AUCTION_CANCELLED("경매 취소"),            // 경매 취소
         AUCTION_UPDATED("경매 정보 수정"),          // 경매 정보 수정 알림
         AUCTION_ENDING_SOON("경매 종료 임박"),      // 경매 종료 임박 (1분 이내)
+        VIEWER_COUNT("시청자 수"),                 // 경매 실시간 시청자 수
         BID_OUTBID("입찰 경합 패배"),              // 내 입찰이 다른 입찰에 밀림
         PAYMENT_REQUIRED("결제 필요"),              // 낙찰 후 결제 필요 알림
         PAYMENT_COMPLETED("결제 완료"),             // 결제 완료 알림
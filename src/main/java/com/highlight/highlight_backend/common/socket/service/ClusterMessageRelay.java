@@ -0,0 +1,218 @@
+package com.highlight.highlight_backend.common.socket.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 노드 간 WebSocket 메시지 전달 (Redis pub/sub)
+ *
+ * SimpleBroker 는 JVM 안에서만 동작하므로, 노드 A 에서 처리한 입찰은 노드 A 에 붙은 구독자에게만 갔습니다.
+ * - 보내는 쪽은 직렬화한 메시지를 채널에 1번만 publish, 각 노드가 받아서 자기 로컬 구독자에게 전달
+ * - 채널: 토픽 destination 당 1개 (ws:relay:topic:{destination}),
+ *         개인 큐는 사용자 ID 샤드당 1개 (ws:relay:user:{userId 해시 % USER_SHARDS})
+ * - 채널 구독은 노드별 참조 카운트: 이 노드에서 첫 구독이 생길 때 listen, 마지막 구독이 빠질 때 해제
+ *   → 아무도 보고 있지 않은 경매의 메시지는 그 노드로 오지 않음
+ * - 메시지: "destination\n순번\nJSON" (개인 큐 샤드는 여러 destination 이 한 채널을 쓰므로 destination 을 함께 보냄)
+ *   경매 토픽은 publish 전에 순번을 발급하고, 받은 노드는 seq 헤더를 붙여 전달하며 TopicReplayBuffer 에 보관
+ * - websocket.cluster.enabled=false 이거나 publish 가 실패하면 이 노드의 구독자에게만 직접 전달
+ * - 로컬 전달은 SimpleBroker 외에 등록된 LocalListener(SSE 등)에도 같은 payload / 순번으로 전달
+ */
+@Slf4j
+@Component
+public class ClusterMessageRelay {
+
+    private static final String TOPIC_CHANNEL_PREFIX = "ws:relay:topic:";
+    private static final String USER_CHANNEL_PREFIX = "ws:relay:user:";
+    private static final String USER_QUEUE_PREFIX = "/queue/user/";
+    private static final int USER_SHARDS = 64;
+    private static final char SEPARATOR = '\n';
+
+    private final RedissonClient redissonClient;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TopicReplayBuffer replayBuffer;
+    private final boolean enabled;
+
+    /** 채널 → 이 노드의 구독 수와 Redis listener ID */
+    private final Map<String, ChannelSubscription> channels = new ConcurrentHashMap<>();
+
+    private final List<LocalListener> localListeners = new CopyOnWriteArrayList<>();
+
+    private final Counter publishFailures;
+
+    public ClusterMessageRelay(RedissonClient redissonClient,
+                               SimpMessagingTemplate messagingTemplate,
+                               TopicReplayBuffer replayBuffer,
+                               MeterRegistry meterRegistry,
+                               @Value("${websocket.cluster.enabled:true}") boolean enabled) {
+        this.redissonClient = redissonClient;
+        this.messagingTemplate = messagingTemplate;
+        this.replayBuffer = replayBuffer;
+        this.enabled = enabled;
+        this.publishFailures = Counter.builder("websocket.relay.publish.failures")
+                .description("Redis publish 실패로 로컬에만 전달한 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.relay.channels", channels, Map::size)
+                .description("이 노드가 listen 중인 relay 채널 수")
+                .register(meterRegistry);
+    }
+
+    private static final class ChannelSubscription {
+        private int count;
+        private int listenerId;
+    }
+
+    /**
+     * STOMP 외 채널로 같은 메시지를 받는 쪽 (구독 참조 카운트는 onSubscribe / onUnsubscribe 로 함께 관리)
+     */
+    @FunctionalInterface
+    public interface LocalListener {
+        void onDeliver(String destination, Long sequence, byte[] jsonPayload);
+    }
+
+    public void addLocalListener(LocalListener listener) {
+        localListeners.add(listener);
+    }
+
+    /**
+     * 모든 노드의 구독자에게 전달
+     *
+     * @param jsonPayload 이미 직렬화된 JSON
+     */
+    public void broadcast(String destination, byte[] jsonPayload) {
+        Long sequence = TopicReplayBuffer.isSequenced(destination) ? replayBuffer.nextSequence(destination) : null;
+        if (!enabled) {
+            deliverLocal(destination, sequence, jsonPayload);
+            return;
+        }
+        String message = destination + SEPARATOR + (sequence == null ? "" : sequence) + SEPARATOR
+                + new String(jsonPayload, StandardCharsets.UTF_8);
+        try {
+            topic(channelOf(destination)).publish(message);
+        } catch (Exception e) {
+            // 다른 노드의 구독자는 놓치지만 이 노드의 구독자에게는 전달
+            publishFailures.increment();
+            log.warn("WebSocket relay publish 실패, 로컬 전달로 대체: destination={}, error={}", destination, e.getMessage());
+            deliverLocal(destination, sequence, jsonPayload);
+        }
+    }
+
+    /**
+     * 이 노드에서 destination 구독이 1개 늘어남 (채널의 첫 구독이면 listen 시작)
+     */
+    public void onSubscribe(String destination) {
+        if (!enabled || !isRelayed(destination)) {
+            return;
+        }
+        String channel = channelOf(destination);
+        channels.compute(channel, (key, subscription) -> {
+            if (subscription == null) {
+                subscription = new ChannelSubscription();
+                subscription.listenerId = topic(channel).addListener(String.class, (ch, message) -> onMessage(message));
+                log.debug("WebSocket relay 채널 listen 시작: {}", channel);
+            }
+            subscription.count++;
+            return subscription;
+        });
+    }
+
+    /**
+     * 이 노드에서 destination 구독이 1개 줄어듦 (채널의 마지막 구독이면 listen 해제)
+     */
+    public void onUnsubscribe(String destination) {
+        if (!enabled || !isRelayed(destination)) {
+            return;
+        }
+        String channel = channelOf(destination);
+        channels.computeIfPresent(channel, (key, subscription) -> {
+            if (--subscription.count > 0) {
+                return subscription;
+            }
+            topic(channel).removeListener(subscription.listenerId);
+            // listen 하지 않는 동안의 메시지는 버퍼에 없으므로 이어지지 않는 버퍼는 버림
+            replayBuffer.evict(destination);
+            log.debug("WebSocket relay 채널 listen 해제: {}", channel);
+            return null;
+        });
+    }
+
+    private void onMessage(String message) {
+        int first = message.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : message.indexOf(SEPARATOR, first + 1);
+        if (second < 0) {
+            return;
+        }
+        String destination = message.substring(0, first);
+        String sequence = message.substring(first + 1, second);
+        byte[] payload = message.substring(second + 1).getBytes(StandardCharsets.UTF_8);
+        deliverLocal(destination, sequence.isEmpty() ? null : Long.valueOf(sequence), payload);
+    }
+
+    /**
+     * 이 노드의 SimpleBroker 로 전달 (구독자가 없으면 브로커가 버림)
+     */
+    public void deliverLocal(String destination, byte[] jsonPayload) {
+        deliverLocal(destination, null, jsonPayload);
+    }
+
+    private void deliverLocal(String destination, Long sequence, byte[] jsonPayload) {
+        try {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            if (sequence != null) {
+                accessor.setNativeHeader(TopicReplayBuffer.SEQUENCE_HEADER, String.valueOf(sequence));
+                replayBuffer.append(destination, sequence, jsonPayload);
+            }
+            accessor.setLeaveMutable(true);
+            messagingTemplate.send(destination, MessageBuilder.createMessage(jsonPayload, accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("WebSocket 전송 실패: destination={}, error={}", destination, e.getMessage());
+        }
+        for (LocalListener listener : localListeners) {
+            try {
+                listener.onDeliver(destination, sequence, jsonPayload);
+            } catch (Exception e) {
+                log.error("로컬 listener 전달 실패: destination={}, error={}", destination, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 서버가 보내는 destination 만 채널을 가짐 (/app 등 클라이언트 → 서버 경로는 제외)
+     */
+    private static boolean isRelayed(String destination) {
+        return destination.startsWith("/topic/") || destination.startsWith(USER_QUEUE_PREFIX);
+    }
+
+    private static String channelOf(String destination) {
+        if (destination.startsWith(USER_QUEUE_PREFIX)) {
+            int end = destination.indexOf('/', USER_QUEUE_PREFIX.length());
+            String userId = end < 0
+                    ? destination.substring(USER_QUEUE_PREFIX.length())
+                    : destination.substring(USER_QUEUE_PREFIX.length(), end);
+            return USER_CHANNEL_PREFIX + Math.floorMod(userId.hashCode(), USER_SHARDS);
+        }
+        return TOPIC_CHANNEL_PREFIX + destination;
+    }
+
+    private RTopic topic(String channel) {
+        return redissonClient.getTopic(channel, StringCodec.INSTANCE);
+    }
+}
@@ -3,26 +3,61 @@ package com.highlight.highlight_backend.common.socket.service;
 import com.highlight.highlight_backend.common.socket.dto.WebSocketMessageDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * WebSocket 공통 전송
+ *
+ * 메시지는 한 번 직렬화해서 ClusterMessageRelay 로 넘기고,
+ * relay 가 모든 노드에 전달하여 각 노드의 로컬 구독자에게 보냅니다.
+ * 여러 destination 으로 가는 메시지도 직렬화는 1번이며, 같은 byte[] 를 모든 destination / 세션이 공유합니다.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class GlobalSocketService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterMessageRelay clusterMessageRelay;
+    private final WebSocketPayloadEncoder payloadEncoder;
 
     /**
      * 공통 전송 메소드 (토픽)
      */
     public void sendToTopic(String destination, WebSocketMessageDto message) {
+        sendToTopics(message, destination);
+    }
+
+    /**
+     * 같은 메시지를 여러 토픽에 전송 (직렬화 1번)
+     */
+    public void sendToTopics(WebSocketMessageDto message, String... destinations) {
+        byte[] payload;
         try {
-            messagingTemplate.convertAndSend(destination, message);
+            payload = payloadEncoder.encode(message);
         } catch (Exception e) {
-            log.error("WebSocket 전송 실패: destination={}, error={}", destination, e.getMessage());
+            log.error("WebSocket 전송 실패: destination={}, error={}", String.join(",", destinations), e.getMessage());
             // 필요하다면 여기서 공통 에러 처리를 하거나 예외를 던짐
+            return;
         }
+        for (String destination : destinations) {
+            clusterMessageRelay.broadcast(destination, payload);
+        }
+    }
+
+    /**
+     * 이미 JSON 으로 직렬화된 메시지 전송 (토픽)
+     * 구독자 수와 관계없이 한 번 만든 payload 를 그대로 브로커에 넘김
+     */
+    public void sendRawToTopic(String destination, byte[] jsonPayload) {
+        clusterMessageRelay.broadcast(destination, jsonPayload);
+    }
+
+    /**
+     * 이 노드의 구독자에게만 전송 (토픽)
+     * 노드마다 같은 내용을 각자 만들어 보내는 주기 방송용 (relay 를 거치면 노드 수만큼 중복 전달됨)
+     */
+    public void sendRawToLocalTopic(String destination, byte[] jsonPayload) {
+        clusterMessageRelay.deliverLocal(destination, jsonPayload);
     }
 
     /**
@@ -31,7 +66,7 @@ public class GlobalSocketService {
     public void sendToUser(Long userId, WebSocketMessageDto message) {
         String destination = "/queue/user/" + userId + "/notifications";
         try {
-            messagingTemplate.convertAndSend(destination, message);
+            clusterMessageRelay.broadcast(destination, payloadEncoder.encode(message));
         } catch (Exception e) {
             log.error("개인 알림 전송 실패: user={}, error={}", userId, e.getMessage());
         }
@@ -0,0 +1,117 @@
+package com.highlight.highlight_backend.common.socket.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별 payload 인코딩 협상 (JSON / CBOR)
+ *
+ * - 클라이언트가 CONNECT 헤더 accept-payload-encoding: cbor 를 보내면 그 세션에는 CBOR 로 전송
+ * - 바이너리 프레임은 SockJS 로 보낼 수 없으므로 순수 WebSocket 엔드포인트(/ws/direct)로 연결한 세션만 허용
+ *   (handshake 에서 세션 속성으로 표시, 그 외에는 요청해도 JSON 유지)
+ * - CBOR 메시지는 content-type application/octet-stream(바이너리 프레임), payload-encoding: cbor 헤더로 구분
+ * - 변환은 WebSocketPayloadEncoder 가 payload 당 1번만 하고 같은 방송을 받는 세션끼리 공유
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PayloadEncodingInterceptor implements ChannelInterceptor, HandshakeInterceptor {
+
+    public static final String ACCEPT_ENCODING_HEADER = "accept-payload-encoding";
+    public static final String ENCODING_HEADER = "payload-encoding";
+    private static final String BINARY_CAPABLE_ATTRIBUTE = "payloadEncoding.binaryCapable";
+
+    private final WebSocketPayloadEncoder payloadEncoder;
+
+    /** CBOR 를 협상한 세션 ID */
+    private final Set<String> cborSessions = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        attributes.put(BINARY_CAPABLE_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    /**
+     * inbound: CONNECT 에서 협상 / outbound: CBOR 세션으로 가는 MESSAGE 의 payload 교체
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (messageType == SimpMessageType.CONNECT) {
+            negotiate(message);
+            return message;
+        }
+        if (messageType != SimpMessageType.MESSAGE || cborSessions.isEmpty()) {
+            return message;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null || !cborSessions.contains(sessionId) || !(message.getPayload() instanceof byte[] json)) {
+            return message;
+        }
+        MimeType contentType = SimpMessageHeaderAccessor.getContentType(message.getHeaders());
+        if (contentType == null || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            return message;
+        }
+
+        try {
+            byte[] cbor = payloadEncoder.toCbor(json);
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+            accessor.setNativeHeader(ENCODING_HEADER, WebSocketPayloadEncoder.CBOR);
+            return MessageBuilder.createMessage(cbor, accessor.getMessageHeaders());
+        } catch (Exception e) {
+            log.warn("CBOR 변환 실패, JSON 으로 전송: session={}, error={}", sessionId, e.getMessage());
+            return message;
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        cborSessions.remove(event.getSessionId());
+    }
+
+    private void negotiate(Message<?> message) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (accessor.getCommand() != StompCommand.CONNECT && accessor.getCommand() != StompCommand.STOMP) {
+            return;
+        }
+        String requested = accessor.getFirstNativeHeader(ACCEPT_ENCODING_HEADER);
+        if (!WebSocketPayloadEncoder.CBOR.equalsIgnoreCase(requested) || accessor.getSessionId() == null) {
+            return;
+        }
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null || !Boolean.TRUE.equals(attributes.get(BINARY_CAPABLE_ATTRIBUTE))) {
+            log.debug("SockJS 세션은 CBOR 를 지원하지 않아 JSON 유지: session={}", accessor.getSessionId());
+            return;
+        }
+        cborSessions.add(accessor.getSessionId());
+    }
+}
@@ -0,0 +1,178 @@
+package com.highlight.highlight_backend.common.socket.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 느린 클라이언트 보호
+ *
+ * Spring 은 세션마다 전송을 1개씩 직렬화하고, 전송 중에 들어온 메시지는 버퍼에 쌓다가
+ * 전송 시간 / 버퍼 한도(WebSocketConfig 의 transport 설정)를 넘으면 세션을 끊습니다 (disconnect 정책).
+ * 여기서는 그 전에 버릴 수 있는 메시지부터 버립니다 (drop 정책).
+ * - 세션의 실제 소켓 전송이 websocket.slow-consumer.lossy-threshold-ms 이상 걸리고 있으면
+ *   lossy 타입(카운트다운 / 상태 갱신 / 시청자 수처럼 다음 메시지가 대체하는 것)은 보내지 않음
+ * - 입찰 / 종료처럼 유실되면 안 되는 메시지는 그대로 보내고, 한도를 넘으면 Spring 이 연결을 끊음
+ * - 메트릭: 버린 메시지(websocket.messages.dropped), 끊은 느린 세션(websocket.slow_consumers.disconnected),
+ *   모두 메시지 타입 태그 (끊은 세션은 마지막으로 보내려던 메시지 타입)
+ */
+@Slf4j
+@Component
+public class SlowConsumerGuard implements ChannelInterceptor {
+
+    private static final byte[] TYPE_PREFIX = "{\"type\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final String UNKNOWN_TYPE = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final long lossyThresholdMs;
+    private final Set<String> lossyTypes;
+
+    /** 세션 ID → 전송 상태 */
+    private final Map<String, SendState> sessions = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> droppedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> disconnectedCounters = new ConcurrentHashMap<>();
+
+    public SlowConsumerGuard(MeterRegistry meterRegistry,
+                             @Value("${websocket.slow-consumer.lossy-threshold-ms:1000}") long lossyThresholdMs,
+                             @Value("${websocket.slow-consumer.lossy-types:AUCTION_STATUS_UPDATE,VIEWER_COUNT}") Set<String> lossyTypes) {
+        this.meterRegistry = meterRegistry;
+        this.lossyThresholdMs = lossyThresholdMs;
+        this.lossyTypes = Set.copyOf(lossyTypes);
+    }
+
+    private static final class SendState {
+        private volatile long sendStartedAtMs; // 0 이면 전송 중 아님
+        private volatile String lastMessageType;
+    }
+
+    /**
+     * 실제 소켓 전송 시간을 재기 위해 세션을 감쌈
+     * (Spring 의 직렬화 decorator 안쪽이므로 한 번에 1개의 전송만 들어옴)
+     */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SendState state = new SendState();
+                sessions.put(session.getId(), state);
+                super.afterConnectionEstablished(new TimedSession(session, state));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                try {
+                    super.afterConnectionClosed(session, closeStatus);
+                } finally {
+                    sessions.remove(session.getId());
+                }
+            }
+        };
+    }
+
+    /**
+     * outbound: 전송이 밀린 세션으로 가는 lossy 메시지는 버림
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        SendState state = sessionId == null ? null : sessions.get(sessionId);
+        if (state == null) {
+            return message;
+        }
+
+        String type = message.getPayload() instanceof byte[] payload ? typeOf(payload) : UNKNOWN_TYPE;
+        state.lastMessageType = type;
+        long startedAt = state.sendStartedAtMs;
+        if (startedAt == 0 || System.currentTimeMillis() - startedAt < lossyThresholdMs || !lossyTypes.contains(type)) {
+            return message;
+        }
+        counter(droppedCounters, "websocket.messages.dropped", "전송이 밀린 세션에서 버린 lossy 메시지 수", type)
+                .increment();
+        return null;
+    }
+
+    /**
+     * JSON payload 맨 앞의 type 필드만 읽음 (WebSocketMessageDto 는 type 이 첫 필드)
+     */
+    private static String typeOf(byte[] payload) {
+        if (payload.length <= TYPE_PREFIX.length) {
+            return UNKNOWN_TYPE;
+        }
+        for (int i = 0; i < TYPE_PREFIX.length; i++) {
+            if (payload[i] != TYPE_PREFIX[i]) {
+                return UNKNOWN_TYPE;
+            }
+        }
+        for (int end = TYPE_PREFIX.length; end < payload.length && end < TYPE_PREFIX.length + 64; end++) {
+            if (payload[end] == '"') {
+                return new String(payload, TYPE_PREFIX.length, end - TYPE_PREFIX.length, StandardCharsets.US_ASCII);
+            }
+        }
+        return UNKNOWN_TYPE;
+    }
+
+    private Counter counter(Map<String, Counter> counters, String name, String description, String type) {
+        return counters.computeIfAbsent(type, t -> Counter.builder(name)
+                .description(description)
+                .tag("type", t)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 소켓 전송 시작 시각 기록 + 한도 초과로 끊기는 세션 집계
+     */
+    private final class TimedSession extends WebSocketSessionDecorator {
+
+        private final SendState state;
+
+        private TimedSession(WebSocketSession session, SendState state) {
+            super(session);
+            this.state = state;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            state.sendStartedAtMs = System.currentTimeMillis();
+            try {
+                super.sendMessage(message);
+            } finally {
+                state.sendStartedAtMs = 0;
+            }
+        }
+
+        @Override
+        public void close(CloseStatus status) throws IOException {
+            // 전송 시간 / 버퍼 한도 초과 시 Spring 은 사유 없는 SESSION_NOT_RELIABLE 로 끊음
+            if (status.equalsCode(CloseStatus.SESSION_NOT_RELIABLE) && status.getReason() == null
+                    && state.lastMessageType != null) {
+                counter(disconnectedCounters, "websocket.slow_consumers.disconnected",
+                        "전송 한도 초과로 끊은 느린 세션 수", state.lastMessageType).increment();
+                log.warn("느린 WebSocket 세션 종료: 세션ID={}, 마지막 메시지 타입={}", getId(), state.lastMessageType);
+            }
+            super.close(status);
+        }
+    }
+}
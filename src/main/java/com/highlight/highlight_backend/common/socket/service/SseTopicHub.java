@@ -0,0 +1,385 @@
+package com.highlight.highlight_backend.common.socket.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 구독자를 위한 SSE 토픽 허브
+ *
+ * STOMP 토픽과 같은 로컬 전달(ClusterMessageRelay)을 받아 destination 별 SSE 연결로 보냅니다.
+ * - 요청 스레드는 SseEmitter 를 돌려주고 바로 반환 (async servlet) → 연결마다 스레드를 잡지 않음
+ * - 메시지는 SSE 프레임으로 1번만 만들어 연결별 큐에 넣고, sse-send 스레드 풀이 연결별로 순서대로 비움
+ *   → 느린 연결이 relay listener 스레드나 다른 연결을 막지 않음
+ * - 연결 큐가 websocket.sse.max-pending 을 넘으면 연결을 끊음 (클라이언트가 Last-Event-ID 로 이어받음)
+ * - 서블릿 쓰기는 블로킹이라, 한 번의 전송이 websocket.sse.write-timeout-ms 를 넘기면 연결을 끊고
+ *   막힌 스레드가 풀려날 때까지 sse-send 풀에 스레드를 1개 더 둠 → 멈춘 클라이언트가 공용 스레드를 모두 잡지 못함
+ * - Last-Event-ID: 순번이 붙는 토픽이면 TopicReplayBuffer 에서 빠진 메시지를 재전송,
+ *   버퍼 범위를 벗어나면 resync 이벤트로 스냅샷 전송
+ * - 15초마다 comment 를 보내 프록시 유휴 종료를 막고 끊긴 연결을 정리
+ * - 연결 수는 relay 참조 카운트에 포함 (이 노드에 SSE 구독자만 있어도 채널을 listen)
+ */
+@Slf4j
+@Component
+public class SseTopicHub {
+
+    public static final String RESYNC_EVENT = "resync";
+
+    private static final long RECONNECT_TIME_MS = 3000;
+    /** 마감을 넘긴 전송에 대신 늘리는 sse-send 스레드 상한 */
+    private static final int MAX_EXTRA_SEND_THREADS = 64;
+    /** Connection.writeStartedAt: 전송 중이 아님 / 마감을 넘겨 끊음 */
+    private static final long NOT_WRITING = 0;
+    private static final long STALLED = -1;
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> KEEP_ALIVE =
+            SseEmitter.event().comment("keepalive").build();
+
+    private final ClusterMessageRelay clusterMessageRelay;
+    private final TopicReplayBuffer replayBuffer;
+    private final long timeoutMs;
+    private final int maxPending;
+    private final long writeTimeoutMs;
+    private final int sendThreads;
+    private final ThreadPoolTaskExecutor sendExecutor;
+    private final Counter overflowCounter;
+    private final Counter stalledCounter;
+
+    /** 마감을 넘겼지만 아직 서블릿 쓰기에서 돌아오지 않은 전송 수 (this 로 보호) */
+    private int stalledWrites;
+
+    /** destination → 이 노드의 SSE 연결 */
+    private final Map<String, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    public SseTopicHub(ClusterMessageRelay clusterMessageRelay,
+                       TopicReplayBuffer replayBuffer,
+                       MeterRegistry meterRegistry,
+                       @Value("${websocket.sse.timeout-ms:1800000}") long timeoutMs,
+                       @Value("${websocket.sse.max-pending:256}") int maxPending,
+                       @Value("${websocket.sse.send-threads:8}") int sendThreads,
+                       @Value("${websocket.sse.write-timeout-ms:10000}") long writeTimeoutMs) {
+        this.clusterMessageRelay = clusterMessageRelay;
+        this.replayBuffer = replayBuffer;
+        this.timeoutMs = timeoutMs;
+        this.maxPending = maxPending;
+        this.writeTimeoutMs = writeTimeoutMs;
+        this.sendThreads = sendThreads;
+
+        this.sendExecutor = new ThreadPoolTaskExecutor();
+        sendExecutor.setCorePoolSize(sendThreads);
+        sendExecutor.setMaxPoolSize(sendThreads);
+        sendExecutor.setThreadNamePrefix("sse-send-");
+        sendExecutor.initialize();
+
+        this.overflowCounter = Counter.builder("sse.disconnected.overflow")
+                .description("전송 큐가 넘쳐 끊은 SSE 연결 수")
+                .register(meterRegistry);
+        this.stalledCounter = Counter.builder("sse.disconnected.stalled")
+                .description("전송이 write-timeout 을 넘겨 끊은 SSE 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.connections", connectionCount, AtomicInteger::get)
+                .description("이 노드의 SSE 연결 수")
+                .register(meterRegistry);
+
+        clusterMessageRelay.addLocalListener(this::deliver);
+    }
+
+    /**
+     * destination 구독 SSE 연결 생성
+     *
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID (마지막으로 받은 순번), 첫 연결이면 null
+     * @param snapshot    빠진 메시지를 재전송할 수 없을 때 보낼 현재 상태 (null 이면 클라이언트가 REST 로 다시 조회)
+     */
+    public SseEmitter subscribe(String destination, Long lastEventId, Supplier<?> snapshot) {
+        SseEmitter emitter = createEmitter(timeoutMs);
+        boolean resume = lastEventId != null && TopicReplayBuffer.isSequenced(destination);
+        Connection connection = new Connection(destination, emitter, resume);
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> connection.close());
+
+        // 등록 먼저 → 재전송 계산 중에 도착한 메시지는 보류했다가 재전송 뒤에 이어서 보냄
+        register(connection);
+        connection.offer(null, SseEmitter.event().comment("connected").reconnectTime(RECONNECT_TIME_MS).build());
+        if (resume) {
+            resume(connection, lastEventId, snapshot);
+        }
+        return emitter;
+    }
+
+    /**
+     * 연결마다 만드는 SseEmitter (테스트에서 전송 프레임을 확인하거나 느린 연결을 흉내 낼 때 재정의)
+     */
+    protected SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    public boolean hasSubscribers(String destination) {
+        Set<Connection> targets = connections.get(destination);
+        return targets != null && !targets.isEmpty();
+    }
+
+    /**
+     * prefix 로 시작하는 destination 별 이 노드의 SSE 연결 수
+     */
+    public Map<String, Integer> getSubscriberCounts(String prefix) {
+        Map<String, Integer> counts = new HashMap<>();
+        connections.forEach((destination, targets) -> {
+            if (destination.startsWith(prefix) && !targets.isEmpty()) {
+                counts.put(destination, targets.size());
+            }
+        });
+        return counts;
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @Scheduled(fixedDelay = 15000)
+    public void sendKeepAlive() {
+        connections.values().forEach(targets -> targets.forEach(connection -> connection.offer(null, KEEP_ALIVE)));
+    }
+
+    /**
+     * 전송 마감을 넘긴 연결 정리
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void expireStalledWrites() {
+        long now = System.currentTimeMillis();
+        connections.values().forEach(targets -> targets.forEach(connection -> connection.expireIfStalled(now)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdown();
+    }
+
+    private void deliver(String destination, Long sequence, byte[] jsonPayload) {
+        Set<Connection> targets = connections.get(destination);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = frame(sequence, new String(jsonPayload, StandardCharsets.UTF_8));
+        for (Connection connection : targets) {
+            connection.offer(sequence, frame);
+        }
+    }
+
+    private void resume(Connection connection, long lastEventId, Supplier<?> snapshot) {
+        List<Set<ResponseBodyEmitter.DataWithMediaType>> frames = new ArrayList<>();
+        long replayedUpTo;
+        try {
+            TopicReplayBuffer.Replay replay = replayBuffer.replay(connection.destination, lastEventId);
+            replayedUpTo = replay.latestSequence();
+            if (replay.complete()) {
+                for (TopicReplayBuffer.Entry entry : replay.entries()) {
+                    frames.add(frame(entry.sequence(), new String(entry.payload(), StandardCharsets.UTF_8)));
+                }
+            } else {
+                Object data = snapshot.get();
+                SseEmitter.SseEventBuilder resync = SseEmitter.event()
+                        .name(RESYNC_EVENT)
+                        .id(String.valueOf(replayedUpTo));
+                frames.add((data == null ? resync.data("null") : resync.data(data, MediaType.APPLICATION_JSON)).build());
+            }
+        } catch (Exception e) {
+            log.warn("SSE 재전송 실패, 실시간 메시지만 전달: destination={}, error={}", connection.destination, e.getMessage());
+            replayedUpTo = 0;
+        }
+        connection.finishResume(frames, replayedUpTo);
+    }
+
+    private static Set<ResponseBodyEmitter.DataWithMediaType> frame(Long sequence, String json) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event();
+        if (sequence != null) {
+            event.id(String.valueOf(sequence));
+        }
+        return event.data(json).build();
+    }
+
+    private void register(Connection connection) {
+        connections.compute(connection.destination, (destination, targets) -> {
+            Set<Connection> set = targets == null ? ConcurrentHashMap.newKeySet() : targets;
+            set.add(connection);
+            return set;
+        });
+        connectionCount.incrementAndGet();
+        clusterMessageRelay.onSubscribe(connection.destination);
+    }
+
+    /**
+     * 막힌 스레드 수만큼 풀을 늘려 나머지 연결이 sendThreads 개 스레드를 계속 쓸 수 있게 함
+     */
+    private synchronized void adjustStalledWrites(int delta) {
+        stalledWrites += delta;
+        int poolSize = sendThreads + Math.min(stalledWrites, MAX_EXTRA_SEND_THREADS);
+        if (poolSize > sendExecutor.getMaxPoolSize()) {
+            sendExecutor.setMaxPoolSize(poolSize);
+            sendExecutor.setCorePoolSize(poolSize);
+        } else {
+            sendExecutor.setCorePoolSize(poolSize);
+            sendExecutor.setMaxPoolSize(poolSize);
+        }
+    }
+
+    private void unregister(Connection connection) {
+        connections.computeIfPresent(connection.destination, (destination, targets) -> {
+            targets.remove(connection);
+            return targets.isEmpty() ? null : targets;
+        });
+        connectionCount.decrementAndGet();
+        clusterMessageRelay.onUnsubscribe(connection.destination);
+    }
+
+    /**
+     * SSE 연결 1개 (전송 큐는 한 번에 1개 스레드만 비움)
+     */
+    private final class Connection {
+
+        private final String destination;
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean flushing = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        /** 진행 중인 전송의 시작 시각 (NOT_WRITING / STALLED) */
+        private final AtomicLong writeStartedAt = new AtomicLong(NOT_WRITING);
+
+        /** 재전송 계산 중에 도착한 실시간 메시지 (this 로 보호) */
+        private List<HeldFrame> held;
+
+        private Connection(String destination, SseEmitter emitter, boolean resuming) {
+            this.destination = destination;
+            this.emitter = emitter;
+            this.held = resuming ? new ArrayList<>() : null;
+        }
+
+        private synchronized void offer(Long sequence, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (held != null) {
+                held.add(new HeldFrame(sequence, frame));
+                return;
+            }
+            enqueue(frame);
+        }
+
+        /**
+         * 재전송 메시지를 먼저 보내고, 보류한 실시간 메시지 중 재전송에 포함된 순번은 건너뜀
+         */
+        private synchronized void finishResume(List<Set<ResponseBodyEmitter.DataWithMediaType>> frames, long replayedUpTo) {
+            frames.forEach(this::enqueue);
+            for (HeldFrame frame : held) {
+                if (frame.sequence() == null || frame.sequence() > replayedUpTo) {
+                    enqueue(frame.frame());
+                }
+            }
+            held = null;
+        }
+
+        private void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (pendingCount.incrementAndGet() > maxPending) {
+                overflowCounter.increment();
+                log.warn("SSE 전송 큐 초과로 연결 종료: destination={}", destination);
+                close();
+                emitter.complete();
+                return;
+            }
+            pending.offer(frame);
+            if (flushing.compareAndSet(false, true)) {
+                sendExecutor.execute(this::flush);
+            }
+        }
+
+        private void flush() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                while (!closed.get() && (frame = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    send(frame);
+                }
+            } catch (Exception e) {
+                // 클라이언트가 끊긴 경우 (응답 정리는 컨테이너 오류 처리로 진행됨)
+                log.debug("SSE 전송 실패, 연결 정리: destination={}, error={}", destination, e.getMessage());
+                close();
+            } finally {
+                flushing.set(false);
+            }
+            if (!closed.get() && !pending.isEmpty() && flushing.compareAndSet(false, true)) {
+                sendExecutor.execute(this::flush);
+            }
+        }
+
+        private void send(Set<ResponseBodyEmitter.DataWithMediaType> frame) throws IOException {
+            long startedAt = System.currentTimeMillis();
+            writeStartedAt.set(startedAt);
+            try {
+                emitter.send(frame);
+            } finally {
+                if (!writeStartedAt.compareAndSet(startedAt, NOT_WRITING)) {
+                    // 마감을 넘겨 이미 끊긴 연결: 늘렸던 스레드를 되돌리고 응답을 닫음 (클라이언트가 Last-Event-ID 로 이어받음)
+                    adjustStalledWrites(-1);
+                    emitter.complete();
+                }
+            }
+        }
+
+        /**
+         * 전송이 write-timeout 을 넘겼으면 연결을 끊음
+         * emitter 는 전송 중인 스레드가 잡고 있으므로 여기서 닫지 않고, 쓰기에서 돌아온 스레드가 닫음
+         */
+        private void expireIfStalled(long now) {
+            long startedAt = writeStartedAt.get();
+            if (startedAt <= NOT_WRITING || now - startedAt < writeTimeoutMs) {
+                return;
+            }
+            // 표시와 스레드 추가를 한 번에 → 쓰기에서 돌아온 스레드의 되돌리기가 항상 뒤에 실행됨
+            synchronized (SseTopicHub.this) {
+                if (!writeStartedAt.compareAndSet(startedAt, STALLED)) {
+                    return;
+                }
+                adjustStalledWrites(1);
+            }
+            stalledCounter.increment();
+            log.warn("SSE 전송이 {}ms 동안 끝나지 않아 연결 종료: destination={}", now - startedAt, destination);
+            close();
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            pending.clear();
+            unregister(this);
+        }
+    }
+
+    private record HeldFrame(Long sequence, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+    }
+}
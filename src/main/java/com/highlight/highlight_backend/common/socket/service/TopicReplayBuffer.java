@@ -0,0 +1,167 @@
+package com.highlight.highlight_backend.common.socket.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 토픽 메시지 순번 + 재연결 재전송용 링 버퍼
+ *
+ * - /topic/auction/{id} 로 방송하는 메시지마다 클러스터 공통 순번을 붙임 (Redis INCR, STOMP 헤더 seq)
+ * - 각 노드는 받은 메시지를 경매별 고정 크기 링 버퍼에 보관 (오래된 것부터 덮어씀)
+ * - 재연결한 클라이언트가 마지막으로 받은 순번을 보내면 그 이후 메시지만 돌려주고,
+ *   버퍼 범위를 벗어난 경우에만 스냅샷으로 대체 → 재연결 폭주 때 REST/DB 재조회를 막음
+ * - 버퍼는 노드가 해당 채널을 listen 하는 동안만 이어지므로, listen 을 멈추면 비움 (빈 구간이 생기기 때문)
+ */
+@Slf4j
+@Component
+public class TopicReplayBuffer {
+
+    public static final String SEQUENCE_HEADER = "seq";
+
+    private static final String SEQUENCED_PREFIX = "/topic/auction/";
+    private static final String SEQUENCE_KEY_PREFIX = "ws:seq:";
+    private static final long SEQUENCE_TTL_DAYS = 7;
+
+    /** 순번 증가 + TTL 갱신 (종료된 경매의 순번 키가 남지 않도록) */
+    private static final RedisScript<Long> NEXT_SEQUENCE_SCRIPT = new DefaultRedisScript<>(
+            "local seq = redis.call('incr', KEYS[1]) " +
+            "redis.call('expire', KEYS[1], ARGV[1]) " +
+            "return seq", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int capacity;
+
+    /** destination → 링 버퍼 (오래 방송이 없는 경매는 자동 제거) */
+    private final Cache<String, Ring> rings;
+
+    public TopicReplayBuffer(RedisTemplate<String, String> redisTemplate,
+                             @Value("${websocket.replay.buffer-size:256}") int capacity) {
+        this.redisTemplate = redisTemplate;
+        this.capacity = capacity;
+        this.rings = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+    }
+
+    /**
+     * 버퍼에 담긴 메시지 1건
+     */
+    public record Entry(long sequence, byte[] payload) {
+    }
+
+    /**
+     * 재전송 결과
+     *
+     * @param entries        요청한 순번 이후의 메시지 (순번 오름차순)
+     * @param complete       빠진 메시지 없이 모두 담았는지 (false 면 스냅샷으로 대체해야 함)
+     * @param latestSequence 현재 마지막 순번
+     */
+    public record Replay(List<Entry> entries, boolean complete, long latestSequence) {
+    }
+
+    public static boolean isSequenced(String destination) {
+        return destination.startsWith(SEQUENCED_PREFIX);
+    }
+
+    /**
+     * 다음 순번 발급 (실패하면 null → 순번 없이 전송, 클라이언트는 다음 재연결 때 스냅샷으로 복구)
+     */
+    public Long nextSequence(String destination) {
+        try {
+            return redisTemplate.execute(NEXT_SEQUENCE_SCRIPT, List.of(SEQUENCE_KEY_PREFIX + destination),
+                    String.valueOf(TimeUnit.DAYS.toSeconds(SEQUENCE_TTL_DAYS)));
+        } catch (Exception e) {
+            log.warn("WebSocket 메시지 순번 발급 실패: destination={}, error={}", destination, e.getMessage());
+            return null;
+        }
+    }
+
+    public void append(String destination, long sequence, byte[] payload) {
+        rings.get(destination, d -> new Ring(capacity)).add(sequence, payload);
+    }
+
+    /**
+     * listen 중단 등으로 이어지지 않게 된 버퍼 제거
+     */
+    public void evict(String destination) {
+        rings.invalidate(destination);
+    }
+
+    /**
+     * afterSequence 이후 메시지 조회
+     */
+    public Replay replay(String destination, long afterSequence) {
+        Ring ring = rings.getIfPresent(destination);
+        List<Entry> entries = ring == null ? List.of() : ring.after(afterSequence);
+        long oldest = ring == null ? Long.MAX_VALUE : ring.oldestSequence();
+        long latest = entries.isEmpty() ? currentSequence(destination) : entries.get(entries.size() - 1).sequence();
+
+        // 버퍼 시작이 요청 순번 바로 다음 이전이면 빠짐없이 담은 것
+        boolean complete = latest <= afterSequence || oldest <= afterSequence + 1;
+        return new Replay(complete ? entries : List.of(), complete, Math.max(latest, afterSequence));
+    }
+
+    private long currentSequence(String destination) {
+        try {
+            String value = redisTemplate.opsForValue().get(SEQUENCE_KEY_PREFIX + destination);
+            return value == null ? 0 : Long.parseLong(value);
+        } catch (Exception e) {
+            // 알 수 없으면 빠진 것으로 보고 스냅샷으로 대체
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * 고정 크기 링 버퍼 (순번은 노드마다 발급 순서와 도착 순서가 다를 수 있어 조회 시 정렬)
+     */
+    private static final class Ring {
+        private final long[] sequences;
+        private final byte[][] payloads;
+        private int next;
+        private int size;
+
+        private Ring(int capacity) {
+            this.sequences = new long[capacity];
+            this.payloads = new byte[capacity][];
+        }
+
+        synchronized void add(long sequence, byte[] payload) {
+            sequences[next] = sequence;
+            payloads[next] = payload;
+            next = (next + 1) % sequences.length;
+            size = Math.min(size + 1, sequences.length);
+        }
+
+        synchronized long oldestSequence() {
+            long oldest = Long.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                oldest = Math.min(oldest, sequences[i]);
+            }
+            return oldest;
+        }
+
+        synchronized List<Entry> after(long afterSequence) {
+            List<Entry> entries = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (sequences[i] > afterSequence) {
+                    entries.add(new Entry(sequences[i], payloads[i]));
+                }
+            }
+            entries.sort(Comparator.comparingLong(Entry::sequence));
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.highlight.highlight_backend.common.socket.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이 노드의 WebSocket 세션 / 토픽 구독 레지스트리
+ *
+ * - 세션마다 구독(구독 ID → destination), 연결 시각, 마지막 수신 시각(하트비트 포함)을 관리
+ * - destination 별 시청 세션 수 (한 세션이 같은 토픽을 여러 번 구독해도 1명)
+ *   → 주기 방송은 시청자 없는 토픽을 건너뛰고, 경매 시청자 수 집계에도 사용
+ * - 구독 증감은 ClusterMessageRelay 에도 알려 이 노드가 구독자가 있는 채널만 listen 하도록 함
+ * - 유휴/반쯤 열린 세션 정리: 하트비트를 협상한 세션은 하트비트 3번 분량, 나머지는 websocket.session.idle-timeout-ms
+ *   동안 아무 프레임도 없거나 소켓이 이미 닫혀 있으면 연결을 끊고 구독을 정리
+ */
+@Slf4j
+@Component
+public class TopicSubscriptionRegistry implements ChannelInterceptor {
+
+    /** 구독 1건 / 세션 1개가 레지스트리에서 차지하는 대략적인 크기 (메모리 추정용) */
+    private static final int SESSION_OVERHEAD_BYTES = 256;
+    private static final int SUBSCRIPTION_OVERHEAD_BYTES = 96;
+
+    private final ClusterMessageRelay clusterMessageRelay;
+    private final long idleTimeoutMs;
+    private final long serverHeartbeatReceiveMs;
+    private final Counter reapedCounter;
+
+    /** 세션 ID → 세션 정보 */
+    private final Map<String, SessionInfo> sessions = new ConcurrentHashMap<>();
+
+    /** destination → 시청 세션 수 */
+    private final Map<String, AtomicInteger> viewerCounts = new ConcurrentHashMap<>();
+
+    public TopicSubscriptionRegistry(ClusterMessageRelay clusterMessageRelay,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${websocket.session.idle-timeout-ms:1800000}") long idleTimeoutMs,
+                                     @Value("${websocket.heartbeat.receive-ms:10000}") long serverHeartbeatReceiveMs) {
+        this.clusterMessageRelay = clusterMessageRelay;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.serverHeartbeatReceiveMs = serverHeartbeatReceiveMs;
+        this.reapedCounter = Counter.builder("websocket.sessions.reaped")
+                .description("유휴/반쯤 열린 상태로 정리한 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions", sessions, Map::size)
+                .description("이 노드의 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.subscriptions", this, TopicSubscriptionRegistry::getSubscriptionCount)
+                .description("이 노드의 STOMP 구독 수")
+                .register(meterRegistry);
+    }
+
+    private static final class SessionInfo {
+        private final long connectedAtMs;
+        private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+        private volatile long lastActivityMs;
+        private volatile long heartbeatTimeoutMs; // 0 이면 하트비트 미사용
+        private volatile WebSocketSession webSocketSession;
+
+        private SessionInfo(long now) {
+            this.connectedAtMs = now;
+            this.lastActivityMs = now;
+        }
+    }
+
+    /**
+     * 소켓 연결/종료 시점 등록 (유휴 세션을 서버에서 끊을 수 있도록 세션 객체 보관)
+     */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                session(session.getId()).webSocketSession = session;
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                try {
+                    super.afterConnectionClosed(session, closeStatus);
+                } finally {
+                    removeSession(session.getId());
+                }
+            }
+        };
+    }
+
+    /**
+     * inbound 프레임(하트비트 포함)마다 마지막 수신 시각 갱신, CONNECT 에서 하트비트 주기 확인
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return message;
+        }
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (messageType == SimpMessageType.CONNECT) {
+            long[] heartbeat = StompHeaderAccessor.wrap(message).getHeartbeat();
+            // 클라이언트 송신 주기와 서버 수신 주기 중 큰 값이 실제 주기, 3번 연속 놓치면 끊긴 것으로 봄
+            session(sessionId).heartbeatTimeoutMs = heartbeat[0] > 0 && serverHeartbeatReceiveMs > 0
+                    ? Math.max(heartbeat[0], serverHeartbeatReceiveMs) * 3
+                    : 0;
+        }
+        SessionInfo session = sessions.get(sessionId);
+        if (session != null) {
+            session.lastActivityMs = System.currentTimeMillis();
+        }
+        return message;
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+
+        SessionInfo session = session(sessionId);
+        synchronized (session) {
+            String previous = session.subscriptions.put(subscriptionId, destination);
+            if (destination.equals(previous)) {
+                return;
+            }
+            if (previous != null && !session.subscriptions.containsValue(previous)) {
+                leave(previous);
+            }
+            if (occurrences(session, destination) == 1) {
+                join(destination);
+            }
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        SessionInfo session = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+        if (session == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        synchronized (session) {
+            String destination = session.subscriptions.remove(accessor.getSubscriptionId());
+            if (destination != null && !session.subscriptions.containsValue(destination)) {
+                leave(destination);
+            }
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    /**
+     * 유휴 / 반쯤 열린 세션 정리
+     * 연결을 끊으면 SessionDisconnectEvent 로 구독이 정리되고, 소켓이 이미 없으면 바로 정리
+     */
+    @Scheduled(fixedDelay = 30000)
+    public void reapIdleSessions() {
+        long now = System.currentTimeMillis();
+        sessions.forEach((sessionId, session) -> {
+            WebSocketSession webSocketSession = session.webSocketSession;
+            long timeout = session.heartbeatTimeoutMs > 0 ? session.heartbeatTimeoutMs : idleTimeoutMs;
+            boolean idle = timeout > 0 && now - session.lastActivityMs > timeout;
+            boolean halfOpen = webSocketSession != null && !webSocketSession.isOpen();
+            if (!idle && !halfOpen) {
+                return;
+            }
+
+            reapedCounter.increment();
+            log.info("WebSocket 세션 정리: 세션ID={}, 유휴={}ms, 소켓닫힘={}", sessionId, now - session.lastActivityMs, halfOpen);
+            if (webSocketSession != null && webSocketSession.isOpen()) {
+                try {
+                    webSocketSession.close(CloseStatus.SESSION_NOT_RELIABLE.withReason("idle timeout"));
+                    return;
+                } catch (Exception e) {
+                    log.warn("WebSocket 세션 종료 실패, 레지스트리에서만 정리: 세션ID={}, error={}", sessionId, e.getMessage());
+                }
+            }
+            removeSession(sessionId);
+        });
+    }
+
+    public boolean hasSubscribers(String destination) {
+        return getSubscriberCount(destination) > 0;
+    }
+
+    /**
+     * destination 을 보고 있는 이 노드의 세션 수
+     */
+    public int getSubscriberCount(String destination) {
+        AtomicInteger count = viewerCounts.get(destination);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * prefix 로 시작하는 destination 별 이 노드의 시청 세션 수
+     */
+    public Map<String, Integer> getSubscriberCounts(String prefix) {
+        Map<String, Integer> counts = new HashMap<>();
+        viewerCounts.forEach((destination, count) -> {
+            if (destination.startsWith(prefix) && count.get() > 0) {
+                counts.put(destination, count.get());
+            }
+        });
+        return counts;
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public int getSubscriptionCount() {
+        int count = 0;
+        for (SessionInfo session : sessions.values()) {
+            count += session.subscriptions.size();
+        }
+        return count;
+    }
+
+    public int getDestinationCount() {
+        return viewerCounts.size();
+    }
+
+    /**
+     * 세션당 레지스트리 메모리 추정치 (bytes, 소켓 버퍼 제외)
+     */
+    public long getEstimatedBytesPerSession() {
+        if (sessions.isEmpty()) {
+            return 0;
+        }
+        long bytes = 0;
+        for (SessionInfo session : sessions.values()) {
+            bytes += SESSION_OVERHEAD_BYTES;
+            for (Map.Entry<String, String> subscription : session.subscriptions.entrySet()) {
+                bytes += SUBSCRIPTION_OVERHEAD_BYTES
+                        + 2L * (subscription.getKey().length() + subscription.getValue().length());
+            }
+        }
+        return bytes / sessions.size();
+    }
+
+    /**
+     * 가장 오래 유휴 상태인 세션의 유휴 시간 (ms)
+     */
+    public long getMaxIdleMs() {
+        long now = System.currentTimeMillis();
+        long max = 0;
+        for (SessionInfo session : sessions.values()) {
+            max = Math.max(max, now - session.lastActivityMs);
+        }
+        return max;
+    }
+
+    /**
+     * 가장 오래 연결된 세션의 연결 시간 (ms)
+     */
+    public long getMaxConnectedMs() {
+        long now = System.currentTimeMillis();
+        long max = 0;
+        for (SessionInfo session : sessions.values()) {
+            max = Math.max(max, now - session.connectedAtMs);
+        }
+        return max;
+    }
+
+    private SessionInfo session(String sessionId) {
+        return sessions.computeIfAbsent(sessionId, id -> new SessionInfo(System.currentTimeMillis()));
+    }
+
+    private void removeSession(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        SessionInfo session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        synchronized (session) {
+            new HashSet<>(session.subscriptions.values()).forEach(this::leave);
+            session.subscriptions.clear();
+        }
+    }
+
+    private static int occurrences(SessionInfo session, String destination) {
+        int count = 0;
+        for (String subscribed : session.subscriptions.values()) {
+            if (subscribed.equals(destination)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void join(String destination) {
+        viewerCounts.computeIfAbsent(destination, d -> new AtomicInteger()).incrementAndGet();
+        clusterMessageRelay.onSubscribe(destination);
+    }
+
+    private void leave(String destination) {
+        viewerCounts.computeIfPresent(destination, (d, count) -> count.decrementAndGet() <= 0 ? null : count);
+        clusterMessageRelay.onUnsubscribe(destination);
+    }
+}
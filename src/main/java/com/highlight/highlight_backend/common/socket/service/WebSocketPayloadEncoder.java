@@ -0,0 +1,98 @@
+package com.highlight.highlight_backend.common.socket.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.highlight.highlight_backend.common.socket.dto.WebSocketMessageDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 메시지 직렬화 (메시지당 1번)
+ *
+ * - JSON: 방송할 때 1번 만들고, 모든 destination / 노드 / 세션이 같은 byte[] 를 그대로 사용
+ * - CBOR: 바이너리를 협상한 세션이 있을 때만 JSON 에서 변환, 같은 payload 의 변환 결과는 세션끼리 공유
+ *   (SimpleBroker 는 구독자마다 메시지를 새로 만들지만 payload byte[] 는 같은 객체 → 객체 동일성으로 캐싱)
+ * - 메시지 타입 / 인코딩별 크기(websocket.payload.bytes)와 인코딩 시간(websocket.payload.encode) 메트릭
+ */
+@Component
+public class WebSocketPayloadEncoder {
+
+    public static final String JSON = "json";
+    public static final String CBOR = "cbor";
+
+    private static final String UNKNOWN_TYPE = "UNKNOWN";
+
+    private final ObjectMapper objectMapper;
+    private final CBORMapper cborMapper = new CBORMapper();
+    private final MeterRegistry meterRegistry;
+
+    /** JSON payload(동일성 비교) → CBOR payload, 방송이 끝나 JSON payload 가 GC 되면 함께 제거 */
+    private final Cache<byte[], byte[]> cborByJson = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(10_000)
+            .build();
+
+    private final Map<String, Timer> encodeTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> payloadSizes = new ConcurrentHashMap<>();
+
+    public WebSocketPayloadEncoder(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * JSON 으로 직렬화
+     */
+    public byte[] encode(WebSocketMessageDto message) throws IOException {
+        String type = message.getType() == null ? UNKNOWN_TYPE : message.getType().name();
+        long start = System.nanoTime();
+        byte[] payload = objectMapper.writeValueAsBytes(message);
+        record(type, JSON, start, payload.length);
+        return payload;
+    }
+
+    /**
+     * JSON payload 를 CBOR 로 변환 (같은 payload 객체는 1번만 변환)
+     */
+    public byte[] toCbor(byte[] jsonPayload) {
+        return cborByJson.get(jsonPayload, json -> {
+            long start = System.nanoTime();
+            try {
+                JsonNode tree = objectMapper.readTree(json);
+                byte[] payload = cborMapper.writeValueAsBytes(tree);
+                JsonNode type = tree.get("type");
+                record(type == null ? UNKNOWN_TYPE : type.asText(), CBOR, start, payload.length);
+                return payload;
+            } catch (IOException e) {
+                throw new IllegalStateException("CBOR 변환 실패", e);
+            }
+        });
+    }
+
+    private void record(String type, String encoding, long startNanos, int bytes) {
+        String key = type + ":" + encoding;
+        encodeTimers.computeIfAbsent(key, k -> Timer.builder("websocket.payload.encode")
+                        .description("WebSocket 메시지 인코딩 시간")
+                        .tag("type", type)
+                        .tag("encoding", encoding)
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        payloadSizes.computeIfAbsent(key, k -> DistributionSummary.builder("websocket.payload.bytes")
+                        .description("WebSocket 메시지 payload 크기")
+                        .baseUnit("bytes")
+                        .tag("type", type)
+                        .tag("encoding", encoding)
+                        .register(meterRegistry))
+                .record(bytes);
+    }
+}
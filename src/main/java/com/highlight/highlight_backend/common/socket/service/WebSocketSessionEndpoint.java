@@ -0,0 +1,46 @@
+package com.highlight.highlight_backend.common.socket.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * WebSocket 세션 운영용 actuator 엔드포인트 (/actuator/websocket)
+ *
+ * 조회: 이 노드의 세션 / 구독 / destination 수, 세션당 레지스트리 메모리 추정치,
+ * 최대 유휴 / 연결 시간, SSE 연결 수, Spring 브로커 통계(세션, inbound/outbound 채널)
+ */
+@Component
+@Endpoint(id = "websocket")
+@RequiredArgsConstructor
+public class WebSocketSessionEndpoint {
+
+    private final TopicSubscriptionRegistry topicSubscriptionRegistry;
+    private final SseTopicHub sseTopicHub;
+    private final ObjectProvider<WebSocketMessageBrokerStats> brokerStats;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("sessions", topicSubscriptionRegistry.getSessionCount());
+        status.put("subscriptions", topicSubscriptionRegistry.getSubscriptionCount());
+        status.put("destinations", topicSubscriptionRegistry.getDestinationCount());
+        status.put("estimatedBytesPerSession", topicSubscriptionRegistry.getEstimatedBytesPerSession());
+        status.put("maxIdleMs", topicSubscriptionRegistry.getMaxIdleMs());
+        status.put("maxConnectedMs", topicSubscriptionRegistry.getMaxConnectedMs());
+        status.put("sseConnections", sseTopicHub.getConnectionCount());
+        WebSocketMessageBrokerStats stats = brokerStats.getIfAvailable();
+        if (stats != null) {
+            status.put("brokerSessions", stats.getWebSocketSessionStatsInfo());
+            status.put("inboundChannel", stats.getClientInboundExecutorStatsInfo());
+            status.put("outboundChannel", stats.getClientOutboundExecutorStatsInfo());
+        }
+        return status;
+    }
+}
@@ -0,0 +1,34 @@
+package com.highlight.highlight_backend.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 관련 유틸리티 클래스
+ *
+ * 캐시, Redis, 메모리 레지스트리, 알림처럼 DB 롤백으로 되돌릴 수 없는 작업을 커밋 이후로 미룰 때 사용합니다.
+ */
+public class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * 트랜잭션이 있으면 커밋 후에, 없으면 바로 실행합니다.
+     * 롤백되면 실행하지 않으며, 커밋 후 실행 중 예외는 이미 커밋된 작업을 되돌리지 못하므로 action 안에서 처리해야 합니다.
+     *
+     * @param action 커밋 후 실행할 작업
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
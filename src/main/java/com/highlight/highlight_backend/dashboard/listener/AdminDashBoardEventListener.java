@@ -0,0 +1,32 @@
+package com.highlight.highlight_backend.dashboard.listener;
+
+import com.highlight.highlight_backend.auction.event.AuctionStatusChangedEvent;
+import com.highlight.highlight_backend.dashboard.service.AdminAuctionCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdminDashBoardEventListener {
+
+    private final AdminAuctionCountService adminAuctionCountService;
+
+    /**
+     * 경매 상태 변경 커밋 후 관리자별 상태 개수 갱신
+     * 실패 시 TTL 만료 후 DB 집계로 복구됨
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleAuctionStatusChanged(AuctionStatusChangedEvent event) {
+        try {
+            adminAuctionCountService.transition(
+                    event.getCreatedBy(), event.getPreviousStatus(), event.getNewStatus());
+        } catch (Exception e) {
+            log.error("관리자 대쉬보드 개수 갱신 실패. TTL 만료 후 DB 집계로 복구됩니다. auctionId={}",
+                    event.getAuctionId(), e);
+        }
+    }
+}
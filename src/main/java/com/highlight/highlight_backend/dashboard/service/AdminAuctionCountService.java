@@ -0,0 +1,111 @@
+package com.highlight.highlight_backend.dashboard.service;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자별 경매 상태 개수 (대쉬보드용, Redis hash)
+ *
+ * - 관리자 1명당 hash 1개 (필드: 상태, 값: 개수)
+ * - 상태 전이 시 이전/새 상태 필드를 스크립트 1번으로 반영 (hash 가 없으면 건드리지 않음)
+ * - hash 가 없으면 GROUP BY 쿼리 1번(idx_auction_created_by_status)으로 채우고 1시간 TTL
+ *   → 갱신 누락으로 어긋난 값은 TTL 안에 DB 기준으로 복구
+ * - 음수가 되면 어긋난 값이므로 hash 를 삭제하여 다음 조회 때 다시 채움
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminAuctionCountService {
+
+    private static final String KEY_PREFIX = "admin:auction-count:";
+    private static final long TTL_HOURS = 1;
+
+    /** hash 가 있을 때만 ARGV[1] 필드 -ARGV[3], ARGV[2] 필드 +ARGV[3] (빈 문자열이면 생략), 음수가 되면 삭제 */
+    private static final RedisScript<Long> TRANSITION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return 0 end " +
+            "if ARGV[1] ~= '' and redis.call('hincrby', KEYS[1], ARGV[1], -tonumber(ARGV[3])) < 0 then " +
+            "  redis.call('del', KEYS[1]) " +
+            "  return -1 " +
+            "end " +
+            "if ARGV[2] ~= '' then redis.call('hincrby', KEYS[1], ARGV[2], ARGV[3]) end " +
+            "return 1", Long.class);
+
+    /** hash 가 없을 때만 ARGV 의 (필드, 값) 쌍으로 채우고 마지막 ARGV(초) 만큼 TTL */
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+            "for i = 1, #ARGV - 1, 2 do redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('expire', KEYS[1], ARGV[#ARGV]) " +
+            "return 1", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AuctionRepository auctionRepository;
+
+    /**
+     * 단일 경매 상태 전이
+     */
+    public void transition(Long adminId, Auction.AuctionStatus from, Auction.AuctionStatus to) {
+        transitionBatch(from, to, Map.of(adminId, 1L));
+    }
+
+    /**
+     * 여러 경매의 상태 전이를 관리자별로 합산해 반영 (배치 종료용)
+     */
+    public void transitionBatch(Auction.AuctionStatus from, Auction.AuctionStatus to,
+                                Map<Long, Long> countsByAdmin) {
+        if (from == to) {
+            return;
+        }
+        countsByAdmin.forEach((adminId, count) -> {
+            if (adminId == null) {
+                return;
+            }
+            redisTemplate.execute(TRANSITION_SCRIPT, List.of(key(adminId)),
+                    from == null ? "" : from.name(),
+                    to == null ? "" : to.name(),
+                    String.valueOf(count));
+        });
+    }
+
+    /**
+     * 상태별 개수 (Redis 미스 시 DB 집계 후 캐싱)
+     */
+    public Map<Auction.AuctionStatus, Long> getCounts(Long adminId) {
+        Map<Auction.AuctionStatus, Long> counts = new EnumMap<>(Auction.AuctionStatus.class);
+        for (Auction.AuctionStatus status : Auction.AuctionStatus.values()) {
+            counts.put(status, 0L);
+        }
+
+        Map<Object, Object> cached = redisTemplate.opsForHash().entries(key(adminId));
+        if (!cached.isEmpty()) {
+            cached.forEach((status, count) -> counts.put(
+                    Auction.AuctionStatus.valueOf((String) status), Math.max(0, Long.parseLong((String) count))));
+            return counts;
+        }
+
+        for (Object[] row : auctionRepository.countByCreatedByGroupByStatus(adminId)) {
+            counts.put((Auction.AuctionStatus) row[0], ((Number) row[1]).longValue());
+        }
+        List<String> args = new ArrayList<>(counts.size() * 2 + 1);
+        counts.forEach((status, count) -> {
+            args.add(status.name());
+            args.add(String.valueOf(count));
+        });
+        args.add(String.valueOf(TimeUnit.HOURS.toSeconds(TTL_HOURS)));
+        redisTemplate.execute(FILL_SCRIPT, List.of(key(adminId)), args.toArray());
+        return counts;
+    }
+
+    private String key(Long adminId) {
+        return KEY_PREFIX + adminId;
+    }
+}
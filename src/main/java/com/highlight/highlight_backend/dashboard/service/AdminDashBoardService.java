@@ -1,9 +1,7 @@
 package com.highlight.highlight_backend.dashboard.service;
 
-import com.highlight.highlight_backend.admin.domain.Admin;
 import com.highlight.highlight_backend.auction.domain.Auction;
 import com.highlight.highlight_backend.auction.repository.AuctionRepository;
-import com.highlight.highlight_backend.product.domian.ProductImage;
 import com.highlight.highlight_backend.dashboard.dto.AdminDashBoardItemResponseDto;
 import com.highlight.highlight_backend.dashboard.dto.AdminDashBoardStatsResponseDto;
 import com.highlight.highlight_backend.exception.AdminErrorCode;
@@ -15,9 +13,9 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,53 +23,43 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AdminDashBoardService {
 
+    private static final int LIVE_ITEM_SIZE = 3;
+
     private final AdminRepository adminRepository;
     private final AuctionRepository auctionRepository;
+    private final AdminAuctionCountService adminAuctionCountService;
 
+    /**
+     * 관리자가 생성한 경매의 상태별 개수
+     * 경매 엔티티를 불러오지 않고 관리자별 Redis 카운터(미스 시 GROUP BY 1번)로 조회
+     */
     public AdminDashBoardStatsResponseDto getDashboardStats(Long adminId) {
-        // 1. Admin 엔티티 조회 (기존과 동일)
-        Admin admin = adminRepository.findById(adminId)
-                .orElseThrow(() -> new BusinessException(AdminErrorCode.ADMIN_NOT_FOUND));
-
-        // 2. 해당 Admin이 관리하는 모든 Auction 리스트 조회
-        List<Auction> auctions = auctionRepository.findByAdminAuction(adminId);
+        if (!adminRepository.existsById(adminId)) {
+            throw new BusinessException(AdminErrorCode.ADMIN_NOT_FOUND);
+        }
 
-        Map<Auction.AuctionStatus, Long> statusCounts = auctions.stream()
-                .collect(Collectors.groupingBy(Auction::getStatus, Collectors.counting()));
+        Map<Auction.AuctionStatus, Long> statusCounts = adminAuctionCountService.getCounts(adminId);
 
-        // 4. 계산된 개수를 DTO에 직접 설정
-        //    getOrDefault를 사용하면 해당 상태의 경매가 없을 경우 0을 기본값으로 사용합니다.
-        long pendingCount = statusCounts.getOrDefault(Auction.AuctionStatus.SCHEDULED, 0L);
-        long inProgressCount = statusCounts.getOrDefault(Auction.AuctionStatus.IN_PROGRESS, 0L);
-        long completedCount = statusCounts.getOrDefault(Auction.AuctionStatus.COMPLETED, 0L);
-
-        // 5. DTO 객체를 생성하고 계산된 값들을 설정
         AdminDashBoardStatsResponseDto responseDto = new AdminDashBoardStatsResponseDto();
-        responseDto.setPending(pendingCount);
-        responseDto.setInProgress(inProgressCount);
-        responseDto.setCompleted(completedCount);
-
-        // 6. 최종 DTO 반환
+        responseDto.setPending(statusCounts.getOrDefault(Auction.AuctionStatus.SCHEDULED, 0L));
+        responseDto.setInProgress(statusCounts.getOrDefault(Auction.AuctionStatus.IN_PROGRESS, 0L));
+        responseDto.setCompleted(statusCounts.getOrDefault(Auction.AuctionStatus.COMPLETED, 0L));
         return responseDto;
     }
 
+    /**
+     * 진행중 경매 (상품명 / 현재가 / 썸네일을 projection 쿼리 1번으로 조회)
+     */
     public List<AdminDashBoardItemResponseDto> getDashboardItems() {
-        List<Auction> inProgressAuctions = auctionRepository.findByStatus(Auction.AuctionStatus.IN_PROGRESS, PageRequest.of(0, 3)).getContent();
-
-        return inProgressAuctions.stream()
-                .map(auction -> {
+        return auctionRepository.findLiveDashboardItems(PageRequest.of(0, LIVE_ITEM_SIZE)).stream()
+                .map(row -> {
                     AdminDashBoardItemResponseDto dto = new AdminDashBoardItemResponseDto();
-                    dto.setAuctionId(auction.getId());
-                    dto.setProductName(auction.getProduct().getProductName());
-                    dto.setCurrentBid(auction.getCurrentHighestBid());
-
-                    ProductImage primaryImage = auction.getProduct().getPrimaryImage();
-                    if (primaryImage != null) {
-                        dto.setProductImageUrl(primaryImage.getImageUrl());
-                    }
-
+                    dto.setAuctionId((Long) row[0]);
+                    dto.setProductName((String) row[1]);
+                    dto.setCurrentBid((BigDecimal) row[2]);
+                    dto.setProductImageUrl((String) row[3]);
                     return dto;
                 })
-                .collect(Collectors.toList());
+                .toList();
     }
 }
@@ -54,7 +54,10 @@ public enum AuctionErrorCode implements ErrorCode {
     CANNOT_MODIFY_ENDED_AUCTION(HttpStatus.BAD_REQUEST, "AUCTION_019", "종료된 경매는 수정할 수 없습니다."),
     /** 락 경합으로 인해 입찰에 참여할 수 없음 **/
     ALREADY_HAVE_LOCK(HttpStatus.TOO_MANY_REQUESTS, "AUCTION_020", "현재 접속자가 많아 입찰이 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
-    AUCTION_LOCK_INTERRUPT(HttpStatus.SERVICE_UNAVAILABLE, "AUCTION_021", "서버 종류 or 스레드 풀 강제 종료됨.");
+    AUCTION_LOCK_INTERRUPT(HttpStatus.SERVICE_UNAVAILABLE, "AUCTION_021", "서버 종류 or 스레드 풀 강제 종료됨."),
+
+    /** 목록 조회 커서가 잘못되었거나 현재 정렬 조건과 맞지 않음 **/
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "AUCTION_022", "유효하지 않은 페이지 커서입니다.");
 
     
     private final HttpStatus httpStatus;
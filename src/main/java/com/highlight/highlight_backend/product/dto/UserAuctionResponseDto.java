@@ -1,6 +1,7 @@
 package com.highlight.highlight_backend.product.dto;
 
 import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.dto.AuctionListItemDto;
 import com.highlight.highlight_backend.product.domian.Product;
 import com.highlight.highlight_backend.product.domian.ProductImage;
 import lombok.AllArgsConstructor;
@@ -107,4 +108,34 @@ public class UserAuctionResponseDto {
                 .auctionStatus(auction.getStatus().name()) // Enum 값을 문자열로 변환
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 목록 projection 과 일괄 조회한 썸네일로부터 UserAuctionResponseDto를 생성합니다.
+     * 지연 로딩 컬렉션에 접근하지 않으므로 페이지 크기와 상관없이 추가 쿼리가 발생하지 않습니다.
+     *
+     * @param item 목록 projection
+     * @param thumbnailUrl 썸네일 이미지 URL (없으면 null)
+     * @return 변환된 DTO
+     */
+    public static UserAuctionResponseDto from(AuctionListItemDto item, String thumbnailUrl) {
+        return UserAuctionResponseDto.builder()
+                // Product 정보
+                .auctionId(item.getAuctionId())
+                .productId(item.getProductId())
+                .thumbnailUrl(thumbnailUrl)
+                .productName(item.getProductName())
+                .brand(item.getBrand())
+                .category(item.getCategory())
+                .isPremium(item.getIsPremium())
+                // Auction 정보
+                .startPrice(item.getStartPrice())
+                .buyNowPrice(item.getBuyItNowPrice())
+                .currentPrice(item.getCurrentHighestBid())
+                .minimumBid(item.getStartPrice())
+                .bidCount(item.getTotalBids())
+                .endTime(item.getScheduledEndTime())
+                .startTime(item.getScheduledStartTime())
+                .auctionStatus(item.getStatus().name()) // Enum 값을 문자열로 변환
+                .build();
+    }
+}
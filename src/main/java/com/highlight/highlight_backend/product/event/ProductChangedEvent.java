@@ -0,0 +1,36 @@
+package com.highlight.highlight_backend.product.event;
+
+import com.highlight.highlight_backend.product.domian.Product;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 등록 / 수정 / 삭제 / 상태 변경 이벤트 (추천 후보 목록 갱신용)
+ *
+ * 카테고리나 브랜드가 바뀌거나 삭제된 경우 이전 후보 목록에서 빼야 하므로
+ * 단건 변경은 변경 전 카테고리 / 브랜드를 함께 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+    private Collection<Long> productIds;
+    private Product.Category previousCategory;
+    private String previousBrand;
+
+    /**
+     * 단건 변경 (product 는 변경 전 상태)
+     */
+    public static ProductChangedEvent of(Product product) {
+        return new ProductChangedEvent(List.of(product.getId()), product.getCategory(), product.getBrand());
+    }
+
+    /**
+     * 카테고리 / 브랜드는 그대로이고 상태만 바뀐 경우
+     */
+    public static ProductChangedEvent statusChanged(Collection<Long> productIds) {
+        return new ProductChangedEvent(productIds, null, null);
+    }
+}
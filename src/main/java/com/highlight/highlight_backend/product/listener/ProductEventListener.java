@@ -0,0 +1,48 @@
+package com.highlight.highlight_backend.product.listener;
+
+import com.highlight.highlight_backend.product.event.ProductChangedEvent;
+import com.highlight.highlight_backend.product.service.ProductRecommendationService;
+import com.highlight.highlight_backend.product.service.ProductSearchIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductEventListener {
+
+    private final ProductRecommendationService productRecommendationService;
+    private final ProductSearchIndexService productSearchIndexService;
+
+    /**
+     * 상품 변경 커밋 후 추천 후보 목록 갱신
+     * 실패해도 주기적 재구성에서 복구되므로 로그만 남김
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProductChanged(ProductChangedEvent event) {
+        try {
+            productRecommendationService.refresh(event);
+        } catch (Exception e) {
+            log.error("추천 후보 목록 갱신 실패. 다음 재구성에서 복구됩니다. productIds={}", event.getProductIds(), e);
+        }
+    }
+
+    /**
+     * 상품 변경 커밋 후 검색 색인 갱신
+     * 실패해도 매일 재구성에서 복구되므로 로그만 남김
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSearchIndexUpdate(ProductChangedEvent event) {
+        try {
+            productSearchIndexService.onProductsChanged(event.getProductIds());
+        } catch (Exception e) {
+            log.error("상품 검색 색인 갱신 실패. 다음 재구성에서 복구됩니다. productIds={}", event.getProductIds(), e);
+        }
+    }
+}
@@ -6,6 +6,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 상품 이미지 Repository
  * 
@@ -23,4 +26,16 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Long
      */
     @Query("SELECT pi.imageUrl FROM ProductImage pi WHERE pi.product.id = :productId AND pi.isPrimary = true")
     String findPrimaryImageUrlByProductId(@Param("productId") Long productId);
+
+    /**
+     * 여러 상품의 이미지 URL 을 한 번에 조회 (목록 썸네일용)
+     * 상품별로 대표 이미지 → 정렬 순서 → 등록 순으로 정렬되어 있어 상품별 첫 행이 썸네일
+     *
+     * @param productIds 상품 ID 목록
+     * @return [productId, imageUrl]
+     */
+    @Query("SELECT pi.product.id, pi.imageUrl FROM ProductImage pi " +
+           "WHERE pi.product.id IN :productIds " +
+           "ORDER BY pi.product.id, pi.isPrimary DESC, pi.sortOrder ASC, pi.id ASC")
+    List<Object[]> findImageUrlsByProductIds(@Param("productIds") Collection<Long> productIds);
 }
\ No newline at end of file
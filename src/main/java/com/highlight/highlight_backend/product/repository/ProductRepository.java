@@ -6,9 +6,12 @@ import com.highlight.highlight_backend.product.domian.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +31,13 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     Page<Product> findByStatus(Product.ProductStatus status, Pageable pageable);
 
+    /**
+     * 상품 상태 일괄 변경
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.status = :status WHERE p.id IN :ids")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids, @Param("status") Product.ProductStatus status);
+
 
     Page<Product> findByRegisteredByOrderByCreatedAtDesc(Long registeredBy, Pageable pageable);
 
@@ -42,6 +52,15 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p LEFT JOIN FETCH p.images WHERE p.id = :id")
     Optional<Product> findByIdWithImages(@Param("id") Long id);
 
+    /**
+     * 상품 ID 목록으로 이미지와 함께 조회 (추천 후보처럼 개수가 정해진 ID 목록용, 순서는 보장하지 않음)
+     *
+     * @param ids 상품 ID 목록
+     * @return 상품 목록 (이미지 포함)
+     */
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.images WHERE p.id IN :ids")
+    List<Product> findAllWithImagesByIdIn(@Param("ids") Collection<Long> ids);
+
 
     /**
      * 관련 상품 추천 조회
@@ -94,4 +113,34 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
                                                      @Param("brand") String brand,
                                                      Pageable pageable);
 
+    /**
+     * 추천 후보 목록 재구성용 ACTIVE 상품 조회 (createdAt, id 내림차순 keyset)
+     *
+     * @return [id, category, brand, createdAt]
+     */
+    @Query("SELECT p.id, p.category, p.brand, p.createdAt FROM Product p " +
+            "WHERE p.status = 'ACTIVE' " +
+            "AND (p.createdAt < :lastCreatedAt OR (p.createdAt = :lastCreatedAt AND p.id < :lastId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Object[]> findActiveForRecommendation(@Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+                                               @Param("lastId") Long lastId,
+                                               Pageable pageable);
+
+    /**
+     * 검색 색인 생성용 상품 조회 (id 오름차순 keyset)
+     *
+     * @return [id, productName, brand, shortDescription]
+     */
+    @Query("SELECT p.id, p.productName, p.brand, p.shortDescription FROM Product p " +
+            "WHERE p.id > :lastId ORDER BY p.id")
+    List<Object[]> findSearchFieldsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 검색 색인 부분 갱신용 상품 조회
+     *
+     * @return [id, productName, brand, shortDescription]
+     */
+    @Query("SELECT p.id, p.productName, p.brand, p.shortDescription FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findSearchFieldsByIds(@Param("ids") Collection<Long> ids);
+
 }
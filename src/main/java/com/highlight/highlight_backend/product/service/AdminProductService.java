@@ -5,16 +5,21 @@ import com.highlight.highlight_backend.product.domian.Product;
 import com.highlight.highlight_backend.product.dto.ProductCreateRequestDto;
 import com.highlight.highlight_backend.product.dto.ProductResponseDto;
 import com.highlight.highlight_backend.product.dto.ProductUpdateRequestDto;
+import com.highlight.highlight_backend.product.event.ProductChangedEvent;
 import com.highlight.highlight_backend.exception.BusinessException;
 import com.highlight.highlight_backend.exception.ProductErrorCode;
 import com.highlight.highlight_backend.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 
 /**
  * 상품 관리 서비스
@@ -33,6 +38,7 @@ public class AdminProductService {
     private final ProductRepository productRepository;
     private final AdminAuthService adminService;
     private final AdminProductImageService adminProductImageService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
@@ -59,6 +65,7 @@ public class AdminProductService {
         if (request.getImages() != null && !request.getImages().isEmpty()) {
             adminProductImageService.processProductImages(savedProduct, request.getImages());
         }
+        eventPublisher.publishEvent(ProductChangedEvent.statusChanged(List.of(savedProduct.getId())));
         
         log.info("상품 등록 완료: {} (ID: {})", savedProduct.getProductName(), savedProduct.getId());
         
@@ -86,11 +93,15 @@ public class AdminProductService {
         Product product = productRepository.findByIdWithImages(productId)
             .orElseThrow(() -> new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND));
 
+        // 추천 후보 목록에서 이전 카테고리 / 브랜드 위치를 지우기 위해 변경 전 값 보관
+        ProductChangedEvent changedEvent = ProductChangedEvent.of(product);
+
         // 3. 상품 이미지 업데이트
         if (request.getImages() != null) {
             adminProductImageService.updateProductImages(product, request.getImages());
         }
         product.updateProductDetail(request, product);
+        eventPublisher.publishEvent(changedEvent);
         
         log.info("상품 수정 완료: {} (ID: {})", product.getProductName(), product.getId());
         
@@ -152,6 +163,7 @@ public class AdminProductService {
         }
 
         productRepository.delete(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(product));
         
         log.info("상품 삭제 완료: {} (ID: {})", product.getProductName(), product.getId());
     }
@@ -193,6 +205,19 @@ public class AdminProductService {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND));
         product.setStatus(status);
+        eventPublisher.publishEvent(ProductChangedEvent.statusChanged(List.of(productId)));
+    }
+
+    /**
+     * 상품 상태 일괄 변경 (경매 배치 종료 시 사용)
+     */
+    @Transactional
+    public void updateProductStatuses(Collection<Long> productIds, Product.ProductStatus status) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        productRepository.bulkUpdateStatus(productIds, status);
+        eventPublisher.publishEvent(ProductChangedEvent.statusChanged(List.copyOf(productIds)));
     }
 
     public Product getProductOrThrow(Long productId) {
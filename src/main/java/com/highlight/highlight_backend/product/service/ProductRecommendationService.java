@@ -0,0 +1,265 @@
+package com.highlight.highlight_backend.product.service;
+
+import com.highlight.highlight_backend.common.cluster.ClusterLeaseService;
+import com.highlight.highlight_backend.product.domian.Product;
+import com.highlight.highlight_backend.product.event.ProductChangedEvent;
+import com.highlight.highlight_backend.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관련 상품 추천 후보 목록 (Redis ZSET)
+ *
+ * OR 조건 + CASE 정렬 쿼리는 인덱스를 탈 수 없으므로, ACTIVE 상품을 미리
+ * (카테고리, 브랜드) / 카테고리 / 브랜드 별 최신순 목록(각 최대 MAX_CANDIDATES 개)으로 나눠 둡니다.
+ * 추천 조회는 기존 쿼리의 우선순위 그대로 세 목록을 앞에서부터 읽어 채우므로 ZREVRANGE 최대 3번으로 끝납니다.
+ *
+ * - 상품 등록 / 수정 / 삭제 / 상태 변경 커밋 후 해당 상품만 목록에서 빼고 다시 넣음
+ * - 목록이 잘리거나 갱신이 유실된 경우를 위해 주기적으로 DB 에서 전체 재구성 (리더 노드 1곳에서만)
+ * - Redis 장애 시 기존 DB 쿼리로 대체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductRecommendationService {
+
+    private static final String KEY_PREFIX = "recommend:";
+    private static final String LIST_REGISTRY_KEY = KEY_PREFIX + "lists";
+    private static final String REBUILD_JOB = "product-recommend-rebuild";
+    private static final int MAX_CANDIDATES = 100;
+    private static final int OVERFETCH_FACTOR = 2;
+    private static final int REBUILD_PAGE_SIZE = 5000;
+
+    private final RedissonClient redissonClient;
+    private final ProductRepository productRepository;
+    private final ClusterLeaseService clusterLeaseService;
+
+    /**
+     * 추천 상품 조회 (동일 카테고리+브랜드 → 동일 카테고리 → 동일 브랜드, 각 최신순)
+     *
+     * @return 추천 상품 목록 (후보 목록 경로는 이미지까지 fetch join 쿼리 1번으로 조회, DB 대체 경로는 기존 추천 쿼리)
+     */
+    public List<Product> getRecommendedProducts(Product baseProduct, int size) {
+        // 목록 갱신 전에 상태가 바뀐 상품이 섞여 있을 수 있으므로 넉넉히 읽음
+        int fetchSize = size * OVERFETCH_FACTOR;
+        List<Long> ids;
+        try {
+            ids = findCandidateIds(baseProduct, fetchSize);
+        } catch (Exception e) {
+            log.warn("추천 후보 목록 조회 실패, DB 로 조회합니다: productId={}, error={}", baseProduct.getId(), e.getMessage());
+            return findFromDatabase(baseProduct, size);
+        }
+        // Redis 초기화 직후 재구성 전이거나 목록이 유실된 경우
+        if (ids.isEmpty()) {
+            return findFromDatabase(baseProduct, size);
+        }
+
+        Map<Long, Product> products = productRepository.findAllWithImagesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> recommended = ids.stream()
+                .map(products::get)
+                .filter(product -> product != null && product.getStatus() == Product.ProductStatus.ACTIVE)
+                .limit(size)
+                .toList();
+
+        // 걸러낸 뒤 모자라는데 목록에 후보가 더 남아 있으면 (갱신 유실로 비활성 상품이 많이 쌓인 경우) DB 결과로 채움
+        if (recommended.size() < size && ids.size() >= fetchSize) {
+            log.debug("추천 후보 목록에 비활성 상품이 많아 DB 로 조회합니다: productId={}", baseProduct.getId());
+            return findFromDatabase(baseProduct, size);
+        }
+        return recommended;
+    }
+
+    private List<Product> findFromDatabase(Product baseProduct, int size) {
+        return productRepository.findRecommendedProducts(
+                baseProduct.getId(), baseProduct.getCategory(), baseProduct.getBrand(), PageRequest.of(0, size));
+    }
+
+    /**
+     * 변경된 상품만 후보 목록에 다시 반영 (이벤트 커밋 후 호출)
+     */
+    public void refresh(ProductChangedEvent event) {
+        Map<Long, Product> products = productRepository.findAllById(event.getProductIds()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        for (Long productId : event.getProductIds()) {
+            Product product = products.get(productId);
+            String member = String.valueOf(productId);
+
+            // 1. 이전 위치에서 제거 (단건 변경은 변경 전 값, 상태만 바뀐 경우는 현재 값 기준)
+            Product.Category previousCategory = event.getPreviousCategory();
+            String previousBrand = event.getPreviousBrand();
+            if (previousCategory == null && product != null) {
+                previousCategory = product.getCategory();
+                previousBrand = product.getBrand();
+            }
+            if (previousCategory != null) {
+                for (String key : listKeys(previousCategory, previousBrand)) {
+                    candidates(key).remove(member);
+                }
+            }
+
+            // 2. ACTIVE 상품이면 현재 위치에 추가 후 길이 제한
+            if (product != null && product.getStatus() == Product.ProductStatus.ACTIVE) {
+                double score = toEpochMilli(product.getCreatedAt());
+                for (String key : listKeys(product.getCategory(), product.getBrand())) {
+                    RScoredSortedSet<String> list = candidates(key);
+                    list.add(score, member);
+                    list.removeRangeByRank(0, -(MAX_CANDIDATES + 1));
+                    listRegistry().add(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * 전체 재구성 (안전망)
+     * ACTIVE 상품을 최신순으로 읽으면서 목록마다 앞의 MAX_CANDIDATES 개만 모은 뒤 목록 단위로 교체
+     */
+    @Scheduled(fixedDelay = 3600000, initialDelay = 30000) // 1시간마다 실행
+    public void rebuild() {
+        if (!clusterLeaseService.isLeader(REBUILD_JOB)) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            Map<String, Map<String, Double>> lists = loadCandidateLists();
+            replaceLists(lists);
+            log.info("추천 후보 목록 재구성 완료: 목록 {}개, {}ms", lists.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("추천 후보 목록 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<Long> findCandidateIds(Product baseProduct, int size) {
+        Set<Long> ids = new LinkedHashSet<>();
+        String self = String.valueOf(baseProduct.getId());
+
+        for (String key : listKeys(baseProduct.getCategory(), baseProduct.getBrand())) {
+            if (ids.size() >= size) {
+                break;
+            }
+            // 자기 자신이 섞여 있을 수 있으므로 1개 더 조회
+            for (String member : candidates(key).valueRangeReversed(0, size)) {
+                if (!member.equals(self)) {
+                    ids.add(Long.valueOf(member));
+                }
+            }
+        }
+        return ids.stream().limit(size).toList();
+    }
+
+    private Map<String, Map<String, Double>> loadCandidateLists() {
+        Map<String, Map<String, Double>> lists = new HashMap<>();
+        Set<String> full = new HashSet<>();
+
+        // (createdAt, id) 내림차순 keyset 으로 끝까지 읽음
+        LocalDateTime lastCreatedAt = LocalDateTime.now().plusYears(100);
+        long lastId = Long.MAX_VALUE;
+        while (true) {
+            List<Object[]> rows = productRepository.findActiveForRecommendation(
+                    lastCreatedAt, lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                Product.Category category = (Product.Category) row[1];
+                String brand = (String) row[2];
+                LocalDateTime createdAt = (LocalDateTime) row[3];
+
+                for (String key : listKeys(category, brand)) {
+                    if (full.contains(key)) {
+                        continue;
+                    }
+                    Map<String, Double> list = lists.computeIfAbsent(key, k -> new LinkedHashMap<>());
+                    list.put(String.valueOf(id), toEpochMilli(createdAt));
+                    if (list.size() >= MAX_CANDIDATES) {
+                        full.add(key);
+                    }
+                }
+                lastCreatedAt = createdAt;
+                lastId = id;
+            }
+            if (rows.size() < REBUILD_PAGE_SIZE) {
+                return lists;
+            }
+        }
+    }
+
+    private void replaceLists(Map<String, Map<String, Double>> lists) {
+        // 목록마다 임시 키에 채운 뒤 rename 으로 교체 (조회 중 빈 목록이 보이지 않도록)
+        for (Map.Entry<String, Map<String, Double>> entry : lists.entrySet()) {
+            String tempKey = entry.getKey() + ":rebuild";
+            RBatch batch = redissonClient.createBatch();
+            batch.getScoredSortedSet(tempKey, StringCodec.INSTANCE).deleteAsync();
+            batch.getScoredSortedSet(tempKey, StringCodec.INSTANCE).addAllAsync(entry.getValue());
+            batch.getScoredSortedSet(tempKey, StringCodec.INSTANCE).renameAsync(entry.getKey());
+            batch.execute();
+        }
+
+        // 더 이상 ACTIVE 상품이 없는 목록 삭제
+        RSet<String> registry = listRegistry();
+        List<String> stale = new ArrayList<>();
+        for (String key : registry.readAll()) {
+            if (!lists.containsKey(key)) {
+                stale.add(key);
+            }
+        }
+        if (!stale.isEmpty()) {
+            redissonClient.getKeys().delete(stale.toArray(new String[0]));
+            registry.removeAll(stale);
+        }
+        registry.addAll(lists.keySet());
+    }
+
+    /**
+     * 추천 우선순위 순서의 목록 키
+     */
+    private static List<String> listKeys(Product.Category category, String brand) {
+        List<String> keys = new ArrayList<>(3);
+        if (category != null && brand != null) {
+            keys.add(KEY_PREFIX + "category-brand:" + category.name() + ":" + brand);
+        }
+        if (category != null) {
+            keys.add(KEY_PREFIX + "category:" + category.name());
+        }
+        if (brand != null) {
+            keys.add(KEY_PREFIX + "brand:" + brand);
+        }
+        return keys;
+    }
+
+    private RScoredSortedSet<String> candidates(String key) {
+        return redissonClient.getScoredSortedSet(key, StringCodec.INSTANCE);
+    }
+
+    private RSet<String> listRegistry() {
+        return redissonClient.getSet(LIST_REGISTRY_KEY, StringCodec.INSTANCE);
+    }
+
+    private static double toEpochMilli(LocalDateTime time) {
+        if (time == null) {
+            return 0;
+        }
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
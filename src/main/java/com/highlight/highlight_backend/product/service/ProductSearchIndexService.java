@@ -0,0 +1,197 @@
+package com.highlight.highlight_backend.product.service;
+
+import com.highlight.highlight_backend.common.search.InvertedIndex;
+import com.highlight.highlight_backend.common.search.NgramTokenizer;
+import com.highlight.highlight_backend.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 검색용 메모리 역색인 관리 (상품명 / 브랜드 / 한 줄 설명)
+ *
+ * - 서버 시작 시 product 테이블을 id 순으로 나눠 읽어 색인 생성 (완료 전에는 DB LIKE 검색으로 대체)
+ * - 상품 등록 / 수정 / 삭제 커밋 후 변경된 상품만 다시 색인, Redis topic 으로 다른 노드에도 전파
+ * - 수정/삭제로 쌓인 삭제 표시 문서를 정리하기 위해 매일 새벽 전체 재구성 후 교체
+ *
+ * 메모리: 상품당 중복 제거된 bigram 수 × 4 byte (상품명+브랜드+설명 기준 약 60개 → 300만 건에 약 700MB).
+ * 부족하면 search.product.index-description=false 로 설명을 제외할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class ProductSearchIndexService {
+
+    private static final String CHANGED_TOPIC = "product:search:changed";
+    private static final String SEPARATOR = ",";
+    private static final int LOAD_PAGE_SIZE = 10000;
+
+    private final ProductRepository productRepository;
+    private final RedissonClient redissonClient;
+    private final boolean indexDescription;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public ProductSearchIndexService(ProductRepository productRepository,
+                                     RedissonClient redissonClient,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${search.product.index-description:true}") boolean indexDescription) {
+        this.productRepository = productRepository;
+        this.redissonClient = redissonClient;
+        this.indexDescription = indexDescription;
+        Gauge.builder("product.search.index.documents", this, service -> service.index.size())
+                .description("검색 색인에 들어 있는 상품 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        topic().addListener(String.class, (channel, message) -> reindex(parseIds(message)));
+    }
+
+    /**
+     * 서버 기동 완료 후 백그라운드에서 최초 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        CompletableFuture.runAsync(this::rebuild);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인으로 검색할 수 있는지 (색인 생성 완료 + 2글자 미만 단어가 없는 검색어)
+     */
+    public boolean canSearch(String keyword) {
+        return ready && NgramTokenizer.isSearchable(keyword);
+    }
+
+    /**
+     * 검색어의 모든 bigram 을 포함하는 상품 ID (최근 등록 상품부터 최대 limit 개)
+     * 단어/필드 경계를 넘어 일치한 후보가 섞일 수 있으므로 원문 포함 여부는 조회 조건에서 다시 확인해야 합니다.
+     */
+    public List<Long> search(String keyword, int limit) {
+        return index.search(NgramTokenizer.tokenize(keyword), limit);
+    }
+
+    /**
+     * 상품 변경 커밋 후 호출 (이 노드 반영 + 다른 노드 전파)
+     */
+    public void onProductsChanged(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        reindex(productIds);
+        try {
+            topic().publish(productIds.stream().map(String::valueOf).collect(Collectors.joining(SEPARATOR)));
+        } catch (Exception e) {
+            // 다른 노드는 다음 재구성 때 반영됨
+            log.warn("상품 검색 색인 변경 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 재구성 후 교체 (삭제 표시 문서 정리)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            InvertedIndex rebuilt = new InvertedIndex();
+            long lastId = 0;
+            while (true) {
+                List<Object[]> rows = productRepository.findSearchFieldsAfter(lastId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (Object[] row : rows) {
+                    lastId = (Long) row[0];
+                    rebuilt.appendSorted(lastId, tokens(row));
+                }
+                if (rows.size() < LOAD_PAGE_SIZE) {
+                    break;
+                }
+            }
+            index = rebuilt;
+            ready = true;
+
+            // 재구성 도중 변경된 상품은 새 색인에 다시 반영
+            Set<Long> changed = new HashSet<>(changedDuringRebuild);
+            changedDuringRebuild.removeAll(changed);
+            reindex(changed);
+
+            log.info("상품 검색 색인 생성 완료: 상품 {}건, 토큰 {}개, {}ms",
+                    rebuilt.size(), rebuilt.tokenCount(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("상품 검색 색인 생성 실패: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void reindex(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        if (rebuilding.get()) {
+            changedDuringRebuild.addAll(productIds);
+        }
+        Map<Long, Object[]> rows = productRepository.findSearchFieldsByIds(productIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], Function.identity()));
+        InvertedIndex current = index;
+        for (Long productId : productIds) {
+            Object[] row = rows.get(productId);
+            if (row == null) {
+                current.remove(productId);
+            } else {
+                current.put(productId, tokens(row));
+            }
+        }
+    }
+
+    /**
+     * row: [id, productName, brand, shortDescription]
+     */
+    private Set<String> tokens(Object[] row) {
+        return indexDescription
+                ? NgramTokenizer.tokenize((String) row[1], (String) row[2], (String) row[3])
+                : NgramTokenizer.tokenize((String) row[1], (String) row[2]);
+    }
+
+    private static List<Long> parseIds(String message) {
+        return Arrays.stream(message.split(SEPARATOR))
+                .filter(id -> !id.isBlank())
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(CHANGED_TOPIC, StringCodec.INSTANCE);
+    }
+}
@@ -29,6 +29,7 @@ public class UserProductSearchService {
     private final BidRepository bidRepository;
     private final AuctionRepository auctionRepository;
     private final ProductRepository productRepository;
+    private final ProductRecommendationService productRecommendationService;
 
     /**
      * 경매 ID를 통해 상품의 상세 정보를 가져옴
@@ -67,13 +68,8 @@ public class UserProductSearchService {
         Product baseProduct = productRepository.findById(productId)
                 .orElseThrow(() -> new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND));
 
-        // 2. 추천 로직: 동일 카테고리 또는 동일 브랜드 상품 조회
-        List<Product> recommendedProducts = productRepository.findRecommendedProducts(
-                productId,
-                baseProduct.getCategory(),
-                baseProduct.getBrand(),
-                PageRequest.of(0, size)
-        );
+        // 2. 추천 로직: 동일 카테고리 또는 동일 브랜드 상품 조회 (미리 계산된 후보 목록 사용)
+        List<Product> recommendedProducts = productRecommendationService.getRecommendedProducts(baseProduct, size);
 
         // 3. DTO 변환
         List<ProductResponseDto> responseDtos = recommendedProducts.stream()
@@ -1,7 +1,10 @@
 package com.highlight.highlight_backend.ranking.controller;
 
+import com.highlight.highlight_backend.common.util.AuthenticationUtils;
 import com.highlight.highlight_backend.common.util.ResponseUtils;
 import com.highlight.highlight_backend.ranking.dto.RankingDashboardResponseDto;
+import com.highlight.highlight_backend.ranking.dto.RankingPeriod;
+import com.highlight.highlight_backend.ranking.dto.UserRankingResponseDto;
 import com.highlight.highlight_backend.common.config.ResponseDto;
 import com.highlight.highlight_backend.ranking.service.RankingService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +18,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -89,9 +93,15 @@ public class RankingController {
                 example = "10",
                 schema = @Schema(minimum = "1", maximum = "100")
             )
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+
+            @Parameter(
+                description = "집계 기간 (ALL: 전체, DAILY: 오늘, WEEKLY: 최근 7일, MONTHLY: 최근 30일)",
+                example = "ALL"
+            )
+            @RequestParam(defaultValue = "ALL") RankingPeriod period) {
         
-        log.info("랭킹 대시보드 조회 API 호출 - page: {}, size: {}", page, size);
+        log.info("랭킹 대시보드 조회 API 호출 - page: {}, size: {}, period: {}", page, size, period);
         
         // 페이지 크기 유효성 검사
         if (size <= 0 || size > 100) {
@@ -105,10 +115,30 @@ public class RankingController {
             page = 0;
         }
         
-        RankingDashboardResponseDto rankingDashboard = rankingService.getUserRankingDashboard(page, size);
+        RankingDashboardResponseDto rankingDashboard = rankingService.getUserRankingDashboard(page, size, period);
         
         log.info("랭킹 대시보드 조회 완료 - 반환된 랭킹 수: {}", rankingDashboard.getRankings().size());
         
         return ResponseUtils.success(rankingDashboard, "랭킹 대시보드 조회 성공");
     }
-}
\ No newline at end of file
+
+    @GetMapping("/me")
+    @Operation(
+        summary = "내 랭킹 조회",
+        description = "로그인한 사용자의 경매 참여 횟수와 순위를 조회합니다. 참여한 경매가 없으면 ranking 은 null 입니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "내 랭킹 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    public ResponseEntity<ResponseDto<UserRankingResponseDto>> getMyRanking(
+            @Parameter(description = "집계 기간 (ALL, DAILY, WEEKLY, MONTHLY)", example = "ALL")
+            @RequestParam(defaultValue = "ALL") RankingPeriod period,
+            @Parameter(hidden = true) Authentication authentication) {
+
+        Long userId = AuthenticationUtils.extractUserId(authentication);
+        UserRankingResponseDto myRanking = rankingService.getMyRanking(userId, period);
+
+        return ResponseUtils.success(myRanking, "내 랭킹 조회 성공");
+    }
+}
@@ -0,0 +1,24 @@
+package com.highlight.highlight_backend.ranking.dto;
+
+import lombok.Getter;
+
+/**
+ * 랭킹 집계 기간
+ *
+ * days 는 오늘을 포함한 최근 일수 (ALL 은 전체 기간)
+ */
+@Getter
+public enum RankingPeriod {
+    ALL("전체", 0),
+    DAILY("오늘", 1),
+    WEEKLY("최근 7일", 7),
+    MONTHLY("최근 30일", 30);
+
+    private final String description;
+    private final int days;
+
+    RankingPeriod(String description, int days) {
+        this.description = description;
+        this.days = days;
+    }
+}
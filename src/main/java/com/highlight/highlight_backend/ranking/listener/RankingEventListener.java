@@ -0,0 +1,33 @@
+package com.highlight.highlight_backend.ranking.listener;
+
+import com.highlight.highlight_backend.bid.event.BidCreatedEvent;
+import com.highlight.highlight_backend.ranking.service.RankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RankingEventListener {
+
+    private final RankingService rankingService;
+
+    /**
+     * 사용자가 경매에 처음 입찰하면 참여 랭킹 점수 증가 (입찰 커밋 후)
+     * 실패분은 재구성 작업에서 복구됨
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleParticipation(BidCreatedEvent event) {
+        if (!event.isNewBidder()) {
+            return;
+        }
+        try {
+            rankingService.recordParticipation(event.getUserId());
+        } catch (Exception e) {
+            log.error("참여 랭킹 갱신 실패. 다음 재구성에서 복구됩니다. userId={}", event.getUserId(), e);
+        }
+    }
+}
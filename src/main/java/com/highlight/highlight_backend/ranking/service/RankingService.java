@@ -1,24 +1,53 @@
 package com.highlight.highlight_backend.ranking.service;
 
+import com.highlight.highlight_backend.common.cluster.ClusterLeaseService;
 import com.highlight.highlight_backend.ranking.dto.RankingDashboardResponseDto;
+import com.highlight.highlight_backend.ranking.dto.RankingPeriod;
 import com.highlight.highlight_backend.ranking.dto.UserRankingResponseDto;
 import com.highlight.highlight_backend.bid.repository.BidRepository;
+import com.highlight.highlight_backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 랭킹 서비스
- * 
+ *
  * 사용자의 경매 참여 횟수를 기준으로 한 랭킹 시스템을 제공합니다.
  * 각 사용자가 참여한 고유한 경매 수를 계산하여 랭킹을 매깁니다.
- * 
+ *
+ * 참여 수는 Redis sorted set(ranking:participation) 에 사용자별로 유지합니다.
+ * - 사용자가 어떤 경매에 처음 입찰하면(BidCreatedEvent.isNewBidder) 점수 1 증가
+ * - 페이지 조회는 ZREVRANGE 1번 + 닉네임 PK 조회 1번, 내 순위는 ZREVRANK (O(log n))
+ * - 동점자는 기존 쿼리와 같이 userId 오름차순이 되도록 점수 = 참여 수 x SCORE_UNIT - userId
+ * - 취소된 입찰, 재구성 중 놓친 증가분 등 오차는 DB 집계 기준 재구성 작업으로 복구
+ * - Redis 장애 시 기존 GROUP BY 쿼리로 조회
+ *
+ * 기간별 랭킹(오늘 / 최근 7일 / 최근 30일)은 일별 sorted set(ranking:participation:day:yyyyMMdd)을 합쳐 계산합니다.
+ * - 참여 시 전체 랭킹과 오늘 버킷을 스크립트 1번으로 함께 증가, 버킷은 BUCKET_RETENTION 후 자동 만료
+ * - 7일 / 30일은 ZUNIONSTORE 결과를 WINDOW_CACHE_TTL 동안 보관해 조회마다 합치지 않음
+ * - 기간별 점수는 참여 수 그대로라 동점자 순서는 보장하지 않음
+ *
  * @author 전우선
  * @since 2025.08.20
  */
@@ -27,57 +56,291 @@ import java.util.List;
 @Transactional(readOnly = true)
 @Slf4j
 public class RankingService {
-    
+
+    private static final String RANKING_KEY = "ranking:participation";
+    private static final String REBUILD_JOB = "ranking-participation-rebuild";
+    private static final int REBUILD_CHUNK_SIZE = 10000;
+
+    private static final String DAY_KEY_PREFIX = RANKING_KEY + ":day:";
+    private static final String WINDOW_KEY_PREFIX = RANKING_KEY + ":window:";
+    private static final Duration BUCKET_RETENTION = Duration.ofDays(32); // MONTHLY(30일) + 여유
+    private static final Duration WINDOW_CACHE_TTL = Duration.ofSeconds(60);
+
+    /** userId 는 이 값보다 작아야 함 (double 정밀도 안에서 참여 수 약 90만까지 표현) */
+    private static final double SCORE_UNIT = 1e10;
+
+    /**
+     * 전체 랭킹(KEYS[1]): ARGV[1] 회원이 없으면 ARGV[3] 으로 추가, 있으면 ARGV[2] 만큼 증가
+     * 오늘 버킷(KEYS[2]): 1 증가 후 ARGV[4] 초 TTL
+     *
+     * 전체 랭킹 키가 없으면(Redis 초기화) 건드리지 않음 - 여기서 키를 새로 만들면 1명짜리 랭킹이 생겨
+     * rebuildIfMissing 이 재구성을 건너뛰므로, 재구성이 DB 기준으로 전체 랭킹과 일별 버킷을 함께 채움
+     */
+    private static final String INCREMENT_SCRIPT =
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "  if redis.call('zscore', KEYS[1], ARGV[1]) then " +
+            "    redis.call('zincrby', KEYS[1], ARGV[2], ARGV[1]) " +
+            "  else " +
+            "    redis.call('zadd', KEYS[1], ARGV[3], ARGV[1]) " +
+            "  end " +
+            "end " +
+            "redis.call('zincrby', KEYS[2], 1, ARGV[1]) " +
+            "redis.call('expire', KEYS[2], ARGV[4]) " +
+            "return 1";
+
     private final BidRepository bidRepository;
-    
+    private final UserRepository userRepository;
+    private final RedissonClient redissonClient;
+    private final ClusterLeaseService clusterLeaseService;
+
     /**
      * 사용자 랭킹 대시보드 조회
-     * 
+     *
      * 경매 참여 횟수를 기준으로 사용자 랭킹을 조회합니다.
      * 각 사용자가 참여한 고유한 경매 수를 계산하여 내림차순으로 정렬합니다.
-     * 
+     *
      * @param page 페이지 번호 (0부터 시작)
      * @param size 페이지 크기
+     * @param period 집계 기간
      * @return 랭킹 대시보드 데이터 (랭킹 목록, 페이지네이션 정보 포함)
      */
-    public RankingDashboardResponseDto getUserRankingDashboard(int page, int size) {
-        log.info("랭킹 대시보드 조회 요청 - page: {}, size: {}", page, size);
-        
-        // 페이지네이션 설정
+    public RankingDashboardResponseDto getUserRankingDashboard(int page, int size, RankingPeriod period) {
+        log.info("랭킹 대시보드 조회 요청 - page: {}, size: {}, period: {}", page, size, period);
+
+        List<long[]> entries = new ArrayList<>(size);
+        long totalUsers;
+        try {
+            RScoredSortedSet<String> ranking = ranking(period);
+            int start = page * size;
+            for (ScoredEntry<String> entry : ranking.entryRangeReversed(start, start + size - 1)) {
+                long userId = Long.parseLong(entry.getValue());
+                entries.add(new long[]{userId, toAuctionCount(period, entry.getScore(), userId)});
+            }
+            totalUsers = ranking.size();
+        } catch (Exception e) {
+            if (period != RankingPeriod.ALL) {
+                throw e;
+            }
+            log.warn("랭킹 sorted set 조회 실패, DB 로 조회합니다: {}", e.getMessage());
+            return getUserRankingDashboardFromDb(page, size);
+        }
+
+        Map<Long, String> nicknames = findNicknames(entries.stream().map(entry -> entry[0]).toList());
+        List<UserRankingResponseDto> rankings = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            long[] entry = entries.get(i);
+            rankings.add(new UserRankingResponseDto(entry[0], nicknames.get(entry[0]), entry[1], (page * size) + i + 1));
+        }
+
+        int totalPages = (int) Math.ceil((double) totalUsers / size);
+        return new RankingDashboardResponseDto(rankings, (int) totalUsers, page + 1, totalPages);
+    }
+
+    /**
+     * 내 순위 조회 (기간 안에 참여한 경매가 없으면 ranking 은 null)
+     */
+    public UserRankingResponseDto getMyRanking(Long userId, RankingPeriod period) {
+        String member = String.valueOf(userId);
+        RScoredSortedSet<String> ranking = ranking(period);
+        Integer rank = ranking.revRank(member);
+        Double score = ranking.getScore(member);
+        String nickname = findNicknames(List.of(userId)).get(userId);
+
+        if (rank == null || score == null) {
+            return new UserRankingResponseDto(userId, nickname, 0L, null);
+        }
+        return new UserRankingResponseDto(userId, nickname, toAuctionCount(period, score, userId), rank + 1);
+    }
+
+    /**
+     * 사용자가 새 경매에 처음 입찰했을 때 호출 (입찰 커밋 후)
+     */
+    public void recordParticipation(Long userId) {
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE, INCREMENT_SCRIPT, RScript.ReturnType.INTEGER,
+                List.of(RANKING_KEY, dayKey(LocalDate.now())),
+                String.valueOf(userId), toScoreString(1, 0), toScoreString(1, userId),
+                String.valueOf(BUCKET_RETENTION.toSeconds()));
+    }
+
+    /**
+     * 랭킹이 없으면(최초 기동, Redis 초기화) 바로 재구성
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 30000)
+    public void rebuildIfMissing() {
+        if (ranking().isExists()) {
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * DB 집계 기준 전체 재구성 (GROUP BY 1번, 임시 키에 채운 뒤 rename 으로 교체)
+     *
+     * 집계 쿼리 시작 후 교체 전까지 들어온 증가분은 집계에 빠졌다면 사라지며, 다음 재구성에서 복구됨
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    public void rebuild() {
+        if (!clusterLeaseService.isLeader(REBUILD_JOB)) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<Object[]> rows = bidRepository.countParticipationGroupByUser();
+
+            String tempKey = RANKING_KEY + ":rebuild";
+            redissonClient.getScoredSortedSet(tempKey, StringCodec.INSTANCE).delete();
+            Map<String, Double> chunk = new HashMap<>();
+            for (Object[] row : rows) {
+                long userId = ((Number) row[0]).longValue();
+                long auctionCount = ((Number) row[1]).longValue();
+                chunk.put(String.valueOf(userId), toScore(auctionCount, userId));
+                if (chunk.size() == REBUILD_CHUNK_SIZE) {
+                    redissonClient.getScoredSortedSet(tempKey, StringCodec.INSTANCE).addAll(chunk);
+                    chunk.clear();
+                }
+            }
+
+            RBatch batch = redissonClient.createBatch();
+            if (!chunk.isEmpty()) {
+                batch.getScoredSortedSet(tempKey, StringCodec.INSTANCE).addAllAsync(chunk);
+            }
+            if (rows.isEmpty()) {
+                batch.getScoredSortedSet(RANKING_KEY, StringCodec.INSTANCE).deleteAsync();
+            } else {
+                batch.getScoredSortedSet(tempKey, StringCodec.INSTANCE).renameAsync(RANKING_KEY);
+            }
+            batch.execute();
+
+            int buckets = rebuildDayBuckets();
+
+            log.info("참여 랭킹 재구성 완료: 사용자 {}명, 일별 버킷 {}개, {}ms",
+                    rows.size(), buckets, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("참여 랭킹 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 보관 기간 안의 일별 버킷을 DB 집계 기준으로 교체 (집계가 없는 날은 삭제)
+     *
+     * @return 채운 버킷 수
+     */
+    private int rebuildDayBuckets() {
+        LocalDate today = LocalDate.now();
+        LocalDate since = today.minusDays(RankingPeriod.MONTHLY.getDays() - 1);
+
+        Map<LocalDate, Map<String, Double>> buckets = new HashMap<>();
+        for (Object[] row : bidRepository.countDailyParticipationSince(since.atStartOfDay())) {
+            LocalDate day = row[1] instanceof LocalDate date ? date : ((Date) row[1]).toLocalDate();
+            buckets.computeIfAbsent(day, d -> new HashMap<>())
+                    .put(String.valueOf(((Number) row[0]).longValue()), ((Number) row[2]).doubleValue());
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        for (LocalDate day = since; !day.isAfter(today); day = day.plusDays(1)) {
+            String key = dayKey(day);
+            Map<String, Double> bucket = buckets.get(day);
+            if (bucket == null) {
+                batch.getScoredSortedSet(key, StringCodec.INSTANCE).deleteAsync();
+                continue;
+            }
+            String tempKey = key + ":rebuild";
+            batch.getScoredSortedSet(tempKey, StringCodec.INSTANCE).deleteAsync();
+            batch.getScoredSortedSet(tempKey, StringCodec.INSTANCE).addAllAsync(bucket);
+            batch.getScoredSortedSet(tempKey, StringCodec.INSTANCE).renameAsync(key);
+            batch.getScoredSortedSet(key, StringCodec.INSTANCE)
+                    .expireAsync(BUCKET_RETENTION.minusDays(today.toEpochDay() - day.toEpochDay()));
+        }
+        for (RankingPeriod period : RankingPeriod.values()) {
+            batch.getScoredSortedSet(WINDOW_KEY_PREFIX + period.name(), StringCodec.INSTANCE).deleteAsync();
+        }
+        batch.execute();
+        return buckets.size();
+    }
+
+    /**
+     * Redis 장애 시 폴백 (GROUP BY 전체 집계)
+     */
+    private RankingDashboardResponseDto getUserRankingDashboardFromDb(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        
-        // 랭킹 데이터 조회
         List<Object[]> rankingResults = bidRepository.findUserRankingByAuctionParticipation(pageable);
-        
-        // 총 사용자 수 조회
         Long totalUsers = bidRepository.countDistinctUsers();
-        
-        log.info("랭킹 데이터 조회 완료 - 조회된 랭킹 수: {}, 총 사용자 수: {}", 
-                rankingResults.size(), totalUsers);
-        
-        // 랭킹 DTO 목록 생성
+
         List<UserRankingResponseDto> rankings = new ArrayList<>();
-        
         for (int i = 0; i < rankingResults.size(); i++) {
             Object[] result = rankingResults.get(i);
-            
-            // 데이터베이스 결과를 DTO로 변환
             Long userId = ((Number) result[0]).longValue();
             String nickname = (String) result[1];
             Long auctionCount = ((Number) result[2]).longValue();
-            
-            // 랭킹 계산 (페이지 오프셋 + 현재 인덱스 + 1)
-            Integer ranking = (page * size) + i + 1;
-            
-            rankings.add(new UserRankingResponseDto(userId, nickname, auctionCount, ranking));
-        }
-        
-        // 총 페이지 수 계산
+            rankings.add(new UserRankingResponseDto(userId, nickname, auctionCount, (page * size) + i + 1));
+        }
+
         int totalPages = (int) Math.ceil((double) totalUsers / size);
-        
-        log.info("랭킹 대시보드 생성 완료 - 총 페이지: {}, 현재 페이지: {}", 
-                totalPages, page + 1);
-        
         return new RankingDashboardResponseDto(rankings, totalUsers.intValue(), page + 1, totalPages);
     }
-}
\ No newline at end of file
+
+    private Map<Long, String> findNicknames(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, String> nicknames = new HashMap<>();
+        for (Object[] row : userRepository.findNicknamesByIds(userIds)) {
+            nicknames.put((Long) row[0], (String) row[1]);
+        }
+        return nicknames;
+    }
+
+    private RScoredSortedSet<String> ranking() {
+        return redissonClient.getScoredSortedSet(RANKING_KEY, StringCodec.INSTANCE);
+    }
+
+    /**
+     * 기간별 랭킹 sorted set (7일 / 30일은 일별 버킷 합집합을 잠시 보관)
+     */
+    private RScoredSortedSet<String> ranking(RankingPeriod period) {
+        LocalDate today = LocalDate.now();
+        if (period == RankingPeriod.ALL) {
+            return ranking();
+        }
+        if (period == RankingPeriod.DAILY) {
+            return redissonClient.getScoredSortedSet(dayKey(today), StringCodec.INSTANCE);
+        }
+
+        String windowKey = WINDOW_KEY_PREFIX + period.name();
+        RScoredSortedSet<String> window = redissonClient.getScoredSortedSet(windowKey, StringCodec.INSTANCE);
+        if (!window.isExists()) {
+            String[] dayKeys = new String[period.getDays()];
+            for (int i = 0; i < dayKeys.length; i++) {
+                dayKeys[i] = dayKey(today.minusDays(i));
+            }
+            RBatch batch = redissonClient.createBatch();
+            batch.getScoredSortedSet(windowKey, StringCodec.INSTANCE).unionAsync(dayKeys);
+            batch.getScoredSortedSet(windowKey, StringCodec.INSTANCE).expireAsync(WINDOW_CACHE_TTL);
+            batch.execute();
+        }
+        return window;
+    }
+
+    private static String dayKey(LocalDate day) {
+        return DAY_KEY_PREFIX + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    private static double toScore(long auctionCount, long userId) {
+        return auctionCount * SCORE_UNIT - userId;
+    }
+
+    /**
+     * Lua 에 넘길 점수 문자열 (지수 표기 없이)
+     */
+    private static String toScoreString(long auctionCount, long userId) {
+        return String.valueOf((long) toScore(auctionCount, userId));
+    }
+
+    private static long toAuctionCount(RankingPeriod period, double score, long userId) {
+        if (period != RankingPeriod.ALL) {
+            return Math.round(score);
+        }
+        return Math.round((score + userId) / SCORE_UNIT);
+    }
+}
@@ -2,7 +2,11 @@ package com.highlight.highlight_backend.user.repository;
 
 import com.highlight.highlight_backend.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -14,4 +18,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserId(String userId);
 
     Optional<User> findByPhoneNumber(String phoneNumber);
+
+    /**
+     * 닉네임만 조회 (랭킹 페이지용)
+     *
+     * @return [id, nickname]
+     */
+    @Query("SELECT u.id, u.nickname FROM User u WHERE u.id IN :ids")
+    List<Object[]> findNicknamesByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,83 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+// =============================
+// 🔥 테스트 옵션 (30초)
+// =============================
+// 300만 건 더미 데이터에서 가격 범위 검색 / 가격 정렬 비교용
+// 인덱스 적용 전(idx_auction_status_price, idx_auction_category_status_price 삭제)과 적용 후 각각 실행해 p(95) 비교
+export const options = {
+    scenarios: {
+        test_scenario: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '10s', target: 50 },  // ramp-up
+                { duration: '10s', target: 50 },  // steady
+                { duration: '10s', target: 100 }, // spike
+            ],
+            exec: 'priceScenario',
+        },
+    },
+    thresholds: {
+        http_req_duration: ['p(95)<500'], // SLA
+    },
+};
+
+
+// 테스트 모드 (여기 바꿔가면서 테스트)
+const TEST_MODE = 'mixed';
+// 'range' | 'range_category' | 'price_sort' | 'mixed'
+
+const BASE_URL = 'http://43.201.85.125:8085/api/public/auctions/';
+const CATEGORIES = ['PROPS', 'FURNITURE', 'HOME_APPLIANCES', 'SCULPTURE', 'FASHION', 'CERAMICS', 'PAINTING'];
+
+// =============================
+// 🔧 유틸
+// =============================
+function random(min, max) {
+    return Math.floor(Math.random() * (max - min + 1)) + min;
+}
+
+function priceRange() {
+    const min = random(1, 100) * 10000;
+    return `minPrice=${min}&maxPrice=${min + random(1, 20) * 10000}`;
+}
+
+// =============================
+// 🎯 시나리오
+// =============================
+export function priceScenario() {
+    let mode = TEST_MODE;
+
+    if (mode === 'mixed') {
+        // 🔹 실제 서비스 패턴
+        const rand = Math.random();
+        mode = rand < 0.5 ? 'range' : (rand < 0.8 ? 'range_category' : 'price_sort');
+    }
+
+    let query;
+    if (mode === 'range') {
+        // 🔹 상태 + 가격 범위
+        query = `status=IN_PROGRESS&${priceRange()}`;
+    } else if (mode === 'range_category') {
+        // 🔹 카테고리 + 상태 + 가격 범위 + 가격 정렬
+        const category = CATEGORIES[random(0, CATEGORIES.length - 1)];
+        query = `status=IN_PROGRESS&category=${category}&${priceRange()}&sort=currentHighestBid,asc`;
+    } else {
+        // 🔹 가격 높은순 (필터 없음)
+        query = `status=IN_PROGRESS&sort=currentHighestBid,desc`;
+    }
+
+    const res = http.get(`${BASE_URL}?${query}&size=16`);
+
+    check(res, {
+        'status 200': (r) => r.status === 200,
+    });
+
+    if (res.status !== 200) {
+        console.log(`❌ status=${res.status}, body=${res.body}`);
+    }
+
+    sleep(0.3); // 과도한 DDOS 방지 + 현실성
+}
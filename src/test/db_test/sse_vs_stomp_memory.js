@@ -0,0 +1,122 @@
+import http from 'k6/http';
+import ws from 'k6/ws';
+import { check, sleep } from 'k6';
+import { Trend } from 'k6/metrics';
+
+// =============================
+// 🔥 테스트 옵션
+// =============================
+// 경매 1건을 읽기 전용으로 보는 연결 N개를 붙잡아 두고 연결당 서버 heap 증가량 비교
+// MODE=sse   → GET /api/public/auctions/{id}/stream (SSE)
+// MODE=stomp → /ws/direct + STOMP CONNECT / SUBSCRIBE /topic/auction/{id}
+// 같은 조건(서버 재시작 직후, 같은 CONNECTIONS)으로 두 모드를 각각 실행해 bytes_per_connection 비교
+// /actuator/websocket 은 관리자 전용이므로 ADMIN_TOKEN(관리자 JWT)을 함께 넘겨야 연결 수를 읽을 수 있음
+// 예) k6 run -e MODE=sse -e CONNECTIONS=5000 -e ADMIN_TOKEN=... sse_vs_stomp_memory.js
+const MODE = __ENV.MODE || 'sse';
+const CONNECTIONS = parseInt(__ENV.CONNECTIONS || '2000');
+const AUCTION_ID = __ENV.AUCTION_ID || '1';
+const HOST = __ENV.HOST || '43.201.85.125:8085';
+const ADMIN_TOKEN = __ENV.ADMIN_TOKEN || '';
+
+const RAMP_SECONDS = 30;
+const HOLD_SECONDS = 60;
+
+const bytesPerConnection = new Trend('bytes_per_connection');
+const serverConnections = new Trend('server_connections');
+
+export const options = {
+    setupTimeout: '30s',
+    scenarios: {
+        // 연결을 열고 끝날 때까지 유지
+        watchers: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: `${RAMP_SECONDS}s`, target: CONNECTIONS }, // ramp-up
+                { duration: `${HOLD_SECONDS}s`, target: CONNECTIONS }, // hold
+            ],
+            gracefulRampDown: '0s',
+            exec: 'watch',
+        },
+        // 연결이 다 붙은 뒤 서버 heap / 연결 수 측정
+        probe: {
+            executor: 'per-vu-iterations',
+            vus: 1,
+            iterations: 1,
+            startTime: `${RAMP_SECONDS + 20}s`,
+            exec: 'probe',
+        },
+    },
+};
+
+// =============================
+// 🔧 유틸
+// =============================
+function heapUsed() {
+    const res = http.get(`http://${HOST}/actuator/metrics/jvm.memory.used?tag=area:heap`);
+    return res.status === 200 ? res.json('measurements.0.value') : 0;
+}
+
+function stompFrame(command, headers) {
+    let frame = `${command}\n`;
+    for (const key in headers) {
+        frame += `${key}:${headers[key]}\n`;
+    }
+    return `${frame}\n\0`;
+}
+
+// =============================
+// 🎯 시나리오
+// =============================
+export function setup() {
+    const baseline = heapUsed();
+    console.log(`📏 baseline heap=${baseline} bytes, mode=${MODE}, connections=${CONNECTIONS}`);
+    return { baseline };
+}
+
+export function watch() {
+    const remainingMs = (RAMP_SECONDS + HOLD_SECONDS) * 1000;
+
+    if (MODE === 'sse') {
+        // 응답이 끝나지 않으므로 timeout 까지 연결 유지 (timeout 에러는 정상)
+        http.get(`http://${HOST}/api/public/auctions/${AUCTION_ID}/stream`, {
+            headers: { Accept: 'text/event-stream' },
+            timeout: `${remainingMs}ms`,
+            responseCallback: http.expectedStatuses(0, 200),
+        });
+        return;
+    }
+
+    const res = ws.connect(`ws://${HOST}/ws/direct`, null, (socket) => {
+        socket.on('open', () => {
+            socket.send(stompFrame('CONNECT', { 'accept-version': '1.2', host: HOST, 'heart-beat': '0,0' }));
+            socket.send(stompFrame('SUBSCRIBE', { id: 'sub-0', destination: `/topic/auction/${AUCTION_ID}` }));
+        });
+        socket.setTimeout(() => socket.close(), remainingMs);
+    });
+
+    check(res, {
+        'ws status 101': (r) => r && r.status === 101,
+    });
+}
+
+export function probe(data) {
+    const status = http.get(`http://${HOST}/actuator/websocket`, {
+        headers: { Authorization: `Bearer ${ADMIN_TOKEN}` },
+    });
+    if (status.status !== 200) {
+        console.log(`❌ actuator status=${status.status}`);
+        return;
+    }
+    const connections = MODE === 'sse' ? status.json('sseConnections') : status.json('sessions');
+    const heap = heapUsed();
+    serverConnections.add(connections);
+
+    if (connections > 0) {
+        const perConnection = (heap - data.baseline) / connections;
+        bytesPerConnection.add(perConnection);
+        console.log(`📊 mode=${MODE}, connections=${connections}, heap=${heap}, bytes/connection=${Math.round(perConnection)}`);
+    }
+
+    sleep(1);
+}
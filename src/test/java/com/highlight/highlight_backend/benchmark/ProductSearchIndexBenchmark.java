@@ -0,0 +1,82 @@
+package com.highlight.highlight_backend.benchmark;
+
+import com.highlight.highlight_backend.common.search.InvertedIndex;
+import com.highlight.highlight_backend.common.search.NgramTokenizer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 검색 색인 성능 측정 (기본 300만 건)
+ *
+ * 일반 test 에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ * 상품 수는 -Dbenchmark.products=1000000 처럼 바꿀 수 있습니다.
+ */
+@Tag("benchmark")
+class ProductSearchIndexBenchmark {
+
+    private static final int PRODUCTS = Integer.getInteger("benchmark.products", 3_000_000);
+    private static final int WARMUP_QUERIES = 2_000;
+    private static final int MEASURED_QUERIES = 10_000;
+    private static final int LIMIT = 1000;
+
+    private static final String[] ADJECTIVES = {"조선", "고려", "빈티지", "모던", "수제", "앤틱", "북유럽", "전통", "미니", "대형"};
+    private static final String[] MATERIALS = {"백자", "청자", "원목", "철제", "유리", "가죽", "대리석", "황동", "도자기", "옻칠"};
+    private static final String[] ITEMS = {"달항아리", "찻잔", "의자", "테이블", "조명", "화병", "액자", "소반", "장식장", "접시"};
+    private static final String[] BRANDS = {"국립공방", "한빛", "나팔", "소담", "무늬", "온새미로", "라온", "다온", "미리내", "해솔"};
+    private static final String[] QUERIES = {"달항아리", "백자", "원목 의자", "빈티지 조명", "국립공방", "청자 화병", "황동", "수제 소반"};
+
+    private static InvertedIndex index;
+
+    @BeforeAll
+    static void buildIndex() {
+        Random random = new Random(42);
+        index = new InvertedIndex();
+        long startedAt = System.currentTimeMillis();
+        for (long id = 1; id <= PRODUCTS; id++) {
+            String name = pick(random, ADJECTIVES) + " " + pick(random, MATERIALS) + " " + pick(random, ITEMS)
+                    + " " + random.nextInt(1000) + "호";
+            String brand = pick(random, BRANDS);
+            String description = pick(random, MATERIALS) + "로 만든 " + pick(random, ITEMS) + " 입니다";
+            index.appendSorted(id, NgramTokenizer.tokenize(name, brand, description));
+        }
+        System.out.printf("[benchmark] 색인 생성: 상품 %,d건, 토큰 %,d개, %,dms%n",
+                index.size(), index.tokenCount(), System.currentTimeMillis() - startedAt);
+    }
+
+    @Test
+    @DisplayName("300만 건 색인에서 검색 p99 가 10ms 미만이다")
+    void search_shouldStayUnderTenMillis() {
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            index.search(NgramTokenizer.tokenize(QUERIES[i % QUERIES.length]), LIMIT);
+        }
+
+        long[] latencies = new long[MEASURED_QUERIES];
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            Set<String> tokens = NgramTokenizer.tokenize(QUERIES[i % QUERIES.length]);
+            long startedAt = System.nanoTime();
+            List<Long> result = index.search(tokens, LIMIT);
+            latencies[i] = System.nanoTime() - startedAt;
+            assertThat(result).isNotEmpty();
+        }
+        Arrays.sort(latencies);
+
+        double p50 = latencies[MEASURED_QUERIES / 2] / 1_000_000.0;
+        double p99 = latencies[MEASURED_QUERIES * 99 / 100] / 1_000_000.0;
+        System.out.printf("[benchmark] 검색 %d회: p50 %.3fms, p99 %.3fms%n", MEASURED_QUERIES, p50, p99);
+
+        assertThat(p99).isLessThan(10.0);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,176 @@
+package com.highlight.highlight_backend.integration.auction;
+
+import com.highlight.highlight_backend.admin.domain.Admin;
+import com.highlight.highlight_backend.admin.repository.AdminRepository;
+import com.highlight.highlight_backend.auction.application.AuctionFacade;
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.dto.AuctionScheduleRequestDto;
+import com.highlight.highlight_backend.auction.dto.AuctionStartRequestDto;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.auction.service.AuctionEndService;
+import com.highlight.highlight_backend.product.domian.Product;
+import com.highlight.highlight_backend.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.highlight.highlight_backend.product.domian.Product.Category.CERAMICS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배치 종료가 겹칠 때 경매마다 정확히 한 배치만 처리하는지 검증
+ *
+ * 샤드 tick 과 리더 보정 작업은 서로 다른 노드에서 같은 경매를 동시에 후보로 잡을 수 있다.
+ * 선점은 FOR UPDATE SKIP LOCKED 이므로 다른 배치가 잠근 행은 건너뛰고, 커밋된 뒤에는 종료 상태라 제외된다.
+ */
+@SpringBootTest
+class AuctionEndBatchConcurrencyTest {
+
+    private static final int AUCTION_COUNT = 5;
+
+    @Autowired
+    AuctionEndService auctionEndService;
+    @Autowired
+    AuctionFacade auctionFacade;
+    @Autowired
+    AuctionRepository auctionRepository;
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    AdminRepository adminRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private Admin admin;
+    private List<Long> auctionIds;
+
+    @BeforeEach
+    void setUp() {
+        admin = adminRepository.findById(1L).orElseThrow();
+        auctionIds = new ArrayList<>();
+        for (int i = 0; i < AUCTION_COUNT; i++) {
+            auctionIds.add(createDueAuction());
+        }
+    }
+
+    @Test
+    @DisplayName("다른 배치가 잠근 경매는 건너뛰고, 잠금이 풀린 뒤 한 번만 종료한다")
+    void lockedByOtherBatch_shouldBeSkipped() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // 다른 노드의 배치가 선점만 하고 아직 커밋하지 않은 상태
+        Future<?> otherBatch = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            auctionRepository.lockDueAuctions(auctionIds, LocalDateTime.now());
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            status.setRollbackOnly();
+        }));
+
+        locked.await();
+        int closedWhileLocked = auctionEndService.endAuctions(auctionIds);
+        release.countDown();
+        otherBatch.get();
+        executor.shutdown();
+
+        int closedAfterRelease = auctionEndService.endAuctions(auctionIds);
+        int closedAgain = auctionEndService.endAuctions(auctionIds);
+
+        assertThat(closedWhileLocked).isZero();
+        assertThat(closedAfterRelease).isEqualTo(AUCTION_COUNT);
+        assertThat(closedAgain).isZero();
+    }
+
+    @Test
+    @DisplayName("동시에 도는 두 배치가 같은 후보를 받아도 종료 건수 합은 경매 수와 같다")
+    void overlappingBatches_shouldCloseEachAuctionOnce() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return auctionEndService.endAuctions(auctionIds);
+            }));
+        }
+
+        start.countDown();
+        int closed = 0;
+        for (Future<Integer> result : results) {
+            closed += result.get();
+        }
+        executor.shutdown();
+
+        assertThat(closed).isEqualTo(AUCTION_COUNT);
+        assertThat(auctionRepository.findAllById(auctionIds))
+                .allSatisfy(auction -> assertThat(auction.getStatus()).isEqualTo(Auction.AuctionStatus.COMPLETED));
+    }
+
+    /**
+     * 진행 중이며 종료 시간이 이미 지난 경매
+     */
+    private Long createDueAuction() {
+        AuctionScheduleRequestDto dto = new AuctionScheduleRequestDto();
+        dto.setProductId(createProduct().getId());
+        dto.setStartPrice(BigDecimal.valueOf(10000));
+        dto.setBidUnit(BigDecimal.valueOf(1000));
+        dto.setMaxBid(BigDecimal.valueOf(100000));
+        dto.setMinimumBid(BigDecimal.valueOf(1000));
+        dto.setBuyItNowPrice(BigDecimal.valueOf(500000));
+        dto.setShippingFee(BigDecimal.ZERO);
+        dto.setIsPickupAvailable(false);
+        dto.setScheduledStartTime(LocalDateTime.now().plusHours(1));
+        dto.setScheduledEndTime(LocalDateTime.now().plusHours(3));
+        dto.setDescription("테스트 경매");
+
+        Long auctionId = auctionFacade.scheduleAuction(dto, admin.getId()).getAuctionId();
+        auctionFacade.startAuction(auctionId,
+                new AuctionStartRequestDto(LocalDateTime.now(), LocalDateTime.now().plusHours(1)), admin.getId());
+        jdbcTemplate.update("UPDATE auction SET scheduled_end_time = ? WHERE id = ?",
+                LocalDateTime.now().minusMinutes(1), auctionId);
+        return auctionId;
+    }
+
+    private Product createProduct() {
+        Product product = new Product();
+        product.setProductName("테스트 상품");
+        product.setShortDescription("테스트 상품 설명");
+        product.setHistory("상품 히스토리");
+        product.setExpectedEffects("기대효과");
+        product.setDetailedInfo("상세정보");
+        product.setCategory(CERAMICS);
+        product.setProductCount(1L);
+        product.setMaterial("목재");
+        product.setSize("100x100");
+        product.setBrand("테스트브랜드");
+        product.setManufactureYear(2020);
+        product.setCondition("상태 양호");
+        product.setRank(Product.ProductRank.GOOD);
+        product.setStatus(Product.ProductStatus.ACTIVE);
+        product.setRegisteredBy(admin.getId());
+        product.setSellerId(1L);
+        product.setIsPremium(false);
+        return productRepository.save(product);
+    }
+}
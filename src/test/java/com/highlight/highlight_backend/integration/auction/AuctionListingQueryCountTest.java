@@ -0,0 +1,154 @@
+package com.highlight.highlight_backend.integration.auction;
+
+import com.highlight.highlight_backend.admin.domain.Admin;
+import com.highlight.highlight_backend.admin.repository.AdminRepository;
+import com.highlight.highlight_backend.auction.application.AuctionFacade;
+import com.highlight.highlight_backend.auction.dto.AuctionPageResponse;
+import com.highlight.highlight_backend.auction.dto.AuctionScheduleRequestDto;
+import com.highlight.highlight_backend.auction.dto.AuctionSearchConditionDto;
+import com.highlight.highlight_backend.auction.dto.AuctionStartRequestDto;
+import com.highlight.highlight_backend.auction.service.AuctionCountService;
+import com.highlight.highlight_backend.auction.service.UserAuctionService;
+import com.highlight.highlight_backend.product.domian.Product;
+import com.highlight.highlight_backend.product.domian.ProductImage;
+import com.highlight.highlight_backend.product.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static com.highlight.highlight_backend.auction.domain.Auction.AuctionStatus.IN_PROGRESS;
+import static com.highlight.highlight_backend.product.domian.Product.Category.CERAMICS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경매 목록 조회 SQL 개수 고정 검증
+ *
+ * ID 조회(커버링 인덱스) + projection 조회 + 썸네일 IN 조회 = 3개
+ * 페이지 크기가 늘어나도 이미지 지연 로딩(N+1)이 생기지 않아야 한다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "cache.near.enabled=false" // 목록 결과 캐시를 거치지 않도록 끔
+})
+class AuctionListingQueryCountTest {
+
+    private static final int LISTING_STATEMENTS = 3;
+
+    @Autowired
+    UserAuctionService userAuctionService;
+    @Autowired
+    AuctionFacade auctionFacade;
+    @Autowired
+    AuctionCountService auctionCountService;
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    AdminRepository adminRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Admin admin;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        admin = adminRepository.findById(1L).orElseThrow();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 페이지 크기(20)보다 많은 진행중 경매 + 상품당 이미지 2장
+        for (int i = 0; i < 21; i++) {
+            createInProgressAuction(createProductWithImages());
+        }
+        // count 는 Redis 에서 읽도록 미리 적재 (DB 폴백 쿼리 제외)
+        auctionCountService.getCount(IN_PROGRESS.name(), CERAMICS.name());
+    }
+
+    @Test
+    @DisplayName("경매 목록 조회 SQL 개수는 페이지 크기와 상관없이 일정하다")
+    void getProductsFiltered_shouldUseConstantStatementCount() {
+        long smallPage = countStatements(5);
+        long largePage = countStatements(20);
+
+        assertThat(smallPage).isEqualTo(LISTING_STATEMENTS);
+        assertThat(largePage).isEqualTo(LISTING_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("목록의 썸네일은 대표 이미지로 채워진다")
+    void getProductsFiltered_shouldFillPrimaryThumbnail() {
+        AuctionPageResponse response = userAuctionService.getProductsFiltered(
+                condition(), null, PageRequest.of(0, 5));
+
+        assertThat(response.getContent()).isNotEmpty();
+        assertThat(response.getContent())
+                .allSatisfy(item -> assertThat(item.getThumbnailUrl()).endsWith("/primary.jpg"));
+    }
+
+    private long countStatements(int pageSize) {
+        statistics.clear();
+        AuctionPageResponse response = userAuctionService.getProductsFiltered(
+                condition(), null, PageRequest.of(0, pageSize));
+        assertThat(response.getContent()).hasSize(pageSize);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private AuctionSearchConditionDto condition() {
+        return new AuctionSearchConditionDto(CERAMICS.name(), null, null, null, null, IN_PROGRESS.name());
+    }
+
+    private void createInProgressAuction(Product product) {
+        AuctionScheduleRequestDto dto = new AuctionScheduleRequestDto();
+        dto.setProductId(product.getId());
+        dto.setStartPrice(BigDecimal.valueOf(10000));
+        dto.setBidUnit(BigDecimal.valueOf(1000));
+        dto.setMaxBid(BigDecimal.valueOf(100000));
+        dto.setMinimumBid(BigDecimal.valueOf(1000));
+        dto.setBuyItNowPrice(BigDecimal.valueOf(500000));
+        dto.setShippingFee(BigDecimal.ZERO);
+        dto.setIsPickupAvailable(false);
+        dto.setScheduledStartTime(LocalDateTime.now().plusHours(1));
+        dto.setScheduledEndTime(LocalDateTime.now().plusHours(3));
+        dto.setDescription("테스트 경매");
+
+        var response = auctionFacade.scheduleAuction(dto, admin.getId());
+        auctionFacade.startAuction(response.getAuctionId(),
+                new AuctionStartRequestDto(LocalDateTime.now(), LocalDateTime.now().plusHours(1)), admin.getId());
+    }
+
+    private Product createProductWithImages() {
+        Product product = new Product();
+        product.setProductName("테스트 상품");
+        product.setShortDescription("테스트 상품 설명");
+        product.setHistory("상품 히스토리");
+        product.setExpectedEffects("기대효과");
+        product.setDetailedInfo("상세정보");
+        product.setCategory(CERAMICS);
+        product.setProductCount(1L);
+        product.setMaterial("목재");
+        product.setSize("100x100");
+        product.setBrand("테스트브랜드");
+        product.setManufactureYear(2020);
+        product.setCondition("상태 양호");
+        product.setRank(Product.ProductRank.GOOD);
+        product.setStatus(Product.ProductStatus.ACTIVE);
+        product.setRegisteredBy(admin.getId());
+        product.setSellerId(1L);
+        product.setIsPremium(false);
+
+        ProductImage detail = new ProductImage("detail.jpg", "detail.jpg", "https://cdn.test/detail.jpg", 100L, "image/jpeg");
+        ProductImage primary = new ProductImage("primary.jpg", "primary.jpg", "https://cdn.test/primary.jpg", 100L, "image/jpeg");
+        primary.setPrimary(true);
+        product.addImage(detail);
+        product.addImage(primary);
+        return productRepository.save(product);
+    }
+}
@@ -0,0 +1,56 @@
+package com.highlight.highlight_backend.integration.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 운영 제어 actuator 엔드포인트(L1 캐시 kill switch, WebSocket 세션 현황)는 관리자만 접근 가능한지 검증
+ */
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health,nearcache,websocket")
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    @DisplayName("로그인하지 않으면 L1 캐시 kill switch 를 바꿀 수 없다")
+    void anonymous_shouldNotToggleNearCache() throws Exception {
+        mockMvc.perform(post("/actuator/nearcache")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"enabled\": false}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/websocket"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("일반 사용자도 운영 제어 엔드포인트에 접근할 수 없다")
+    void user_shouldNotAccessOperationalEndpoints() throws Exception {
+        mockMvc.perform(post("/actuator/nearcache")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"enabled\": false}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/websocket"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("관리자는 L1 캐시 상태를 조회할 수 있다")
+    void admin_shouldReadNearCache() throws Exception {
+        mockMvc.perform(get("/actuator/nearcache"))
+                .andExpect(status().isOk());
+    }
+}
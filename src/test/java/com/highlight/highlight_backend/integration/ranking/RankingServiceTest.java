@@ -0,0 +1,157 @@
+package com.highlight.highlight_backend.integration.ranking;
+
+import com.highlight.highlight_backend.bid.repository.BidRepository;
+import com.highlight.highlight_backend.common.cluster.ClusterLeaseService;
+import com.highlight.highlight_backend.ranking.dto.RankingDashboardResponseDto;
+import com.highlight.highlight_backend.ranking.dto.RankingPeriod;
+import com.highlight.highlight_backend.ranking.dto.UserRankingResponseDto;
+import com.highlight.highlight_backend.ranking.service.RankingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+public class RankingServiceTest {
+
+    private static final String RANKING_KEY = "ranking:participation";
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @MockitoBean
+    private BidRepository bidRepository;
+
+    @MockitoBean
+    private ClusterLeaseService clusterLeaseService;
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().deleteByPattern(RANKING_KEY + "*");
+        when(clusterLeaseService.isLeader(anyString())).thenReturn(true);
+        when(bidRepository.countParticipationGroupByUser()).thenReturn(List.of());
+        when(bidRepository.countDailyParticipationSince(any())).thenReturn(List.of());
+    }
+
+    private RScoredSortedSet<String> sortedSet(String key) {
+        return redissonClient.getScoredSortedSet(key, StringCodec.INSTANCE);
+    }
+
+    private static String dayKey(LocalDate day) {
+        return RANKING_KEY + ":day:" + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    @Test
+    @DisplayName("랭킹 키가 있으면 참여 시 전체 랭킹과 오늘 버킷을 함께 1 증가시킨다")
+    void recordParticipation_shouldIncrementRankingAndTodayBucket() {
+        sortedSet(RANKING_KEY).add(1e10 - 900001, "900001");
+
+        rankingService.recordParticipation(900001L);
+        rankingService.recordParticipation(900002L);
+
+        assertThat(rankingService.getMyRanking(900001L, RankingPeriod.ALL).getAuctionCount()).isEqualTo(2);
+        assertThat(rankingService.getMyRanking(900002L, RankingPeriod.ALL).getAuctionCount()).isEqualTo(1);
+        assertThat(sortedSet(dayKey(LocalDate.now())).getScore("900001")).isEqualTo(1.0);
+        assertThat(sortedSet(dayKey(LocalDate.now())).remainTimeToLive()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Redis 초기화 뒤 첫 참여는 랭킹 키를 만들지 않아 재구성이 DB 기준으로 채운다")
+    void recordParticipation_missingRanking_shouldLeaveRebuildToDatabase() {
+        rankingService.recordParticipation(900001L);
+        assertThat(sortedSet(RANKING_KEY).isExists()).isFalse();
+
+        when(bidRepository.countParticipationGroupByUser()).thenReturn(rows(
+                new Object[]{900001L, 5L},
+                new Object[]{900002L, 3L}));
+
+        rankingService.rebuildIfMissing();
+
+        assertThat(sortedSet(RANKING_KEY).size()).isEqualTo(2);
+        UserRankingResponseDto me = rankingService.getMyRanking(900001L, RankingPeriod.ALL);
+        assertThat(me.getAuctionCount()).isEqualTo(5);
+        assertThat(me.getRanking()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재구성 결과는 참여 수 내림차순, 동점이면 userId 오름차순")
+    void rebuild_shouldOrderByCountThenUserId() {
+        when(bidRepository.countParticipationGroupByUser()).thenReturn(rows(
+                new Object[]{900003L, 4L},
+                new Object[]{900001L, 2L},
+                new Object[]{900002L, 4L}));
+
+        rankingService.rebuild();
+
+        RankingDashboardResponseDto dashboard = rankingService.getUserRankingDashboard(0, 10, RankingPeriod.ALL);
+        assertThat(dashboard.getTotalUsers()).isEqualTo(3);
+        assertThat(dashboard.getRankings())
+                .extracting(UserRankingResponseDto::getUserId, UserRankingResponseDto::getAuctionCount)
+                .containsExactly(
+                        tuple(900002L, 4L),
+                        tuple(900003L, 4L),
+                        tuple(900001L, 2L));
+    }
+
+    @Test
+    @DisplayName("재구성은 보관 기간 안의 일별 버킷을 DB 기준으로 교체한다")
+    void rebuild_shouldReplaceDayBuckets() {
+        LocalDate today = LocalDate.now();
+        sortedSet(dayKey(today)).add(9, "900009");
+        when(bidRepository.countParticipationGroupByUser()).thenReturn(rows(new Object[]{900001L, 2L}));
+        when(bidRepository.countDailyParticipationSince(any())).thenReturn(rows(
+                new Object[]{900001L, today, 1L},
+                new Object[]{900001L, today.minusDays(2), 1L}));
+
+        rankingService.rebuild();
+
+        assertThat(sortedSet(dayKey(today)).readAll()).containsExactly("900001");
+        assertThat(sortedSet(dayKey(today.minusDays(2))).getScore("900001")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최근 7일 / 30일 랭킹은 기간 안의 일별 버킷만 합친다")
+    void windowRanking_shouldUnionDayBucketsInPeriod() {
+        LocalDate today = LocalDate.now();
+        sortedSet(dayKey(today)).addAll(Map.of("900001", 1.0, "900002", 2.0));
+        sortedSet(dayKey(today.minusDays(6))).add(2, "900001");
+        sortedSet(dayKey(today.minusDays(10))).add(5, "900003");
+
+        RankingDashboardResponseDto weekly = rankingService.getUserRankingDashboard(0, 10, RankingPeriod.WEEKLY);
+        assertThat(weekly.getTotalUsers()).isEqualTo(2);
+        assertThat(weekly.getRankings())
+                .extracting(UserRankingResponseDto::getUserId, UserRankingResponseDto::getAuctionCount)
+                .containsExactly(
+                        tuple(900001L, 3L),
+                        tuple(900002L, 2L));
+
+        UserRankingResponseDto monthly = rankingService.getMyRanking(900003L, RankingPeriod.MONTHLY);
+        assertThat(monthly.getAuctionCount()).isEqualTo(5);
+        assertThat(monthly.getRanking()).isEqualTo(1);
+        assertThat(sortedSet(RANKING_KEY + ":window:WEEKLY").remainTimeToLive()).isPositive();
+    }
+}
@@ -0,0 +1,180 @@
+package com.highlight.highlight_backend.unit.auction;
+
+import com.highlight.highlight_backend.auction.domain.Auction.AuctionStatus;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.auction.service.AuctionCountReconciler;
+import com.highlight.highlight_backend.auction.service.AuctionCountService;
+import com.highlight.highlight_backend.common.cache.NearCacheManager;
+import com.highlight.highlight_backend.common.cache.SingleFlightLoader;
+import com.highlight.highlight_backend.common.cluster.ClusterLeaseService;
+import com.highlight.highlight_backend.product.domian.Product.Category;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RLock;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuctionCountServiceTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private AuctionRepository auctionRepository;
+    private AuctionCountService auctionCountService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(anyString(), any())).thenReturn(mock(RTopic.class));
+        RLock lock = mock(RLock.class);
+        when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+
+        auctionRepository = mock(AuctionRepository.class);
+        auctionCountService = new AuctionCountService(redisTemplate, auctionRepository,
+                new NearCacheManager(redissonClient, new SimpleMeterRegistry(), true),
+                new SingleFlightLoader(redissonClient, new SimpleMeterRegistry()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] capturedScriptArgs(List<String> expectedKeys) {
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(expectedKeys), args.capture());
+        return args.getValue();
+    }
+
+    @Test
+    @DisplayName("상태 전이는 전체 키와 카테고리 키를 스크립트 1번으로 옮긴다")
+    void transition_shouldMoveStatusAndCategoryKeys() {
+        auctionCountService.transition(AuctionStatus.IN_PROGRESS, AuctionStatus.COMPLETED, Category.FASHION);
+
+        Object[] deltas = capturedScriptArgs(List.of(
+                "auction:count:IN_PROGRESS",
+                "auction:count:COMPLETED",
+                "auction:count:IN_PROGRESS:FASHION",
+                "auction:count:COMPLETED:FASHION"));
+        assertThat(deltas).containsExactly("-1", "1", "-1", "1");
+    }
+
+    @Test
+    @DisplayName("배치 전이는 카테고리별 개수를 합산해 전체 키에 반영한다")
+    void transitionBatch_shouldSumCategories() {
+        Map<Category, Long> counts = new EnumMap<>(Category.class);
+        counts.put(Category.FASHION, 2L);
+        counts.put(Category.PAINTING, 3L);
+
+        auctionCountService.transitionBatch(AuctionStatus.IN_PROGRESS, AuctionStatus.COMPLETED, counts);
+
+        Object[] deltas = capturedScriptArgs(List.of(
+                "auction:count:IN_PROGRESS",
+                "auction:count:COMPLETED",
+                "auction:count:IN_PROGRESS:FASHION",
+                "auction:count:COMPLETED:FASHION",
+                "auction:count:IN_PROGRESS:PAINTING",
+                "auction:count:COMPLETED:PAINTING"));
+        assertThat(deltas).containsExactly("-5", "5", "-2", "2", "-3", "3");
+    }
+
+    @Test
+    @DisplayName("변화가 없는 전이는 Redis 를 호출하지 않는다")
+    @SuppressWarnings("unchecked")
+    void transition_noop_shouldSkipRedis() {
+        auctionCountService.transition(AuctionStatus.IN_PROGRESS, AuctionStatus.IN_PROGRESS, Category.FASHION);
+        auctionCountService.transitionBatch(AuctionStatus.IN_PROGRESS, AuctionStatus.COMPLETED, Map.of());
+
+        verify(redisTemplate, never()).execute(any(RedisScript.class), any(List.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Redis 값은 L1 에 담아 두고, 전이가 일어나면 L1 에서 지운다")
+    void getCount_shouldUseNearCacheUntilTransition() {
+        when(valueOperations.get("auction:count:IN_PROGRESS")).thenReturn("4");
+
+        assertThat(auctionCountService.getCount("IN_PROGRESS", null)).isEqualTo(4);
+        assertThat(auctionCountService.getCount("IN_PROGRESS", null)).isEqualTo(4);
+        verify(valueOperations, times(1)).get("auction:count:IN_PROGRESS");
+
+        auctionCountService.increment(AuctionStatus.IN_PROGRESS, Category.FASHION);
+        auctionCountService.getCount("IN_PROGRESS", null);
+        verify(valueOperations, times(2)).get("auction:count:IN_PROGRESS");
+    }
+
+    @Test
+    @DisplayName("Redis 미스면 DB 로 계산해 현재 값과 이전 값 키에 저장한다")
+    void getCount_miss_shouldFallbackToDatabase() {
+        when(auctionRepository.countByStatusAndCategory(AuctionStatus.IN_PROGRESS, Category.FASHION)).thenReturn(6L);
+
+        long count = auctionCountService.getCount("IN_PROGRESS", "FASHION");
+
+        assertThat(count).isEqualTo(6);
+        verify(valueOperations).set("auction:count:IN_PROGRESS:FASHION", "6", 1, TimeUnit.HOURS);
+        verify(valueOperations).set("auction:count-stale:IN_PROGRESS:FASHION", "6", 24, TimeUnit.HOURS);
+    }
+
+    @Test
+    @DisplayName("보정 작업은 리더 노드에서만 돌고, 오차를 게이지로 노출한다")
+    void reconciler_shouldRunOnLeaderAndExposeDrift() {
+        AuctionCountService countService = mock(AuctionCountService.class);
+        when(countService.reconcile()).thenReturn(new AuctionCountService.ReconcileResult(5L, 3L));
+        ClusterLeaseService clusterLeaseService = mock(ClusterLeaseService.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuctionCountReconciler reconciler = new AuctionCountReconciler(countService, clusterLeaseService, meterRegistry);
+
+        reconciler.reconcile();
+        verify(countService, never()).reconcile();
+
+        when(clusterLeaseService.isLeader(anyString())).thenReturn(true);
+        reconciler.reconcile();
+
+        assertThat(meterRegistry.get("auction.count.drift").gauge().value()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("auction.count.drift.corrected").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("보정 결과의 corrected 에는 스크립트가 실제로 덮어쓴 키의 오차만 포함한다")
+    @SuppressWarnings("unchecked")
+    void reconcile_shouldCountOnlyWrittenKeys() {
+        List<String> cached = new ArrayList<>();
+        cached.add("4");                                    // 1번 키: DB 0 → 오차 4, 덮어씀
+        cached.add("2");                                    // 2번 키: DB 0 → 오차 2, 동시에 바뀌어 건너뜀
+        while (cached.size() < AuctionStatus.values().length * (Category.values().length + 1)) {
+            cached.add(null);
+        }
+        when(valueOperations.multiGet(anyList())).thenReturn(cached);
+        when(auctionRepository.countGroupByStatusAndCategory()).thenReturn(List.of());
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(List.of(1L));
+
+        AuctionCountService.ReconcileResult result = auctionCountService.reconcile();
+
+        assertThat(result.drift()).isEqualTo(6);
+        assertThat(result.corrected()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,66 @@
+package com.highlight.highlight_backend.unit.auction;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.dto.AuctionCursor;
+import com.highlight.highlight_backend.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AuctionCursorTest {
+
+    @Test
+    @DisplayName("마지막 행의 정렬 값과 id 가 인코딩 후에도 그대로 복원된다")
+    void encodeAndDecode_shouldRoundTrip() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "currentHighestBid"));
+        Auction last = new Auction();
+        last.setId(42L);
+        last.setCurrentHighestBid(new BigDecimal("150000"));
+
+        AuctionCursor decoded = AuctionCursor.decode(AuctionCursor.of(pageable, last).encode(), pageable);
+
+        assertThat(decoded.getSortKey()).isEqualTo(AuctionCursor.SortKey.CURRENT_HIGHEST_BID);
+        assertThat(decoded.isAscending()).isTrue();
+        assertThat(decoded.getDecimalValue()).isEqualByComparingTo("150000");
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("정렬 값이 null 인 행도 커서로 만들 수 있다")
+    void encodeAndDecode_shouldKeepNullSortValue() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "newest"));
+        Auction last = new Auction();
+        last.setId(7L);
+
+        AuctionCursor decoded = AuctionCursor.decode(AuctionCursor.of(pageable, last).encode(), pageable);
+
+        assertThat(decoded.getDateTimeValue()).isNull();
+        assertThat(decoded.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("다른 정렬로 만든 커서나 깨진 커서는 거부한다")
+    void decode_shouldRejectMismatchedOrMalformedCursor() {
+        Pageable byCreatedAt = PageRequest.of(0, 10);
+        Pageable byPrice = PageRequest.of(0, 10, Sort.by("currentHighestBid"));
+        Auction last = new Auction();
+        last.setId(1L);
+        last.setCreatedAt(LocalDateTime.of(2025, 8, 14, 12, 0));
+        String cursor = AuctionCursor.of(byCreatedAt, last).encode();
+
+        assertThat(AuctionCursor.decode(cursor, byCreatedAt).getDateTimeValue())
+                .isEqualTo(LocalDateTime.of(2025, 8, 14, 12, 0));
+        assertThatThrownBy(() -> AuctionCursor.decode(cursor, byPrice))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> AuctionCursor.decode("not-a-cursor", byCreatedAt))
+                .isInstanceOf(BusinessException.class);
+    }
+}
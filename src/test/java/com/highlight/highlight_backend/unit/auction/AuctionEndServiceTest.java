@@ -0,0 +1,140 @@
+package com.highlight.highlight_backend.unit.auction;
+
+import com.highlight.highlight_backend.auction.domain.Auction.AuctionStatus;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.auction.service.AuctionCountService;
+import com.highlight.highlight_backend.auction.service.AuctionEndService;
+import com.highlight.highlight_backend.auction.service.AuctionFacetCountService;
+import com.highlight.highlight_backend.auction.service.AuctionListingCache;
+import com.highlight.highlight_backend.auction.service.AuctionLiveRegistry;
+import com.highlight.highlight_backend.auction.service.AuctionNotificationService;
+import com.highlight.highlight_backend.bid.repository.BidRepository;
+import com.highlight.highlight_backend.bid.service.BidNotificationService;
+import com.highlight.highlight_backend.dashboard.service.AdminAuctionCountService;
+import com.highlight.highlight_backend.product.domian.Product.Category;
+import com.highlight.highlight_backend.product.service.AdminProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuctionEndServiceTest {
+
+    private AuctionRepository auctionRepository;
+    private BidRepository bidRepository;
+    private AuctionNotificationService auctionNotificationService;
+    private BidNotificationService bidNotificationService;
+    private AuctionListingCache auctionListingCache;
+    private AuctionCountService auctionCountService;
+    private AuctionEndService auctionEndService;
+
+    @BeforeEach
+    void setUp() {
+        auctionRepository = mock(AuctionRepository.class);
+        bidRepository = mock(BidRepository.class);
+        auctionNotificationService = mock(AuctionNotificationService.class);
+        bidNotificationService = mock(BidNotificationService.class);
+        auctionListingCache = mock(AuctionListingCache.class);
+        auctionCountService = mock(AuctionCountService.class);
+        auctionEndService = new AuctionEndService(
+                auctionRepository,
+                bidRepository,
+                auctionCountService,
+                mock(AuctionFacetCountService.class),
+                mock(AdminAuctionCountService.class),
+                auctionNotificationService,
+                bidNotificationService,
+                mock(AdminProductService.class),
+                mock(AuctionLiveRegistry.class),
+                auctionListingCache);
+    }
+
+    private static Object[] lockedRow(long auctionId) {
+        return new Object[]{auctionId, "CERAMICS", auctionId + 100, new BigDecimal("10000"), 1L};
+    }
+
+    @Test
+    @DisplayName("후보 중 행 잠금으로 선점한 경매만 종료하고 알린다")
+    void endAuctions_shouldProcessOnlyLockedRows() {
+        // 후보 1, 2, 3 중 2 는 다른 배치가 잠가서 건너뜀
+        List<Object[]> locked = new ArrayList<>();
+        locked.add(lockedRow(1));
+        locked.add(lockedRow(3));
+        when(auctionRepository.lockDueAuctions(eq(List.of(1L, 2L, 3L)), any())).thenReturn(locked);
+        List<Object[]> winners = new ArrayList<>();
+        winners.add(new Object[]{10L, 1L, 7L, "winner"});
+        when(bidRepository.findHighestBidsByAuctionIds(List.of(1L, 3L))).thenReturn(winners);
+
+        int closed = auctionEndService.endAuctions(List.of(1L, 2L, 3L));
+
+        assertThat(closed).isEqualTo(2);
+        verify(auctionRepository).completeAuctions(eq(List.of(1L, 3L)), any(), any(), eq(AuctionStatus.COMPLETED));
+        verify(bidRepository).bulkUpdateStatus(eq(List.of(10L)), any());
+        verify(bidNotificationService).notifyWin(7L, 1L);
+        verify(auctionNotificationService).notifyAuctionEnded(1L, "winner");
+        verify(auctionNotificationService).notifyAuctionEnded(3L, null);
+        verify(auctionNotificationService, never()).notifyAuctionEnded(eq(2L), any());
+        verify(auctionListingCache).evictOnStatusChanged(
+                List.of(1L, 3L), AuctionStatus.IN_PROGRESS, AuctionStatus.COMPLETED, List.of(Category.CERAMICS));
+    }
+
+    @Test
+    @DisplayName("선점한 행이 없으면 아무것도 변경하지 않는다")
+    void endAuctions_nothingLocked_shouldSkip() {
+        when(auctionRepository.lockDueAuctions(anyCollection(), any())).thenReturn(List.of());
+
+        int closed = auctionEndService.endAuctions(List.of(1L, 2L));
+
+        assertThat(closed).isZero();
+        verify(auctionRepository, never()).completeAuctions(anyCollection(), any(), any(), any());
+        verify(bidNotificationService, never()).notifyWin(anyLong(), anyLong());
+        verify(auctionNotificationService, times(0)).notifyAuctionEnded(anyLong(), any());
+        verify(auctionListingCache, never()).evictOnStatusChanged(anyCollection(), any(), any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("count 반영과 종료 알림은 커밋 후에만 실행되고, 롤백되면 실행되지 않는다")
+    void endAuctions_inTransaction_shouldDeferSideEffectsUntilCommit() {
+        List<Object[]> locked = new ArrayList<>();
+        locked.add(lockedRow(1));
+        when(auctionRepository.lockDueAuctions(anyCollection(), any())).thenReturn(locked);
+        when(bidRepository.findHighestBidsByAuctionIds(anyCollection())).thenReturn(List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            auctionEndService.endAuctions(List.of(1L));
+
+            verify(auctionCountService, never()).transitionBatch(any(), any(), anyMap());
+            verify(auctionNotificationService, never()).notifyAuctionEnded(anyLong(), any());
+            verify(auctionListingCache, never()).evictOnStatusChanged(anyCollection(), any(), any(), anyCollection());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(auctionCountService).transitionBatch(
+                AuctionStatus.IN_PROGRESS, AuctionStatus.COMPLETED, Map.of(Category.CERAMICS, 1L));
+        verify(auctionNotificationService).notifyAuctionEnded(1L, null);
+        verify(auctionListingCache).evictOnStatusChanged(
+                List.of(1L), AuctionStatus.IN_PROGRESS, AuctionStatus.COMPLETED, List.of(Category.CERAMICS));
+    }
+}
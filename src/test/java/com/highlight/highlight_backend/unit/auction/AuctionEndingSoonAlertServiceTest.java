@@ -0,0 +1,165 @@
+package com.highlight.highlight_backend.unit.auction;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.service.AuctionEndingSoonAlertService;
+import com.highlight.highlight_backend.auction.service.AuctionNotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuctionEndingSoonAlertServiceTest {
+
+    private RScoredSortedSet<String> queue;
+    private RScoredSortedSet<String> processing;
+    private RScript script;
+    private AuctionNotificationService auctionNotificationService;
+    private AuctionEndingSoonAlertService alertService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        queue = mock(RScoredSortedSet.class);
+        processing = mock(RScoredSortedSet.class);
+        script = mock(RScript.class);
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.<String>getScoredSortedSet(eq("auction:ending-soon:queue"), eq(StringCodec.INSTANCE)))
+                .thenReturn(queue);
+        when(redissonClient.<String>getScoredSortedSet(eq("auction:ending-soon:processing"), eq(StringCodec.INSTANCE)))
+                .thenReturn(processing);
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(script);
+        auctionNotificationService = mock(AuctionNotificationService.class);
+        alertService = new AuctionEndingSoonAlertService(redissonClient, auctionNotificationService);
+    }
+
+    private void givenDueItems(List<Object> items) {
+        when(script.eval(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class), anyList(),
+                any(Object[].class))).thenReturn(items);
+    }
+
+    @Test
+    @DisplayName("종료 시각 기준 T-60초, T-10초 알림을 실행 시각 score 로 등록한다")
+    @SuppressWarnings("unchecked")
+    void scheduleAlerts_shouldEnqueueBothOffsets() {
+        LocalDateTime endTime = LocalDateTime.now().plusMinutes(5);
+        long endTimeMs = endTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Auction auction = new Auction();
+        auction.setId(1L);
+        auction.setScheduledEndTime(endTime);
+
+        alertService.scheduleAlerts(auction);
+
+        ArgumentCaptor<Map<String, Double>> alerts = ArgumentCaptor.forClass(Map.class);
+        verify(queue).addAll(alerts.capture());
+        assertThat(alerts.getValue())
+                .containsEntry("1:60", (double) (endTimeMs - 60_000))
+                .containsEntry("1:10", (double) (endTimeMs - 10_000));
+    }
+
+    @Test
+    @DisplayName("취소하면 남은 알림 두 건을 모두 제거한다")
+    void cancelAlerts_shouldRemoveBothOffsets() {
+        alertService.cancelAlerts(1L);
+
+        verify(queue).removeAll(List.of("1:60", "1:10"));
+    }
+
+    @Test
+    @DisplayName("만기된 알림은 실제 남은 시간으로 전송하고, 이미 종료 시각이 지난 알림은 버린다")
+    void dispatchDueAlerts_shouldSendRemainingTime() {
+        long now = System.currentTimeMillis();
+        givenDueItems(List.of(
+                "1:60", String.valueOf((double) (now - 1_000)),   // 1초 늦게 꺼냄 → 약 59초 남음
+                "2:10", String.valueOf((double) (now - 20_000)))); // 종료 시각이 이미 지남
+
+        alertService.dispatchDueAlerts();
+
+        ArgumentCaptor<Long> remaining = ArgumentCaptor.forClass(Long.class);
+        verify(auctionNotificationService).sendEndingSoonAlert(eq(1L), remaining.capture());
+        assertThat(remaining.getValue()).isBetween(57L, 59L);
+        verify(auctionNotificationService, never()).sendEndingSoonAlert(eq(2L), anyLong());
+    }
+
+    @Test
+    @DisplayName("잘못된 항목이 있어도 나머지 알림은 전송한다")
+    void dispatchDueAlerts_malformedMember_shouldContinue() {
+        long now = System.currentTimeMillis();
+        givenDueItems(List.of(
+                "broken", String.valueOf((double) now),
+                "3:10", String.valueOf((double) now)));
+
+        alertService.dispatchDueAlerts();
+
+        verify(auctionNotificationService).sendEndingSoonAlert(eq(3L), anyLong());
+    }
+
+    @Test
+    @DisplayName("Redis 조회가 실패하면 아무것도 전송하지 않는다")
+    void dispatchDueAlerts_redisFailure_shouldSkip() {
+        when(script.eval(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class), anyList(),
+                any(Object[].class))).thenThrow(new IllegalStateException("redis down"));
+
+        alertService.dispatchDueAlerts();
+
+        verify(auctionNotificationService, never()).sendEndingSoonAlert(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("만기 항목은 처리 중 ZSET 으로 임대해 꺼내고, 전송하거나 버린 항목만 처리 완료로 삭제한다")
+    @SuppressWarnings("unchecked")
+    void dispatchDueAlerts_shouldAcknowledgeOnlyHandledItems() {
+        long now = System.currentTimeMillis();
+        String sent = String.valueOf((double) now);
+        String failed = String.valueOf((double) (now - 500));
+        String expired = String.valueOf((double) (now - 20_000));
+        givenDueItems(List.of("1:60", sent, "2:60", failed, "3:10", expired));
+        doThrow(new IllegalStateException("socket down"))
+                .when(auctionNotificationService).sendEndingSoonAlert(eq(2L), anyLong());
+
+        alertService.dispatchDueAlerts();
+
+        ArgumentCaptor<List<Object>> keys = ArgumentCaptor.forClass(List.class);
+        verify(script).eval(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class), keys.capture(),
+                any(Object[].class));
+        assertThat(keys.getValue()).containsExactly("auction:ending-soon:queue", "auction:ending-soon:processing");
+
+        ArgumentCaptor<Collection<String>> done = ArgumentCaptor.forClass(Collection.class);
+        verify(processing).removeAll(done.capture());
+        assertThat(done.getValue()).containsExactlyInAnyOrder("1:60|" + sent, "3:10|" + expired);
+    }
+
+    @Test
+    @DisplayName("모든 전송이 실패하면 처리 중 항목을 남겨 임대 만료 후 재전송되게 한다")
+    void dispatchDueAlerts_allFailed_shouldKeepLease() {
+        givenDueItems(List.of("1:60", String.valueOf((double) System.currentTimeMillis())));
+        doThrow(new IllegalStateException("socket down"))
+                .when(auctionNotificationService).sendEndingSoonAlert(anyLong(), anyLong());
+
+        alertService.dispatchDueAlerts();
+
+        verify(processing, never()).removeAll(anyCollection());
+    }
+}
@@ -0,0 +1,99 @@
+package com.highlight.highlight_backend.unit.auction;
+
+import com.highlight.highlight_backend.auction.domain.Auction.AuctionStatus;
+import com.highlight.highlight_backend.auction.dto.AuctionFacetCountDto;
+import com.highlight.highlight_backend.auction.dto.AuctionPriceBucket;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.auction.service.AuctionFacetCountService;
+import com.highlight.highlight_backend.common.cache.NearCacheManager;
+import com.highlight.highlight_backend.common.cache.SingleFlightLoader;
+import com.highlight.highlight_backend.product.domian.Product.Category;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuctionFacetCountServiceTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private AuctionRepository auctionRepository;
+    private AuctionFacetCountService auctionFacetCountService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("auction:facet")).thenReturn(Map.of(
+                "_built", "0",
+                "IN_PROGRESS:FASHION:UNDER_100K", "3",
+                "IN_PROGRESS:FASHION:FROM_1M_TO_5M", "2",
+                "IN_PROGRESS:PAINTING:UNDER_100K", "5",
+                "SCHEDULED:FASHION:UNDER_100K", "7"));
+
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(anyString(), any())).thenReturn(mock(RTopic.class));
+        NearCacheManager nearCacheManager = new NearCacheManager(redissonClient, new SimpleMeterRegistry(), true);
+        auctionRepository = mock(AuctionRepository.class);
+        auctionFacetCountService = new AuctionFacetCountService(redisTemplate, auctionRepository, nearCacheManager,
+                new SingleFlightLoader(redissonClient, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("각 facet 은 자기 자신을 제외한 필터만 적용한 개수를 돌려준다")
+    void getFacets_shouldApplyOtherFiltersOnly() {
+        AuctionFacetCountDto facets = auctionFacetCountService.getFacets(
+                AuctionStatus.IN_PROGRESS, Category.FASHION, null);
+
+        assertThat(facets.getTotalCount()).isEqualTo(5);
+        assertThat(facets.getByCategory()).containsEntry("FASHION", 5L).containsEntry("PAINTING", 5L);
+        assertThat(facets.getByStatus()).containsEntry("IN_PROGRESS", 5L).containsEntry("SCHEDULED", 7L);
+        assertThat(facets.getByPriceBucket())
+                .containsEntry("UNDER_100K", 3L)
+                .containsEntry("FROM_1M_TO_5M", 2L)
+                .containsEntry("OVER_5M", 0L);
+    }
+
+    @Test
+    @DisplayName("필터가 없으면 전체 개수를 돌려준다")
+    void getFacets_withoutFilter_shouldCountAll() {
+        AuctionFacetCountDto facets = auctionFacetCountService.getFacets(null, null, null);
+
+        assertThat(facets.getTotalCount()).isEqualTo(17);
+        assertThat(facets.getByCategory()).containsEntry("FASHION", 12L);
+    }
+
+    @Test
+    @DisplayName("같은 가격대 안의 입찰은 Redis 를 호출하지 않는다")
+    void priceChanged_withinSameBucket_shouldSkip() {
+        auctionFacetCountService.priceChanged(1L, new BigDecimal("10000"), new BigDecimal("90000"));
+
+        verify(auctionRepository, never()).findCategoryById(any());
+        verify(redisTemplate, never()).execute(any(), any(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("가격대 경계는 하한 포함, 상한 미포함이다")
+    void priceBucket_shouldIncludeLowerBound() {
+        assertThat(AuctionPriceBucket.of(null)).isEqualTo(AuctionPriceBucket.UNDER_100K);
+        assertThat(AuctionPriceBucket.of(new BigDecimal("99999"))).isEqualTo(AuctionPriceBucket.UNDER_100K);
+        assertThat(AuctionPriceBucket.of(new BigDecimal("100000"))).isEqualTo(AuctionPriceBucket.FROM_100K_TO_500K);
+        assertThat(AuctionPriceBucket.of(new BigDecimal("5000000"))).isEqualTo(AuctionPriceBucket.OVER_5M);
+    }
+}
@@ -0,0 +1,149 @@
+package com.highlight.highlight_backend.unit.auction;
+
+import com.highlight.highlight_backend.auction.domain.Auction.AuctionStatus;
+import com.highlight.highlight_backend.auction.dto.AuctionPageResponse;
+import com.highlight.highlight_backend.auction.dto.AuctionSearchConditionDto;
+import com.highlight.highlight_backend.auction.event.AuctionStatusChangedEvent;
+import com.highlight.highlight_backend.auction.service.AuctionListingCache;
+import com.highlight.highlight_backend.common.cache.NearCacheManager;
+import com.highlight.highlight_backend.product.domian.Product.Category;
+import com.highlight.highlight_backend.product.dto.UserAuctionResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuctionListingCacheTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+    private RTopic topic;
+    private AuctionListingCache auctionListingCache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        topic = mock(RTopic.class);
+        when(redissonClient.getTopic(anyString(), any())).thenReturn(topic);
+        NearCacheManager nearCacheManager = new NearCacheManager(redissonClient, new SimpleMeterRegistry(), true);
+        auctionListingCache = new AuctionListingCache(redissonClient, nearCacheManager);
+    }
+
+    @Test
+    @DisplayName("같은 조건의 두 번째 조회는 DB 를 거치지 않는다")
+    void get_shouldServeRepeatedRequestFromCache() {
+        AuctionSearchConditionDto condition = condition("in_progress", null, null);
+
+        load(condition, FIRST_PAGE, 1L);
+        load(new AuctionSearchConditionDto(null, null, null, null, null, "IN_PROGRESS"), FIRST_PAGE, 1L);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입찰은 해당 경매가 있는 페이지와 가격 필터 범위에 걸치는 페이지만 지운다")
+    void evictOnBid_shouldEvictOnlyAffectedPages() {
+        AuctionSearchConditionDto containing = condition("IN_PROGRESS", null, null);
+        AuctionSearchConditionDto inRange = condition("IN_PROGRESS", 10_000L, 50_000L);
+        AuctionSearchConditionDto outOfRange = condition("IN_PROGRESS", 100_000L, 200_000L);
+        load(containing, FIRST_PAGE, 1L);
+        load(inRange, FIRST_PAGE, 2L);
+        load(outOfRange, FIRST_PAGE, 3L);
+
+        auctionListingCache.evictOnBid(1L, new BigDecimal("30000"));
+        loads.set(0);
+        load(containing, FIRST_PAGE, 1L);
+        load(inRange, FIRST_PAGE, 2L);
+        load(outOfRange, FIRST_PAGE, 3L);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가격 정렬 페이지는 입찰로 지우지 않고 상태 변경으로는 지운다")
+    void priceSortedPage_shouldIgnoreBidsButNotStatusChanges() {
+        Pageable byPrice = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "currentHighestBid"));
+        AuctionSearchConditionDto condition = condition("IN_PROGRESS", null, null);
+        load(condition, byPrice, 1L);
+
+        auctionListingCache.evictOnBid(1L, new BigDecimal("30000"));
+        load(condition, byPrice, 1L);
+        assertThat(loads.get()).isEqualTo(1);
+
+        auctionListingCache.evictOnStatusChanged(new AuctionStatusChangedEvent(
+                99L, AuctionStatus.SCHEDULED, AuctionStatus.IN_PROGRESS, Category.FASHION, null, null));
+        load(condition, byPrice, 1L);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 카테고리 필터 페이지는 상태 변경으로 지우지 않는다")
+    void evictOnStatusChanged_shouldRespectCategoryFilter() {
+        AuctionSearchConditionDto fashion = new AuctionSearchConditionDto("FASHION", null, null, null, null, "IN_PROGRESS");
+        AuctionSearchConditionDto painting = new AuctionSearchConditionDto("PAINTING", null, null, null, null, "IN_PROGRESS");
+        load(fashion, FIRST_PAGE, 1L);
+        load(painting, FIRST_PAGE, 2L);
+
+        auctionListingCache.evictOnStatusChanged(new AuctionStatusChangedEvent(
+                99L, AuctionStatus.IN_PROGRESS, AuctionStatus.COMPLETED, Category.FASHION, null, null));
+        loads.set(0);
+        load(fashion, FIRST_PAGE, 1L);
+        load(painting, FIRST_PAGE, 2L);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스케줄러의 일괄 종료는 메시지 1건으로 진행중 / 종료 페이지를 모두 지운다")
+    void evictOnStatusChanged_batch_shouldEvictAffectedPages() {
+        AuctionSearchConditionDto inProgress = new AuctionSearchConditionDto("FASHION", null, null, null, null, "IN_PROGRESS");
+        AuctionSearchConditionDto completed = new AuctionSearchConditionDto("PAINTING", null, null, null, null, "COMPLETED");
+        AuctionSearchConditionDto scheduled = condition("SCHEDULED", null, null);
+        AuctionSearchConditionDto all = condition(null, null, null);
+        load(inProgress, FIRST_PAGE, 1L);
+        load(completed, FIRST_PAGE, 2L);
+        load(scheduled, FIRST_PAGE, 3L);
+        load(all, PageRequest.of(0, 20), 5L);
+
+        auctionListingCache.evictOnStatusChanged(List.of(4L, 5L),
+                AuctionStatus.IN_PROGRESS, AuctionStatus.COMPLETED, List.of(Category.FASHION, Category.PAINTING));
+        loads.set(0);
+        load(inProgress, FIRST_PAGE, 1L);
+        load(completed, FIRST_PAGE, 2L);
+        load(scheduled, FIRST_PAGE, 3L);
+        load(all, PageRequest.of(0, 20), 5L);
+
+        // 예정 페이지만 남음 (전체 페이지는 상태 필터가 없어 어차피 제거 대상)
+        assertThat(loads.get()).isEqualTo(3);
+        verify(topic).publish("S|4,5|IN_PROGRESS|COMPLETED|FASHION,PAINTING");
+    }
+
+    private AuctionSearchConditionDto condition(String status, Long minPrice, Long maxPrice) {
+        return new AuctionSearchConditionDto(null, null, minPrice, maxPrice, null, status);
+    }
+
+    private void load(AuctionSearchConditionDto condition, Pageable pageable, Long auctionId) {
+        auctionListingCache.get(condition, null, pageable, () -> {
+            loads.incrementAndGet();
+            UserAuctionResponseDto item = UserAuctionResponseDto.builder().auctionId(auctionId).build();
+            return new AuctionPageResponse(List.of(item), false, 0, 1, null);
+        });
+    }
+}
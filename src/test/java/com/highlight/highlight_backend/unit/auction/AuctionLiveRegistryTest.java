@@ -0,0 +1,146 @@
+package com.highlight.highlight_backend.unit.auction;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.auction.service.AuctionCountdownService;
+import com.highlight.highlight_backend.auction.service.AuctionLiveRegistry;
+import com.highlight.highlight_backend.common.socket.service.GlobalSocketService;
+import com.highlight.highlight_backend.common.socket.service.SseTopicHub;
+import com.highlight.highlight_backend.common.socket.service.TopicSubscriptionRegistry;
+import com.highlight.highlight_backend.common.socket.service.WebSocketPayloadEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuctionLiveRegistryTest {
+
+    private AuctionRepository auctionRepository;
+    private AuctionLiveRegistry registry;
+    private TopicSubscriptionRegistry topicSubscriptionRegistry;
+    private GlobalSocketService globalSocketService;
+    private AuctionCountdownService countdownService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        auctionRepository = mock(AuctionRepository.class);
+        registry = new AuctionLiveRegistry(auctionRepository);
+
+        topicSubscriptionRegistry = mock(TopicSubscriptionRegistry.class);
+        globalSocketService = mock(GlobalSocketService.class);
+        WebSocketPayloadEncoder payloadEncoder = mock(WebSocketPayloadEncoder.class);
+        when(payloadEncoder.encode(any())).thenReturn(new byte[0]);
+        countdownService = new AuctionCountdownService(registry, topicSubscriptionRegistry,
+                mock(SseTopicHub.class), globalSocketService, payloadEncoder);
+    }
+
+    private static Auction auction(long auctionId, LocalDateTime endTime) {
+        Auction auction = new Auction();
+        auction.setId(auctionId);
+        auction.setScheduledEndTime(endTime);
+        auction.setCurrentHighestBid(new BigDecimal("10000"));
+        return auction;
+    }
+
+    @Test
+    @DisplayName("등록된 경매는 조회되고, 입찰이 반영될 때마다 version 이 증가한다")
+    void updateBid_shouldBumpVersion() {
+        registry.register(auction(1L, LocalDateTime.now().plusMinutes(10)));
+        long registered = registry.find(1L).orElseThrow().getVersion();
+
+        registry.updateBid(1L, new BigDecimal("20000"), "bidder", 1, 1);
+
+        AuctionLiveRegistry.LiveAuction live = registry.find(1L).orElseThrow();
+        assertThat(live.getVersion()).isEqualTo(registered + 1);
+        assertThat(live.getCurrentHighestBid()).isEqualByComparingTo("20000");
+        assertThat(live.getWinnerNickname()).isEqualTo("bidder");
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 입찰은 최신 통계를 덮어쓰지 않는다")
+    void updateBid_outOfOrder_shouldBeIgnored() {
+        registry.register(auction(1L, LocalDateTime.now().plusMinutes(10)));
+        registry.updateBid(1L, new BigDecimal("30000"), "latest", 2, 5);
+
+        registry.updateBid(1L, new BigDecimal("20000"), "stale", 2, 4);
+
+        AuctionLiveRegistry.LiveAuction live = registry.find(1L).orElseThrow();
+        assertThat(live.getTotalBids()).isEqualTo(5);
+        assertThat(live.getWinnerNickname()).isEqualTo("latest");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 경매의 입찰은 무시하고, 종료된 경매는 한 번에 제거된다")
+    void removeAll_shouldDropAuctions() {
+        registry.register(auction(1L, LocalDateTime.now().plusMinutes(10)));
+        registry.register(auction(2L, LocalDateTime.now().plusMinutes(10)));
+        registry.updateBid(3L, new BigDecimal("20000"), "bidder", 1, 1);
+
+        registry.removeAll(List.of(1L, 2L));
+
+        assertThat(registry.size()).isZero();
+        assertThat(registry.find(3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동기화는 DB 에 없는 경매를 지우고, 새로 진행 중인 경매를 추가한다")
+    void synchronize_shouldFollowDatabase() throws InterruptedException {
+        registry.register(auction(1L, LocalDateTime.now().plusMinutes(10)));
+        Thread.sleep(5); // 조회 이후 등록된 경매로 보지 않도록 등록 시각과 조회 시각을 벌림
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{2L, LocalDateTime.now().plusMinutes(5), new BigDecimal("15000"), 3L, 4L, "remote"});
+        when(auctionRepository.findLiveAuctionStats()).thenReturn(rows);
+
+        registry.synchronize();
+
+        assertThat(registry.find(1L)).isEmpty();
+        assertThat(registry.find(2L)).hasValueSatisfying(live -> {
+            assertThat(live.getTotalBids()).isEqualTo(4);
+            assertThat(live.getWinnerNickname()).isEqualTo("remote");
+        });
+    }
+
+    @Test
+    @DisplayName("카운트다운은 구독자가 있는 경매에만 보내고, 바뀐 게 없으면 다음 tick 에 다시 보내지 않는다")
+    void sendCountdownUpdates_shouldSkipUnchanged() {
+        registry.register(auction(1L, LocalDateTime.now().plusMinutes(10)));
+        registry.register(auction(2L, LocalDateTime.now().plusMinutes(10)));
+        when(topicSubscriptionRegistry.hasSubscribers("/topic/auction/1")).thenReturn(true);
+
+        countdownService.sendCountdownUpdates();
+        countdownService.sendCountdownUpdates();
+
+        verify(globalSocketService, times(1)).sendRawToLocalTopic(eq("/topic/auction/1"), any());
+        verify(globalSocketService, never()).sendRawToLocalTopic(eq("/topic/auction/2"), any());
+
+        registry.updateBid(1L, new BigDecimal("20000"), "bidder", 1, 1);
+        countdownService.sendCountdownUpdates();
+
+        verify(globalSocketService, times(2)).sendRawToLocalTopic(eq("/topic/auction/1"), any());
+    }
+
+    @Test
+    @DisplayName("종료 시각이 지난 경매는 카운트다운을 보내지 않는다")
+    void sendCountdownUpdates_expired_shouldSkip() {
+        registry.register(auction(1L, LocalDateTime.now().minusSeconds(1)));
+        when(topicSubscriptionRegistry.hasSubscribers(anyString())).thenReturn(true);
+
+        countdownService.sendCountdownUpdates();
+
+        verify(globalSocketService, never()).sendRawToLocalTopic(anyString(), any());
+    }
+}
@@ -0,0 +1,77 @@
+package com.highlight.highlight_backend.unit.auction;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.auction.service.AuctionLiveRegistry;
+import com.highlight.highlight_backend.auction.service.AuctionReplayService;
+import com.highlight.highlight_backend.common.socket.service.TopicReplayBuffer;
+import com.highlight.highlight_backend.exception.AuctionErrorCode;
+import com.highlight.highlight_backend.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuctionReplayServiceTest {
+
+    private AuctionRepository auctionRepository;
+    private AuctionLiveRegistry auctionLiveRegistry;
+    private AuctionReplayService replayService;
+
+    @BeforeEach
+    void setUp() {
+        auctionRepository = mock(AuctionRepository.class);
+        auctionLiveRegistry = new AuctionLiveRegistry(auctionRepository);
+        replayService = new AuctionReplayService(mock(TopicReplayBuffer.class), auctionLiveRegistry, auctionRepository);
+    }
+
+    private static Auction auction(long auctionId, Auction.AuctionStatus status) {
+        Auction auction = new Auction();
+        auction.setId(auctionId);
+        auction.setStatus(status);
+        auction.setScheduledEndTime(LocalDateTime.now().plusMinutes(10));
+        auction.setCurrentHighestBid(new BigDecimal("10000"));
+        return auction;
+    }
+
+    @Test
+    @DisplayName("진행 중인 경매는 DB 조회 없이 스트림을 열 수 있다")
+    void validateStreamable_liveAuction_shouldSkipDatabase() {
+        auctionLiveRegistry.register(auction(1L, Auction.AuctionStatus.IN_PROGRESS));
+
+        assertThatCode(() -> replayService.validateStreamable(1L)).doesNotThrowAnyException();
+        verify(auctionRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("예약된 경매는 시작 알림을 받을 수 있도록 스트림을 연다")
+    void validateStreamable_scheduledAuction_shouldPass() {
+        when(auctionRepository.findById(2L)).thenReturn(Optional.of(auction(2L, Auction.AuctionStatus.SCHEDULED)));
+
+        assertThatCode(() -> replayService.validateStreamable(2L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("없는 경매와 끝난 경매는 스트림을 열기 전에 거절한다")
+    void validateStreamable_unknownOrEnded_shouldThrow() {
+        when(auctionRepository.findById(3L)).thenReturn(Optional.of(auction(3L, Auction.AuctionStatus.COMPLETED)));
+
+        assertThatThrownBy(() -> replayService.validateStreamable(99L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(AuctionErrorCode.AUCTION_NOT_FOUND);
+        assertThatThrownBy(() -> replayService.validateStreamable(3L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(AuctionErrorCode.AUCTION_NOT_IN_PROGRESS);
+    }
+}
@@ -0,0 +1,103 @@
+package com.highlight.highlight_backend.unit.auction;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.auction.service.AuctionEndService;
+import com.highlight.highlight_backend.auction.service.AuctionSchedulerService;
+import com.highlight.highlight_backend.auction.service.AuctionStartService;
+import com.highlight.highlight_backend.common.cluster.ClusterLeaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuctionSchedulerServiceTest {
+
+    private AuctionRepository auctionRepository;
+    private ClusterLeaseService clusterLeaseService;
+    private RTopic deadlineTopic;
+    private AuctionSchedulerService schedulerService;
+
+    @BeforeEach
+    void setUp() {
+        auctionRepository = mock(AuctionRepository.class);
+        clusterLeaseService = mock(ClusterLeaseService.class);
+        deadlineTopic = mock(RTopic.class);
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(anyString(), any())).thenReturn(deadlineTopic);
+        schedulerService = new AuctionSchedulerService(
+                mock(TaskScheduler.class),
+                mock(AuctionStartService.class),
+                mock(AuctionEndService.class),
+                auctionRepository,
+                clusterLeaseService,
+                redissonClient);
+    }
+
+    private static List<Object[]> rows(long... auctionIds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (long auctionId : auctionIds) {
+            rows.add(new Object[]{auctionId, LocalDateTime.now().plusMinutes(10)});
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("같은 ID 구간은 같은 샤드, 샤드 수만큼 구간이 지나면 다시 처음 샤드")
+    void shardOf_shouldAssignContiguousIdRanges() {
+        long range = ClusterLeaseService.SHARD_ID_RANGE;
+
+        assertThat(ClusterLeaseService.shardOf(0, 16)).isEqualTo(ClusterLeaseService.shardOf(range - 1, 16));
+        assertThat(ClusterLeaseService.shardOf(range, 16)).isEqualTo(1);
+        assertThat(ClusterLeaseService.shardOf(16 * range, 16)).isZero();
+    }
+
+    @Test
+    @DisplayName("샤드를 얻으면 그 샤드 조건으로만 DB 를 조회해 휠에 복구한다")
+    void shardsAcquired_shouldRestoreOnlyThoseShards() {
+        when(auctionRepository.findScheduledStartTimes(Set.of(3), 16, ClusterLeaseService.SHARD_ID_RANGE))
+                .thenReturn(rows(3001, 3002));
+        when(auctionRepository.findInProgressEndTimes(Set.of(3), 16, ClusterLeaseService.SHARD_ID_RANGE))
+                .thenReturn(rows(3003));
+
+        schedulerService.restoreScheduledAuctions();
+        ArgumentCaptor<ClusterLeaseService.ShardListener> listener =
+                ArgumentCaptor.forClass(ClusterLeaseService.ShardListener.class);
+        verify(clusterLeaseService).registerShardedJob(anyString(), eq(16), listener.capture());
+
+        listener.getValue().onShardsAcquired(Set.of(3));
+
+        assertThat(schedulerService.getPendingCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 노드 샤드의 경매는 휠에 올리지 않고 소유 노드로 전달한다")
+    void scheduleOnForeignShard_shouldForwardToOwner() {
+        when(clusterLeaseService.ownsShard(anyString(), anyLong())).thenReturn(false);
+        Auction auction = new Auction();
+        auction.setId(5001L);
+        auction.setScheduledStartTime(LocalDateTime.now().plusMinutes(5));
+
+        schedulerService.scheduleAuctionStart(auction);
+
+        assertThat(schedulerService.getPendingCount()).isZero();
+        verify(deadlineTopic).publish(any());
+    }
+}
@@ -0,0 +1,87 @@
+package com.highlight.highlight_backend.unit.auction;
+
+import com.highlight.highlight_backend.auction.domain.Auction;
+import com.highlight.highlight_backend.auction.domain.Auction.AuctionStatus;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.auction.service.AuctionCountService;
+import com.highlight.highlight_backend.auction.service.AuctionEndingSoonAlertService;
+import com.highlight.highlight_backend.auction.service.AuctionFacetCountService;
+import com.highlight.highlight_backend.auction.service.AuctionListingCache;
+import com.highlight.highlight_backend.auction.service.AuctionLiveRegistry;
+import com.highlight.highlight_backend.auction.service.AuctionNotificationService;
+import com.highlight.highlight_backend.auction.service.AuctionStartService;
+import com.highlight.highlight_backend.dashboard.service.AdminAuctionCountService;
+import com.highlight.highlight_backend.product.domian.Product;
+import com.highlight.highlight_backend.product.domian.Product.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuctionStartServiceTest {
+
+    private AuctionRepository auctionRepository;
+    private AuctionListingCache auctionListingCache;
+    private AuctionStartService auctionStartService;
+
+    @BeforeEach
+    void setUp() {
+        auctionRepository = mock(AuctionRepository.class);
+        auctionListingCache = mock(AuctionListingCache.class);
+        auctionStartService = new AuctionStartService(
+                auctionRepository,
+                mock(AuctionCountService.class),
+                mock(AuctionFacetCountService.class),
+                mock(AdminAuctionCountService.class),
+                mock(AuctionNotificationService.class),
+                mock(AuctionLiveRegistry.class),
+                mock(AuctionEndingSoonAlertService.class),
+                auctionListingCache);
+    }
+
+    private static Auction scheduledAuction(LocalDateTime startTime) {
+        Product product = new Product();
+        product.setCategory(Category.FASHION);
+        Auction auction = new Auction();
+        auction.setId(1L);
+        auction.setProduct(product);
+        auction.setStatus(AuctionStatus.SCHEDULED);
+        auction.setScheduledStartTime(startTime);
+        auction.setScheduledEndTime(startTime.plusHours(1));
+        return auction;
+    }
+
+    @Test
+    @DisplayName("예약된 경매가 시작되면 예정 / 진행중 목록 캐시를 지운다")
+    void startAuction_shouldEvictListingCache() {
+        when(auctionRepository.findByIdWithLock(1L))
+                .thenReturn(Optional.of(scheduledAuction(LocalDateTime.now().minusSeconds(1))));
+
+        Auction started = auctionStartService.startAuction(1L);
+
+        assertThat(started.getStatus()).isEqualTo(AuctionStatus.IN_PROGRESS);
+        verify(auctionListingCache).evictOnStatusChanged(
+                List.of(1L), AuctionStatus.SCHEDULED, AuctionStatus.IN_PROGRESS, List.of(Category.FASHION));
+    }
+
+    @Test
+    @DisplayName("시작 시간이 뒤로 밀린 경매는 시작하지 않고 캐시도 건드리지 않는다")
+    void startAuction_postponed_shouldSkip() {
+        when(auctionRepository.findByIdWithLock(1L))
+                .thenReturn(Optional.of(scheduledAuction(LocalDateTime.now().plusMinutes(5))));
+
+        assertThat(auctionStartService.startAuction(1L)).isNull();
+        verify(auctionListingCache, never()).evictOnStatusChanged(anyCollection(), any(), any(), anyCollection());
+    }
+}
@@ -0,0 +1,87 @@
+package com.highlight.highlight_backend.unit.auction;
+
+import com.highlight.highlight_backend.auction.service.AuctionViewerCountService;
+import com.highlight.highlight_backend.common.cluster.ClusterLeaseService;
+import com.highlight.highlight_backend.common.socket.service.GlobalSocketService;
+import com.highlight.highlight_backend.common.socket.service.SseTopicHub;
+import com.highlight.highlight_backend.common.socket.service.TopicSubscriptionRegistry;
+import com.highlight.highlight_backend.common.socket.service.WebSocketPayloadEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScoredSortedSetAsync;
+import org.redisson.api.RedissonClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuctionViewerCountServiceTest {
+
+    private TopicSubscriptionRegistry topicSubscriptionRegistry;
+    private SseTopicHub sseTopicHub;
+    private GlobalSocketService globalSocketService;
+    private RMapAsync<String, String> ownReport;
+    private AuctionViewerCountService viewerCountService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        topicSubscriptionRegistry = mock(TopicSubscriptionRegistry.class);
+        sseTopicHub = mock(SseTopicHub.class);
+        globalSocketService = mock(GlobalSocketService.class);
+
+        ClusterLeaseService clusterLeaseService = mock(ClusterLeaseService.class);
+        when(clusterLeaseService.getNodeId()).thenReturn("node-1");
+
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RBatch batch = mock(RBatch.class);
+        ownReport = mock(RMapAsync.class);
+        when(redissonClient.createBatch()).thenReturn(batch);
+        doReturn(ownReport).when(batch).getMap(anyString(), any());
+        doReturn(mock(RScoredSortedSetAsync.class)).when(batch).getScoredSortedSet(anyString(), any());
+        RScoredSortedSet<String> nodes = mock(RScoredSortedSet.class);
+        when(nodes.valueRange(anyDouble(), anyBoolean(), anyDouble(), anyBoolean())).thenReturn(List.of());
+        doReturn(nodes).when(redissonClient).getScoredSortedSet(anyString(), any());
+
+        WebSocketPayloadEncoder payloadEncoder = mock(WebSocketPayloadEncoder.class);
+        when(payloadEncoder.encode(any())).thenReturn(new byte[0]);
+
+        viewerCountService = new AuctionViewerCountService(topicSubscriptionRegistry, sseTopicHub,
+                clusterLeaseService, redissonClient, globalSocketService, payloadEncoder);
+    }
+
+    @Test
+    @DisplayName("STOMP 와 SSE 시청자를 합쳐 보고하고, 경매 ID 가 아닌 destination 은 건너뛴다")
+    @SuppressWarnings("unchecked")
+    void reportAndBroadcast_shouldSkipNonNumericDestinations() {
+        when(topicSubscriptionRegistry.getSubscriberCounts("/topic/auction/")).thenReturn(Map.of(
+                "/topic/auction/1", 2,
+                "/topic/auction/abc", 1,
+                "/topic/auction/1/extra", 1,
+                "/topic/auction/99999999999999999999", 1));
+        when(sseTopicHub.getSubscriberCounts("/topic/auction/")).thenReturn(Map.of("/topic/auction/1", 1));
+
+        viewerCountService.reportAndBroadcast();
+
+        ArgumentCaptor<Map<String, String>> reported = ArgumentCaptor.forClass(Map.class);
+        verify(ownReport).putAllAsync(reported.capture());
+        assertThat(reported.getValue()).containsExactly(Map.entry("1", "3"));
+        verify(globalSocketService, times(1)).sendRawToLocalTopic(anyString(), any());
+        verify(globalSocketService).sendRawToLocalTopic("/topic/auction/1", new byte[0]);
+    }
+}
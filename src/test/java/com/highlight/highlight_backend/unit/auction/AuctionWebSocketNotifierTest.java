@@ -0,0 +1,133 @@
+package com.highlight.highlight_backend.unit.auction;
+
+import com.highlight.highlight_backend.auction.dto.AuctionNewBidBroadcastDto;
+import com.highlight.highlight_backend.auction.notification.AuctionWebSocketNotifier;
+import com.highlight.highlight_backend.bid.event.BidCreatedEvent;
+import com.highlight.highlight_backend.common.socket.dto.WebSocketMessageDto;
+import com.highlight.highlight_backend.common.socket.service.GlobalSocketService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuctionWebSocketNotifierTest {
+
+    private static final String DESTINATION = "/topic/auction/1";
+
+    private GlobalSocketService globalSocketService;
+    private TaskScheduler taskScheduler;
+    private final List<Runnable> scheduled = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        globalSocketService = mock(GlobalSocketService.class);
+        taskScheduler = mock(TaskScheduler.class);
+        when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            scheduled.add(invocation.getArgument(0));
+            return null;
+        });
+    }
+
+    private AuctionWebSocketNotifier notifier(long windowMs) {
+        return new AuctionWebSocketNotifier(globalSocketService, taskScheduler, new SimpleMeterRegistry(), windowMs);
+    }
+
+    private static BidCreatedEvent bid(long totalBids, long amount) {
+        return new BidCreatedEvent(totalBids, 1L, 1L, totalBids, null, BigDecimal.valueOf(amount),
+                BigDecimal.ZERO, false, "전**", 3L, totalBids);
+    }
+
+    private List<AuctionNewBidBroadcastDto> sentBids(int expected) {
+        ArgumentCaptor<WebSocketMessageDto> captor = ArgumentCaptor.forClass(WebSocketMessageDto.class);
+        verify(globalSocketService, times(expected)).sendToTopic(eq(DESTINATION), captor.capture());
+        return captor.getAllValues().stream()
+                .map(message -> (AuctionNewBidBroadcastDto) message.getData())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("구간이 닫혀 있으면 첫 입찰은 바로 전송한다")
+    void firstBid_shouldBeSentImmediately() {
+        notifier(100).sendNewBidNotification(bid(1, 10_000));
+
+        assertThat(sentBids(1).get(0).getConflatedBids()).isZero();
+        assertThat(scheduled).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("구간 안의 입찰은 마지막 1건만 생략 수와 함께 구간 끝에 전송한다")
+    void bidsWithinWindow_shouldBeConflated() {
+        AuctionWebSocketNotifier notifier = notifier(100);
+        notifier.sendNewBidNotification(bid(1, 10_000));
+        notifier.sendNewBidNotification(bid(2, 11_000));
+        notifier.sendNewBidNotification(bid(4, 13_000));
+        notifier.sendNewBidNotification(bid(3, 12_000)); // 늦게 도착한 이전 입찰
+
+        verify(globalSocketService, times(1)).sendToTopic(eq(DESTINATION), any());
+
+        scheduled.get(0).run();
+
+        AuctionNewBidBroadcastDto flushed = sentBids(2).get(1);
+        assertThat(flushed.getTotalBids()).isEqualTo(4L);
+        assertThat(flushed.getBidAmount()).isEqualByComparingTo("13000");
+        assertThat(flushed.getConflatedBids()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("이미 보낸 입찰보다 오래된 입찰이 늦게 도착하면 보내지 않는다")
+    void staleBidAfterSend_shouldBeDropped() {
+        AuctionWebSocketNotifier notifier = notifier(100);
+        notifier.sendNewBidNotification(bid(1, 10_000));
+        notifier.sendNewBidNotification(bid(3, 12_000));
+        scheduled.get(0).run();
+
+        notifier.sendNewBidNotification(bid(2, 11_000)); // 3 을 보낸 뒤 늦게 도착
+        notifier.sendNewBidNotification(bid(1, 10_000)); // 구간을 연 입찰과 같은 입찰
+        scheduled.get(1).run();
+
+        assertThat(sentBids(2)).extracting(AuctionNewBidBroadcastDto::getTotalBids).containsExactly(1L, 3L);
+        assertThat(scheduled).hasSize(2);
+
+        notifier.sendNewBidNotification(bid(4, 13_000));
+        assertThat(sentBids(3).get(2).getTotalBids()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("구간 동안 입찰이 없으면 구간을 닫고 다음 입찰은 바로 전송한다")
+    void idleWindow_shouldClose() {
+        AuctionWebSocketNotifier notifier = notifier(100);
+        notifier.sendNewBidNotification(bid(1, 10_000));
+        scheduled.get(0).run();
+
+        notifier.sendNewBidNotification(bid(2, 11_000));
+
+        assertThat(sentBids(2).get(1).getTotalBids()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("구간이 0 이면 conflation 없이 입찰마다 전송한다")
+    void zeroWindow_shouldDisableConflation() {
+        AuctionWebSocketNotifier notifier = notifier(0);
+        notifier.sendNewBidNotification(bid(1, 10_000));
+        notifier.sendNewBidNotification(bid(2, 11_000));
+
+        sentBids(2);
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+    }
+}
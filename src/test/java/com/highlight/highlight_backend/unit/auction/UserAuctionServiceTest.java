@@ -0,0 +1,130 @@
+package com.highlight.highlight_backend.unit.auction;
+
+import com.highlight.highlight_backend.auction.dto.AuctionPageResponse;
+import com.highlight.highlight_backend.auction.dto.AuctionSearchConditionDto;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.auction.service.AuctionCountService;
+import com.highlight.highlight_backend.auction.service.AuctionListingCache;
+import com.highlight.highlight_backend.auction.service.UserAuctionService;
+import com.highlight.highlight_backend.product.repository.ProductImageRepository;
+import com.highlight.highlight_backend.product.service.ProductSearchIndexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UserAuctionServiceTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+    private AuctionRepository auctionRepository;
+    private AuctionCountService auctionCountService;
+    private ProductSearchIndexService productSearchIndexService;
+    private UserAuctionService userAuctionService;
+
+    @BeforeEach
+    void setUp() {
+        auctionRepository = mock(AuctionRepository.class);
+        auctionCountService = mock(AuctionCountService.class);
+        productSearchIndexService = mock(ProductSearchIndexService.class);
+        when(auctionRepository.searchAuctions(any(), any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(), FIRST_PAGE, false));
+
+        // 캐시를 거치지 않고 바로 조회
+        AuctionListingCache auctionListingCache = mock(AuctionListingCache.class);
+        when(auctionListingCache.get(any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<AuctionPageResponse>>getArgument(3).get());
+
+        userAuctionService = new UserAuctionService(auctionRepository, auctionCountService, auctionListingCache,
+                mock(ProductImageRepository.class), productSearchIndexService);
+    }
+
+    private static AuctionSearchConditionDto condition(String keyword) {
+        return new AuctionSearchConditionDto(null, null, null, null, null, "IN_PROGRESS", keyword);
+    }
+
+    @Test
+    @DisplayName("검색어가 있으면 전체 개수를 검색어 조건으로 직접 센다")
+    void keywordSearch_shouldCountMatchingAuctions() {
+        when(productSearchIndexService.canSearch("도자기")).thenReturn(true);
+        when(productSearchIndexService.search("도자기", 1001)).thenReturn(List.of(3L, 2L));
+        AuctionSearchConditionDto condition = condition("도자기");
+        when(auctionRepository.countAuctions(condition)).thenReturn(2L);
+
+        AuctionPageResponse response = userAuctionService.getProductsFiltered(condition, null, FIRST_PAGE);
+
+        assertThat(response.getTotalCount()).isEqualTo(2);
+        assertThat(condition.getProductIds()).containsExactly(3L, 2L);
+        verify(auctionCountService, never()).getCount(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("일치 상품이 상한을 넘으면 잘린 ID 대신 LIKE 조건으로 조회하고 개수도 같은 조건으로 센다")
+    void keywordSearch_overLimit_shouldUseLikeFallback() {
+        when(productSearchIndexService.canSearch("도자기")).thenReturn(true);
+        when(productSearchIndexService.search(eq("도자기"), anyInt()))
+                .thenReturn(LongStream.rangeClosed(1, 1001).boxed().toList());
+        AuctionSearchConditionDto condition = condition("도자기");
+        when(auctionRepository.countAuctions(condition)).thenReturn(1500L);
+
+        AuctionPageResponse response = userAuctionService.getProductsFiltered(condition, null, FIRST_PAGE);
+
+        assertThat(response.getTotalCount()).isEqualTo(1500);
+        assertThat(condition.getProductIds()).isNull();
+        verify(auctionRepository).searchAuctions(eq(condition), any(), any());
+    }
+
+    @Test
+    @DisplayName("색인 생성 전에는 LIKE 조건으로 조회하고 개수도 같은 조건으로 센다")
+    void keywordSearch_indexNotReady_shouldUseLikeFallback() {
+        AuctionSearchConditionDto condition = condition("도자기");
+        when(auctionRepository.countAuctions(condition)).thenReturn(5L);
+
+        AuctionPageResponse response = userAuctionService.getProductsFiltered(condition, null, FIRST_PAGE);
+
+        assertThat(response.getTotalCount()).isEqualTo(5);
+        assertThat(condition.getProductIds()).isNull();
+        verify(productSearchIndexService, never()).search(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("색인으로 찾을 수 없는 1글자 검색어는 LIKE 조건으로 조회한다")
+    void keywordSearch_shortKeyword_shouldUseLikeFallback() {
+        when(productSearchIndexService.canSearch("차")).thenReturn(false);
+        AuctionSearchConditionDto condition = condition("차");
+        when(auctionRepository.countAuctions(condition)).thenReturn(3L);
+
+        AuctionPageResponse response = userAuctionService.getProductsFiltered(condition, null, FIRST_PAGE);
+
+        assertThat(response.getTotalCount()).isEqualTo(3);
+        assertThat(condition.getProductIds()).isNull();
+        verify(productSearchIndexService, never()).search(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("검색어가 없으면 Redis 의 상태/카테고리 개수를 사용한다")
+    void withoutKeyword_shouldUseCountCache() {
+        when(auctionCountService.getCount("IN_PROGRESS", null)).thenReturn(42L);
+
+        AuctionPageResponse response = userAuctionService.getProductsFiltered(condition(null), null, FIRST_PAGE);
+
+        assertThat(response.getTotalCount()).isEqualTo(42);
+        verify(auctionRepository, never()).countAuctions(any());
+    }
+}
@@ -0,0 +1,118 @@
+package com.highlight.highlight_backend.unit.common;
+
+import com.highlight.highlight_backend.common.socket.service.ClusterMessageRelay;
+import com.highlight.highlight_backend.common.socket.service.TopicReplayBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ClusterMessageRelayTest {
+
+    private static final String DESTINATION = "/topic/auction/1";
+
+    private RedissonClient redissonClient;
+    private RTopic topic;
+    private SimpMessagingTemplate messagingTemplate;
+    private TopicReplayBuffer replayBuffer;
+
+    @BeforeEach
+    void setUp() {
+        redissonClient = mock(RedissonClient.class);
+        topic = mock(RTopic.class);
+        when(redissonClient.getTopic(anyString(), any())).thenReturn(topic);
+        when(topic.addListener(eq(String.class), any())).thenReturn(7);
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        replayBuffer = mock(TopicReplayBuffer.class);
+        when(replayBuffer.nextSequence(DESTINATION)).thenReturn(5L);
+    }
+
+    private ClusterMessageRelay relay(boolean enabled) {
+        return new ClusterMessageRelay(redissonClient, messagingTemplate, replayBuffer, new SimpleMeterRegistry(), enabled);
+    }
+
+    @Test
+    @DisplayName("같은 채널은 첫 구독에서만 listen 하고 마지막 구독이 빠질 때 해제한다")
+    void subscription_shouldBeReferenceCounted() {
+        ClusterMessageRelay relay = relay(true);
+
+        relay.onSubscribe(DESTINATION);
+        relay.onSubscribe(DESTINATION);
+        relay.onUnsubscribe(DESTINATION);
+
+        verify(topic, times(1)).addListener(eq(String.class), any());
+        verify(topic, never()).removeListener(anyInt());
+
+        relay.onUnsubscribe(DESTINATION);
+
+        verify(topic).removeListener(7);
+    }
+
+    @Test
+    @DisplayName("클라이언트 → 서버 경로(/app)는 채널을 만들지 않는다")
+    void applicationDestination_shouldNotBeRelayed() {
+        relay(true).onSubscribe("/app/bid");
+
+        verify(redissonClient, never()).getTopic(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("방송은 순번을 붙여 Redis 에 publish 만 하고 로컬 전달은 listener 가 맡는다")
+    void broadcast_shouldPublishOnce() {
+        relay(true).broadcast(DESTINATION, "{}".getBytes(StandardCharsets.UTF_8));
+
+        verify(redissonClient).getTopic(eq("ws:relay:topic:" + DESTINATION), any());
+        verify(topic).publish(DESTINATION + "\n5\n{}");
+        verify(messagingTemplate, never()).send(anyString(), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("publish 가 실패하면 이 노드의 구독자에게 직접 전달한다")
+    void broadcast_whenPublishFails_shouldDeliverLocally() {
+        when(topic.publish(any())).thenThrow(new IllegalStateException("redis down"));
+
+        relay(true).broadcast(DESTINATION, "{}".getBytes(StandardCharsets.UTF_8));
+
+        verify(messagingTemplate).send(eq(DESTINATION), any(Message.class));
+        verify(replayBuffer).append(eq(DESTINATION), eq(5L), any());
+    }
+
+    @Test
+    @DisplayName("마지막 구독이 빠지면 이어지지 않게 된 재전송 버퍼를 비운다")
+    void lastUnsubscribe_shouldEvictReplayBuffer() {
+        ClusterMessageRelay relay = relay(true);
+
+        relay.onSubscribe(DESTINATION);
+        relay.onUnsubscribe(DESTINATION);
+
+        verify(replayBuffer).evict(DESTINATION);
+    }
+
+    @Test
+    @DisplayName("cluster 모드를 끄면 Redis 없이 로컬로만 전달한다")
+    void broadcast_whenDisabled_shouldDeliverLocally() {
+        ClusterMessageRelay relay = relay(false);
+
+        relay.onSubscribe(DESTINATION);
+        relay.broadcast(DESTINATION, "{}".getBytes(StandardCharsets.UTF_8));
+
+        verify(redissonClient, never()).getTopic(anyString(), any());
+        verify(messagingTemplate).send(eq(DESTINATION), any(Message.class));
+    }
+}
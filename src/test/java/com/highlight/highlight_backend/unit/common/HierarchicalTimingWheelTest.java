@@ -0,0 +1,59 @@
+package com.highlight.highlight_backend.unit.common;
+
+import com.highlight.highlight_backend.common.scheduler.HierarchicalTimingWheel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("마감 시각 이전에는 만료되지 않고, 마감 tick 에 만료된다")
+    void advanceTo_shouldExpireOnlyAfterDeadline() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+        wheel.schedule(1L, START + 2500);
+
+        assertThat(wheel.advanceTo(START + 2000)).isEmpty();
+        assertThat(wheel.advanceTo(START + 3000)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 휠(수 시간 뒤)에 있는 항목도 하위 휠로 내려와 만료된다")
+    void advanceTo_shouldCascadeFromOverflowWheel() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+        long deadline = START + 5 * 60 * 60 * 1000L + 1234;
+        wheel.schedule(1L, deadline);
+
+        assertThat(wheel.advanceTo(deadline - 1000)).isEmpty();
+        assertThat(wheel.advanceTo(deadline + 1000)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("취소/재등록 시 기존 항목은 만료되지 않는다")
+    void cancelAndReschedule() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+        wheel.schedule(1L, START + 1000);
+        wheel.schedule(2L, START + 1000);
+        wheel.cancel(1L);
+        wheel.schedule(2L, START + 10_000);
+
+        assertThat(wheel.advanceTo(START + 5000)).isEmpty();
+        assertThat(wheel.advanceTo(START + 10_000)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록하면 다음 advance 에서 바로 만료된다")
+    void schedule_pastDeadline() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+        wheel.schedule(1L, START - 60_000);
+
+        List<Long> expired = wheel.advanceTo(START);
+        assertThat(expired).containsExactly(1L);
+    }
+}
@@ -0,0 +1,77 @@
+package com.highlight.highlight_backend.unit.common;
+
+import com.highlight.highlight_backend.common.search.InvertedIndex;
+import com.highlight.highlight_backend.common.search.NgramTokenizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InvertedIndexTest {
+
+    @Test
+    @DisplayName("bigram 토큰은 단어 경계를 넘지 않고, 대소문자/전각 차이를 무시한다")
+    void tokenize_shouldSplitWordsIntoBigrams() {
+        assertThat(NgramTokenizer.tokenize("백자 달항아리"))
+                .containsExactly("백자", "달항", "항아", "아리");
+        assertThat(NgramTokenizer.tokenize("ＮＡＦＡＬ")).isEqualTo(NgramTokenizer.tokenize("nafal"));
+        assertThat(NgramTokenizer.tokenize("책 A")).containsExactly("책", "a");
+    }
+
+    @Test
+    @DisplayName("1글자 단어가 있거나 단어가 없는 검색어는 색인으로 찾을 수 없다")
+    void isSearchable_shouldRejectSingleCharacterWords() {
+        assertThat(NgramTokenizer.isSearchable("자동차")).isTrue();
+        assertThat(NgramTokenizer.isSearchable("백자 항아리")).isTrue();
+        assertThat(NgramTokenizer.isSearchable("차")).isFalse();
+        assertThat(NgramTokenizer.isSearchable("백자 A")).isFalse();
+        assertThat(NgramTokenizer.isSearchable("!!")).isFalse();
+        assertThat(NgramTokenizer.isSearchable(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함하는 문서만 최근 추가 순으로 찾는다")
+    void search_shouldIntersectPostings() {
+        InvertedIndex index = new InvertedIndex();
+        index.appendSorted(1L, NgramTokenizer.tokenize("조선 백자 달항아리", "국립"));
+        index.appendSorted(2L, NgramTokenizer.tokenize("청자 항아리", "고려"));
+        index.appendSorted(3L, NgramTokenizer.tokenize("백자 찻잔", "국립"));
+
+        assertThat(index.search(NgramTokenizer.tokenize("항아리"), 10)).containsExactly(2L, 1L);
+        assertThat(index.search(NgramTokenizer.tokenize("백자 국립"), 10)).containsExactly(3L, 1L);
+        assertThat(index.search(NgramTokenizer.tokenize("항아리"), 1)).containsExactly(2L);
+        assertThat(index.search(NgramTokenizer.tokenize("가구"), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정된 문서는 새 내용으로만 검색되고, 삭제된 문서는 검색되지 않는다")
+    void putAndRemove_shouldReplaceDocuments() {
+        InvertedIndex index = new InvertedIndex();
+        index.appendSorted(1L, NgramTokenizer.tokenize("백자 항아리"));
+        index.appendSorted(2L, NgramTokenizer.tokenize("청자 항아리"));
+
+        index.put(1L, NgramTokenizer.tokenize("나무 의자"));
+        index.put(5L, NgramTokenizer.tokenize("백자 접시"));
+        index.remove(2L);
+
+        assertThat(index.search(NgramTokenizer.tokenize("항아리"), 10)).isEmpty();
+        assertThat(index.search(NgramTokenizer.tokenize("의자"), 10)).containsExactly(1L);
+        assertThat(index.search(NgramTokenizer.tokenize("백자"), 10)).containsExactly(5L);
+        assertThat(index.size()).isEqualTo(2);
+
+        index.put(1L, NgramTokenizer.tokenize("철제 의자"));
+        assertThat(index.search(NgramTokenizer.tokenize("의자"), 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일괄 적재는 ID 오름차순만 허용한다")
+    void appendSorted_shouldRejectOutOfOrderIds() {
+        InvertedIndex index = new InvertedIndex();
+        index.appendSorted(10L, NgramTokenizer.tokenize("백자"));
+
+        assertThatThrownBy(() -> index.appendSorted(3L, NgramTokenizer.tokenize("청자")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
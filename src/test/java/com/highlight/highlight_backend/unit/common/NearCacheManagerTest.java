@@ -0,0 +1,130 @@
+package com.highlight.highlight_backend.unit.common;
+
+import com.highlight.highlight_backend.common.cache.NearCache;
+import com.highlight.highlight_backend.common.cache.NearCacheManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NearCacheManagerTest {
+
+    private RTopic invalidationTopic;
+    private RTopic controlTopic;
+    private NearCacheManager nearCacheManager;
+    private NearCache<Long> cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        invalidationTopic = mock(RTopic.class);
+        controlTopic = mock(RTopic.class);
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic("cache:near:invalidate", StringCodec.INSTANCE)).thenReturn(invalidationTopic);
+        when(redissonClient.getTopic("cache:near:control", StringCodec.INSTANCE)).thenReturn(controlTopic);
+        nearCacheManager = new NearCacheManager(redissonClient, new SimpleMeterRegistry(), true);
+        nearCacheManager.subscribe();
+        cache = nearCacheManager.create("test", 100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    }
+
+    private long load(String key) {
+        return cache.get(key, k -> (long) loads.incrementAndGet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private MessageListener<String> listenerOf(RTopic topic) {
+        ArgumentCaptor<MessageListener<String>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(String.class), listener.capture());
+        return listener.getValue();
+    }
+
+    @Test
+    @DisplayName("무효화하면 이 노드에서 지우고 다른 노드로 키를 전파한다")
+    void invalidate_shouldEvictAndPublish() {
+        load("a");
+        load("a");
+        assertThat(loads.get()).isEqualTo(1);
+
+        cache.invalidate(List.of("a", "b"));
+        load("a");
+
+        assertThat(loads.get()).isEqualTo(2);
+        verify(invalidationTopic).publish("test\na\nb");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 해당 키만, 키가 없으면 캐시 전체를 지운다")
+    void onInvalidationMessage_shouldEvictLocal() {
+        MessageListener<String> listener = listenerOf(invalidationTopic);
+        load("a");
+        load("b");
+
+        listener.onMessage("cache:near:invalidate", "test\na");
+        load("a");
+        load("b");
+        assertThat(loads.get()).isEqualTo(3);
+
+        listener.onMessage("cache:near:invalidate", "test");
+        load("b");
+        assertThat(loads.get()).isEqualTo(4);
+
+        // 모르는 캐시 이름은 무시
+        listener.onMessage("cache:near:invalidate", "unknown\na");
+    }
+
+    @Test
+    @DisplayName("kill switch 를 끄면 캐시를 비우고 loader 를 바로 호출하며, 다른 노드로 전파한다")
+    void setEnabled_false_shouldBypassCache() {
+        load("a");
+
+        nearCacheManager.setEnabled(false);
+        load("a");
+        load("a");
+
+        assertThat(nearCacheManager.isEnabled()).isFalse();
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(nearCacheManager.getSizes()).containsEntry("test", 0L);
+        verify(controlTopic).publish("false");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 받은 kill switch 설정도 적용되고, 다시 켜면 캐시를 사용한다")
+    void controlMessage_shouldApplyEnabled() {
+        MessageListener<String> listener = listenerOf(controlTopic);
+
+        listener.onMessage("cache:near:control", "false");
+        assertThat(nearCacheManager.isEnabled()).isFalse();
+
+        listener.onMessage("cache:near:control", "true");
+        load("a");
+        load("a");
+        assertThat(nearCacheManager.isEnabled()).isTrue();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전파 실패는 이 노드의 kill switch 적용을 막지 않는다")
+    void setEnabled_publishFailure_shouldStillApply() {
+        when(controlTopic.publish(any())).thenThrow(new IllegalStateException("redis down"));
+
+        nearCacheManager.setEnabled(false);
+
+        assertThat(nearCacheManager.isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,163 @@
+package com.highlight.highlight_backend.unit.common;
+
+import com.highlight.highlight_backend.common.cache.SingleFlightLoader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SingleFlightLoaderTest {
+
+    private static final int THREADS = 8;
+
+    private RLock lock;
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlightLoader loader;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        lock = mock(RLock.class);
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        meterRegistry = new SimpleMeterRegistry();
+        loader = new SingleFlightLoader(redissonClient, meterRegistry);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("cache.singleflight").tag("result", result).counter().count();
+    }
+
+    /**
+     * 첫 요청의 loader 가 release 될 때까지 멈춰 있는 동안 나머지 요청을 같은 키로 보냄
+     */
+    private List<Future<Long>> loadConcurrently(CountDownLatch started, CountDownLatch release,
+                                                AtomicInteger calls, RuntimeException failure) throws InterruptedException {
+        List<Future<Long>> results = new ArrayList<>();
+        results.add(executor.submit(() -> loader.load("key", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            if (failure != null) {
+                throw failure;
+            }
+            return 42L;
+        })));
+        started.await();
+        for (int i = 1; i < THREADS; i++) {
+            results.add(executor.submit(() -> loader.load("key", () -> {
+                calls.incrementAndGet();
+                return -1L;
+            })));
+        }
+        // 나머지 요청이 진행 중인 future 에 합류할 시간
+        while (count("joined") < THREADS - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 loader 를 1번만 실행하고 같은 결과를 받는다")
+    void load_concurrent_shouldShareResult() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        List<Future<Long>> results = loadConcurrently(new CountDownLatch(1), new CountDownLatch(1), calls, null);
+
+        for (Future<Long> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42L);
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(count("loaded")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("loader 가 실패하면 기다리던 요청도 같은 예외를 받는다")
+    void load_failure_shouldPropagateToJoiners() throws Exception {
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        List<Future<Long>> results = loadConcurrently(new CountDownLatch(1), new CountDownLatch(1),
+                new AtomicInteger(), failure);
+
+        for (Future<Long> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCause(failure);
+        }
+    }
+
+    @Test
+    @DisplayName("Error 로 끝나도 진행 중 항목이 지워져 다음 요청은 다시 loader 를 실행한다")
+    void load_error_shouldCleanUpInFlight() {
+        assertThatThrownBy(() -> loader.load("key", () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        assertThat(loader.load("key", () -> 7L)).isEqualTo(7L);
+        assertThat(count("joined")).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 재계산 중이면 이전 값을 돌려주고 loader 는 실행하지 않는다")
+    void loadClusterWide_locked_shouldReturnStale() throws Exception {
+        when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(false);
+        AtomicInteger calls = new AtomicInteger();
+
+        Long value = loader.loadClusterWide("key", () -> (long) calls.incrementAndGet(), () -> null, () -> 3L);
+
+        assertThat(value).isEqualTo(3L);
+        assertThat(calls.get()).isZero();
+        assertThat(count("stale")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("락을 얻었지만 그 사이 다른 노드가 채웠으면 그 값을 쓰고 락을 푼다")
+    void loadClusterWide_filledMeanwhile_shouldUseFresh() throws Exception {
+        when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        Long value = loader.loadClusterWide("key", () -> (long) calls.incrementAndGet(), () -> 5L, () -> null);
+
+        assertThat(value).isEqualTo(5L);
+        assertThat(calls.get()).isZero();
+        verify(lock).unlock();
+    }
+}
@@ -0,0 +1,118 @@
+package com.highlight.highlight_backend.unit.common;
+
+import com.highlight.highlight_backend.common.socket.service.SlowConsumerGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SlowConsumerGuardTest {
+
+    private static final String SESSION_ID = "s1";
+
+    private SimpleMeterRegistry meterRegistry;
+    private SlowConsumerGuard guard;
+    private WebSocketSession rawSession;
+    private AtomicReference<WebSocketSession> timedSession;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new SlowConsumerGuard(meterRegistry, 0, Set.of("AUCTION_STATUS_UPDATE"));
+        rawSession = mock(WebSocketSession.class);
+        when(rawSession.getId()).thenReturn(SESSION_ID);
+
+        timedSession = new AtomicReference<>();
+        WebSocketHandler handler = mock(WebSocketHandler.class);
+        doAnswer(invocation -> {
+            timedSession.set(invocation.getArgument(0));
+            return null;
+        }).when(handler).afterConnectionEstablished(any());
+        guard.decorate(handler).afterConnectionEstablished(rawSession);
+    }
+
+    private static Message<byte[]> outbound(String type) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        byte[] payload = ("{\"type\":\"" + type + "\",\"auctionId\":1}").getBytes(StandardCharsets.UTF_8);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    /**
+     * 소켓 전송이 끝나지 않은 상태를 만든 뒤 action 실행
+     */
+    private void whileSending(Runnable action) throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await();
+            return null;
+        }).when(rawSession).sendMessage(any());
+
+        Thread sender = new Thread(() -> {
+            try {
+                timedSession.get().sendMessage(new TextMessage("x"));
+            } catch (Exception ignored) {
+            }
+        });
+        sender.start();
+        sending.await();
+        try {
+            action.run();
+        } finally {
+            release.countDown();
+            sender.join();
+        }
+    }
+
+    @Test
+    @DisplayName("전송이 밀리지 않은 세션에는 lossy 메시지도 그대로 보낸다")
+    void idleSession_shouldPassLossyMessage() {
+        assertThat(guard.preSend(outbound("AUCTION_STATUS_UPDATE"), null)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("전송이 밀린 세션으로 가는 lossy 메시지만 버린다")
+    void slowSession_shouldDropOnlyLossyMessage() throws Exception {
+        whileSending(() -> {
+            assertThat(guard.preSend(outbound("AUCTION_STATUS_UPDATE"), null)).isNull();
+            assertThat(guard.preSend(outbound("NEW_BID"), null)).isNotNull();
+        });
+
+        assertThat(meterRegistry.get("websocket.messages.dropped").tag("type", "AUCTION_STATUS_UPDATE")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("전송 한도 초과로 끊긴 세션은 마지막 메시지 타입으로 집계하고, 유휴 정리는 집계하지 않는다")
+    void limitExceededClose_shouldCountDisconnectedSlowConsumer() throws Exception {
+        guard.preSend(outbound("NEW_BID"), null);
+
+        timedSession.get().close(CloseStatus.SESSION_NOT_RELIABLE.withReason("idle timeout"));
+        assertThat(meterRegistry.find("websocket.slow_consumers.disconnected").counter()).isNull();
+
+        timedSession.get().close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.get("websocket.slow_consumers.disconnected").tag("type", "NEW_BID")
+                .counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,219 @@
+package com.highlight.highlight_backend.unit.common;
+
+import com.highlight.highlight_backend.common.socket.service.ClusterMessageRelay;
+import com.highlight.highlight_backend.common.socket.service.SseTopicHub;
+import com.highlight.highlight_backend.common.socket.service.TopicReplayBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SseTopicHubTest {
+
+    private static final String DESTINATION = "/topic/auction/1";
+
+    private ClusterMessageRelay clusterMessageRelay;
+    private TopicReplayBuffer replayBuffer;
+    private SseTopicHub hub;
+    private SimpleMeterRegistry meterRegistry;
+    private final List<SseTopicHub> recordingHubs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        clusterMessageRelay = mock(ClusterMessageRelay.class);
+        replayBuffer = mock(TopicReplayBuffer.class);
+        hub = new SseTopicHub(clusterMessageRelay, replayBuffer, new SimpleMeterRegistry(), 60_000, 16, 1, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+        recordingHubs.forEach(SseTopicHub::shutdown);
+    }
+
+    /**
+     * 전송 프레임을 기록하는 허브 (release 가 있으면 열릴 때까지 전송이 막혀 느린 연결처럼 동작)
+     * 연결마다 emitters 를 순서대로 사용하고, sse-send 스레드는 1개
+     */
+    private SseTopicHub recordingHub(int maxPending, long writeTimeoutMs, RecordingEmitter... emitters) {
+        meterRegistry = new SimpleMeterRegistry();
+        Queue<RecordingEmitter> next = new ConcurrentLinkedQueue<>(List.of(emitters));
+        SseTopicHub recordingHub = new SseTopicHub(
+                clusterMessageRelay, replayBuffer, meterRegistry, 60_000, maxPending, 1, writeTimeoutMs) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMs) {
+                return next.poll();
+            }
+        };
+        recordingHubs.add(recordingHub);
+        return recordingHub;
+    }
+
+    private ClusterMessageRelay.LocalListener localListener() {
+        ArgumentCaptor<ClusterMessageRelay.LocalListener> listener =
+                ArgumentCaptor.forClass(ClusterMessageRelay.LocalListener.class);
+        verify(clusterMessageRelay, atLeastOnce()).addLocalListener(listener.capture());
+        return listener.getValue();
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+
+        private RecordingEmitter(CountDownLatch release) {
+            super(60_000L);
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+            StringBuilder frame = new StringBuilder();
+            items.forEach(item -> frame.append(item.getData()));
+            frames.add(frame.toString());
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        /**
+         * text 가 담긴 프레임이 전송될 때까지 대기 (연결 큐는 순서대로 비워지므로 앞선 프레임도 모두 전송된 상태)
+         */
+        private List<String> awaitFrame(String text) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (frames.stream().noneMatch(frame -> frame.contains(text)) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            return List.copyOf(frames);
+        }
+    }
+
+    @Test
+    @DisplayName("로컬 전달 listener 로 등록된다")
+    void constructor_shouldRegisterLocalListener() {
+        verify(clusterMessageRelay).addLocalListener(any());
+    }
+
+    @Test
+    @DisplayName("SSE 연결도 relay 구독 참조 카운트와 시청자 수에 포함된다")
+    void subscribe_shouldJoinRelayChannel() {
+        hub.subscribe(DESTINATION, null, () -> null);
+        hub.subscribe(DESTINATION, null, () -> null);
+
+        assertThat(hub.hasSubscribers(DESTINATION)).isTrue();
+        assertThat(hub.getConnectionCount()).isEqualTo(2);
+        assertThat(hub.getSubscriberCounts("/topic/auction/")).containsEntry(DESTINATION, 2);
+        verify(clusterMessageRelay, times(2)).onSubscribe(DESTINATION);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 가 있으면 그 순번 이후를 재전송 버퍼에서 찾는다")
+    void subscribe_withLastEventId_shouldReplayFromBuffer() {
+        when(replayBuffer.replay(DESTINATION, 7)).thenReturn(new TopicReplayBuffer.Replay(
+                List.of(new TopicReplayBuffer.Entry(8, "{}".getBytes())), true, 8));
+
+        hub.subscribe(DESTINATION, 7L, () -> null);
+
+        verify(replayBuffer).replay(DESTINATION, 7);
+    }
+
+    @Test
+    @DisplayName("재전송 계산 중에 도착한 실시간 메시지는 재전송 뒤에 보내고, 재전송에 포함된 순번은 건너뛴다")
+    void subscribe_heldFramesDuringResume_shouldBeDeduplicated() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        SseTopicHub recordingHub = recordingHub(16, 10_000, emitter);
+        ClusterMessageRelay.LocalListener listener = localListener();
+        when(replayBuffer.replay(DESTINATION, 7)).thenAnswer(invocation -> {
+            listener.onDeliver(DESTINATION, 8L, "{\"live\":8}".getBytes());
+            listener.onDeliver(DESTINATION, 9L, "{\"live\":9}".getBytes());
+            return new TopicReplayBuffer.Replay(
+                    List.of(new TopicReplayBuffer.Entry(8, "{\"replayed\":8}".getBytes())), true, 8);
+        });
+
+        recordingHub.subscribe(DESTINATION, 7L, () -> null);
+        listener.onDeliver(DESTINATION, 10L, "{\"live\":10}".getBytes());
+
+        List<String> frames = emitter.awaitFrame("{\"live\":10}");
+        String stream = String.join("", frames);
+        assertThat(frames).hasSize(4); // connected, 재전송 8, 실시간 9, 실시간 10
+        assertThat(stream).doesNotContain("{\"live\":8}");
+        assertThat(stream.indexOf("{\"replayed\":8}"))
+                .isLessThan(stream.indexOf("{\"live\":9}"))
+                .isGreaterThanOrEqualTo(0);
+        assertThat(stream.indexOf("{\"live\":9}")).isLessThan(stream.indexOf("{\"live\":10}"));
+    }
+
+    @Test
+    @DisplayName("느린 연결의 전송 큐가 max-pending 을 넘으면 연결을 끊는다")
+    void deliver_pendingOverflow_shouldCloseConnection() {
+        CountDownLatch release = new CountDownLatch(1);
+        SseTopicHub recordingHub = recordingHub(2, 10_000, new RecordingEmitter(release));
+        ClusterMessageRelay.LocalListener listener = localListener();
+        try {
+            recordingHub.subscribe(DESTINATION, null, () -> null);
+            for (long sequence = 1; sequence <= 3; sequence++) {
+                listener.onDeliver(DESTINATION, sequence, "{}".getBytes());
+            }
+
+            assertThat(recordingHub.hasSubscribers(DESTINATION)).isFalse();
+            assertThat(recordingHub.getConnectionCount()).isZero();
+            assertThat(meterRegistry.get("sse.disconnected.overflow").counter().count()).isEqualTo(1.0);
+            verify(clusterMessageRelay).onUnsubscribe(DESTINATION);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("전송이 write-timeout 을 넘긴 연결은 끊고, 막힌 스레드 대신 스레드를 늘려 다른 연결은 계속 받는다")
+    void expireStalledWrites_shouldDropStalledConnectionAndKeepOthersFlowing() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stalled = new RecordingEmitter(release);
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        SseTopicHub recordingHub = recordingHub(16, 50, stalled, healthy);
+        ClusterMessageRelay.LocalListener listener = localListener();
+        try {
+            // 첫 연결의 connected 프레임 전송이 막혀 유일한 sse-send 스레드를 잡고 있음
+            recordingHub.subscribe("/topic/auction/1", null, () -> null);
+            stalled.awaitFrame("connected");
+            recordingHub.subscribe("/topic/auction/2", null, () -> null);
+            Thread.sleep(100);
+
+            recordingHub.expireStalledWrites();
+            listener.onDeliver("/topic/auction/2", 1L, "{\"live\":1}".getBytes());
+
+            assertThat(recordingHub.hasSubscribers("/topic/auction/1")).isFalse();
+            assertThat(recordingHub.getConnectionCount()).isEqualTo(1);
+            assertThat(meterRegistry.get("sse.disconnected.stalled").counter().count()).isEqualTo(1.0);
+            assertThat(healthy.awaitFrame("{\"live\":1}")).anyMatch(frame -> frame.contains("{\"live\":1}"));
+            verify(clusterMessageRelay).onUnsubscribe("/topic/auction/1");
+        } finally {
+            release.countDown();
+        }
+    }
+}
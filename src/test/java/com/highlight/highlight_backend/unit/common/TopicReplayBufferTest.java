@@ -0,0 +1,70 @@
+package com.highlight.highlight_backend.unit.common;
+
+import com.highlight.highlight_backend.common.socket.service.TopicReplayBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TopicReplayBufferTest {
+
+    private static final String DESTINATION = "/topic/auction/1";
+
+    private ValueOperations<String, String> valueOperations;
+    private TopicReplayBuffer buffer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        buffer = new TopicReplayBuffer(redisTemplate, 4);
+    }
+
+    private void append(long... sequences) {
+        for (long sequence : sequences) {
+            buffer.append(DESTINATION, sequence, String.valueOf(sequence).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("빠진 구간이 버퍼 안이면 그 이후 메시지만 순번 순서대로 돌려준다")
+    void replay_withinBuffer_shouldReturnGapOnly() {
+        append(10, 12, 11, 13); // 노드마다 도착 순서가 달라도 순번 순서로 정렬
+
+        TopicReplayBuffer.Replay replay = buffer.replay(DESTINATION, 10);
+
+        assertThat(replay.complete()).isTrue();
+        assertThat(replay.entries()).extracting(TopicReplayBuffer.Entry::sequence).containsExactly(11L, 12L, 13L);
+        assertThat(replay.latestSequence()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("버퍼가 덮어써져 빠진 구간을 채울 수 없으면 스냅샷이 필요하다")
+    void replay_outsideBuffer_shouldRequireSnapshot() {
+        append(10, 11, 12, 13, 14, 15); // 용량 4 → 10, 11 은 덮어써짐
+
+        TopicReplayBuffer.Replay replay = buffer.replay(DESTINATION, 9);
+
+        assertThat(replay.complete()).isFalse();
+        assertThat(replay.entries()).isEmpty();
+        assertThat(replay.latestSequence()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("버퍼가 비어 있어도 그 사이 방송이 없었다면 재전송할 것이 없다")
+    void replay_emptyBuffer_upToDate() {
+        when(valueOperations.get("ws:seq:" + DESTINATION)).thenReturn("7");
+
+        assertThat(buffer.replay(DESTINATION, 7).complete()).isTrue();
+        assertThat(buffer.replay(DESTINATION, 5).complete()).isFalse();
+    }
+}
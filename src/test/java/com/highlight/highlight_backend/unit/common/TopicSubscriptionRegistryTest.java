@@ -0,0 +1,106 @@
+package com.highlight.highlight_backend.unit.common;
+
+import com.highlight.highlight_backend.common.socket.service.ClusterMessageRelay;
+import com.highlight.highlight_backend.common.socket.service.TopicSubscriptionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TopicSubscriptionRegistryTest {
+
+    private static final String DESTINATION = "/topic/auction/1";
+
+    private ClusterMessageRelay clusterMessageRelay;
+    private TopicSubscriptionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        clusterMessageRelay = mock(ClusterMessageRelay.class);
+        registry = new TopicSubscriptionRegistry(clusterMessageRelay, new SimpleMeterRegistry(), 0, 10_000);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private void subscribe(String sessionId, String subscriptionId) {
+        registry.handleSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, sessionId, subscriptionId, DESTINATION)));
+    }
+
+    @Test
+    @DisplayName("한 세션이 같은 토픽을 여러 번 구독해도 시청자는 1명이다")
+    void sameSessionSubscribingTwice_shouldCountOnce() {
+        subscribe("s1", "sub-1");
+        subscribe("s1", "sub-2");
+        subscribe("s2", "sub-1");
+
+        assertThat(registry.getSubscriberCount(DESTINATION)).isEqualTo(2);
+        assertThat(registry.getSubscriptionCount()).isEqualTo(3);
+        assertThat(registry.getSubscriberCounts("/topic/auction/")).containsEntry(DESTINATION, 2);
+        verify(clusterMessageRelay, times(2)).onSubscribe(DESTINATION);
+    }
+
+    @Test
+    @DisplayName("세션의 마지막 구독이 빠질 때만 시청자 수가 줄어든다")
+    void unsubscribe_shouldDecrementOnLastSubscription() {
+        subscribe("s1", "sub-1");
+        subscribe("s1", "sub-2");
+
+        registry.handleUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s1", "sub-1", null)));
+        assertThat(registry.getSubscriberCount(DESTINATION)).isEqualTo(1);
+
+        registry.handleUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s1", "sub-2", null)));
+        assertThat(registry.hasSubscribers(DESTINATION)).isFalse();
+        verify(clusterMessageRelay).onUnsubscribe(DESTINATION);
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 세션의 구독을 모두 정리한다")
+    void disconnect_shouldRemoveAllSubscriptions() {
+        subscribe("s1", "sub-1");
+
+        registry.handleDisconnect(new SessionDisconnectEvent(this,
+                frame(StompCommand.DISCONNECT, "s1", null, null), "s1", CloseStatus.NORMAL));
+
+        assertThat(registry.getSessionCount()).isZero();
+        assertThat(registry.hasSubscribers(DESTINATION)).isFalse();
+    }
+
+    @Test
+    @DisplayName("소켓이 이미 닫힌 세션은 정리한다")
+    void halfOpenSession_shouldBeReaped() throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("s1");
+        registry.decorate(mock(WebSocketHandler.class)).afterConnectionEstablished(session);
+        subscribe("s1", "sub-1");
+
+        when(session.isOpen()).thenReturn(false);
+        registry.reapIdleSessions();
+
+        assertThat(registry.getSessionCount()).isZero();
+        assertThat(registry.hasSubscribers(DESTINATION)).isFalse();
+    }
+}
@@ -0,0 +1,62 @@
+package com.highlight.highlight_backend.unit.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.highlight.highlight_backend.common.socket.dto.WebSocketMessageDto;
+import com.highlight.highlight_backend.common.socket.service.WebSocketPayloadEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WebSocketPayloadEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketPayloadEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new WebSocketPayloadEncoder(new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    private static WebSocketMessageDto message() {
+        return WebSocketMessageDto.of(WebSocketMessageDto.WebSocketMessageType.AUCTION_ENDED, 1L, "경매가 종료되었습니다.");
+    }
+
+    @Test
+    @DisplayName("같은 JSON payload 는 CBOR 로 한 번만 변환하고 결과를 공유한다")
+    void toCbor_shouldConvertOncePerPayload() throws Exception {
+        byte[] json = encoder.encode(message());
+
+        byte[] first = encoder.toCbor(json);
+        byte[] second = encoder.toCbor(json);
+
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("websocket.payload.encode")
+                .tags("type", "AUCTION_ENDED", "encoding", "cbor").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("CBOR 는 JSON 과 같은 내용을 담는다")
+    void toCbor_shouldKeepContent() throws Exception {
+        byte[] json = encoder.encode(message());
+
+        JsonNode decoded = new CBORMapper().readTree(encoder.toCbor(json));
+
+        assertThat(decoded).isEqualTo(new ObjectMapper().readTree(json));
+    }
+
+    @Test
+    @DisplayName("메시지 타입별로 크기와 인코딩 시간을 기록한다")
+    void encode_shouldRecordMetricsPerType() throws Exception {
+        byte[] json = encoder.encode(message());
+
+        assertThat(meterRegistry.get("websocket.payload.bytes")
+                .tags("type", "AUCTION_ENDED", "encoding", "json").summary().totalAmount())
+                .isEqualTo(json.length);
+    }
+}
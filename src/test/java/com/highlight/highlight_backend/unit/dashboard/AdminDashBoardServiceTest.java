@@ -0,0 +1,136 @@
+package com.highlight.highlight_backend.unit.dashboard;
+
+import com.highlight.highlight_backend.admin.repository.AdminRepository;
+import com.highlight.highlight_backend.auction.domain.Auction.AuctionStatus;
+import com.highlight.highlight_backend.auction.repository.AuctionRepository;
+import com.highlight.highlight_backend.dashboard.dto.AdminDashBoardItemResponseDto;
+import com.highlight.highlight_backend.dashboard.dto.AdminDashBoardStatsResponseDto;
+import com.highlight.highlight_backend.dashboard.service.AdminAuctionCountService;
+import com.highlight.highlight_backend.dashboard.service.AdminDashBoardService;
+import com.highlight.highlight_backend.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AdminDashBoardServiceTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private AuctionRepository auctionRepository;
+    private AdminRepository adminRepository;
+    private AdminAuctionCountService adminAuctionCountService;
+    private AdminDashBoardService adminDashBoardService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        auctionRepository = mock(AuctionRepository.class);
+        adminRepository = mock(AdminRepository.class);
+        adminAuctionCountService = new AdminAuctionCountService(redisTemplate, auctionRepository);
+        adminDashBoardService = new AdminDashBoardService(adminRepository, auctionRepository, adminAuctionCountService);
+    }
+
+    @Test
+    @DisplayName("관리자별 hash 가 있으면 DB 를 조회하지 않고 상태별 개수를 돌려준다")
+    void getDashboardStats_cached_shouldReadHash() {
+        when(adminRepository.existsById(1L)).thenReturn(true);
+        when(hashOperations.entries("admin:auction-count:1")).thenReturn(Map.of(
+                "SCHEDULED", "2",
+                "IN_PROGRESS", "3",
+                "COMPLETED", "-1"));
+
+        AdminDashBoardStatsResponseDto stats = adminDashBoardService.getDashboardStats(1L);
+
+        assertThat(stats.getPending()).isEqualTo(2);
+        assertThat(stats.getInProgress()).isEqualTo(3);
+        assertThat(stats.getCompleted()).isZero(); // 음수는 0 으로 보정
+        verify(auctionRepository, never()).countByCreatedByGroupByStatus(anyLong());
+    }
+
+    @Test
+    @DisplayName("hash 가 없으면 GROUP BY 1번으로 채우고 TTL 과 함께 저장한다")
+    @SuppressWarnings("unchecked")
+    void getDashboardStats_miss_shouldFillFromGroupBy() {
+        when(adminRepository.existsById(1L)).thenReturn(true);
+        when(hashOperations.entries("admin:auction-count:1")).thenReturn(new HashMap<>());
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{AuctionStatus.IN_PROGRESS, 4L});
+        rows.add(new Object[]{AuctionStatus.COMPLETED, 7L});
+        when(auctionRepository.countByCreatedByGroupByStatus(1L)).thenReturn(rows);
+
+        AdminDashBoardStatsResponseDto stats = adminDashBoardService.getDashboardStats(1L);
+
+        assertThat(stats.getPending()).isZero();
+        assertThat(stats.getInProgress()).isEqualTo(4);
+        assertThat(stats.getCompleted()).isEqualTo(7);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("admin:auction-count:1")), args.capture());
+        assertThat(args.getValue()).contains("IN_PROGRESS", "4", "COMPLETED", "7", "3600");
+    }
+
+    @Test
+    @DisplayName("없는 관리자는 예외")
+    void getDashboardStats_unknownAdmin_shouldThrow() {
+        when(adminRepository.existsById(9L)).thenReturn(false);
+
+        assertThatThrownBy(() -> adminDashBoardService.getDashboardStats(9L))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("배치 전이는 관리자별로 합산해 관리자당 스크립트 1번, 작성자 없는 경매는 건너뛴다")
+    @SuppressWarnings("unchecked")
+    void transitionBatch_shouldRunOncePerAdmin() {
+        Map<Long, Long> countsByAdmin = new HashMap<>();
+        countsByAdmin.put(1L, 3L);
+        countsByAdmin.put(2L, 1L);
+        countsByAdmin.put(null, 5L);
+
+        adminAuctionCountService.transitionBatch(AuctionStatus.IN_PROGRESS, AuctionStatus.COMPLETED, countsByAdmin);
+
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), any(List.class), any(Object[].class));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("admin:auction-count:1")),
+                eq("IN_PROGRESS"), eq("COMPLETED"), eq("3"));
+    }
+
+    @Test
+    @DisplayName("진행중 경매 패널은 projection 결과를 그대로 DTO 로 옮긴다")
+    void getDashboardItems_shouldMapProjection() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{10L, "도자기", new BigDecimal("50000"), "https://img/1.jpg"});
+        when(auctionRepository.findLiveDashboardItems(any())).thenReturn(rows);
+
+        List<AdminDashBoardItemResponseDto> items = adminDashBoardService.getDashboardItems();
+
+        assertThat(items).singleElement().satisfies(item -> {
+            assertThat(item.getAuctionId()).isEqualTo(10L);
+            assertThat(item.getProductName()).isEqualTo("도자기");
+            assertThat(item.getCurrentBid()).isEqualByComparingTo("50000");
+            assertThat(item.getProductImageUrl()).isEqualTo("https://img/1.jpg");
+        });
+    }
+}
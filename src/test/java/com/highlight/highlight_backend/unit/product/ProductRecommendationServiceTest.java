@@ -0,0 +1,140 @@
+package com.highlight.highlight_backend.unit.product;
+
+import com.highlight.highlight_backend.common.cluster.ClusterLeaseService;
+import com.highlight.highlight_backend.product.domian.Product;
+import com.highlight.highlight_backend.product.repository.ProductRepository;
+import com.highlight.highlight_backend.product.service.ProductRecommendationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ProductRecommendationServiceTest {
+
+    private static final String CATEGORY_BRAND_KEY = "recommend:category-brand:FASHION:brand";
+
+    private RedissonClient redissonClient;
+    private ProductRepository productRepository;
+    private RScoredSortedSet<String> emptyList;
+    private ProductRecommendationService recommendationService;
+    private Product baseProduct;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redissonClient = mock(RedissonClient.class);
+        emptyList = mock(RScoredSortedSet.class);
+        when(emptyList.valueRangeReversed(anyInt(), anyInt())).thenReturn(List.of());
+        when(redissonClient.<String>getScoredSortedSet(anyString(), eq(StringCodec.INSTANCE))).thenReturn(emptyList);
+        productRepository = mock(ProductRepository.class);
+        recommendationService = new ProductRecommendationService(
+                redissonClient, productRepository, mock(ClusterLeaseService.class));
+        baseProduct = product(1L, Product.ProductStatus.ACTIVE);
+    }
+
+    private static Product product(long id, Product.ProductStatus status) {
+        Product product = new Product();
+        product.setId(id);
+        product.setCategory(Product.Category.FASHION);
+        product.setBrand("brand");
+        product.setStatus(status);
+        return product;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenCandidates(long... ids) {
+        List<String> members = new ArrayList<>();
+        for (long id : ids) {
+            members.add(String.valueOf(id));
+        }
+        RScoredSortedSet<String> list = mock(RScoredSortedSet.class);
+        when(list.valueRangeReversed(anyInt(), anyInt())).thenAnswer(invocation -> {
+            int end = invocation.getArgument(1);
+            return members.subList(0, Math.min(members.size(), end + 1));
+        });
+        when(redissonClient.<String>getScoredSortedSet(CATEGORY_BRAND_KEY, StringCodec.INSTANCE)).thenReturn(list);
+    }
+
+    @Test
+    @DisplayName("후보 목록 순서대로 ACTIVE 상품만 size 개까지 돌려준다")
+    void getRecommendedProducts_shouldFollowCandidateOrder() {
+        givenCandidates(1, 4, 3, 2);
+        when(productRepository.findAllWithImagesByIdIn(any())).thenReturn(List.of(
+                product(2L, Product.ProductStatus.ACTIVE),
+                product(3L, Product.ProductStatus.ACTIVE),
+                product(4L, Product.ProductStatus.ACTIVE)));
+
+        List<Product> recommended = recommendationService.getRecommendedProducts(baseProduct, 2);
+
+        assertThat(recommended).extracting(Product::getId).containsExactly(4L, 3L);
+        verify(productRepository, never()).findRecommendedProducts(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("후보 목록이 비어 있으면 DB 쿼리로 조회한다")
+    void getRecommendedProducts_emptyLists_shouldFallbackToDatabase() {
+        List<Product> fromDb = List.of(product(5L, Product.ProductStatus.ACTIVE));
+        when(productRepository.findRecommendedProducts(1L, Product.Category.FASHION, "brand", PageRequest.of(0, 4)))
+                .thenReturn(fromDb);
+
+        assertThat(recommendationService.getRecommendedProducts(baseProduct, 4)).isEqualTo(fromDb);
+    }
+
+    @Test
+    @DisplayName("비활성 상품이 섞여 있어도 넉넉히 읽어 size 개를 채운다")
+    void getRecommendedProducts_inactiveCandidates_shouldOverFetch() {
+        givenCandidates(2, 3, 4, 5);
+        when(productRepository.findAllWithImagesByIdIn(any())).thenReturn(List.of(
+                product(2L, Product.ProductStatus.INACTIVE),
+                product(3L, Product.ProductStatus.ACTIVE),
+                product(4L, Product.ProductStatus.INACTIVE),
+                product(5L, Product.ProductStatus.ACTIVE)));
+
+        List<Product> recommended = recommendationService.getRecommendedProducts(baseProduct, 2);
+
+        assertThat(recommended).extracting(Product::getId).containsExactly(3L, 5L);
+    }
+
+    @Test
+    @DisplayName("넉넉히 읽고도 모자라는데 목록에 후보가 더 남아 있으면 DB 결과로 채운다")
+    void getRecommendedProducts_stillShort_shouldTopUpFromDatabase() {
+        givenCandidates(LongStream.rangeClosed(2, 10).toArray());
+        when(productRepository.findAllWithImagesByIdIn(any())).thenReturn(List.of(product(2L, Product.ProductStatus.ACTIVE)));
+        List<Product> fromDb = List.of(product(2L, Product.ProductStatus.ACTIVE), product(11L, Product.ProductStatus.ACTIVE));
+        when(productRepository.findRecommendedProducts(1L, Product.Category.FASHION, "brand", PageRequest.of(0, 2)))
+                .thenReturn(fromDb);
+
+        assertThat(recommendationService.getRecommendedProducts(baseProduct, 2)).isEqualTo(fromDb);
+    }
+
+    @Test
+    @DisplayName("후보가 원래 적으면 DB 를 다시 조회하지 않고 있는 만큼만 돌려준다")
+    void getRecommendedProducts_fewCandidates_shouldNotQueryDatabase() {
+        givenCandidates(2, 3);
+        when(productRepository.findAllWithImagesByIdIn(any())).thenReturn(List.of(
+                product(2L, Product.ProductStatus.ACTIVE),
+                product(3L, Product.ProductStatus.AUCTION_COMPLETED)));
+
+        List<Product> recommended = recommendationService.getRecommendedProducts(baseProduct, 4);
+
+        assertThat(recommended).extracting(Product::getId).containsExactly(2L);
+        verify(productRepository, never()).findRecommendedProducts(any(), any(), any(), any());
+    }
+}